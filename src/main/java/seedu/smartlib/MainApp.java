@@ -187,6 +187,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SmartLib ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
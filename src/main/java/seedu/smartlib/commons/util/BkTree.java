@@ -0,0 +1,113 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of words, which finds every word within a given edit distance of a query word without
+ * comparing the query against every word held.
+ * Each child of a node is stored under its edit distance from that node. By the triangle inequality, a word within
+ * {@code d} of the query can only be under a child whose distance lies within {@code d} of the node's own distance
+ * from the query, so all other subtrees are skipped.
+ *
+ * @see StringUtil#editDistance(String, String)
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Returns the number of distinct words in the tree.
+     *
+     * @return the number of distinct words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code word} to the tree, if it is not already present.
+     *
+     * @param word the word to be added.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns every word within {@code maxDistance} edits of {@code query}, with its distance from the query.
+     *
+     * @param query the word to be searched for.
+     * @param maxDistance the largest edit distance allowed.
+     * @return the matching words, each mapped to its edit distance from {@code query}.
+     */
+    public Map<String, Integer> search(String query, int maxDistance) {
+        requireNonNull(query);
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(query, node.word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their edit distance from it.
+     */
+    private static class Node {
+
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+
+    }
+
+}
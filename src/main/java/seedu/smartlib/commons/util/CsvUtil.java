@@ -0,0 +1,111 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing lines of comma-separated values.
+ * A field may be enclosed in double quotes, in which case it may contain commas, and a double quote within it is
+ * written as two double quotes. Fields may not contain line breaks.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\n";
+
+    /**
+     * Splits one line of comma-separated values into its fields.
+     * <br>examples:<pre>
+     *       parseLine("a, b,c") == ["a", " b", "c"]
+     *       parseLine("\"Hello, World\",\"say \"\"hi\"\"\"") == ["Hello, World", "say \"hi\""]
+     *       parseLine("") == [""]
+     *       </pre>
+     *
+     * @param line the line, without its line terminator.
+     * @return the fields of the line, in order.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    public static List<String> parseLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        checkArgument(!isQuoted, MESSAGE_UNTERMINATED_QUOTE);
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Writes one line of comma-separated values, followed by a line terminator.
+     * Fields containing a comma or a double quote are enclosed in double quotes. Null fields are written as empty ones.
+     * <br>examples:<pre>
+     *       writeLine(writer, "a", "b") writes a,b
+     *       writeLine(writer, "Hello, World", "say \"hi\"") writes "Hello, World","say ""hi"""
+     *       </pre>
+     *
+     * @param writer the writer to write the line to.
+     * @param fields the fields of the line, in order, which may not contain line breaks.
+     * @throws IOException if the line cannot be written.
+     */
+    public static void writeLine(Writer writer, String... fields) throws IOException {
+        requireNonNull(writer);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, fields[i]);
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes a single field, quoting it if needed.
+     */
+    private static void writeField(Writer writer, String field) throws IOException {
+        if (field == null) {
+            return;
+        }
+        if (field.indexOf(SEPARATOR) < 0 && field.indexOf(QUOTE) < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+}
@@ -0,0 +1,75 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map of bounded size which evicts its least recently used entry once it is full.
+ * Both {@link #get(Object)} and {@link #put(Object, Object)} count as a use of an entry.
+ *
+ * @param <K> the type of keys of the cache.
+ * @param <V> the type of values of the cache.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    /**
+     * Creates an empty LruCache which holds at most {@code capacity} entries.
+     *
+     * @param capacity the maximum number of entries, which must be positive.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive: " + capacity);
+        // access order makes iteration start from the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached under {@code key}, marking it as the most recently used.
+     *
+     * @param key the key to be looked up.
+     * @return the cached value, or null if there is none.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        return entries.get(key);
+    }
+
+    /**
+     * Caches {@code value} under {@code key}, evicting the least recently used entry if the cache is full.
+     *
+     * @param key the key.
+     * @param value the value to be cached.
+     */
+    public void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        entries.put(key, value);
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the number of entries in the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+}
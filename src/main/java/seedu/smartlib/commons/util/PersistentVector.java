@@ -0,0 +1,310 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list which shares structure with the lists it was derived from.
+ * Elements are held in a tree of 32-slot arrays, with the last (up to) 32 elements kept in a separate tail array.
+ * Appending an element or replacing an element at a position copies only the arrays on the path to that position,
+ * so every version of the list remains valid and unchanged, and keeping an old version costs nothing extra.
+ * Removing an element keeps every full array before it and re-appends only the elements after it.
+ *
+ * @param <E> the type of elements in the vector.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+    // number of index bits consumed above the leaves of the tree
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> the type of elements in the vector.
+     * @return the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the elements of {@code elements}, in order.
+     *
+     * @param elements the elements of the new vector.
+     * @param <E> the type of elements in the vector.
+     * @return a vector holding the elements of {@code elements}.
+     */
+    public static <E> PersistentVector<E> of(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        PersistentVector<E> vector = empty();
+        for (E element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    /**
+     * Returns the number of elements in this vector.
+     *
+     * @return the number of elements in this vector.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @param index the position of the element.
+     * @return the element at {@code index}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a copy of this vector with {@code element} appended at the end.
+     *
+     * @param element the element to be appended.
+     * @return a copy of this vector with {@code element} appended.
+     */
+    public PersistentVector<E> append(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // the tail is full, so it moves into the tree and a new tail is started
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a copy of this vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @param index the position of the element to be replaced.
+     * @param element the new element.
+     * @return a copy of this vector with the element at {@code index} replaced.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setInTree(shift, root, index, element), tail);
+    }
+
+    /**
+     * Returns a copy of this vector with the element at {@code index} removed.
+     * The arrays holding the elements before {@code index} are shared with this vector, and the elements after it
+     * are appended again, so the cost depends on the number of elements after {@code index}.
+     *
+     * @param index the position of the element to be removed.
+     * @return a copy of this vector with the element at {@code index} removed.
+     */
+    public PersistentVector<E> remove(int index) {
+        checkIndex(index);
+        PersistentVector<E> result = truncate(index);
+        for (int i = index + 1; i < size; i++) {
+            result = result.append(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this vector holding only its first {@code newSize} elements.
+     * Every full leaf kept is shared with this vector, and only the path to the last kept leaf is copied.
+     *
+     * @param newSize the number of elements kept, from 0 to the size of this vector.
+     * @return a copy of this vector holding only its first {@code newSize} elements.
+     */
+    public PersistentVector<E> truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Size " + newSize + " is out of bounds for size " + size);
+        }
+        if (newSize == size) {
+            return this;
+        }
+        if (newSize == 0) {
+            return empty();
+        }
+        if (newSize > tailOffset()) {
+            return new PersistentVector<>(newSize, shift, root, Arrays.copyOf(tail, newSize - tailOffset()));
+        }
+
+        // the last kept element is in the tree, so its leaf becomes the tail and the tree keeps the leaves before it
+        int newTailOffset = ((newSize - 1) >>> BITS) << BITS;
+        Object[] leaf = leafFor(newSize - 1);
+        Object[] newTail = newSize - newTailOffset == WIDTH ? leaf : Arrays.copyOf(leaf, newSize - newTailOffset);
+        if (newTailOffset == 0) {
+            return new PersistentVector<>(newSize, BITS, new Object[WIDTH], newTail);
+        }
+        Object[] newRoot = keepInTree(shift, root, newTailOffset);
+        int newShift = shift;
+        while (newShift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(newSize, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector.
+     *
+     * @return an unmodifiable {@code List} view of this vector.
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Returns an iterator over the elements of this vector, in order.
+     *
+     * @return an iterator over the elements of this vector.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return asList().iterator();
+    }
+
+    /**
+     * Returns the index of the first element which is held in the tail rather than in the tree.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Returns the leaf array which holds the element at {@code index}.
+     */
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a copy of {@code parent}, at {@code level}, with the full tail inserted as its rightmost leaf.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        Object[] toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            toInsert = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        result[subIndex] = toInsert;
+        return result;
+    }
+
+    /**
+     * Returns a chain of single-child nodes from {@code level} down to {@code node}.
+     */
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Returns a copy of {@code node}, at {@code level}, with the element at {@code index} replaced.
+     */
+    private static Object[] setInTree(int level, Object[] node, int index, Object element) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = setInTree(level - BITS, (Object[]) node[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of {@code node}, at {@code level}, holding only its first {@code count} elements, where
+     * {@code count} is a positive multiple of the leaf width. Full subtrees before the last kept leaf are shared.
+     */
+    private static Object[] keepInTree(int level, Object[] node, int count) {
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Object[] result = new Object[WIDTH];
+        System.arraycopy(node, 0, result, 0, subIndex);
+        result[subIndex] = level == BITS
+                ? node[subIndex]
+                : keepInTree(level - BITS, (Object[]) node[subIndex], count);
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * An unmodifiable {@code List} view of the enclosing vector.
+     */
+    private class ListView extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps the key of each element of a list to the element's position in that list.
+ * The owner of the list must report every change made to it through {@link #added(Object)},
+ * {@link #addedFrom(int)}, {@link #replaced(int, Object, Object)}, {@link #removed(int, Object)} and {@link #reset()}.
+ *
+ * A removal shifts every later element up by one. Rather than renumbering them immediately, the index only remembers
+ * the first position which may now be stale, and renumbers the stale suffix once, the next time a stale position is
+ * looked up. Removals therefore cost constant time here, and a run of removals costs a single renumbering pass.
+ *
+ * @param <K> the type of key which identifies an element.
+ * @param <E> the type of element in the list.
+ */
+public class PositionIndex<K, E> {
+
+    private static final int NONE_STALE = Integer.MAX_VALUE;
+
+    private final List<E> list;
+    private final Function<? super E, ? extends K> keyOf;
+    private final Map<K, Integer> positions;
+    // positions at or after this one may be out of date
+    private int firstStale = NONE_STALE;
+
+    /**
+     * Creates a PositionIndex over {@code list}, which compares keys using {@code equals} and {@code hashCode}.
+     *
+     * @param list the indexed list.
+     * @param keyOf a function which returns the key of an element.
+     */
+    public PositionIndex(List<E> list, Function<? super E, ? extends K> keyOf) {
+        this(list, keyOf, new HashMap<>());
+    }
+
+    /**
+     * Creates a PositionIndex over {@code list}, which stores keys in {@code positions}.
+     * This allows, for example, an {@code IdentityHashMap} to be used for elements without a suitable key.
+     *
+     * @param list the indexed list.
+     * @param keyOf a function which returns the key of an element.
+     * @param positions an empty map in which keys and positions are to be stored.
+     */
+    public PositionIndex(List<E> list, Function<? super E, ? extends K> keyOf, Map<K, Integer> positions) {
+        requireNonNull(list);
+        requireNonNull(keyOf);
+        requireNonNull(positions);
+        this.list = list;
+        this.keyOf = keyOf;
+        this.positions = positions;
+        reset();
+    }
+
+    /**
+     * Returns true if an element with the given key is in the list.
+     *
+     * @param key the key to be checked.
+     * @return true if an element with the given key is in the list, and false otherwise.
+     */
+    public boolean containsKey(K key) {
+        return positions.containsKey(key);
+    }
+
+    /**
+     * Returns the position of the element with the given key.
+     *
+     * @param key the key to be searched for.
+     * @return the position of the element with the given key, or -1 if there is no such element.
+     */
+    public int indexOf(K key) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstStale) {
+            renumberStaleSuffix();
+            position = positions.get(key);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the element with the same key as {@code element}.
+     *
+     * @param element the element whose key is to be searched for.
+     * @return the position of the element with the same key, or -1 if there is no such element.
+     */
+    public int indexOfKeyOf(E element) {
+        return indexOf(keyOf.apply(element));
+    }
+
+    /**
+     * Records that {@code element} was appended to the end of the list.
+     *
+     * @param element the element appended.
+     */
+    public void added(E element) {
+        positions.put(keyOf.apply(element), list.size() - 1);
+    }
+
+    /**
+     * Records that elements were appended to the list, the first of which is now at {@code firstPosition}.
+     *
+     * @param firstPosition the position of the first element appended.
+     */
+    public void addedFrom(int firstPosition) {
+        for (int i = firstPosition; i < list.size(); i++) {
+            positions.put(keyOf.apply(list.get(i)), i);
+        }
+    }
+
+    /**
+     * Records that {@code oldElement} at {@code position} was replaced by {@code newElement}.
+     *
+     * @param position the position of the replaced element.
+     * @param oldElement the replaced element.
+     * @param newElement the new element.
+     */
+    public void replaced(int position, E oldElement, E newElement) {
+        positions.remove(keyOf.apply(oldElement));
+        positions.put(keyOf.apply(newElement), position);
+    }
+
+    /**
+     * Records that {@code element} was removed from {@code position}.
+     *
+     * @param position the former position of the removed element.
+     * @param element the removed element.
+     */
+    public void removed(int position, E element) {
+        positions.remove(keyOf.apply(element));
+        firstStale = Math.min(firstStale, position);
+    }
+
+    /**
+     * Rebuilds the index from the current contents of the list.
+     */
+    public void reset() {
+        positions.clear();
+        firstStale = 0;
+        renumberStaleSuffix();
+    }
+
+    /**
+     * Renumbers every element from the first stale position to the end of the list.
+     */
+    private void renumberStaleSuffix() {
+        for (int i = firstStale; i < list.size(); i++) {
+            positions.put(keyOf.apply(list.get(i)), i);
+        }
+        firstStale = NONE_STALE;
+    }
+
+}
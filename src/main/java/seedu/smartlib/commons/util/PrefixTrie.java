@@ -0,0 +1,144 @@
+package seedu.smartlib.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A prefix tree of strings which lists the stored strings starting with a given prefix, ignoring case.
+ * A lookup walks down one node per character of the prefix and then stops as soon as enough strings have been
+ * found, so its cost does not depend on the number of strings stored.
+ *
+ * A string may be added several times (for example, the title of every copy of a book), and stays in the tree until
+ * it has been removed as many times. All methods are synchronized, so lookups may be made from a background thread
+ * while the owner of the tree keeps it up to date.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds one occurrence of {@code value} to the tree.
+     *
+     * @param value the string to be added.
+     */
+    public synchronized void add(String value) {
+        requireNonNull(value);
+        Node node = root;
+        for (char c : normalise(value).toCharArray()) {
+            node = node.children.computeIfAbsent(c, unused -> new Node());
+        }
+        if (node.values == null) {
+            node.values = new TreeMap<>();
+        }
+        node.values.merge(value, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code value} from the tree, if it is present.
+     *
+     * @param value the string to be removed.
+     */
+    public synchronized void remove(String value) {
+        requireNonNull(value);
+        String key = normalise(value);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (char c : key.toCharArray()) {
+            path.push(node);
+            node = node.children.get(c);
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.values == null || node.values.computeIfPresent(value, (unused, count) -> count - 1) == null) {
+            return;
+        }
+        node.values.remove(value, 0);
+
+        // prunes the nodes which no longer lead to any string, from the bottom up
+        for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(key.charAt(i));
+            node = parent;
+        }
+    }
+
+    /**
+     * Removes every string from the tree.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+        root.values = null;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct strings in the tree which start with {@code prefix}, ignoring case, in
+     * case-insensitive alphabetical order.
+     *
+     * @param prefix the prefix to be completed.
+     * @param limit the maximum number of strings to be returned.
+     * @return the matching strings.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        for (char c : normalise(prefix).toCharArray()) {
+            node = node.children.get(c);
+            if (node == null) {
+                return completions;
+            }
+        }
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    /**
+     * Adds the strings under {@code node} to {@code completions} in order, until it holds {@code limit} strings.
+     */
+    private static void collect(Node node, int limit, List<String> completions) {
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty() && completions.size() < limit) {
+            Node current = pending.pop();
+            if (current.values != null) {
+                for (String value : current.values.keySet()) {
+                    if (completions.size() == limit) {
+                        return;
+                    }
+                    completions.add(value);
+                }
+            }
+            // pushed in reverse so that the smallest child is visited first
+            for (Node child : current.children.descendingMap().values()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    private static String normalise(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the tree, holding the strings which end at it and their number of occurrences.
+     */
+    private static class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private Map<String, Integer> values;
+
+        boolean isEmpty() {
+            return children.isEmpty() && (values == null || values.isEmpty());
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+package seedu.smartlib.commons.util;
+
+import static seedu.smartlib.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A set of non-negative ints, held as a bitmap of which only the blocks containing members are stored.
+ * Unlike {@link java.util.BitSet}, the memory used depends on how many blocks are occupied rather than on the
+ * largest member, so a few members spread over a range of a billion values cost a few hundred bytes each, and
+ * members in runs cost little more than a bit each.
+ */
+public class SparseBitSet {
+
+    private static final int WORDS_PER_BLOCK = 16;
+    private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+
+    private final Map<Integer, long[]> blocks = new HashMap<>();
+    private int size;
+
+    /**
+     * Returns true if {@code index} is in the set.
+     *
+     * @param index the int to be checked, which must not be negative.
+     * @return true if {@code index} is in the set, and false otherwise.
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        long[] block = blocks.get(index / BITS_PER_BLOCK);
+        return block != null && (block[wordOf(index)] & maskOf(index)) != 0;
+    }
+
+    /**
+     * Adds {@code index} to the set.
+     *
+     * @param index the int to be added, which must not be negative.
+     */
+    public void set(int index) {
+        checkIndex(index);
+        long[] block = blocks.computeIfAbsent(index / BITS_PER_BLOCK, unused -> new long[WORDS_PER_BLOCK]);
+        if ((block[wordOf(index)] & maskOf(index)) == 0) {
+            block[wordOf(index)] |= maskOf(index);
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code index} from the set. A block is dropped once it holds no members.
+     *
+     * @param index the int to be removed, which must not be negative.
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        long[] block = blocks.get(index / BITS_PER_BLOCK);
+        if (block == null || (block[wordOf(index)] & maskOf(index)) == 0) {
+            return;
+        }
+        block[wordOf(index)] &= ~maskOf(index);
+        size--;
+        if (isEmpty(block)) {
+            blocks.remove(index / BITS_PER_BLOCK);
+        }
+    }
+
+    /**
+     * Removes every member of the set.
+     */
+    public void clear() {
+        blocks.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns true if no int from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) is in the set.
+     * Blocks which are not stored are skipped without looking at their bits.
+     *
+     * @param fromIndex the first int to be checked, which must not be negative.
+     * @param toIndex the int after the last one to be checked, which must not be less than {@code fromIndex}.
+     * @return true if none of the ints in the range is in the set, and false otherwise.
+     */
+    public boolean isClear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        int index = fromIndex;
+        while (index < toIndex) {
+            int blockEnd = (int) Math.min(toIndex, (long) (index / BITS_PER_BLOCK + 1) * BITS_PER_BLOCK);
+            long[] block = blocks.get(index / BITS_PER_BLOCK);
+            if (block != null) {
+                for (; index < blockEnd; index++) {
+                    if ((block[wordOf(index)] & maskOf(index)) != 0) {
+                        return false;
+                    }
+                }
+            }
+            index = blockEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of members of the set.
+     *
+     * @return the number of members of the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position, within its block, of the word holding {@code index}.
+     */
+    private static int wordOf(int index) {
+        return (index % BITS_PER_BLOCK) / Long.SIZE;
+    }
+
+    /**
+     * Returns the mask selecting the bit of {@code index} within its word.
+     */
+    private static long maskOf(int index) {
+        return 1L << (index % Long.SIZE);
+    }
+
+    /**
+     * Returns true if no bit of {@code block} is set.
+     */
+    private static boolean isEmpty(long[] block) {
+        for (long word : block) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that {@code index} can be a member of the set.
+     */
+    private static void checkIndex(int index) {
+        checkArgument(index >= 0, "Index must not be negative: " + index);
+    }
+
+    /**
+     * Checks that the range from {@code fromIndex} to {@code toIndex} is valid.
+     */
+    private static void checkRange(int fromIndex, int toIndex) {
+        checkArgument(fromIndex >= 0 && fromIndex <= toIndex, "Invalid range: " + fromIndex + " to " + toIndex);
+    }
+
+}
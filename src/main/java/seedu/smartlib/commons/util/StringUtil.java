@@ -7,12 +7,20 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    // the Soundex digit of each letter from A to Z, where 0 marks the letters which are not coded
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -66,6 +74,65 @@ public class StringUtil {
         return isMatched;
     }
 
+    /**
+     * Returns the distinct words of {@code texts}, in lower case.
+     * A sentence contains a word, in the sense of {@link #containsWordIgnoreCase(String, String)}, exactly when the
+     * lower-case form of the word is in this set, so the set can be computed once per sentence and then looked up
+     * for every keyword without splitting the sentence again.
+     *
+     * @param texts the texts to be split into words.
+     * @return an unmodifiable set of the lower-case words of {@code texts}.
+     */
+    public static Set<String> wordsIgnoreCase(String... texts) {
+        Set<String> words = new HashSet<>();
+        for (String text : texts) {
+            requireNonNull(text);
+            for (String word : text.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(word.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return Set.copyOf(words);
+    }
+
+    /**
+     * Returns the words of {@code text} in lower case, in the order they occur and including repeats.
+     * The list holds the same words as {@link #wordsIgnoreCase(String...)} returns for {@code text}.
+     *
+     * @param text the text to be split into words.
+     * @return an unmodifiable list of the lower-case words of {@code text}.
+     */
+    public static List<String> wordListIgnoreCase(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * Returns {@code keywords} trimmed and in lower case, without the blank ones, ready to be looked up in the sets
+     * returned by {@link #wordsIgnoreCase(String...)}.
+     *
+     * @param keywords the keywords.
+     * @return the normalised keywords.
+     */
+    public static List<String> keywordsIgnoreCase(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> normalised = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty()) {
+                normalised.add(trimmed.toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalised;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      *
@@ -100,4 +167,87 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the minimum number of single
+     * character insertions, deletions and substitutions needed to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alice") == 0
+     *       editDistance("alice", "alcie") == 2
+     *       editDistance("alice", "alic") == 1
+     *       </pre>
+     *
+     * @param first cannot be null.
+     * @param second cannot be null.
+     * @return the edit distance between the two strings.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // only the previous row of the distance table is needed to compute the next one
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter followed by three digits which encode the
+     * sounds of the consonants after it, so that words which sound alike usually share a code.
+     * Characters other than the letters A to Z are ignored, and case does not matter.
+     *   <br>examples:<pre>
+     *       soundex("Robert") == "R163"
+     *       soundex("rupert") == "R163"
+     *       soundex("Lee") == "L000"
+     *       soundex("123") == ""
+     *       </pre>
+     *
+     * @param word cannot be null.
+     * @return the Soundex code of the word, or an empty string if it has no letters.
+     */
+    public static String soundex(String word) {
+        requireNonNull(word);
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH);
+        char previousDigit = 0;
+        for (char c : word.toUpperCase(Locale.ROOT).toCharArray()) {
+            if (c < 'A' || c > 'Z') {
+                continue;
+            }
+            char digit = SOUNDEX_DIGITS.charAt(c - 'A');
+            if (code.length() == 0) {
+                code.append(c);
+            } else if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+                if (code.length() == SOUNDEX_LENGTH) {
+                    break;
+                }
+            }
+            // vowels separate consonants with the same digit, but H and W do not
+            if (c != 'H' && c != 'W') {
+                previousDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
 }
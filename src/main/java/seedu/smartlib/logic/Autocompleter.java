@@ -0,0 +1,112 @@
+package seedu.smartlib.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BOOK;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.smartlib.logic.commands.FindBookCommand;
+import seedu.smartlib.logic.commands.FindReaderCommand;
+import seedu.smartlib.model.Model;
+
+/**
+ * Suggests completions of a partially typed command.
+ * The value being typed is the text after the last reader name ({@code r/}), book title ({@code b/}) or barcode
+ * ({@code bc/}) prefix, or the keywords of a {@code findreader} or {@code findbook} command. It is completed from the
+ * prefix trees kept by the model, so suggestions may be computed away from the JavaFX application thread.
+ */
+public class Autocompleter {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // a prefix only starts an argument if it follows whitespace, as in ArgumentTokenizer
+    private static final Pattern ARGUMENT_PREFIX = Pattern.compile("(?<=\\s)("
+            + Pattern.quote(PREFIX_BARCODE.getPrefix()) + "|"
+            + Pattern.quote(PREFIX_BOOK.getPrefix()) + "|"
+            + Pattern.quote(PREFIX_READER.getPrefix()) + ")");
+
+    private final Model model;
+
+    /**
+     * Creates an Autocompleter which completes values from {@code model}.
+     *
+     * @param model the model holding the values to be suggested.
+     */
+    public Autocompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns up to {@link #MAX_SUGGESTIONS} completions of {@code commandText}, each being the full command text
+     * with the value being typed completed. Values which are already typed out in full are not suggested.
+     *
+     * @param commandText the text typed so far.
+     * @return the completed command texts, or an empty list if there is nothing to complete.
+     */
+    public List<String> suggest(String commandText) {
+        requireNonNull(commandText);
+
+        Matcher matcher = ARGUMENT_PREFIX.matcher(commandText);
+        String lastPrefix = null;
+        int valueStart = -1;
+        while (matcher.find()) {
+            lastPrefix = matcher.group(1);
+            valueStart = matcher.end();
+        }
+
+        if (lastPrefix == null) {
+            return suggestKeywords(commandText);
+        }
+
+        String typed = commandText.substring(valueStart).stripLeading();
+        String head = commandText.substring(0, commandText.length() - typed.length());
+        List<String> values;
+        if (lastPrefix.equals(PREFIX_READER.getPrefix())) {
+            values = model.suggestReaderNames(typed, MAX_SUGGESTIONS + 1);
+        } else if (lastPrefix.equals(PREFIX_BOOK.getPrefix())) {
+            values = model.suggestBookNames(typed, MAX_SUGGESTIONS + 1);
+        } else {
+            values = model.suggestBarcodes(typed, MAX_SUGGESTIONS + 1);
+        }
+        return complete(head, typed, values);
+    }
+
+    /**
+     * Returns completions of the keywords of a {@code findreader} or {@code findbook} command.
+     */
+    private List<String> suggestKeywords(String commandText) {
+        String[] parts = commandText.split("\\s+", 2);
+        if (parts.length < 2 || parts[1].isBlank()) {
+            return new ArrayList<>();
+        }
+
+        String typed = parts[1].stripLeading();
+        String head = commandText.substring(0, commandText.length() - typed.length());
+        if (parts[0].equals(FindReaderCommand.COMMAND_WORD)) {
+            return complete(head, typed, model.suggestReaderNames(typed, MAX_SUGGESTIONS + 1));
+        } else if (parts[0].equals(FindBookCommand.COMMAND_WORD)) {
+            return complete(head, typed, model.suggestBookNames(typed, MAX_SUGGESTIONS + 1));
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns {@code head} followed by each of {@code values} other than {@code typed} itself.
+     */
+    private static List<String> complete(String head, String typed, List<String> values) {
+        List<String> completions = new ArrayList<>();
+        for (String value : values) {
+            if (!value.equals(typed) && completions.size() < MAX_SUGGESTIONS) {
+                completions.add(head + value);
+            }
+        }
+        return completions;
+    }
+
+}
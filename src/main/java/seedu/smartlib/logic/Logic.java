@@ -1,13 +1,16 @@
 package seedu.smartlib.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.smartlib.commons.core.GuiSettings;
+import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.logic.commands.CommandResult;
 import seedu.smartlib.logic.commands.exceptions.CommandException;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
 import seedu.smartlib.model.ReadOnlySmartLib;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Book;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.record.Record;
@@ -26,6 +29,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Stops the work which the logic runs in the background, such as exports, waiting for work already started to
+     * finish. No command should be executed afterwards.
+     */
+    void shutdown();
+
+    /**
+     * Returns completions of the partially typed {@code commandText}, each being a full command text.
+     * Unlike the other methods of Logic, this may be called from any thread.
+     *
+     * @param commandText the text typed so far.
+     * @return the suggested command texts.
+     * @see Autocompleter#suggest(String)
+     */
+    List<String> getSuggestions(String commandText);
+
     /**
      * Returns the SmartLib.
      *
@@ -39,6 +58,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of books */
     ObservableList<Book> getFilteredBookList();
 
+    /** Returns the number of copies of the book named {@code bookName}, and how many of them are not on loan */
+    Availability getAvailability(Name bookName);
+
     /** Returns an unmodifiable view of the filtered list of records */
     ObservableList<Record> getFilteredRecordList();
 
@@ -2,11 +2,19 @@ package seedu.smartlib.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.smartlib.commons.core.GuiSettings;
 import seedu.smartlib.commons.core.LogsCenter;
+import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.logic.commands.Command;
 import seedu.smartlib.logic.commands.CommandResult;
 import seedu.smartlib.logic.commands.exceptions.CommandException;
@@ -14,6 +22,7 @@ import seedu.smartlib.logic.parser.SmartLibParser;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
 import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ReadOnlySmartLib;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Book;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.record.Record;
@@ -25,10 +34,20 @@ import seedu.smartlib.storage.Storage;
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    private static final long EXPORT_SHUTDOWN_TIMEOUT_SECONDS = 30;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final Storage storage;
     private final SmartLibParser smartLibParser;
+    private final Autocompleter autocompleter;
+    // a single thread, so that exports are written one after another in the order they were requested
+    private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "smartlib-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // messages of the exports which failed since the last command was executed
+    private final Queue<String> exportFailures = new ConcurrentLinkedQueue<>();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -36,11 +55,13 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        smartLibParser = new SmartLibParser();
+        smartLibParser = new SmartLibParser(exportExecutor, exportFailures::add);
+        autocompleter = new Autocompleter(model);
     }
 
     /**
      * Executes the command and returns the result message.
+     * Exports which failed in the background since the last command are reported in the result message.
      *
      * @param commandText text which the LogicManager needs to parse.
      * @return feedback message of the operation result for display.
@@ -61,7 +82,51 @@ public class LogicManager implements Logic {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
-        return commandResult;
+        return withExportFailures(commandResult);
+    }
+
+    /**
+     * Returns {@code commandResult} with the messages of any exports which failed in the background appended to
+     * its feedback, so that the user finds out about them.
+     */
+    private CommandResult withExportFailures(CommandResult commandResult) {
+        List<String> failureMessages = new ArrayList<>();
+        String failureMessage;
+        while ((failureMessage = exportFailures.poll()) != null) {
+            failureMessages.add(failureMessage);
+        }
+        if (failureMessages.isEmpty()) {
+            return commandResult;
+        }
+        String feedback = commandResult.getFeedbackToUser() + "\n" + String.join("\n", failureMessages);
+        return new CommandResult(feedback, commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    /**
+     * Stops accepting exports, and waits for the exports already requested to be written.
+     */
+    @Override
+    public void shutdown() {
+        exportExecutor.shutdown();
+        try {
+            if (!exportExecutor.awaitTermination(EXPORT_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Exports were still being written when SmartLib stopped.");
+            }
+        } catch (InterruptedException ie) {
+            logger.warning("Interrupted while waiting for exports to be written.");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns completions of the partially typed {@code commandText}.
+     *
+     * @param commandText the text typed so far.
+     * @return the suggested command texts.
+     */
+    @Override
+    public List<String> getSuggestions(String commandText) {
+        return autocompleter.suggest(commandText);
     }
 
     /**
@@ -94,6 +159,17 @@ public class LogicManager implements Logic {
         return model.getFilteredBookList();
     }
 
+    /**
+     * Returns the number of copies of a book, and how many of them are not on loan.
+     *
+     * @param bookName name of the book.
+     * @return the availability of the book.
+     */
+    @Override
+    public Availability getAvailability(Name bookName) {
+        return model.getAvailability(bookName);
+    }
+
     /**
      * Returns SmartLib's immutable list of books.
      *
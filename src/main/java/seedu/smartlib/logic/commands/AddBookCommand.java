@@ -3,12 +3,13 @@ package seedu.smartlib.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BOOK;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_COPIES;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_GENRE;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PUBLISHER;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.List;
 
 import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.logic.commands.exceptions.CommandException;
@@ -17,7 +18,7 @@ import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
 
 /**
- * Adds a book to the registered book base.
+ * Adds a book, or several copies of a book, to the registered book base.
  */
 public class AddBookCommand extends Command {
 
@@ -29,19 +30,23 @@ public class AddBookCommand extends Command {
             + PREFIX_AUTHOR + "AUTHOR "
             + PREFIX_PUBLISHER + "PUBLISHER "
             + PREFIX_ISBN + "ISBN "
-            + PREFIX_GENRE + "GENRE\n"
+            + PREFIX_GENRE + "GENRE "
+            + "[" + PREFIX_COPIES + "COPIES]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_BOOK + "Great Expectations "
             + PREFIX_AUTHOR + "Charles Dickens "
             + PREFIX_PUBLISHER + "Chapman Hall "
             + PREFIX_ISBN + "9780194241748 "
-            + PREFIX_GENRE + "Novel ";
+            + PREFIX_GENRE + "Novel "
+            + PREFIX_COPIES + "30";
 
     public static final String MESSAGE_SUCCESS = "New book added: %1$s";
+    public static final String MESSAGE_SUCCESS_COPIES = "%1$d copies of %2$s added, with barcodes %3$s to %4$s.";
     public static final String MESSAGE_DUPLICATE_BOOK = "This book already exists in the book base.";
     public static final String MESSAGE_DUPLICATE_ISBN = "The ISBN you entered exists in the book base but it has "
             + "a different book name. Please ensure that you have keyed in the correct book name and ISBN.";
     private final Book bookWithTempBarcode;
+    private final int copies;
 
     /**
      * Creates an AddBookCommand to add the specified book.
@@ -49,8 +54,20 @@ public class AddBookCommand extends Command {
      * @param bookWithTempBarcode the book to be added to SmartLib's book base.
      */
     public AddBookCommand(Book bookWithTempBarcode) {
+        this(bookWithTempBarcode, 1);
+    }
+
+    /**
+     * Creates an AddBookCommand to add {@code copies} copies of the specified book.
+     *
+     * @param bookWithTempBarcode the book to be added to SmartLib's book base.
+     * @param copies the number of copies to be added, which must be positive.
+     */
+    public AddBookCommand(Book bookWithTempBarcode, int copies) {
         requireNonNull(bookWithTempBarcode);
+        assert copies > 0;
         this.bookWithTempBarcode = bookWithTempBarcode;
+        this.copies = copies;
     }
 
     /**
@@ -78,6 +95,7 @@ public class AddBookCommand extends Command {
 
     /**
      * Executes the command and returns the result message.
+     * Several copies are checked once, given consecutive barcodes, and added as a single change to the book base.
      *
      * @param model {@code Model} which the command should operate on.
      * @return feedback message of the operation result for display.
@@ -88,26 +106,21 @@ public class AddBookCommand extends Command {
         requireNonNull(model);
         verifyBookInfo(model);
 
-        Barcode barcode = generateBarcode(model);
-        Book book = new Book(bookWithTempBarcode.getName(), bookWithTempBarcode.getAuthor(),
-                bookWithTempBarcode.getPublisher(), bookWithTempBarcode.getIsbn(),
-                barcode, bookWithTempBarcode.getGenre());
-        model.addBook(book);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, book));
-    }
+        List<Barcode> barcodes = model.allocateBarcodes(copies);
+        List<Book> books = new ArrayList<>(copies);
+        for (Barcode barcode : barcodes) {
+            books.add(new Book(bookWithTempBarcode.getName(), bookWithTempBarcode.getAuthor(),
+                    bookWithTempBarcode.getPublisher(), bookWithTempBarcode.getIsbn(),
+                    barcode, bookWithTempBarcode.getGenre()));
+        }
 
-    /**
-     * Generates an barcode to to distinguish between each book.
-     *
-     * @param model to check if the newly generated barcode has already be taken up by some book in SmartLib.
-     */
-    private Barcode generateBarcode(Model model) {
-        Random random = new Random();
-        int rv = random.nextInt(Barcode.MAX_VALUE - Barcode.MIN_VALUE) + Barcode.MIN_VALUE;
-        while (model.hasBookWithBarcode(new Barcode(rv))) {
-            rv = random.nextInt(Barcode.MAX_VALUE - Barcode.MIN_VALUE) + Barcode.MIN_VALUE;
+        if (copies == 1) {
+            model.addBook(books.get(0));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, books.get(0)));
         }
-        return new Barcode(rv);
+        model.addBooks(books);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_COPIES, copies, bookWithTempBarcode.getName(),
+                barcodes.get(0), barcodes.get(copies - 1)));
     }
 
     /**
@@ -120,7 +133,8 @@ public class AddBookCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddBookCommand // instanceof handles nulls
-                && bookWithTempBarcode.equals(((AddBookCommand) other).bookWithTempBarcode));
+                && bookWithTempBarcode.equals(((AddBookCommand) other).bookWithTempBarcode)
+                && copies == ((AddBookCommand) other).copies); // state check
     }
 
 }
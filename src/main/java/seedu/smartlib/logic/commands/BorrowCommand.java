@@ -33,7 +33,8 @@ public class BorrowCommand extends Command {
             + "reader which you have specified. Please check if you have entered the name correctly.";
     public static final String BOOK_ALREADY_BORROWED = "Sorry, the book is already borrowed.";
     public static final String READER_DISABLE_BORROWING = "Sorry, the reader has either reached the quota of books"
-            + " that he/she can borrow, or is holding on to an overdue book.";
+            + " that he/she can borrow, is holding on to an overdue book, or owes more than $"
+            + String.format("%.2f", SmartLib.FINE_LIMIT_IN_CENTS / 100.0) + " in fines.";
     public static final String UNABLE_TO_UPDATE_CODEBASE = "Sorry, an error has occurred with the codebase and we are"
             + " unable to update it.";
     public static final String NO_AVAILABLE_BOOKS = "Sorry, all copies of the book are loaned out.\n"
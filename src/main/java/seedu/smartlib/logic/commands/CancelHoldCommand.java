@@ -0,0 +1,68 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.hold.Hold;
+
+/**
+ * Cancels a hold placed by a reader, so that the reader is no longer lent the next copy of the title returned.
+ */
+public class CancelHoldCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancelhold";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Cancels the hold a reader placed on a title.\n"
+            + "Readers behind the reader in the queue move up one place.\n"
+            + "Parameters: " + PREFIX_READER + "READER_NAME " + PREFIX_ISBN + "ISBN\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_READER + "Charlotte " + PREFIX_ISBN + "9780062315007";
+    public static final String MESSAGE_SUCCESS = "%1$s no longer holds the book with ISBN %2$s.";
+    public static final String MESSAGE_NO_SUCH_HOLD = "This reader has not placed a hold on this book.";
+
+    private final Hold hold;
+
+    /**
+     * Creates a CancelHoldCommand to cancel the given hold.
+     *
+     * @param hold the hold to be cancelled.
+     */
+    public CancelHoldCommand(Hold hold) {
+        requireNonNull(hold);
+        this.hold = hold;
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the hold has not been placed.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasHold(hold)) {
+            throw new CommandException(MESSAGE_NO_SUCH_HOLD);
+        }
+
+        model.removeHold(hold);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, hold.getReaderName(), hold.getIsbn()));
+    }
+
+    /**
+     * Checks if this CancelHoldCommand is equal to another CancelHoldCommand.
+     *
+     * @param other the other CancelHoldCommand to be compared.
+     * @return true if this CancelHoldCommand is equal to the other CancelHoldCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CancelHoldCommand // instanceof handles nulls
+                && hold.equals(((CancelHoldCommand) other).hold)); // state check
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.smartlib.logic.commands;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.model.SmartLib.HOURS_BORROW_ALLOWED;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.record.Cost;
+import seedu.smartlib.model.record.DateReturned;
+import seedu.smartlib.model.record.Record;
+
+/**
+ * Marks the records of several books as returned at once.
+ * Either every book is returned, or none of them is.
+ */
+public class CheckinCommand extends Command {
+
+    public static final String COMMAND_WORD = "checkin";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Returns several books at once.\n"
+            + "Either every book is returned, or none of them is.\n"
+            + "Parameters: " + PREFIX_BARCODE + "BARCODE [" + PREFIX_BARCODE + "BARCODE]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_BARCODE + "1000000000 " + PREFIX_BARCODE + "1000000001";
+    public static final String MESSAGE_SUCCESS = "%1$d book(s) returned.";
+    public static final String MESSAGE_OVERDUE = "%1$s is overdue by %2$d hours.";
+    public static final String MESSAGE_COST = "The total cost is $%.2f.";
+    public static final String MESSAGE_OUTSTANDING_FINES = "%1$s now owes $%2$.2f in fines.";
+    public static final String MESSAGE_LENT_TO_HOLDER = "%1$s has been lent to %2$s, who placed a hold on it.";
+    public static final String MESSAGE_NOTHING_RETURNED = "None of the books were returned, as some of them are "
+            + "not on loan:";
+    public static final String MESSAGE_NO_SUCH_BOOK = "%1$s: there is no book with this barcode.";
+    public static final String MESSAGE_BOOK_NOT_BORROWED = "%1$s: the book is not loaned out.";
+    public static final String MESSAGE_NO_SUCH_RECORD = "%1$s: the borrowing record of the book cannot be found.";
+
+    private final List<Barcode> barcodes;
+
+    /**
+     * Creates a CheckinCommand to take back the books with the given barcodes.
+     *
+     * @param barcodes barcodes of the books to be returned, which must be distinct.
+     */
+    public CheckinCommand(List<Barcode> barcodes) {
+        requireAllNonNull(barcodes);
+        this.barcodes = List.copyOf(barcodes);
+    }
+
+    /**
+     * Returns the number of hours by which the book of a completed record was returned late.
+     *
+     * @param record the completed record.
+     * @return the number of hours the book is overdue by, or 0 if it was returned on time.
+     */
+    private static int getOverdueHours(Record record) {
+        return Math.max(0, (int) record.getBorrowDuration().toHours() - HOURS_BORROW_ALLOWED);
+    }
+
+    /**
+     * Generates a success message about the returned books, including the overdue charge if applicable.
+     *
+     * @param completedRecords the completed records of the returned books.
+     * @param outstandingFines the outstanding fines, in cents, of each reader who returned a book late.
+     * @param booksLentToHolders the returned books which were lent to readers holding them.
+     * @return a success message about the returned books.
+     */
+    private static String getSuccessMessage(List<Record> completedRecords, Map<Name, Long> outstandingFines,
+            List<Book> booksLentToHolders) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, completedRecords.size()));
+        int totalOverdueHours = 0;
+        for (Record record : completedRecords) {
+            int overdueHours = getOverdueHours(record);
+            if (overdueHours > 0) {
+                message.append("\n").append(String.format(MESSAGE_OVERDUE, record.getBookBarcode(), overdueHours));
+                totalOverdueHours += overdueHours;
+            }
+        }
+        if (totalOverdueHours > 0) {
+            message.append("\n").append(String.format(MESSAGE_COST, new Cost(totalOverdueHours).getCost()));
+        }
+        for (Map.Entry<Name, Long> balance : outstandingFines.entrySet()) {
+            message.append("\n").append(String.format(MESSAGE_OUTSTANDING_FINES, balance.getKey(),
+                    balance.getValue() / 100.0));
+        }
+        for (Book book : booksLentToHolders) {
+            message.append("\n").append(String.format(MESSAGE_LENT_TO_HOLDER, book.getBarcode(),
+                    book.getBorrowerName()));
+        }
+        return message.toString();
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     * Every book is checked before any of them is returned, and all the problems found are reported together.
+     * Readers are charged for the books they returned late, and their outstanding fines are shown.
+     * Each returned book whose title is held by a reader is then lent to the first such reader who may borrow it,
+     * within the same change to the model.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if any of the books cannot be returned.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+
+        List<String> problems = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            Book book = model.getBookByBarcode(barcode);
+            if (book == null) {
+                problems.add(String.format(MESSAGE_NO_SUCH_BOOK, barcode));
+            } else if (!book.isBorrowed()) {
+                problems.add(String.format(MESSAGE_BOOK_NOT_BORROWED, barcode));
+            } else if (!model.hasOpenRecord(barcode)) {
+                problems.add(String.format(MESSAGE_NO_SUCH_RECORD, barcode));
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_RETURNED + "\n" + String.join("\n", problems));
+        }
+
+        List<Record> completedRecords = model.returnBooks(barcodes, new DateReturned(LocalDateTime.now()));
+        Map<Name, Long> outstandingFines = new LinkedHashMap<>();
+        for (Record record : completedRecords) {
+            if (getOverdueHours(record) > 0) {
+                outstandingFines.put(record.getReaderName(), model.getOutstandingFines(record.getReaderName()));
+            }
+        }
+        // the returned books which are on loan again were lent to holders of their titles
+        List<Book> booksLentToHolders = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            Book book = model.getBookByBarcode(barcode);
+            if (book.isBorrowed()) {
+                booksLentToHolders.add(book);
+            }
+        }
+        return new CommandResult(getSuccessMessage(completedRecords, outstandingFines, booksLentToHolders));
+    }
+
+    /**
+     * Checks if this CheckinCommand is equal to another CheckinCommand.
+     *
+     * @param other the other CheckinCommand to be compared.
+     * @return true if this CheckinCommand is equal to the other CheckinCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CheckinCommand // instanceof handles nulls
+                && barcodes.equals(((CheckinCommand) other).barcodes)); // state check
+    }
+
+}
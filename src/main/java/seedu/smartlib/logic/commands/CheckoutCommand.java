@@ -0,0 +1,116 @@
+package seedu.smartlib.logic.commands;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.record.DateBorrowed;
+import seedu.smartlib.model.record.Record;
+
+/**
+ * Adds records of a reader borrowing several books at once.
+ * Either every book is borrowed, or none of them is.
+ */
+public class CheckoutCommand extends Command {
+
+    public static final String COMMAND_WORD = "checkout";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds records of a reader borrowing several books "
+            + "at once.\n"
+            + "Either every book is borrowed, or none of them is.\n"
+            + "Note that readers may only borrow up to " + SmartLib.QUOTA + " books.\n"
+            + "Parameters: " + PREFIX_READER + "READER_NAME " + PREFIX_BARCODE + "BARCODE ["
+            + PREFIX_BARCODE + "BARCODE]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_READER + "Charlotte " + PREFIX_BARCODE + "1000000000 "
+            + PREFIX_BARCODE + "1000000001";
+    public static final String MESSAGE_SUCCESS = "%1$d book(s) borrowed by %2$s.";
+    public static final String MESSAGE_NOTHING_BORROWED = "None of the books were borrowed, as some of them are "
+            + "not available:";
+    public static final String MESSAGE_NO_SUCH_BOOK = "%1$s: there is no book with this barcode.";
+    public static final String MESSAGE_BOOK_BORROWED = "%1$s: the book is already borrowed.";
+    public static final String MESSAGE_CANNOT_BORROW = "Sorry, the reader cannot borrow %1$d more book(s). Readers "
+            + "may only borrow up to " + SmartLib.QUOTA + " books, and may not borrow while holding on to an "
+            + "overdue book or owing more than $" + String.format("%.2f", SmartLib.FINE_LIMIT_IN_CENTS / 100.0)
+            + " in fines.";
+
+    private final Name readerName;
+    private final List<Barcode> barcodes;
+
+    /**
+     * Creates a CheckoutCommand to lend the books with the given barcodes to a reader.
+     *
+     * @param readerName name of the reader borrowing the books.
+     * @param barcodes barcodes of the books to be borrowed, which must be distinct.
+     */
+    public CheckoutCommand(Name readerName, List<Barcode> barcodes) {
+        requireAllNonNull(readerName, barcodes);
+        this.readerName = readerName;
+        this.barcodes = List.copyOf(barcodes);
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     * Every book is checked before any of them is lent out, and all the problems found are reported together.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the reader does not exist, if any of the books cannot be borrowed,
+     * or if the reader cannot borrow that many books.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+
+        if (!model.hasReader(readerName)) {
+            throw new CommandException(BorrowCommand.NO_READER_FOUND);
+        }
+
+        DateBorrowed dateBorrowed = new DateBorrowed(LocalDateTime.now());
+        List<Record> borrowRecords = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            Book book = model.getBookByBarcode(barcode);
+            if (book == null) {
+                problems.add(String.format(MESSAGE_NO_SUCH_BOOK, barcode));
+            } else if (book.isBorrowed()) {
+                problems.add(String.format(MESSAGE_BOOK_BORROWED, barcode));
+            } else {
+                borrowRecords.add(new Record(book.getName(), barcode, readerName, dateBorrowed));
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_BORROWED + "\n" + String.join("\n", problems));
+        }
+
+        if (!model.canReaderBorrow(readerName, barcodes.size())) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_BORROW, barcodes.size()));
+        }
+
+        model.borrowBooks(borrowRecords);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, borrowRecords.size(), readerName));
+    }
+
+    /**
+     * Checks if this CheckoutCommand is equal to another CheckoutCommand.
+     *
+     * @param other the other CheckoutCommand to be compared.
+     * @return true if this CheckoutCommand is equal to the other CheckoutCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CheckoutCommand // instanceof handles nulls
+                && readerName.equals(((CheckoutCommand) other).readerName)
+                && barcodes.equals(((CheckoutCommand) other).barcodes)); // state check
+    }
+
+}
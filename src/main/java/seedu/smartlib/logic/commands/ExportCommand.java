@@ -0,0 +1,111 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.smartlib.commons.core.LogsCenter;
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ReadOnlySmartLib;
+import seedu.smartlib.storage.CsvSmartLibExporter;
+
+/**
+ * Writes the books, readers and records of SmartLib to CSV files in a directory.
+ * The files are written on a background thread, from a snapshot of the data taken when the command is executed, so
+ * that other commands can be executed while a large export is in progress.
+ * The messages of exports which fail are passed to a failure sink, so that they can be reported later.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the books, readers and records in SmartLib "
+            + "to the files " + CsvSmartLibExporter.BOOKS_FILE_NAME + ", " + CsvSmartLibExporter.READERS_FILE_NAME
+            + " and " + CsvSmartLibExporter.RECORDS_FILE_NAME + " in a directory.\n"
+            + "Existing files with these names are replaced.\n"
+            + "Parameters: DIRECTORY\n"
+            + "Example: " + COMMAND_WORD + " data/export";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d book(s), %2$d reader(s) and %3$d record(s) to %4$s. "
+            + "The files will be ready in a moment.";
+    public static final String MESSAGE_NOT_DIRECTORY = "%1$s is not a directory.";
+    public static final String MESSAGE_EXPORT_FAILED = "The export to %1$s failed, and the files there were not "
+            + "updated: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path directory;
+    private final Executor executor;
+    private final Consumer<String> failureSink;
+
+    /**
+     * Creates an ExportCommand which writes SmartLib's data to the given directory using {@code executor}.
+     *
+     * @param directory directory to write the files to.
+     * @param executor executor which runs the export.
+     * @param failureSink receives the message of the export if it fails.
+     */
+    public ExportCommand(Path directory, Executor executor, Consumer<String> failureSink) {
+        requireAllNonNull(directory, executor, failureSink);
+        this.directory = directory;
+        this.executor = executor;
+        this.failureSink = failureSink;
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     * The data is exported after this method returns, and any failure to write the files is passed to the failure
+     * sink of this command.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the given path leads to a file which is not a directory.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (Files.exists(directory) && !Files.isDirectory(directory)) {
+            throw new CommandException(String.format(MESSAGE_NOT_DIRECTORY, directory));
+        }
+
+        ReadOnlySmartLib snapshot = model.getSmartLib();
+        executor.execute(() -> export(snapshot));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, snapshot.getBookList().size(),
+                snapshot.getReaderList().size(), snapshot.getRecordList().size(), directory));
+    }
+
+    /**
+     * Writes {@code snapshot} to the directory of this command, and logs the outcome.
+     */
+    private void export(ReadOnlySmartLib snapshot) {
+        try {
+            CsvSmartLibExporter.export(snapshot, directory);
+            logger.info("Exported SmartLib data to " + directory);
+        } catch (IOException ioe) {
+            logger.warning("Could not export SmartLib data to " + directory + ": " + ioe);
+            failureSink.accept(String.format(MESSAGE_EXPORT_FAILED, directory, ioe));
+        }
+    }
+
+    /**
+     * Checks if this ExportCommand is equal to another ExportCommand.
+     *
+     * @param other the other ExportCommand to be compared.
+     * @return true if this ExportCommand is equal to the other ExportCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && directory.equals(((ExportCommand) other).directory)); // state check
+    }
+
+}
@@ -1,27 +1,65 @@
 package seedu.smartlib.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_AUTHOR;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_GENRE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PUBLISHER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TOP;
 
 import seedu.smartlib.commons.core.Messages;
 import seedu.smartlib.model.Model;
 import seedu.smartlib.model.book.BookNameContainsKeywordsPredicate;
+import seedu.smartlib.model.book.BookQuery;
 
 /**
- * Finds and lists all books in SmartLib whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all books in SmartLib whose name contains any of the argument keywords, and which satisfy every
+ * field condition given. Keyword matching is case insensitive. If a limit is given, only that many of the most
+ * relevant books are listed, from the most to the least relevant.
  */
 public class FindBookCommand extends Command {
 
     public static final String COMMAND_WORD = "findbook";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all books whose information "
-            + "(title, author, publisher, ISBN, or genre) contain any of the specified keywords (case-insensitive) "
-            + "and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "(title, author, publisher, ISBN, or genre) contain any of the specified keywords (case-insensitive), "
+            + "and which satisfy every specified condition, and displays them as a list with index numbers.\n"
+            + "If " + PREFIX_TOP + "K is given, only the K most relevant books are displayed, best match first.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_AUTHOR + "AUTHOR] [" + PREFIX_PUBLISHER + "PUBLISHER] ["
+            + PREFIX_GENRE + "GENRE] [" + PREFIX_ISBN + "ISBN] [" + PREFIX_BARCODE + "BARCODE] ["
+            + PREFIX_READER + "READER_NAME] [" + PREFIX_STATUS + "borrowed|available|overdue] ["
+            + PREFIX_FROM + "YYYY-MM-DD] [" + PREFIX_TO + "YYYY-MM-DD] [" + PREFIX_TOP + "K]\n"
             + "Example (search by titles): " + COMMAND_WORD + " Harry Potter\n"
-            + "Example (search by labels): " + COMMAND_WORD + " Fantasy";
+            + "Example (search by labels): " + COMMAND_WORD + " Fantasy\n"
+            + "Example (search by fields): " + COMMAND_WORD + " " + PREFIX_AUTHOR + "Rowling "
+            + PREFIX_STATUS + "available\n"
+            + "Example (ranked search): " + COMMAND_WORD + " Harry Potter " + PREFIX_TOP + "10";
 
-    private final BookNameContainsKeywordsPredicate predicate;
+    public static final String MESSAGE_INVALID_LIMIT = "The number of books to display ("
+            + PREFIX_TOP + ") should be a positive integer.";
+
+    public static final String MESSAGE_INVALID_STATUS = "The loan status (" + PREFIX_STATUS
+            + ") should be one of borrowed, available or overdue.";
+
+    public static final String MESSAGE_INVALID_DATE = "Dates (" + PREFIX_FROM + " and " + PREFIX_TO
+            + ") should be valid dates in the format YYYY-MM-DD.";
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date (" + PREFIX_FROM
+            + ") should not be after the end date (" + PREFIX_TO + ").";
+
+    public static final String STATUS_BORROWED = "borrowed";
+    public static final String STATUS_AVAILABLE = "available";
+    public static final String STATUS_OVERDUE = "overdue";
+
+    public static final int NO_LIMIT = 0;
+
+    private final BookQuery query;
+    private final int limit;
 
     /**
      * Creates an FindBookCommand to find the specified book(s).
@@ -29,7 +67,30 @@ public class FindBookCommand extends Command {
      * @param predicate a Predicate used to find the specified book(s).
      */
     public FindBookCommand(BookNameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+        this(predicate, NO_LIMIT);
+    }
+
+    /**
+     * Creates an FindBookCommand to find the {@code limit} most relevant books.
+     *
+     * @param predicate a Predicate used to find the specified book(s).
+     * @param limit the maximum number of books to be listed, or {@code NO_LIMIT} to list every matching book.
+     */
+    public FindBookCommand(BookNameContainsKeywordsPredicate predicate, int limit) {
+        this(BookQuery.all().withAnyWord(predicate.getKeywords()), limit);
+    }
+
+    /**
+     * Creates an FindBookCommand to find the books satisfying {@code query}, or the {@code limit} most relevant of
+     * them.
+     *
+     * @param query the query used to find the specified book(s).
+     * @param limit the maximum number of books to be listed, or {@code NO_LIMIT} to list every matching book.
+     */
+    public FindBookCommand(BookQuery query, int limit) {
+        requireNonNull(query);
+        this.query = query;
+        this.limit = limit;
     }
 
     /**
@@ -41,7 +102,11 @@ public class FindBookCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBookList(predicate);
+        if (limit == NO_LIMIT) {
+            model.findBooks(query);
+        } else {
+            model.findTopBooks(query, limit);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, model.getFilteredBookList().size()));
     }
@@ -56,7 +121,8 @@ public class FindBookCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindBookCommand // instanceof handles nulls
-                && predicate.equals(((FindBookCommand) other).predicate)); // state check
+                && query.equals(((FindBookCommand) other).query) // state check
+                && limit == ((FindBookCommand) other).limit);
     }
 
 }
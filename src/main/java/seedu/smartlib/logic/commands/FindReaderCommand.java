@@ -1,42 +1,59 @@
 package seedu.smartlib.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
-
 import seedu.smartlib.commons.core.Messages;
 import seedu.smartlib.model.Model;
-import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
 
 /**
- * Finds and lists all readers in SmartLib whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all readers in SmartLib whose name contains any of the argument keywords, and which satisfy every
+ * field condition given. Keyword matching is case insensitive. A typo-tolerant search lists the readers from the most
+ * to the least similar.
  */
 public class FindReaderCommand extends Command {
 
     public static final String COMMAND_WORD = "findreader";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds all readers whose registered names/tags contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "To find a reader with his/her registered name, use \"findreader " + "NAME [MORE_NAME_INFO]\".\n"
-            + "To find reader(s) with matching tags, use \"findreader " + PREFIX_TAG + "TAG [MORE_TAGS]\".\n"
-            + "Note that the current version of our app does not support the searching of "
-            + "readers with names and tags within the same command.\n"
+            + ": Finds all readers whose registered names contain any of the specified keywords (case-insensitive), "
+            + "and which satisfy every specified condition, and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_TAG + "TAG [MORE_TAGS]...] [" + PREFIX_FUZZY
+            + "NAME [MORE_NAME_INFO]...] [" + PREFIX_SOUNDS_LIKE + "NAME [MORE_NAME_INFO]...] [" + PREFIX_PHONE
+            + "PHONE] [" + PREFIX_EMAIL + "EMAIL] [" + PREFIX_ADDRESS + "ADDRESS] [" + PREFIX_STATUS
+            + "borrowing|overdue]\n"
+            + PREFIX_TAG + " finds readers with any of the tags, " + PREFIX_FUZZY
+            + " finds readers with names close to the keywords, allowing for typos, and " + PREFIX_SOUNDS_LIKE
+            + " finds readers with names which sound like the keywords.\n"
             + "Example (search by names): " + COMMAND_WORD + " John Doe\n"
-            + "Example (search by tags): " + COMMAND_WORD + " " + PREFIX_TAG + "VIP";
+            + "Example (search by tags): " + COMMAND_WORD + " " + PREFIX_TAG + "VIP\n"
+            + "Example (search allowing typos): " + COMMAND_WORD + " " + PREFIX_FUZZY + "Jhon Deo\n"
+            + "Example (search by sound): " + COMMAND_WORD + " " + PREFIX_SOUNDS_LIKE + "Mohamed\n"
+            + "Example (search by fields): " + COMMAND_WORD + " " + PREFIX_TAG + "VIP " + PREFIX_STATUS + "overdue";
+
+    public static final String MESSAGE_INVALID_STATUS = "The loan status (" + PREFIX_STATUS
+            + ") should be one of borrowing or overdue.";
+
+    public static final String STATUS_BORROWING = "borrowing";
+    public static final String STATUS_OVERDUE = "overdue";
 
-    private final Predicate<Reader> predicate;
+    private final ReaderQuery query;
 
     /**
-     * Creates an FindReaderCommand to find the specified reader(s).
+     * Creates an FindReaderCommand to find the readers satisfying {@code query}.
      *
-     * @param predicate a Predicate used to find the specified reader(s).
+     * @param query the query used to find the specified reader(s).
      */
-    public FindReaderCommand(Predicate<Reader> predicate) {
-        this.predicate = predicate;
+    public FindReaderCommand(ReaderQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     /**
@@ -48,7 +65,7 @@ public class FindReaderCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredReaderList(predicate);
+        model.findReaders(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_READERS_LISTED_OVERVIEW, model.getFilteredReaderList().size()));
     }
@@ -63,7 +80,7 @@ public class FindReaderCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindReaderCommand // instanceof handles nulls
-                && predicate.equals(((FindReaderCommand) other).predicate)); // state check
+                && query.equals(((FindReaderCommand) other).query)); // state check
     }
 
 }
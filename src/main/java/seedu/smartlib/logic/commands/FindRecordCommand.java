@@ -1,13 +1,19 @@
 package seedu.smartlib.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_TO;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TO;
 
 import seedu.smartlib.commons.core.Messages;
 import seedu.smartlib.model.Model;
-import seedu.smartlib.model.record.RecordContainsBookNamePredicate;
+import seedu.smartlib.model.record.RecordQuery;
 
 /**
- * Finds and lists all records in SmartLib whose name contains any of the argument keywords.
+ * Finds and lists all records in SmartLib which satisfy a query: whose book name contains any of the argument
+ * keywords, which belong to a reader, or which were borrowed or returned within some dates.
  * Keyword matching is case insensitive.
  */
 public class FindRecordCommand extends Command {
@@ -15,19 +21,34 @@ public class FindRecordCommand extends Command {
     public static final String COMMAND_WORD = "findrecord";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all records whose book names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Harry Potter";
+            + "the specified keywords (case-insensitive), and which satisfy all of the other conditions given, and "
+            + "displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD]... [" + PREFIX_READER + "READER_NAME] [" + PREFIX_FROM + "YYYY-MM-DD] ["
+            + PREFIX_TO + "YYYY-MM-DD] [" + PREFIX_RETURNED_FROM + "YYYY-MM-DD] [" + PREFIX_RETURNED_TO
+            + "YYYY-MM-DD]\n"
+            + "(" + PREFIX_FROM + " and " + PREFIX_TO + " limit the borrowing dates, and " + PREFIX_RETURNED_FROM
+            + " and " + PREFIX_RETURNED_TO + " the return dates.)\n"
+            + "Example: " + COMMAND_WORD + " Harry Potter\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_READER + "Charlotte " + PREFIX_FROM + "2021-03-01 "
+            + PREFIX_TO + "2021-03-07";
 
-    private final RecordContainsBookNamePredicate predicate;
+    public static final String MESSAGE_INVALID_DATE = "Dates (" + PREFIX_FROM + ", " + PREFIX_TO + ", "
+            + PREFIX_RETURNED_FROM + " and " + PREFIX_RETURNED_TO + ") should be valid dates in the format YYYY-MM-DD.";
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date of a range (" + PREFIX_FROM + " or "
+            + PREFIX_RETURNED_FROM + ") should not be after its end date (" + PREFIX_TO + " or " + PREFIX_RETURNED_TO
+            + ").";
+
+    private final RecordQuery query;
 
     /**
      * Creates an FindRecordCommand to find the specified record(s).
      *
-     * @param predicate a Predicate used to find the specified record(s).
+     * @param query the query which the records to be found must satisfy.
      */
-    public FindRecordCommand(RecordContainsBookNamePredicate predicate) {
-        this.predicate = predicate;
+    public FindRecordCommand(RecordQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     /**
@@ -39,7 +60,7 @@ public class FindRecordCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredRecordList(predicate);
+        model.findRecords(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_RECORD_LISTED_OVERVIEW, model.getFilteredRecordList().size()));
     }
@@ -54,7 +75,7 @@ public class FindRecordCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindRecordCommand // instanceof handles nulls
-                && predicate.equals(((FindRecordCommand) other).predicate)); // state check
+                && query.equals(((FindRecordCommand) other).query)); // state check
     }
 
 }
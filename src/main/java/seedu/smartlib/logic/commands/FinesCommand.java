@@ -0,0 +1,127 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PAY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.fine.FineEntry;
+
+/**
+ * Shows the fines a reader owes, and records payments towards them.
+ */
+public class FinesCommand extends Command {
+
+    public static final String COMMAND_WORD = "fines";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the fines charged to a reader for returning "
+            + "books late, and the payments made towards them.\n"
+            + "If an amount is given, it is recorded as a payment first.\n"
+            + "Parameters: " + PREFIX_READER + "READER_NAME [" + PREFIX_PAY + "AMOUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_READER + "Charlotte " + PREFIX_PAY + "2.50";
+    public static final String MESSAGE_BALANCE = "%1$s owes $%2$.2f in fines.";
+    public static final String MESSAGE_PAYMENT_SUCCESS = "Payment of $%1$.2f recorded.";
+    public static final String MESSAGE_FINE_ENTRY = "%1$s: $%2$.2f fine for returning %3$s late";
+    public static final String MESSAGE_PAYMENT_ENTRY = "%1$s: $%2$.2f paid";
+    public static final String MESSAGE_NO_SUCH_READER = "Sorry, we could not find the reader which you have "
+            + "specified. Please check if you have entered the name correctly.";
+    public static final String MESSAGE_PAYMENT_TOO_LARGE = "Sorry, the payment cannot be more than the $%1$.2f which "
+            + "the reader owes.";
+
+    private final Name readerName;
+    // 0 if no payment is to be recorded
+    private final long paymentInCents;
+
+    /**
+     * Creates a FinesCommand to show the fines of the given reader.
+     *
+     * @param readerName name of the reader.
+     */
+    public FinesCommand(Name readerName) {
+        this(readerName, 0);
+    }
+
+    /**
+     * Creates a FinesCommand to record a payment by the given reader, and then show the reader's fines.
+     *
+     * @param readerName name of the reader.
+     * @param paymentInCents the amount paid in cents, or 0 if nothing is paid.
+     */
+    public FinesCommand(Name readerName, long paymentInCents) {
+        requireNonNull(readerName);
+        assert paymentInCents >= 0 : "Payments cannot be negative.";
+        this.readerName = readerName;
+        this.paymentInCents = paymentInCents;
+    }
+
+    /**
+     * Converts an amount in cents to dollars, for display.
+     */
+    private static double toDollars(long amountInCents) {
+        return amountInCents / 100.0;
+    }
+
+    /**
+     * Describes a fine or payment, for display.
+     */
+    private static String describe(FineEntry entry) {
+        if (entry.isPayment()) {
+            return String.format(MESSAGE_PAYMENT_ENTRY, entry.getDate(), toDollars(-entry.getAmountInCents()));
+        } else {
+            return String.format(MESSAGE_FINE_ENTRY, entry.getDate(), toDollars(entry.getAmountInCents()),
+                    entry.getBarcode());
+        }
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the reader does not exist, or the payment is more than the reader owes.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasReader(readerName)) {
+            throw new CommandException(MESSAGE_NO_SUCH_READER);
+        }
+
+        StringBuilder message = new StringBuilder();
+        if (paymentInCents > 0) {
+            long balance = model.getOutstandingFines(readerName);
+            if (paymentInCents > balance) {
+                throw new CommandException(String.format(MESSAGE_PAYMENT_TOO_LARGE, toDollars(balance)));
+            }
+            model.addFinePayment(FineEntry.payment(readerName, paymentInCents, LocalDateTime.now().toString()));
+            message.append(String.format(MESSAGE_PAYMENT_SUCCESS, toDollars(paymentInCents))).append("\n");
+        }
+
+        message.append(String.format(MESSAGE_BALANCE, readerName, toDollars(model.getOutstandingFines(readerName))));
+        List<FineEntry> entries = model.getFineEntries(readerName);
+        for (FineEntry entry : entries) {
+            message.append("\n").append(describe(entry));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Checks if this FinesCommand is equal to another FinesCommand.
+     *
+     * @param other the other FinesCommand to be compared.
+     * @return true if this FinesCommand is equal to the other FinesCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FinesCommand // instanceof handles nulls
+                && readerName.equals(((FinesCommand) other).readerName)
+                && paymentInCents == ((FinesCommand) other).paymentInCents); // state check
+    }
+
+}
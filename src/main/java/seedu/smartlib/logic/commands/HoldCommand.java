@@ -0,0 +1,87 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.util.List;
+
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.hold.Hold;
+
+/**
+ * Places a hold on a title for a reader, so that the next copy returned is lent to the reader.
+ */
+public class HoldCommand extends Command {
+
+    public static final String COMMAND_WORD = "hold";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reserves a title for a reader when all copies of it "
+            + "are loaned out.\n"
+            + "The next copy returned is lent to the first reader in the queue who may borrow another book.\n"
+            + "Parameters: " + PREFIX_READER + "READER_NAME " + PREFIX_ISBN + "ISBN\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_READER + "Charlotte " + PREFIX_ISBN + "9780062315007";
+    public static final String MESSAGE_SUCCESS = "%1$s placed a hold on %2$s.";
+    public static final String MESSAGE_NO_SUCH_READER = "Sorry, we could not find the reader which you have "
+            + "specified. Please check if you have entered the name correctly.";
+    public static final String MESSAGE_NO_SUCH_BOOK = "Sorry, we could not find a book with this ISBN.";
+    public static final String MESSAGE_COPY_AVAILABLE = "A copy of this book is available. Please borrow it instead.";
+    public static final String MESSAGE_DUPLICATE_HOLD = "This reader has already placed a hold on this book.";
+
+    private final Hold hold;
+
+    /**
+     * Creates a HoldCommand to place the given hold.
+     *
+     * @param hold the hold to be placed.
+     */
+    public HoldCommand(Hold hold) {
+        requireNonNull(hold);
+        this.hold = hold;
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the reader or the title does not exist, a copy of the title is available, or the
+     *     hold has already been placed.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasReader(hold.getReaderName())) {
+            throw new CommandException(MESSAGE_NO_SUCH_READER);
+        }
+        List<Book> copies = model.getBooksByIsbn(hold.getIsbn());
+        if (copies.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_SUCH_BOOK);
+        }
+        if (copies.stream().anyMatch(copy -> !copy.isBorrowed())) {
+            throw new CommandException(MESSAGE_COPY_AVAILABLE);
+        }
+        if (model.hasHold(hold)) {
+            throw new CommandException(MESSAGE_DUPLICATE_HOLD);
+        }
+
+        model.addHold(hold);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, hold.getReaderName(), copies.get(0).getName()));
+    }
+
+    /**
+     * Checks if this HoldCommand is equal to another HoldCommand.
+     *
+     * @param other the other HoldCommand to be compared.
+     * @return true if this HoldCommand is equal to the other HoldCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof HoldCommand // instanceof handles nulls
+                && hold.equals(((HoldCommand) other).hold)); // state check
+    }
+
+}
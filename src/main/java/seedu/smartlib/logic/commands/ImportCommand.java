@@ -0,0 +1,158 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.logic.parser.BookCsvParser;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.Isbn;
+
+/**
+ * Adds every book listed in a catalogue file to the registered book base.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the books listed in a CSV file to SmartLib's "
+            + "booklist.\n"
+            + "Each line of the file holds the title, author, publisher, ISBN and genre of a book, optionally "
+            + "followed by the number of copies of it.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/catalogue.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d book(s) from %2$s.";
+    public static final String MESSAGE_LINES_SKIPPED = "%1$d line(s) were skipped:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read the file %1$s: %2$s";
+
+    // the most errors listed in the result, so that a badly formatted file does not flood the result display
+    static final int MAX_ERRORS_SHOWN = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the books listed in the given file.
+     *
+     * @param filePath path of the catalogue file.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     * Every valid line of the file is added, with a new barcode for each copy, in a single change to the book base.
+     * Invalid lines are skipped, and listed in the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     * @throws CommandException if the file cannot be read.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        BookCsvParser.Result result;
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            result = BookCsvParser.parse(reader);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, filePath, ioe), ioe);
+        }
+
+        SortedMap<Integer, String> errors = new TreeMap<>(result.getErrors());
+        List<BookCsvParser.Row> rows = removeConflictingIsbns(model, result.getRows(), errors);
+
+        int copies = rows.stream().mapToInt(BookCsvParser.Row::getCopies).sum();
+        List<Barcode> barcodes = model.allocateBarcodes(copies);
+        List<Book> books = new ArrayList<>(copies);
+        for (BookCsvParser.Row row : rows) {
+            Book book = row.getBook();
+            for (int i = 0; i < row.getCopies(); i++) {
+                books.add(new Book(book.getName(), book.getAuthor(), book.getPublisher(), book.getIsbn(),
+                        barcodes.get(books.size()), book.getGenre()));
+            }
+        }
+        if (!books.isEmpty()) {
+            model.addBooks(books);
+        }
+
+        return new CommandResult(getResultMessage(books.size(), errors));
+    }
+
+    /**
+     * Returns the rows whose ISBN is not already used by a book with another title, either in the book base or in an
+     * earlier row, and records an error for every other row.
+     */
+    private static List<BookCsvParser.Row> removeConflictingIsbns(Model model, List<BookCsvParser.Row> rows,
+            SortedMap<Integer, String> errors) {
+        Map<Isbn, Name> titles = new HashMap<>();
+        List<BookCsvParser.Row> accepted = new ArrayList<>();
+        for (BookCsvParser.Row row : rows) {
+            Book book = row.getBook();
+            Name title = titles.get(book.getIsbn());
+            if (title == null) {
+                ArrayList<Book> booksWithIsbn = model.getBooksByIsbn(book.getIsbn());
+                title = booksWithIsbn.isEmpty() ? book.getName() : booksWithIsbn.get(0).getName();
+                titles.put(book.getIsbn(), title);
+            }
+            if (title.equals(book.getName())) {
+                accepted.add(row);
+            } else {
+                errors.put(row.getLineNumber(), AddBookCommand.MESSAGE_DUPLICATE_ISBN);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Generates the result message, listing the first few lines which were skipped.
+     */
+    private String getResultMessage(int booksAdded, SortedMap<Integer, String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, booksAdded, filePath));
+        if (errors.isEmpty()) {
+            return message.toString();
+        }
+        message.append("\n").append(String.format(MESSAGE_LINES_SKIPPED, errors.size()));
+        int shown = 0;
+        for (Map.Entry<Integer, String> error : errors.entrySet()) {
+            if (shown == MAX_ERRORS_SHOWN) {
+                message.append("\n").append(String.format(MESSAGE_MORE_ERRORS, errors.size() - shown));
+                break;
+            }
+            message.append("\n").append(String.format(MESSAGE_LINE_ERROR, error.getKey(), error.getValue()));
+            shown++;
+        }
+        return message.toString();
+    }
+
+    /**
+     * Checks if this ImportCommand is equal to another ImportCommand.
+     *
+     * @param other the other ImportCommand to be compared.
+     * @return true if this ImportCommand is equal to the other ImportCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+
+}
@@ -22,7 +22,7 @@ public class ListOverdueBookCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBookList(book -> book.isOverdue());
+        model.showOverdueBooks();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
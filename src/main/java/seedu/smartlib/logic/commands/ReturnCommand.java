@@ -35,6 +35,8 @@ public class ReturnCommand extends Command {
             + "the book via the barcode. Please check if you have keyed in the correct barcode.";
     public static final String UNABLE_TO_UPDATE_CODEBASE = "Sorry, an error has occurred with the codebase and we are"
             + " unable to update it.";
+    public static final String MESSAGE_OUTSTANDING_FINES = "%1$s now owes $%2$.2f in fines.";
+    public static final String MESSAGE_LENT_TO_HOLDER = "The book has been lent to %1$s, who placed a hold on it.";
     public static final String BOOK_NOT_BORROWED = "Sorry, unable to perform return activity because"
             + " the book specified is not loaned out.";
 
@@ -130,6 +132,8 @@ public class ReturnCommand extends Command {
 
     /**
      * Executes the command and returns the result message.
+     * If the book is overdue, the reader is charged the cost, and the reader's outstanding fines are shown.
+     * If a reader holds the title of the returned book, the book is lent to the first such reader who may borrow it.
      *
      * @param model {@code Model} which the command should operate on.
      * @return feedback message of the operation result for display.
@@ -153,7 +157,18 @@ public class ReturnCommand extends Command {
             throw new CommandException(UNABLE_TO_UPDATE_CODEBASE);
         }
 
-        return new CommandResult(String.format(getSuccessMessage(completeRecord), properRecord));
+        String message = String.format(getSuccessMessage(completeRecord), properRecord);
+        if (isOverdue(completeRecord)) {
+            Name readerName = completeRecord.getReaderName();
+            message = message.stripTrailing() + "\n" + String.format(MESSAGE_OUTSTANDING_FINES, readerName,
+                    model.getOutstandingFines(readerName) / 100.0);
+        }
+        Record holdRecord = model.lendToNextHolder(properRecord.getBookBarcode());
+        if (holdRecord != null) {
+            message = message.stripTrailing() + "\n"
+                    + String.format(MESSAGE_LENT_TO_HOLDER, holdRecord.getReaderName());
+        }
+        return new CommandResult(message);
     }
 
     /**
@@ -0,0 +1,122 @@
+package seedu.smartlib.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.record.CirculationStats;
+
+/**
+ * Shows statistics about the circulation of books, read from totals which SmartLib keeps up to date.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_HEADER = "Circulation statistics as of %1$s:";
+    public static final String MESSAGE_LOANS = "Loans: %1$d in total, %2$d still open.";
+    public static final String MESSAGE_RECENT_LOANS = "Loans started in the last 7 days: %1$d, in the last 30 days: "
+            + "%2$d.";
+    public static final String MESSAGE_ACTIVE_READERS = "Readers who borrowed this month: %1$d.";
+    public static final String MESSAGE_TOP_TITLES = "Most borrowed titles this month: %1$s.";
+    public static final String MESSAGE_TITLE_COUNT = "%1$s (%2$d)";
+    public static final String MESSAGE_NO_TITLES = "none";
+    public static final String MESSAGE_AVERAGE_DURATION = "Average loan duration: %1$.1f days over %2$d returned "
+            + "loan(s).";
+    public static final String MESSAGE_NO_RETURNS = "Average loan duration: no loans returned yet.";
+    public static final String MESSAGE_HISTOGRAM = "Returned within a day: %1$d, within a week: %2$d, within 14 days: "
+            + "%3$d, overdue: %4$d.";
+
+    // the number of titles listed as most borrowed
+    static final int TOP_TITLES = 5;
+
+    private static final double SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
+
+    private final LocalDate today;
+
+    /**
+     * Creates a StatsCommand which reports the statistics as of today.
+     */
+    public StatsCommand() {
+        this(null);
+    }
+
+    /**
+     * Creates a StatsCommand which reports the statistics as of {@code today}.
+     *
+     * @param today the day the statistics are reported for, or null to use the day the command is executed.
+     */
+    StatsCommand(LocalDate today) {
+        this.today = today;
+    }
+
+    /**
+     * Executes the command and returns the result message.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return feedback message of the operation result for display.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate day = today == null ? LocalDate.now() : today;
+        YearMonth month = YearMonth.from(day);
+        CirculationStats stats = model.getCirculationStats();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_HEADER, day));
+        message.append("\n").append(String.format(MESSAGE_LOANS, stats.getTotalLoans(), stats.getOpenLoans()));
+        message.append("\n").append(String.format(MESSAGE_RECENT_LOANS,
+                stats.getLoansBetween(day.minusDays(6), day), stats.getLoansBetween(day.minusDays(29), day)));
+        message.append("\n").append(String.format(MESSAGE_ACTIVE_READERS, stats.getActiveReaders(month)));
+        message.append("\n").append(String.format(MESSAGE_TOP_TITLES,
+                formatTitles(stats.getMostBorrowedTitles(month, TOP_TITLES))));
+
+        Duration averageDuration = stats.getAverageLoanDuration();
+        if (averageDuration == null) {
+            message.append("\n").append(MESSAGE_NO_RETURNS);
+        } else {
+            message.append("\n").append(String.format(MESSAGE_AVERAGE_DURATION,
+                    averageDuration.getSeconds() / SECONDS_PER_DAY, stats.getReturnedLoans()));
+            message.append("\n").append(String.format(MESSAGE_HISTOGRAM,
+                    stats.getReturnedLoans(CirculationStats.RETURNED_SAME_DAY),
+                    stats.getReturnedLoans(CirculationStats.RETURNED_WITHIN_A_WEEK),
+                    stats.getReturnedLoans(CirculationStats.RETURNED_ON_TIME),
+                    stats.getReturnedLoans(CirculationStats.RETURNED_OVERDUE)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Lists the given titles with their loan counts, separated by commas.
+     */
+    private static String formatTitles(List<Map.Entry<Name, Integer>> titles) {
+        if (titles.isEmpty()) {
+            return MESSAGE_NO_TITLES;
+        }
+        return titles.stream()
+                .map(title -> String.format(MESSAGE_TITLE_COUNT, title.getKey(), title.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Checks if this StatsCommand is equal to another StatsCommand.
+     *
+     * @param other the other StatsCommand to be compared.
+     * @return true if this StatsCommand is equal to the other StatsCommand, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && Objects.equals(today, ((StatsCommand) other).today)); // state check
+    }
+
+}
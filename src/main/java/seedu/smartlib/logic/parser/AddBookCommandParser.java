@@ -3,6 +3,7 @@ package seedu.smartlib.logic.parser;
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BOOK;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_COPIES;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_GENRE;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PUBLISHER;
@@ -35,7 +36,7 @@ public class AddBookCommandParser implements Parser<AddBookCommand> {
     public AddBookCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_BOOK, PREFIX_AUTHOR,
-                        PREFIX_PUBLISHER, PREFIX_ISBN, PREFIX_GENRE);
+                        PREFIX_PUBLISHER, PREFIX_ISBN, PREFIX_GENRE, PREFIX_COPIES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_BOOK, PREFIX_AUTHOR, PREFIX_PUBLISHER, PREFIX_ISBN, PREFIX_GENRE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -47,11 +48,14 @@ public class AddBookCommandParser implements Parser<AddBookCommand> {
         Publisher publisher = ParserUtil.parsePublisher(argMultimap.getValue(PREFIX_PUBLISHER).get());
         Isbn isbn = ParserUtil.parseIsbn(argMultimap.getValue(PREFIX_ISBN).get());
         Genre genre = ParserUtil.parseGenre(argMultimap.getValue(PREFIX_GENRE).get());
+        int copies = argMultimap.getValue(PREFIX_COPIES).isPresent()
+                ? ParserUtil.parseCopies(argMultimap.getValue(PREFIX_COPIES).get())
+                : 1;
 
         Book bookWithTempBarcode = new Book(bookName, author, publisher, isbn,
                 new Barcode(Barcode.TEMP_BARCODE_VALUE), genre);
 
-        return new AddBookCommand(bookWithTempBarcode);
+        return new AddBookCommand(bookWithTempBarcode, copies);
     }
 
     /**
@@ -0,0 +1,197 @@
+package seedu.smartlib.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.CsvUtil;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+import seedu.smartlib.model.book.Author;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.Genre;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.book.Publisher;
+
+/**
+ * Parses a catalogue of books written as comma-separated values.
+ * Each line holds the title, author, publisher, ISBN and genre of a book, optionally followed by the number of
+ * copies of it, and may be preceded by a header line starting with {@code title}. Blank lines are ignored.
+ *
+ * The catalogue is read a chunk of lines at a time, and the lines of each chunk are validated in parallel with the
+ * same rules as {@code addbook}, so that a large catalogue never has to be held in memory as text.
+ */
+public class BookCsvParser {
+
+    public static final String HEADER = "title,author,publisher,isbn,genre,copies";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected 5 or 6 fields, but found %1$d.";
+
+    // number of lines read and validated together
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int FIELD_COUNT = 5;
+    private static final String HEADER_FIRST_FIELD = "title";
+
+    /**
+     * Reads and validates every line of a catalogue.
+     *
+     * @param reader the reader of the catalogue, which is read to the end but not closed.
+     * @return the valid lines and the errors found in the invalid ones.
+     * @throws IOException if the catalogue cannot be read.
+     */
+    public static Result parse(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        Result result = new Result();
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        int firstLineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            chunk.add(line);
+            if (chunk.size() == CHUNK_SIZE) {
+                validateChunk(chunk, firstLineNumber, result);
+                firstLineNumber += chunk.size();
+                chunk.clear();
+            }
+        }
+        validateChunk(chunk, firstLineNumber, result);
+        return result;
+    }
+
+    /**
+     * Validates the lines of {@code chunk} in parallel, and adds the outcomes to {@code result} in line order.
+     */
+    private static void validateChunk(List<String> chunk, int firstLineNumber, Result result) {
+        List<Object> validated = IntStream.range(0, chunk.size()).parallel()
+                .mapToObj(i -> validateLine(chunk.get(i), firstLineNumber + i))
+                .collect(Collectors.toList());
+        for (int i = 0; i < validated.size(); i++) {
+            Object outcome = validated.get(i);
+            if (outcome instanceof Row) {
+                result.rows.add((Row) outcome);
+            } else if (outcome instanceof String) {
+                result.errors.put(firstLineNumber + i, (String) outcome);
+            }
+        }
+    }
+
+    /**
+     * Validates one line of the catalogue.
+     *
+     * @return the row held by the line, an error message if the line is invalid, or null if the line is blank or
+     *     is the header.
+     */
+    private static Object validateLine(String line, int lineNumber) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            List<String> fields = CsvUtil.parseLine(line);
+            if (lineNumber == 1 && fields.get(0).trim().equalsIgnoreCase(HEADER_FIRST_FIELD)) {
+                return null;
+            }
+            if (fields.size() != FIELD_COUNT && fields.size() != FIELD_COUNT + 1) {
+                throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.size()));
+            }
+            Name name = ParserUtil.parseName(fields.get(0));
+            Author author = ParserUtil.parseAuthor(fields.get(1));
+            Publisher publisher = ParserUtil.parsePublisher(fields.get(2));
+            Isbn isbn = ParserUtil.parseIsbn(fields.get(3));
+            Genre genre = ParserUtil.parseGenre(fields.get(4));
+            int copies = fields.size() == FIELD_COUNT ? 1 : ParserUtil.parseCopies(fields.get(FIELD_COUNT));
+            Book book = new Book(name, author, publisher, isbn, new Barcode(Barcode.TEMP_BARCODE_VALUE), genre);
+            return new Row(lineNumber, book, copies);
+        } catch (ParseException | IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * A valid line of a catalogue.
+     */
+    public static class Row {
+
+        private final int lineNumber;
+        private final Book book;
+        private final int copies;
+
+        /**
+         * Creates a Row.
+         *
+         * @param lineNumber the number of the line, counting from 1.
+         * @param book the book described by the line, with a temporary barcode.
+         * @param copies the number of copies of the book.
+         */
+        public Row(int lineNumber, Book book, int copies) {
+            requireNonNull(book);
+            this.lineNumber = lineNumber;
+            this.book = book;
+            this.copies = copies;
+        }
+
+        /**
+         * Returns the number of the line, counting from 1.
+         *
+         * @return the line number.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the book described by the line, which has a temporary barcode.
+         *
+         * @return the book.
+         */
+        public Book getBook() {
+            return book;
+        }
+
+        /**
+         * Returns the number of copies of the book.
+         *
+         * @return the number of copies.
+         */
+        public int getCopies() {
+            return copies;
+        }
+
+    }
+
+    /**
+     * The valid lines of a catalogue, and the errors found in its invalid lines.
+     */
+    public static class Result {
+
+        private final List<Row> rows = new ArrayList<>();
+        private final SortedMap<Integer, String> errors = new TreeMap<>();
+
+        /**
+         * Returns the valid lines, in the order they appear in the catalogue.
+         *
+         * @return an unmodifiable view of the valid lines.
+         */
+        public List<Row> getRows() {
+            return Collections.unmodifiableList(rows);
+        }
+
+        /**
+         * Returns the error found in each invalid line, by line number.
+         *
+         * @return an unmodifiable view of the errors.
+         */
+        public SortedMap<Integer, String> getErrors() {
+            return Collections.unmodifiableSortedMap(errors);
+        }
+
+    }
+
+}
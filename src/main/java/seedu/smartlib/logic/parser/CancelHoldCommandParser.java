@@ -0,0 +1,54 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.util.stream.Stream;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.CancelHoldCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.Hold;
+
+/**
+ * Parses input arguments and creates a new {@code CancelHoldCommand} object.
+ */
+public class CancelHoldCommandParser implements Parser<CancelHoldCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code CancelHoldCommand}
+     * and returns a {@code CancelHoldCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return a CancelHoldCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public CancelHoldCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_READER, PREFIX_ISBN);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_READER, PREFIX_ISBN)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelHoldCommand.MESSAGE_USAGE));
+        }
+
+        Name readerName = ParserUtil.parseName(argMultimap.getValue(PREFIX_READER).get());
+        Isbn isbn = ParserUtil.parseIsbn(argMultimap.getValue(PREFIX_ISBN).get());
+
+        return new CancelHoldCommand(new Hold(readerName, isbn));
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     *
+     * @param argumentMultimap a map containing the args.
+     * @param prefixes prefixes to be checked.
+     * @return true if none of the prefixes contains empty values, and false otherwise.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
@@ -0,0 +1,39 @@
+package seedu.smartlib.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+
+import java.util.List;
+
+import seedu.smartlib.logic.commands.CheckinCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+import seedu.smartlib.model.book.Barcode;
+
+/**
+ * Parses input arguments and creates a new {@code CheckinCommand} object.
+ */
+public class CheckinCommandParser implements Parser<CheckinCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code CheckinCommand}
+     * and returns a {@code CheckinCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return a CheckinCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public CheckinCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BARCODE);
+
+        if (argMultimap.getValue(PREFIX_BARCODE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheckinCommand.MESSAGE_USAGE));
+        }
+
+        List<Barcode> barcodes = ParserUtil.parseBarcodes(argMultimap.getAllValues(PREFIX_BARCODE));
+
+        return new CheckinCommand(barcodes);
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.smartlib.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import java.util.List;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.CheckoutCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+import seedu.smartlib.model.book.Barcode;
+
+/**
+ * Parses input arguments and creates a new {@code CheckoutCommand} object.
+ */
+public class CheckoutCommandParser implements Parser<CheckoutCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code CheckoutCommand}
+     * and returns a {@code CheckoutCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return a CheckoutCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public CheckoutCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_READER, PREFIX_BARCODE);
+
+        if (argMultimap.getValue(PREFIX_READER).isEmpty() || argMultimap.getValue(PREFIX_BARCODE).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheckoutCommand.MESSAGE_USAGE));
+        }
+
+        Name readerName = ParserUtil.parseName(argMultimap.getValue(PREFIX_READER).get());
+        List<Barcode> barcodes = ParserUtil.parseBarcodes(argMultimap.getAllValues(PREFIX_BARCODE));
+
+        return new CheckoutCommand(readerName, barcodes);
+    }
+
+}
@@ -17,5 +17,15 @@ public class CliSyntax {
     public static final Prefix PREFIX_ISBN = new Prefix("i/");
     public static final Prefix PREFIX_GENRE = new Prefix("g/");
     public static final Prefix PREFIX_BARCODE = new Prefix("bc/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("f/");
+    public static final Prefix PREFIX_SOUNDS_LIKE = new Prefix("s/");
+    public static final Prefix PREFIX_STATUS = new Prefix("st/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_COPIES = new Prefix("c/");
+    public static final Prefix PREFIX_PAY = new Prefix("pay/");
+    public static final Prefix PREFIX_RETURNED_FROM = new Prefix("rfrom/");
+    public static final Prefix PREFIX_RETURNED_TO = new Prefix("rto/");
 
 }
@@ -0,0 +1,57 @@
+package seedu.smartlib.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import seedu.smartlib.commons.util.FileUtil;
+import seedu.smartlib.logic.commands.ExportCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ExportCommand} object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path given is not valid.";
+
+    private final Executor exportExecutor;
+    private final Consumer<String> exportFailureSink;
+
+    /**
+     * Creates an ExportCommandParser whose commands run their exports with {@code exportExecutor}.
+     *
+     * @param exportExecutor executor which runs the exports.
+     * @param exportFailureSink receives the messages of the exports which fail.
+     */
+    public ExportCommandParser(Executor exportExecutor, Consumer<String> exportFailureSink) {
+        requireNonNull(exportExecutor);
+        requireNonNull(exportFailureSink);
+        this.exportExecutor = exportExecutor;
+        this.exportFailureSink = exportFailureSink;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ExportCommand}
+     * and returns an {@code ExportCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return an ExportCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return new ExportCommand(Paths.get(trimmedArgs), exportExecutor, exportFailureSink);
+    }
+
+}
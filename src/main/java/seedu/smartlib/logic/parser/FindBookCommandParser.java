@@ -1,15 +1,33 @@
 package seedu.smartlib.logic.parser;
 
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_AUTHOR;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_BARCODE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_GENRE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ISBN;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PUBLISHER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 
+import seedu.smartlib.commons.util.StringUtil;
 import seedu.smartlib.logic.commands.FindBookCommand;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
-import seedu.smartlib.model.book.BookNameContainsKeywordsPredicate;
+import seedu.smartlib.model.book.BookQuery;
 
 /**
  * Parses input arguments and creates a new FindBookCommand object.
+ * The preamble holds keywords, any of which a book must contain, and each prefix adds a further condition which a
+ * book must satisfy.
  */
 public class FindBookCommandParser implements Parser<FindBookCommand> {
 
@@ -35,12 +53,119 @@ public class FindBookCommandParser implements Parser<FindBookCommand> {
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public FindBookCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        verifyArgsNonEmpty(trimmedArgs);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP, PREFIX_AUTHOR, PREFIX_PUBLISHER,
+                PREFIX_GENRE, PREFIX_ISBN, PREFIX_BARCODE, PREFIX_READER, PREFIX_STATUS, PREFIX_FROM, PREFIX_TO);
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        BookQuery query = BookQuery.all();
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (!trimmedArgs.isEmpty()) {
+            query = query.withAnyWord(Arrays.asList(trimmedArgs.split("\\s+")));
+        } else if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            // books can only be ranked by their relevance to some keywords
+            verifyArgsNonEmpty(trimmedArgs);
+        }
+        if (argMultimap.getValue(PREFIX_AUTHOR).isPresent()) {
+            query = query.withAuthor(wordsOf(ParserUtil.parseAuthor(argMultimap.getValue(PREFIX_AUTHOR).get())));
+        }
+        if (argMultimap.getValue(PREFIX_PUBLISHER).isPresent()) {
+            query = query.withPublisher(
+                    wordsOf(ParserUtil.parsePublisher(argMultimap.getValue(PREFIX_PUBLISHER).get())));
+        }
+        if (argMultimap.getValue(PREFIX_GENRE).isPresent()) {
+            query = query.withGenre(wordsOf(ParserUtil.parseGenre(argMultimap.getValue(PREFIX_GENRE).get())));
+        }
+        if (argMultimap.getValue(PREFIX_ISBN).isPresent()) {
+            query = query.withIsbn(ParserUtil.parseIsbn(argMultimap.getValue(PREFIX_ISBN).get()));
+        }
+        if (argMultimap.getValue(PREFIX_BARCODE).isPresent()) {
+            query = query.withBarcode(ParserUtil.parseBarcode(argMultimap.getValue(PREFIX_BARCODE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_READER).isPresent()) {
+            query = query.withBorrower(ParserUtil.parseName(argMultimap.getValue(PREFIX_READER).get()));
+        }
+        if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
+            query = withStatus(query, argMultimap.getValue(PREFIX_STATUS).get());
+        }
+        Optional<LocalDate> from = parseDate(argMultimap.getValue(PREFIX_FROM));
+        Optional<LocalDate> to = parseDate(argMultimap.getValue(PREFIX_TO));
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(FindBookCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+        if (from.isPresent() || to.isPresent()) {
+            query = query.withBorrowedBetween(from.orElse(null), to.orElse(null));
+        }
+
+        if (query.equals(BookQuery.all())) {
+            verifyArgsNonEmpty(trimmedArgs);
+        }
+        if (argMultimap.getValue(PREFIX_TOP).isEmpty()) {
+            return new FindBookCommand(query, FindBookCommand.NO_LIMIT);
+        }
+        return new FindBookCommand(query, parseLimit(argMultimap.getValue(PREFIX_TOP).get()));
+    }
+
+    /**
+     * Parses the maximum number of books to be listed.
+     *
+     * @param limit the given limit to be parsed.
+     * @return the limit, as a positive integer.
+     * @throws ParseException if the given limit is not a positive integer.
+     */
+    private int parseLimit(String limit) throws ParseException {
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(FindBookCommand.MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
+    /**
+     * Parses the loan status which the books must have, and adds it to {@code query}.
+     *
+     * @param query the query parsed so far.
+     * @param status the given status to be parsed.
+     * @return the query, also requiring books to have the given status.
+     * @throws ParseException if the given status is not "borrowed", "available" or "overdue".
+     */
+    private BookQuery withStatus(BookQuery query, String status) throws ParseException {
+        switch (status.trim().toLowerCase(Locale.ROOT)) {
+        case FindBookCommand.STATUS_BORROWED:
+            return query.withBorrowed(true);
+        case FindBookCommand.STATUS_AVAILABLE:
+            return query.withBorrowed(false);
+        case FindBookCommand.STATUS_OVERDUE:
+            return query.withOverdue();
+        default:
+            throw new ParseException(FindBookCommand.MESSAGE_INVALID_STATUS);
+        }
+    }
+
+    /**
+     * Parses an optional bound of the range of borrowing dates.
+     *
+     * @param date the given date to be parsed, if any.
+     * @return the date, if one was given.
+     * @throws ParseException if the given date is not a valid date in the format YYYY-MM-DD.
+     */
+    private Optional<LocalDate> parseDate(Optional<String> date) throws ParseException {
+        if (date.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(date.get().trim()));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(FindBookCommand.MESSAGE_INVALID_DATE);
+        }
+    }
 
-        return new FindBookCommand(new BookNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    /**
+     * Returns the words of a field value given by the user.
+     *
+     * @param value the field value.
+     * @return the words of the value.
+     */
+    private List<String> wordsOf(Object value) {
+        return Arrays.asList(value.toString().trim().split("\\s+"));
     }
 
 }
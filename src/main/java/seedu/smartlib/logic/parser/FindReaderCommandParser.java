@@ -1,17 +1,26 @@
 package seedu.smartlib.logic.parser;
 
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_SOUNDS_LIKE;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 import seedu.smartlib.logic.commands.FindReaderCommand;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
-import seedu.smartlib.model.reader.NameContainsKeywordsPredicate;
-import seedu.smartlib.model.reader.TagContainsKeywordsPredicate;
+import seedu.smartlib.model.reader.ReaderQuery;
 
 /**
  * Parses input arguments and creates a new FindReaderCommand object.
+ * The preamble holds keywords, any of which a reader's name must contain, and each prefix adds a further condition
+ * which a reader must satisfy.
  */
 public class FindReaderCommandParser implements Parser<FindReaderCommand> {
 
@@ -37,18 +46,70 @@ public class FindReaderCommandParser implements Parser<FindReaderCommand> {
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public FindReaderCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        verifyArgsNonEmpty(trimmedArgs);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_FUZZY, PREFIX_SOUNDS_LIKE,
+                PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_STATUS);
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        ReaderQuery query = ReaderQuery.all();
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
-        int endOfTag = 2;
+        if (!trimmedArgs.isEmpty()) {
+            query = query.withAnyWord(wordsOf(trimmedArgs));
+        }
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            query = query.withAnyTag(wordsOf(argMultimap.getValue(PREFIX_TAG).get()));
+        }
+        if (argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            query = query.withSimilarName(wordsOf(argMultimap.getValue(PREFIX_FUZZY).get()));
+        }
+        if (argMultimap.getValue(PREFIX_SOUNDS_LIKE).isPresent()) {
+            query = query.withSoundAlikeName(wordsOf(argMultimap.getValue(PREFIX_SOUNDS_LIKE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            query = query.withPhone(ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()));
+        }
+        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            query = query.withEmail(ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get()));
+        }
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            query = query.withAddress(
+                    wordsOf(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()).toString()));
+        }
+        if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
+            query = withStatus(query, argMultimap.getValue(PREFIX_STATUS).get());
+        }
 
-        if (nameKeywords[0].substring(0, endOfTag).equals(PREFIX_TAG.toString())) {
-            nameKeywords[0] = nameKeywords[0].substring(endOfTag); // removes the tag from the search list
-            return new FindReaderCommand(new TagContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        } else {
-            return new FindReaderCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (query.equals(ReaderQuery.all())) {
+            verifyArgsNonEmpty(trimmedArgs);
         }
+        return new FindReaderCommand(query);
+    }
+
+    /**
+     * Parses the loan status which the readers must have, and adds it to {@code query}.
+     *
+     * @param query the query parsed so far.
+     * @param status the given status to be parsed.
+     * @return the query, also requiring readers to have the given status.
+     * @throws ParseException if the given status is not "borrowing" or "overdue".
+     */
+    private ReaderQuery withStatus(ReaderQuery query, String status) throws ParseException {
+        switch (status.trim().toLowerCase(Locale.ROOT)) {
+        case FindReaderCommand.STATUS_BORROWING:
+            return query.withBorrowing();
+        case FindReaderCommand.STATUS_OVERDUE:
+            return query.withOverdue();
+        default:
+            throw new ParseException(FindReaderCommand.MESSAGE_INVALID_STATUS);
+        }
+    }
+
+    /**
+     * Returns the words of a value given by the user.
+     *
+     * @param value the value.
+     * @return the words of the value.
+     */
+    private List<String> wordsOf(String value) {
+        return Arrays.asList(value.trim().split("\\s+"));
     }
 
 }
@@ -1,26 +1,34 @@
 package seedu.smartlib.logic.parser;
 
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_TO;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TO;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.smartlib.logic.commands.FindRecordCommand;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
-import seedu.smartlib.model.record.RecordContainsBookNamePredicate;
+import seedu.smartlib.model.record.RecordQuery;
 
 /**
- * Parses input arguments and creates a new FindBookCommand object.
+ * Parses input arguments and creates a new FindRecordCommand object.
  */
 public class FindRecordCommandParser implements Parser<FindRecordCommand> {
 
     /**
-     * Verifies that the keyword(s) for record search is not empty.
+     * Verifies that the query for record search is not empty.
      *
-     * @param trimmedArgs trimmed keyword(s) for record search.
-     * @throws ParseException the input keyword(s) is empty.
+     * @param query the query parsed.
+     * @throws ParseException if the query has no conditions.
      */
-    private void verifyArgsNonEmpty(String trimmedArgs) throws ParseException {
-        if (trimmedArgs.isEmpty()) {
+    private void verifyQueryNonEmpty(RecordQuery query) throws ParseException {
+        if (query.equals(RecordQuery.all())) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindRecordCommand.MESSAGE_USAGE));
         }
@@ -35,13 +43,63 @@ public class FindRecordCommandParser implements Parser<FindRecordCommand> {
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public FindRecordCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        verifyArgsNonEmpty(trimmedArgs);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_READER, PREFIX_FROM, PREFIX_TO,
+                PREFIX_RETURNED_FROM, PREFIX_RETURNED_TO);
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        RecordQuery query = RecordQuery.all();
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (!trimmedArgs.isEmpty()) {
+            query = query.withAnyWord(Arrays.asList(trimmedArgs.split("\\s+")));
+        }
+        if (argMultimap.getValue(PREFIX_READER).isPresent()) {
+            query = query.withReader(ParserUtil.parseName(argMultimap.getValue(PREFIX_READER).get()));
+        }
+        Optional<LocalDate> borrowedFrom = parseDate(argMultimap.getValue(PREFIX_FROM));
+        Optional<LocalDate> borrowedTo = parseDate(argMultimap.getValue(PREFIX_TO));
+        verifyRange(borrowedFrom, borrowedTo);
+        if (borrowedFrom.isPresent() || borrowedTo.isPresent()) {
+            query = query.withBorrowedBetween(borrowedFrom.orElse(null), borrowedTo.orElse(null));
+        }
+        Optional<LocalDate> returnedFrom = parseDate(argMultimap.getValue(PREFIX_RETURNED_FROM));
+        Optional<LocalDate> returnedTo = parseDate(argMultimap.getValue(PREFIX_RETURNED_TO));
+        verifyRange(returnedFrom, returnedTo);
+        if (returnedFrom.isPresent() || returnedTo.isPresent()) {
+            query = query.withReturnedBetween(returnedFrom.orElse(null), returnedTo.orElse(null));
+        }
 
-        return new FindRecordCommand(new RecordContainsBookNamePredicate(Arrays.asList(nameKeywords)));
+        verifyQueryNonEmpty(query);
+        return new FindRecordCommand(query);
     }
 
-}
+    /**
+     * Parses an optional bound of a range of dates.
+     *
+     * @param date the given date to be parsed, if any.
+     * @return the date, if one was given.
+     * @throws ParseException if the given date is not a valid date in the format YYYY-MM-DD.
+     */
+    private Optional<LocalDate> parseDate(Optional<String> date) throws ParseException {
+        if (date.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(date.get().trim()));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(FindRecordCommand.MESSAGE_INVALID_DATE);
+        }
+    }
 
+    /**
+     * Verifies that a range of dates does not start after it ends.
+     *
+     * @param from the start of the range, if any.
+     * @param to the end of the range, if any.
+     * @throws ParseException if the range starts after it ends.
+     */
+    private void verifyRange(Optional<LocalDate> from, Optional<LocalDate> to) throws ParseException {
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new ParseException(FindRecordCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PAY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_READER;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.FinesCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code FinesCommand} object.
+ */
+public class FinesCommandParser implements Parser<FinesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FinesCommand}
+     * and returns a {@code FinesCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return a FinesCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public FinesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_READER, PREFIX_PAY);
+
+        if (argMultimap.getValue(PREFIX_READER).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FinesCommand.MESSAGE_USAGE));
+        }
+
+        Name readerName = ParserUtil.parseName(argMultimap.getValue(PREFIX_READER).get());
+        if (argMultimap.getValue(PREFIX_PAY).isEmpty()) {
+            return new FinesCommand(readerName);
+        }
+        return new FinesCommand(readerName, ParserUtil.parseAmount(argMultimap.getValue(PREFIX_PAY).get()));
+    }
+
+}
@@ -0,0 +1,39 @@
+package seedu.smartlib.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.smartlib.commons.util.FileUtil;
+import seedu.smartlib.logic.commands.ImportCommand;
+import seedu.smartlib.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ImportCommand} object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path given is not valid.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ImportCommand}
+     * and returns an {@code ImportCommand} object for execution.
+     *
+     * @param args arguments given in the user input.
+     * @return an ImportCommand object required for execution.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return new ImportCommand(Paths.get(trimmedArgs));
+    }
+
+}
@@ -2,8 +2,11 @@ package seedu.smartlib.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.smartlib.commons.core.index.Index;
@@ -26,6 +29,13 @@ import seedu.smartlib.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_DUPLICATE_BARCODE = "The same barcode cannot be given more than once.";
+    public static final int MAX_COPIES = 100;
+    public static final String MESSAGE_INVALID_COPIES = "The number of copies should be a whole number from 1 to "
+            + MAX_COPIES + ".";
+    public static final String MESSAGE_INVALID_AMOUNT = "The amount should be a positive number of dollars, with at "
+            + "most 6 digits before and 2 digits after the decimal point, e.g. 2.50";
+    private static final String AMOUNT_VALIDATION_REGEX = "\\d{1,6}(\\.\\d{1,2})?";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -238,4 +248,63 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses {@code copies} into the number of copies of a book.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @param copies the given number of copies to be parsed.
+     * @return the number of copies.
+     * @throws ParseException if the given {@code copies} is not a whole number from 1 to {@code MAX_COPIES}.
+     */
+    public static int parseCopies(String copies) throws ParseException {
+        requireNonNull(copies);
+        String trimmedCopies = copies.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCopies) || Integer.parseInt(trimmedCopies) > MAX_COPIES) {
+            throw new ParseException(MESSAGE_INVALID_COPIES);
+        }
+        return Integer.parseInt(trimmedCopies);
+    }
+
+    /**
+     * Parses {@code amount}, given in dollars, into a number of cents.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @param amount the given amount to be parsed.
+     * @return the amount in cents.
+     * @throws ParseException if the given {@code amount} is not a positive amount of dollars and cents.
+     */
+    public static long parseAmount(String amount) throws ParseException {
+        requireNonNull(amount);
+        String trimmedAmount = amount.trim();
+        if (!trimmedAmount.matches(AMOUNT_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT);
+        }
+        long amountInCents = new BigDecimal(trimmedAmount).movePointRight(2).longValueExact();
+        if (amountInCents == 0) {
+            throw new ParseException(MESSAGE_INVALID_AMOUNT);
+        }
+        return amountInCents;
+    }
+
+    /**
+     * Parses {@code Collection<String> barcodes} into a {@code List<Barcode>}, in the order given.
+     *
+     * @param barcodes the given barcodes to be parsed.
+     * @return a list of Barcode objects made up of the given barcodes.
+     * @throws ParseException if any of the given {@code barcodes} is invalid, or if a barcode is given twice.
+     */
+    public static List<Barcode> parseBarcodes(Collection<String> barcodes) throws ParseException {
+        requireNonNull(barcodes);
+        final List<Barcode> barcodeList = new ArrayList<>();
+        final Set<Barcode> barcodeSet = new HashSet<>();
+        for (String barcode : barcodes) {
+            Barcode parsedBarcode = parseBarcode(barcode);
+            if (!barcodeSet.add(parsedBarcode)) {
+                throw new ParseException(MESSAGE_DUPLICATE_BARCODE);
+            }
+            barcodeList.add(parsedBarcode);
+        }
+        return barcodeList;
+    }
+
 }
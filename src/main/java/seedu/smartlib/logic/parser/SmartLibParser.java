@@ -1,28 +1,39 @@
 package seedu.smartlib.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.smartlib.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.smartlib.logic.commands.AddBookCommand;
 import seedu.smartlib.logic.commands.AddReaderCommand;
 import seedu.smartlib.logic.commands.BorrowCommand;
+import seedu.smartlib.logic.commands.CancelHoldCommand;
+import seedu.smartlib.logic.commands.CheckinCommand;
+import seedu.smartlib.logic.commands.CheckoutCommand;
 import seedu.smartlib.logic.commands.ClearCommand;
 import seedu.smartlib.logic.commands.Command;
 import seedu.smartlib.logic.commands.DeleteBookCommand;
 import seedu.smartlib.logic.commands.DeleteReaderCommand;
 import seedu.smartlib.logic.commands.ExitCommand;
+import seedu.smartlib.logic.commands.ExportCommand;
 import seedu.smartlib.logic.commands.FindBookCommand;
 import seedu.smartlib.logic.commands.FindReaderCommand;
 import seedu.smartlib.logic.commands.FindRecordCommand;
+import seedu.smartlib.logic.commands.FinesCommand;
 import seedu.smartlib.logic.commands.HelpCommand;
+import seedu.smartlib.logic.commands.HoldCommand;
+import seedu.smartlib.logic.commands.ImportCommand;
 import seedu.smartlib.logic.commands.ListBookCommand;
 import seedu.smartlib.logic.commands.ListOverdueBookCommand;
 import seedu.smartlib.logic.commands.ListReaderCommand;
 import seedu.smartlib.logic.commands.ListRecordCommand;
 import seedu.smartlib.logic.commands.ReturnCommand;
+import seedu.smartlib.logic.commands.StatsCommand;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,6 +46,22 @@ public class SmartLibParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final Executor exportExecutor;
+    private final Consumer<String> exportFailureSink;
+
+    /**
+     * Creates a SmartLibParser whose export commands run their exports with {@code exportExecutor}.
+     *
+     * @param exportExecutor executor which runs the exports.
+     * @param exportFailureSink receives the messages of the exports which fail.
+     */
+    public SmartLibParser(Executor exportExecutor, Consumer<String> exportFailureSink) {
+        requireNonNull(exportExecutor);
+        requireNonNull(exportFailureSink);
+        this.exportExecutor = exportExecutor;
+        this.exportFailureSink = exportFailureSink;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -76,6 +103,12 @@ public class SmartLibParser {
         case FindBookCommand.COMMAND_WORD:
             return new FindBookCommandParser().parse(arguments);
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser(exportExecutor, exportFailureSink).parse(arguments);
+
         case ListBookCommand.COMMAND_WORD:
             return new ListBookCommand();
 
@@ -88,12 +121,30 @@ public class SmartLibParser {
         case ReturnCommand.COMMAND_WORD:
             return new ReturnCommandParser().parse(arguments);
 
+        case CheckoutCommand.COMMAND_WORD:
+            return new CheckoutCommandParser().parse(arguments);
+
+        case CheckinCommand.COMMAND_WORD:
+            return new CheckinCommandParser().parse(arguments);
+
+        case HoldCommand.COMMAND_WORD:
+            return new HoldCommandParser().parse(arguments);
+
+        case CancelHoldCommand.COMMAND_WORD:
+            return new CancelHoldCommandParser().parse(arguments);
+
         case ListRecordCommand.COMMAND_WORD:
             return new ListRecordCommand();
 
         case FindRecordCommand.COMMAND_WORD:
             return new FindRecordCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case FinesCommand.COMMAND_WORD:
+            return new FinesCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -2,16 +2,25 @@ package seedu.smartlib.model;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.smartlib.commons.core.GuiSettings;
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
+import seedu.smartlib.model.record.CirculationStats;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.record.RecordQuery;
 
 /**
  * The API of the Model component.
@@ -114,11 +123,22 @@ public interface Model {
      */
     boolean canReaderBorrow(Name readerName);
 
+    /**
+     * Returns true if a reader with the same name as {@code readerName} in the registered reader base
+     * may borrow {@code count} more books.
+     */
+    boolean canReaderBorrow(Name readerName, int count);
+
     /**
      * Returns true if a record with the same identity as {@code record} exists in the registered record base.
      */
     boolean hasRecord(Record record);
 
+    /**
+     * Returns true if the book with the given barcode has a record which has not been returned yet.
+     */
+    boolean hasOpenRecord(Barcode barcode);
+
     /**
      * Updates the reader's and book's statuses after borrowing.
      */
@@ -129,6 +149,62 @@ public interface Model {
      */
     boolean returnBook(Name readerName, Barcode barcode);
 
+    /**
+     * Lends out the books of all the given borrow records and adds the records, as a single change.
+     */
+    void borrowBooks(List<Record> borrowRecords);
+
+    /**
+     * Takes back all the books with the given barcodes and marks their records as returned, as a single change.
+     * Each returned book whose title is held is then lent to the next holder who may borrow it.
+     */
+    List<Record> returnBooks(List<Barcode> barcodes, DateReturned dateReturned);
+
+    /**
+     * Returns true if {@code hold} has been placed.
+     */
+    boolean hasHold(Hold hold);
+
+    /**
+     * Places {@code hold} at the back of the queue for its title.
+     * The hold must not already have been placed.
+     */
+    void addHold(Hold hold);
+
+    /**
+     * Cancels {@code hold}, so that the reader no longer waits for the title.
+     * The hold must have been placed.
+     */
+    void removeHold(Hold hold);
+
+    /**
+     * Lends the book with the given barcode to the first reader holding its title who may borrow it now.
+     *
+     * @return the borrow record of the book, or null if no reader holding its title may borrow it.
+     */
+    Record lendToNextHolder(Barcode barcode);
+
+    /**
+     * Returns the circulation statistics of the records, which are kept up to date as records change.
+     */
+    CirculationStats getCirculationStats();
+
+    /**
+     * Returns the fines owed by the reader named {@code readerName}, less what the reader has paid, in cents.
+     */
+    long getOutstandingFines(Name readerName);
+
+    /**
+     * Returns the fines charged to and payments made by the reader named {@code readerName}, oldest first.
+     */
+    List<FineEntry> getFineEntries(Name readerName);
+
+    /**
+     * Records a payment towards a reader's fines.
+     * The payment must not exceed the reader's outstanding fines.
+     */
+    void addFinePayment(FineEntry payment);
+
     /**
      * Deletes the given book.
      * {@code target} must exist in the registered book base.
@@ -147,6 +223,17 @@ public interface Model {
      */
     void addBook(Book book);
 
+    /**
+     * Adds all of the given books, as a single change.
+     * None of {@code books} may already exist in the registered book base.
+     */
+    void addBooks(List<Book> books);
+
+    /**
+     * Returns {@code count} consecutive barcodes which are not used by any book in the registered book base.
+     */
+    List<Barcode> allocateBarcodes(int count);
+
     /**
      * Gets the list of books with the given bookName
      * @return the list of books
@@ -190,6 +277,11 @@ public interface Model {
      */
     Barcode getFirstAvailableBookBarcode(Name bookName);
 
+    /**
+     * Returns the number of copies of the book in SmartLib, and how many of them are not on loan.
+     */
+    Availability getAvailability(Name bookName);
+
     /**
      * Returns the book name of the book with the corresponding barcode borrowed by the reader in SmartLib.
      */
@@ -229,6 +321,26 @@ public interface Model {
      */
     void updateFilteredBookList(Predicate<Book> predicate);
 
+    /**
+     * Updates the filter of the filtered book list to show only the books satisfying {@code query}.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void findBooks(BookQuery query);
+
+    /**
+     * Updates the filtered book list to show only the {@code limit} books satisfying {@code query} which are most
+     * relevant to its keywords, from the most to the least relevant.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void findTopBooks(BookQuery query, int limit);
+
+    /**
+     * Updates the filter of the filtered book list to show only the overdue books.
+     */
+    void showOverdueBooks();
+
     /**
      * Updates the filter of the filtered reader list to filter by the given {@code predicate}.
      *
@@ -236,6 +348,32 @@ public interface Model {
      */
     void updateFilteredReaderList(Predicate<Reader> predicate);
 
+    /**
+     * Updates the filtered reader list to show only the readers satisfying {@code query}. Readers found by a
+     * typo-tolerant name search are shown from the most to the least similar, and other readers in list order.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void findReaders(ReaderQuery query);
+
+    /**
+     * Returns up to {@code limit} reader names starting with {@code prefix}, ignoring case.
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    List<String> suggestReaderNames(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} book titles starting with {@code prefix}, ignoring case.
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    List<String> suggestBookNames(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} book barcodes starting with {@code prefix}.
+     * Unlike the other methods of the model, this may be called from any thread.
+     */
+    List<String> suggestBarcodes(String prefix, int limit);
+
     /**
      * Updates the filter of the filtered record list to filter by the given {@code predicate}.
      *
@@ -243,4 +381,11 @@ public interface Model {
      */
     void updateFilteredRecordList(Predicate<Record> predicate);
 
+    /**
+     * Updates the filter of the filtered record list to show only the records satisfying {@code query}.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void findRecords(RecordQuery query);
+
 }
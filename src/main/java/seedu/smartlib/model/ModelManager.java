@@ -5,19 +5,37 @@ import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.smartlib.commons.core.GuiSettings;
 import seedu.smartlib.commons.core.LogsCenter;
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
+import seedu.smartlib.model.record.CirculationStats;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.record.RecordQuery;
 
 /**
  * Represents the in-memory model of SmartLib's data.
@@ -29,7 +47,11 @@ public class ModelManager implements Model {
     private final SmartLib smartLib;
     private final UserPrefs userPrefs;
     private final FilteredList<Book> filteredBooks;
+    // the filtered books in display order, which is list order unless a ranked search is shown
+    private final SortedList<Book> sortedBooks;
     private final FilteredList<Reader> filteredReaders;
+    // the filtered readers in display order, which is list order unless a typo-tolerant search is shown
+    private final SortedList<Reader> sortedReaders;
     private final FilteredList<Record> filteredRecords;
 
     /**
@@ -47,7 +69,9 @@ public class ModelManager implements Model {
         this.smartLib = new SmartLib(smartLib);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredBooks = new FilteredList<>(this.smartLib.getBookList());
+        sortedBooks = new SortedList<>(filteredBooks);
         filteredReaders = new FilteredList<>(this.smartLib.getReaderList());
+        sortedReaders = new SortedList<>(filteredReaders);
         filteredRecords = new FilteredList<>(this.smartLib.getRecordList());
     }
 
@@ -132,7 +156,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ReadOnlySmartLib getSmartLib() {
-        return smartLib;
+        return smartLib.snapshot();
     }
 
     /**
@@ -257,6 +281,20 @@ public class ModelManager implements Model {
         return smartLib.canReaderBorrow(readerName);
     }
 
+    /**
+     * Returns true if a reader with the same name as {@code readerName} in the registered reader base
+     * may borrow {@code count} more books.
+     *
+     * @param readerName name of the reader to be checked.
+     * @param count the number of books to be borrowed.
+     * @return true if the reader may borrow {@code count} more books, and false otherwise.
+     */
+    @Override
+    public boolean canReaderBorrow(Name readerName, int count) {
+        requireNonNull(readerName);
+        return smartLib.canReaderBorrow(readerName, count);
+    }
+
     /**
      * Returns true if a record with the same identity as {@code record} exists in the registered record base.
      *
@@ -270,6 +308,18 @@ public class ModelManager implements Model {
         return smartLib.hasRecord(record);
     }
 
+    /**
+     * Returns true if the book with the given barcode has a record which has not been returned yet.
+     *
+     * @param barcode barcode of the book.
+     * @return true if the book has an open record, and false otherwise.
+     */
+    @Override
+    public boolean hasOpenRecord(Barcode barcode) {
+        requireNonNull(barcode);
+        return smartLib.hasOpenRecord(barcode);
+    }
+
     /**
      * Updates the reader's and book's statuses after borrowing.
      *
@@ -304,6 +354,138 @@ public class ModelManager implements Model {
         return status;
     }
 
+    /**
+     * Lends out the books of all the given borrow records and adds the records, as a single change.
+     * The lists shown are reset once, after every book has been lent out.
+     *
+     * @param borrowRecords the borrow records of the books to be lent out.
+     */
+    @Override
+    public void borrowBooks(List<Record> borrowRecords) {
+        requireNonNull(borrowRecords);
+        smartLib.borrowBooks(borrowRecords);
+        updateFilteredReaderList(PREDICATE_SHOW_ALL_READERS);
+        updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
+        updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
+    }
+
+    /**
+     * Takes back all the books with the given barcodes and marks their records as returned, as a single change.
+     * Each returned book whose title is held is then lent to the next holder who may borrow it.
+     * The lists shown are reset once, after every book has been returned and lent out again.
+     *
+     * @param barcodes barcodes of the books to be returned.
+     * @param dateReturned the date on which the books were returned.
+     * @return the completed records of the books, in the order of {@code barcodes}.
+     */
+    @Override
+    public List<Record> returnBooks(List<Barcode> barcodes, DateReturned dateReturned) {
+        requireAllNonNull(barcodes, dateReturned);
+        List<Record> completedRecords = smartLib.returnBooks(barcodes, dateReturned);
+        updateFilteredReaderList(PREDICATE_SHOW_ALL_READERS);
+        updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
+        updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
+        return completedRecords;
+    }
+
+    /**
+     * Returns true if {@code hold} has been placed.
+     *
+     * @param hold hold to be checked.
+     * @return true if {@code hold} has been placed, and false otherwise.
+     */
+    @Override
+    public boolean hasHold(Hold hold) {
+        requireNonNull(hold);
+        return smartLib.hasHold(hold);
+    }
+
+    /**
+     * Places {@code hold} at the back of the queue for its title.
+     *
+     * @param hold hold to be placed.
+     */
+    @Override
+    public void addHold(Hold hold) {
+        requireNonNull(hold);
+        smartLib.addHold(hold);
+    }
+
+    /**
+     * Cancels {@code hold}, so that the reader no longer waits for the title.
+     *
+     * @param hold hold to be cancelled.
+     */
+    @Override
+    public void removeHold(Hold hold) {
+        requireNonNull(hold);
+        smartLib.removeHold(hold);
+    }
+
+    /**
+     * Lends the book with the given barcode to the first reader holding its title who may borrow it now.
+     * The lists shown are reset if the book is lent out.
+     *
+     * @param barcode barcode of the book.
+     * @return the borrow record of the book, or null if no reader holding its title may borrow it.
+     */
+    @Override
+    public Record lendToNextHolder(Barcode barcode) {
+        requireNonNull(barcode);
+        Record borrowRecord = smartLib.lendToNextHolder(barcode);
+        if (borrowRecord != null) {
+            updateFilteredReaderList(PREDICATE_SHOW_ALL_READERS);
+            updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
+            updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORDS);
+        }
+        return borrowRecord;
+    }
+
+    /**
+     * Returns the circulation statistics of the records, which are kept up to date as records change.
+     *
+     * @return the circulation statistics of the records.
+     */
+    @Override
+    public CirculationStats getCirculationStats() {
+        return smartLib.getCirculationStats();
+    }
+
+    /**
+     * Returns the fines owed by the reader named {@code readerName}, less what the reader has paid.
+     *
+     * @param readerName name of the reader.
+     * @return the outstanding balance in cents.
+     */
+    @Override
+    public long getOutstandingFines(Name readerName) {
+        requireNonNull(readerName);
+        return smartLib.getOutstandingFines(readerName);
+    }
+
+    /**
+     * Returns the fines charged to and payments made by the reader named {@code readerName}, oldest first.
+     *
+     * @param readerName name of the reader.
+     * @return the reader's fines and payments.
+     */
+    @Override
+    public List<FineEntry> getFineEntries(Name readerName) {
+        requireNonNull(readerName);
+        return smartLib.getFineEntries(readerName);
+    }
+
+    /**
+     * Records a payment towards a reader's fines.
+     *
+     * @param payment the payment, which must not exceed the reader's outstanding fines.
+     */
+    @Override
+    public void addFinePayment(FineEntry payment) {
+        requireNonNull(payment);
+        smartLib.addFinePayment(payment);
+    }
+
     /**
      * Deletes the given book.
      * {@code target} must exist in the registered book base.
@@ -341,6 +523,30 @@ public class ModelManager implements Model {
         updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
     }
 
+    /**
+     * Adds all of the given books, as a single change.
+     * None of {@code books} may already exist in the registered book base.
+     *
+     * @param books books to be added.
+     */
+    @Override
+    public void addBooks(List<Book> books) {
+        requireNonNull(books);
+        smartLib.addBooks(books);
+        updateFilteredBookList(PREDICATE_SHOW_ALL_BOOKS);
+    }
+
+    /**
+     * Returns {@code count} consecutive barcodes which are not used by any book in the registered book base.
+     *
+     * @param count the number of barcodes needed.
+     * @return the unused barcodes, in increasing order.
+     */
+    @Override
+    public List<Barcode> allocateBarcodes(int count) {
+        return smartLib.allocateBarcodes(count);
+    }
+
     /**
      * Adds the given reader.
      * {@code reader} must not already exist in the registered reader base.
@@ -437,17 +643,22 @@ public class ModelManager implements Model {
      * @param bookName name of the book to be borrowed
      * @return the barcode of the first available copy of the book in SmartLib
      */
+    @Override
     public Barcode getFirstAvailableBookBarcode(Name bookName) {
         requireNonNull(bookName);
+        return smartLib.getFirstAvailableBookBarcode(bookName);
+    }
 
-        ArrayList<Book> books = smartLib.getBooksByName(bookName);
-
-        for (Book b : books) {
-            if (!b.isBorrowed()) {
-                return b.getBarcode();
-            }
-        }
-        return null;
+    /**
+     * Returns the number of copies of the book in SmartLib, and how many of them are not on loan.
+     *
+     * @param bookName name of the book.
+     * @return the availability of the book.
+     */
+    @Override
+    public Availability getAvailability(Name bookName) {
+        requireNonNull(bookName);
+        return smartLib.getAvailability(bookName);
     }
 
     /**
@@ -502,7 +713,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Reader> getFilteredReaderList() {
-        return filteredReaders;
+        return sortedReaders;
     }
 
     /**
@@ -512,7 +723,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Book> getFilteredBookList() {
-        return filteredBooks;
+        return sortedBooks;
     }
 
     /**
@@ -533,9 +744,72 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredBookList(Predicate<Book> predicate) {
         requireNonNull(predicate);
+        sortedBooks.setComparator(null);
         filteredBooks.setPredicate(predicate);
     }
 
+    /**
+     * Updates the filter of the filtered book list to show only the books satisfying {@code query}.
+     * The matching books are looked up through SmartLib's indexes rather than found by testing every book.
+     *
+     * @param query the query to be answered.
+     */
+    @Override
+    public void findBooks(BookQuery query) {
+        requireNonNull(query);
+        showBooks(smartLib.findBooks(query));
+    }
+
+    /**
+     * Updates the filtered book list to show only the {@code limit} books satisfying {@code query} which are most
+     * relevant to its keywords, from the most to the least relevant.
+     *
+     * @param query the query to be answered.
+     * @param limit the maximum number of books to be shown.
+     */
+    @Override
+    public void findTopBooks(BookQuery query, int limit) {
+        requireNonNull(query);
+        List<Book> ranked = smartLib.findTopBooks(query, limit);
+        Map<List<Object>, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(identityOf(ranked.get(i)), i);
+        }
+        filteredBooks.setPredicate(book -> ranks.containsKey(identityOf(book)));
+        sortedBooks.setComparator(Comparator.comparing(book -> ranks.get(identityOf(book))));
+    }
+
+    /**
+     * Updates the filter of the filtered book list to show only the overdue books.
+     */
+    @Override
+    public void showOverdueBooks() {
+        showBooks(smartLib.getOverdueBooks());
+    }
+
+    /**
+     * Updates the filter of the filtered book list to show exactly the given books.
+     * Books are matched by name and barcode, so a shown book stays shown when it is replaced by an updated copy,
+     * for example when it is lent out.
+     *
+     * @param books books to be shown.
+     */
+    private void showBooks(List<Book> books) {
+        Set<List<Object>> booksToShow = new HashSet<>();
+        for (Book book : books) {
+            booksToShow.add(identityOf(book));
+        }
+        sortedBooks.setComparator(null);
+        filteredBooks.setPredicate(book -> booksToShow.contains(identityOf(book)));
+    }
+
+    /**
+     * Returns the name and barcode of {@code book}, which together identify it as in {@link Book#isSameBook(Book)}.
+     */
+    private static List<Object> identityOf(Book book) {
+        return Arrays.asList(book.getName(), book.getBarcode());
+    }
+
     /**
      * Updates the filter of the filtered reader list to filter by the given {@code predicate}.
      *
@@ -544,9 +818,65 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredReaderList(Predicate<Reader> predicate) {
         requireNonNull(predicate);
+        sortedReaders.setComparator(null);
         filteredReaders.setPredicate(predicate);
     }
 
+    /**
+     * Updates the filtered reader list to show only the readers satisfying {@code query}.
+     * The matching readers are looked up in SmartLib's reader indexes rather than found by testing every reader, and
+     * are shown in the order SmartLib finds them, so that readers found by a typo-tolerant search are ranked.
+     *
+     * @param query the query.
+     */
+    @Override
+    public void findReaders(ReaderQuery query) {
+        requireNonNull(query);
+        List<Reader> ranked = smartLib.findReaders(query);
+        Map<Reader, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i), i);
+        }
+        filteredReaders.setPredicate(ranks::containsKey);
+        sortedReaders.setComparator(Comparator.comparing(ranks::get));
+    }
+
+    /**
+     * Returns up to {@code limit} reader names starting with {@code prefix}, ignoring case.
+     *
+     * @param prefix the start of a name.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names, in alphabetical order.
+     */
+    @Override
+    public List<String> suggestReaderNames(String prefix, int limit) {
+        return smartLib.suggestReaderNames(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} book titles starting with {@code prefix}, ignoring case.
+     *
+     * @param prefix the start of a title.
+     * @param limit the maximum number of titles to be returned.
+     * @return the matching titles, in alphabetical order.
+     */
+    @Override
+    public List<String> suggestBookNames(String prefix, int limit) {
+        return smartLib.suggestBookNames(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} book barcodes starting with {@code prefix}.
+     *
+     * @param prefix the start of a barcode.
+     * @param limit the maximum number of barcodes to be returned.
+     * @return the matching barcodes.
+     */
+    @Override
+    public List<String> suggestBarcodes(String prefix, int limit) {
+        return smartLib.suggestBarcodes(prefix, limit);
+    }
+
     /**
      * Updates the filter of the filtered record list to filter by the given {@code predicate}.
      *
@@ -558,6 +888,20 @@ public class ModelManager implements Model {
         filteredRecords.setPredicate(predicate);
     }
 
+    /**
+     * Updates the filter of the filtered record list to show only the records satisfying {@code query}.
+     * Repeated keyword searches on unchanged data are answered from SmartLib's cache of recent results.
+     *
+     * @param query the query to be answered.
+     */
+    @Override
+    public void findRecords(RecordQuery query) {
+        requireNonNull(query);
+        Set<Record> recordsToShow = Collections.newSetFromMap(new IdentityHashMap<>());
+        recordsToShow.addAll(smartLib.findRecords(query));
+        filteredRecords.setPredicate(recordsToShow::contains);
+    }
+
     /**
      * Checks if this ModelManager is equal to another ModelManager.
      *
@@ -580,8 +924,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return smartLib.equals(other.smartLib)
                 && userPrefs.equals(other.userPrefs)
-                && filteredReaders.equals(other.filteredReaders)
-                && filteredBooks.equals(other.filteredBooks)
+                && sortedReaders.equals(other.sortedReaders)
+                && sortedBooks.equals(other.sortedBooks)
                 && filteredRecords.equals(other.filteredRecords);
     }
 
@@ -1,7 +1,11 @@
 package seedu.smartlib.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.record.Record;
 
@@ -28,4 +32,15 @@ public interface ReadOnlySmartLib {
      */
     ObservableList<Record> getRecordList();
 
+    /**
+     * Returns an unmodifiable list of the holds, grouped by ISBN and in queue order within each ISBN.
+     * This list will not contain any duplicate holds.
+     */
+    List<Hold> getHoldList();
+
+    /**
+     * Returns an unmodifiable list of the fines and payments, grouped by reader and oldest first within each reader.
+     */
+    List<FineEntry> getFineList();
+
 }
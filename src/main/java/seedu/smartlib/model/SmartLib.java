@@ -1,21 +1,42 @@
 package seedu.smartlib.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.LruCache;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
 import seedu.smartlib.model.book.UniqueBookList;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.fine.FineLedger;
+import seedu.smartlib.model.hold.Hold;
+import seedu.smartlib.model.hold.HoldQueues;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
 import seedu.smartlib.model.reader.UniqueReaderList;
+import seedu.smartlib.model.record.CirculationStats;
+import seedu.smartlib.model.record.Cost;
 import seedu.smartlib.model.record.DateBorrowed;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.record.RecordContainsBookNamePredicate;
+import seedu.smartlib.model.record.RecordQuery;
 import seedu.smartlib.model.record.UniqueRecordList;
 
 /**
@@ -27,10 +48,28 @@ public class SmartLib implements ReadOnlySmartLib {
     public static final int QUOTA = 4;
     public static final long DAYS_BORROW_ALLOWED = 14L;
     public static final int HOURS_BORROW_ALLOWED = (int) DAYS_BORROW_ALLOWED * 24;
+    // readers owing more than this in fines may not borrow
+    public static final long FINE_LIMIT_IN_CENTS = 1000;
+
+    private static final int QUERY_CACHE_CAPACITY = 64;
 
     private final UniqueBookList books;
     private final UniqueReaderList readers;
     private final UniqueRecordList records;
+    private final HoldQueues holds;
+    private final FineLedger fines;
+
+    // the holds and fines in list form, computed on first use after they last changed
+    private List<Hold> holdList;
+    private List<FineEntry> fineList;
+
+    // incremented on every change to the data held
+    private long version;
+
+    // results of recent searches, which are only valid while the version is still resultsVersion
+    private final LruCache<List<Object>, List<Book>> bookResults = new LruCache<>(QUERY_CACHE_CAPACITY);
+    private final LruCache<Set<String>, List<Record>> recordResults = new LruCache<>(QUERY_CACHE_CAPACITY);
+    private long resultsVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -43,6 +82,8 @@ public class SmartLib implements ReadOnlySmartLib {
         books = new UniqueBookList();
         readers = new UniqueReaderList();
         records = new UniqueRecordList();
+        holds = new HoldQueues();
+        fines = new FineLedger();
     }
 
     /**
@@ -70,6 +111,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void setBooks(List<Book> books) {
         this.books.setBooks(books);
+        version++;
     }
 
     /**
@@ -80,6 +122,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void setReaders(List<Reader> readers) {
         this.readers.setReaders(readers);
+        version++;
     }
 
     /**
@@ -90,6 +133,30 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void setRecords(List<Record> records) {
         this.records.setRecords(records);
+        version++;
+    }
+
+    /**
+     * Replaces the holds with {@code holds}, queued in the order given.
+     * {@code holds} must not contain duplicate holds.
+     *
+     * @param holds new list of holds.
+     */
+    public void setHolds(List<Hold> holds) {
+        this.holds.setHolds(holds);
+        holdList = null;
+        version++;
+    }
+
+    /**
+     * Replaces the fines and payments with {@code fines}, in the order given.
+     *
+     * @param fines new list of fines and payments.
+     */
+    public void setFines(List<FineEntry> fines) {
+        this.fines.setEntries(fines);
+        fineList = null;
+        version++;
     }
 
     /**
@@ -103,6 +170,8 @@ public class SmartLib implements ReadOnlySmartLib {
         setBooks(newData.getBookList());
         setReaders(newData.getReaderList());
         setRecords(newData.getRecordList());
+        setHolds(newData.getHoldList());
+        setFines(newData.getFineList());
     }
 
     //// reader-level operations
@@ -139,28 +208,97 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public Reader getReaderByName(Name readerName) {
         requireNonNull(readerName);
-        for (Reader reader : readers) {
-            if (reader.getName().equals(readerName)) {
-                return reader;
-            }
-        }
-        return null;
+        return readers.getReaderByName(readerName);
+    }
+
+    /**
+     * Retrieves the readers satisfying {@code query}, answered from the most selective of the reader indexes.
+     * Readers found by a typo-tolerant name search are ranked from the most to the least similar.
+     *
+     * @param query the query.
+     * @return list of Reader objects, an empty list if there is no such reader.
+     */
+    public List<Reader> findReaders(ReaderQuery query) {
+        requireNonNull(query);
+        return readers.findReaders(query);
+    }
+
+    /**
+     * Returns up to {@code limit} reader names starting with {@code prefix}, ignoring case.
+     * This may be called from any thread.
+     *
+     * @param prefix the start of a name.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names, in alphabetical order.
+     */
+    public List<String> suggestReaderNames(String prefix, int limit) {
+        requireNonNull(prefix);
+        return readers.suggestNames(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} book titles starting with {@code prefix}, ignoring case.
+     * This may be called from any thread.
+     *
+     * @param prefix the start of a title.
+     * @param limit the maximum number of titles to be returned.
+     * @return the matching titles, in alphabetical order.
+     */
+    public List<String> suggestBookNames(String prefix, int limit) {
+        requireNonNull(prefix);
+        return books.suggestTitles(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} book barcodes starting with {@code prefix}.
+     * This may be called from any thread.
+     *
+     * @param prefix the start of a barcode.
+     * @param limit the maximum number of barcodes to be returned.
+     * @return the matching barcodes.
+     */
+    public List<String> suggestBarcodes(String prefix, int limit) {
+        requireNonNull(prefix);
+        return books.suggestBarcodes(prefix, limit);
     }
 
     /**
-     * Returns true if the reader has already borrowed a book.
+     * Checks if a reader may borrow a book, that is, has not used up their quota, has no overdue books and does not owe
+     * more than the fine limit.
      *
      * @param readerName must exist in reader base.
-     * @return true if the reader has neither borrowed all quota of books nor has overdue books, and false otherwise.
+     * @return true if the reader has not borrowed all quota of books, has no overdue books and does not owe more than
+     * the fine limit, and false otherwise.
      */
     public boolean canReaderBorrow(Name readerName) {
+        requireNonNull(readerName);
+        return canReaderBorrow(readerName, 1);
+    }
+
+    /**
+     * Returns true if the reader may borrow {@code count} more books, that is, if the reader would stay within the
+     * borrowing quota, is not holding on to an overdue book, and does not owe more than the fine limit.
+     *
+     * @param readerName name of the reader.
+     * @param count the number of books to be borrowed.
+     * @return true if the reader may borrow {@code count} more books, and false otherwise.
+     */
+    public boolean canReaderBorrow(Name readerName, int count) {
         requireNonNull(readerName);
         Reader reader = getReaderByName(readerName);
-        if (reader == null) {
-            return false;
-        } else {
-            return !hasReaderUsedUpQuota(reader) && !hasReaderOverdueBooks(reader);
-        }
+        return reader != null && reader.getBorrows().size() + count <= QUOTA && !hasReaderOverdueBooks(reader)
+                && !hasReaderExceededFineLimit(readerName);
+    }
+
+    /**
+     * Checks if a reader owes more than {@code FINE_LIMIT_IN_CENTS} in fines.
+     *
+     * @param readerName name of the reader.
+     * @return true if the reader owes more than the fine limit, and false otherwise.
+     */
+    public boolean hasReaderExceededFineLimit(Name readerName) {
+        requireNonNull(readerName);
+        return fines.getBalance(readerName) > FINE_LIMIT_IN_CENTS;
     }
 
     /**
@@ -213,6 +351,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void addReader(Reader p) {
         readers.addReader(p);
+        version++;
     }
 
     /**
@@ -223,6 +362,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void addRecord(Record r) {
         records.addRecord(r);
+        version++;
     }
 
     /**
@@ -237,6 +377,11 @@ public class SmartLib implements ReadOnlySmartLib {
         requireNonNull(editedReader);
 
         readers.setReader(target, editedReader);
+        holds.renameReader(target.getName(), editedReader.getName());
+        holdList = null;
+        fines.renameReader(target.getName(), editedReader.getName());
+        fineList = null;
+        version++;
     }
 
     /**
@@ -251,6 +396,8 @@ public class SmartLib implements ReadOnlySmartLib {
         requireNonNull(editedBook);
 
         books.setBook(target, editedBook);
+        removeHoldsIfNoCopyLeft(target.getIsbn());
+        version++;
     }
 
     /**
@@ -265,6 +412,7 @@ public class SmartLib implements ReadOnlySmartLib {
         requireNonNull(editedRecord);
 
         records.setRecord(target, editedRecord);
+        version++;
     }
 
     /**
@@ -275,6 +423,11 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void removeReader(Reader key) {
         readers.remove(key);
+        holds.removeReader(key.getName());
+        holdList = null;
+        fines.removeReader(key.getName());
+        fineList = null;
+        version++;
     }
 
     //// book-level operations
@@ -301,10 +454,7 @@ public class SmartLib implements ReadOnlySmartLib {
     public boolean hasBook(Name bookName) {
         requireNonNull(bookName);
 
-        ArrayList<Book> booksWithName = getBooksByName(bookName);
-        requireNonNull(booksWithName);
-
-        return booksWithName.size() > 0;
+        return books.getAvailability(bookName).getTotalCopies() > 0;
     }
 
     /**
@@ -345,12 +495,7 @@ public class SmartLib implements ReadOnlySmartLib {
     public Book getBookByBarcode(Barcode barcode) {
         requireNonNull(barcode);
         assert(Barcode.isValidBarcode(barcode.getValue()));
-        for (Book book : books) {
-            if (book.getBarcode().equals(barcode)) {
-                return book;
-            }
-        }
-        return null;
+        return books.getBookByBarcode(barcode);
     }
 
     /**
@@ -362,12 +507,29 @@ public class SmartLib implements ReadOnlySmartLib {
     public Reader getReaderByBarcode(Barcode barcode) {
         requireNonNull(barcode);
         assert(Barcode.isValidBarcode(barcode.getValue()));
-        for (Reader reader : readers) {
-            if (reader.getBorrows().containsKey(getBookByBarcode(barcode))) {
-                return reader;
-            }
-        }
-        return null;
+        return readers.getBorrower(barcode);
+    }
+
+    /**
+     * Returns the number of copies of the book named {@code bookName}, and how many of them are not on loan.
+     *
+     * @param bookName Book's name.
+     * @return the availability of the book.
+     */
+    public Availability getAvailability(Name bookName) {
+        requireNonNull(bookName);
+        return books.getAvailability(bookName);
+    }
+
+    /**
+     * Returns the barcode of an available (i.e. not borrowed) copy of the book named {@code bookName}.
+     *
+     * @param bookName Book's name.
+     * @return the barcode of an available copy, or null if there is none.
+     */
+    public Barcode getFirstAvailableBookBarcode(Name bookName) {
+        requireNonNull(bookName);
+        return books.getFirstAvailableBarcode(bookName);
     }
 
     /**
@@ -378,13 +540,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public ArrayList<Book> getBooksByName(Name bookName) {
         requireNonNull(bookName);
-        ArrayList<Book> booksWithName = new ArrayList<>();
-        for (Book book : books) {
-            if (book.getName().equals(bookName)) {
-                booksWithName.add(book);
-            }
-        }
-        return booksWithName;
+        return books.getBooksByName(bookName);
     }
 
     /**
@@ -395,13 +551,90 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public ArrayList<Book> getBooksByIsbn(Isbn isbn) {
         requireNonNull(isbn);
-        ArrayList<Book> booksWithIsbn = new ArrayList<>();
-        for (Book book : books) {
-            if (book.getIsbn().equals(isbn)) {
-                booksWithIsbn.add(book);
-            }
+        return books.getBooksByIsbn(isbn);
+    }
+
+    /**
+     * Retrieves a list of Book objects satisfying {@code query}.
+     * The result is remembered until the data is next modified, and equivalent queries are answered from it.
+     *
+     * @param query the query to be answered.
+     * @return list of Book objects, an empty list if there is no such book.
+     */
+    public ArrayList<Book> findBooks(BookQuery query) {
+        requireNonNull(query);
+        return findBooksCached(query, 0, () -> books.findBooks(query));
+    }
+
+    /**
+     * Retrieves at most {@code limit} Book objects satisfying {@code query}, from the most to the least relevant to
+     * its keywords.
+     *
+     * @param query the query to be answered.
+     * @param limit maximum number of books to be retrieved.
+     * @return list of Book objects, an empty list if there is no such book.
+     */
+    public ArrayList<Book> findTopBooks(BookQuery query, int limit) {
+        requireNonNull(query);
+        return findBooksCached(query, limit, () -> books.findTopBooks(query, limit));
+    }
+
+    /**
+     * Retrieves a list of Record objects of books with a name containing any of {@code keywords}.
+     * The result is remembered until the data is next modified, and searches for the same words are answered from
+     * it.
+     *
+     * @param keywords words to be searched for.
+     * @return list of Record objects, an empty list if there is no such record.
+     */
+    public ArrayList<Record> findRecords(List<String> keywords) {
+        requireNonNull(keywords);
+        evictStaleResults();
+        Set<String> key = new TreeSet<>();
+        for (String keyword : keywords) {
+            key.add(keyword.toLowerCase(Locale.ROOT));
+        }
+        List<Record> result = recordResults.get(key);
+        if (result == null) {
+            RecordContainsBookNamePredicate predicate = new RecordContainsBookNamePredicate(keywords);
+            result = records.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+            recordResults.put(key, result);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Retrieves the records satisfying {@code query}.
+     * A query on book names alone is answered as in {@link #findRecords(List)}. Any other query is answered from the
+     * indexes of the records by reader and by date, so a query for a range of dates does not go through every record.
+     *
+     * @param query the query to be answered.
+     * @return list of Record objects, an empty list if there is no such record.
+     */
+    public ArrayList<Record> findRecords(RecordQuery query) {
+        requireNonNull(query);
+        if (query.hasKeywordsOnly()) {
+            return findRecords(query.getKeywords());
         }
-        return booksWithIsbn;
+        return new ArrayList<>(records.findRecords(query));
+    }
+
+    /**
+     * Returns the circulation statistics of the records, which are kept up to date as records are added and returned.
+     *
+     * @return the circulation statistics of the records.
+     */
+    public CirculationStats getCirculationStats() {
+        return records.getStats();
+    }
+
+    /**
+     * Retrieves a list of Book objects which are overdue.
+     *
+     * @return list of overdue Book objects, an empty list if there is no such book.
+     */
+    public ArrayList<Book> getOverdueBooks() {
+        return books.getOverdueBooks(LocalDateTime.now());
     }
 
     /**
@@ -412,16 +645,7 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public boolean isBookWithBarcodeBorrowed(Barcode barcode) {
         requireNonNull(barcode);
-
-        for (Book book : books) {
-            if (book.getBarcode().equals(barcode)) {
-                if (book.isBorrowed()) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return books.isBorrowed(barcode);
     }
 
     /**
@@ -432,6 +656,28 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void addBook(Book toAdd) {
         books.addBook(toAdd);
+        version++;
+    }
+
+    /**
+     * Adds all of the given books to the registered book base, as a single change.
+     * None of the books may already exist in the registered book base.
+     *
+     * @param toAdd books to be added.
+     */
+    public void addBooks(List<Book> toAdd) {
+        books.addBooks(toAdd);
+        version++;
+    }
+
+    /**
+     * Returns {@code count} consecutive barcodes which are not used by any book in the registered book base.
+     *
+     * @param count the number of barcodes needed.
+     * @return the unused barcodes, in increasing order.
+     */
+    public List<Barcode> allocateBarcodes(int count) {
+        return books.allocateBarcodes(count);
     }
 
     /**
@@ -442,10 +688,150 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public void removeBook(Book book) {
         books.remove(book);
+        removeHoldsIfNoCopyLeft(book.getIsbn());
+        version++;
+    }
+
+    /**
+     * Removes the holds on {@code isbn} if no copy of the title is left in the registered book base.
+     */
+    private void removeHoldsIfNoCopyLeft(Isbn isbn) {
+        if (getBooksByIsbn(isbn).isEmpty()) {
+            holds.removeIsbn(isbn);
+            holdList = null;
+        }
+    }
+
+    //// hold-level operations
+
+    /**
+     * Returns true if {@code hold} has been placed.
+     *
+     * @param hold hold to be checked.
+     * @return true if {@code hold} has been placed, and false otherwise.
+     */
+    public boolean hasHold(Hold hold) {
+        requireNonNull(hold);
+        return holds.contains(hold);
+    }
+
+    /**
+     * Places {@code hold} at the back of the queue for its title.
+     * The hold must not already have been placed.
+     *
+     * @param hold hold to be placed.
+     */
+    public void addHold(Hold hold) {
+        holds.add(hold);
+        holdList = null;
+        version++;
+    }
+
+    /**
+     * Cancels {@code hold}, so that the reader no longer waits for the title.
+     * The hold must have been placed.
+     *
+     * @param hold hold to be cancelled.
+     */
+    public void removeHold(Hold hold) {
+        holds.remove(hold);
+        holdList = null;
+        version++;
+    }
+
+    /**
+     * Lends the book with the given barcode to the first reader holding its title who may borrow another book, as
+     * checked by {@link #canReaderBorrow(Name, int)}, and removes that reader's hold.
+     * Readers ahead of that reader who may not borrow now keep their place in the queue.
+     *
+     * @param barcode barcode of the book, which must exist in the book base.
+     * @return the borrow record of the book, or null if the book is on loan or no reader holding its title may
+     *     borrow it.
+     */
+    public Record lendToNextHolder(Barcode barcode) {
+        requireNonNull(barcode);
+        Book book = getBookByBarcode(barcode);
+        if (book == null || book.isBorrowed()) {
+            return null;
+        }
+        Hold hold = holds.pollFirst(book.getIsbn(), readerName -> canReaderBorrow(readerName, 1));
+        if (hold == null) {
+            return null;
+        }
+        holdList = null;
+        Record borrowRecord = new Record(book.getName(), barcode, hold.getReaderName(),
+                new DateBorrowed(LocalDateTime.now()));
+        borrowBooks(List.of(borrowRecord));
+        return borrowRecord;
+    }
+
+    /**
+     * Answers a search for books from the cache of recent results if an equivalent search was made since the data
+     * was last modified, and otherwise runs {@code search} and caches its result.
+     * Searches whose result depends on the current time are never cached.
+     *
+     * @param query the query to be answered.
+     * @param limit the maximum number of books to be retrieved, or 0 if there is no limit.
+     * @param search the search to be run if its result is not cached.
+     * @return list of Book objects found.
+     */
+    private ArrayList<Book> findBooksCached(BookQuery query, int limit, Supplier<ArrayList<Book>> search) {
+        if (query.dependsOnTime()) {
+            return search.get();
+        }
+        evictStaleResults();
+        List<Object> key = Arrays.asList(query.normalise(), limit);
+        List<Book> result = bookResults.get(key);
+        if (result == null) {
+            result = search.get();
+            bookResults.put(key, result);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Empties the caches of search results if the data has been modified since they were filled.
+     */
+    private void evictStaleResults() {
+        if (resultsVersion != version) {
+            bookResults.clear();
+            recordResults.clear();
+            resultsVersion = version;
+        }
+    }
+
+    /**
+     * Returns the number of search results currently cached.
+     *
+     * @return the number of search results currently cached.
+     */
+    int getCachedResultCount() {
+        evictStaleResults();
+        return bookResults.size() + recordResults.size();
     }
 
     //// util methods
 
+    /**
+     * Returns the version of the data held, which changes whenever the data is modified.
+     *
+     * @return the version of the data held.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a snapshot of the data currently held, which is unaffected by any later changes to this SmartLib.
+     * The snapshot shares structure with this SmartLib, so taking one costs constant time.
+     *
+     * @return a snapshot of the data currently held.
+     */
+    public ReadOnlySmartLib snapshot() {
+        return new SmartLibSnapshot(version, books.snapshot(), readers.snapshot(), records.snapshot(),
+                getHoldList(), getFineList());
+    }
+
     /**
      * Returns the current size of this SmartLib in String format.
      *
@@ -488,7 +874,35 @@ public class SmartLib implements ReadOnlySmartLib {
     }
 
     /**
-     * Checks if this SmartLib is equal to another SmartLib.
+     * Returns the holds in SmartLib.
+     * The list is computed again only after the holds have changed.
+     *
+     * @return the holds in SmartLib.
+     */
+    @Override
+    public List<Hold> getHoldList() {
+        if (holdList == null) {
+            holdList = Collections.unmodifiableList(holds.asList());
+        }
+        return holdList;
+    }
+
+    /**
+     * Returns the fines and payments in SmartLib.
+     * The list is computed again only after the fines have changed.
+     *
+     * @return the fines and payments in SmartLib.
+     */
+    @Override
+    public List<FineEntry> getFineList() {
+        if (fineList == null) {
+            fineList = Collections.unmodifiableList(fines.asList());
+        }
+        return fineList;
+    }
+
+    /**
+     * Checks if this SmartLib is equal to another SmartLib, or to a snapshot of one.
      *
      * @param other the other SmartLib to be compared.
      * @return true if this SmartLib is equal to the other SmartLib, and false otherwise.
@@ -496,8 +910,8 @@ public class SmartLib implements ReadOnlySmartLib {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof SmartLib // instanceof handles nulls
-                && readers.equals(((SmartLib) other).readers));
+                || (other instanceof ReadOnlySmartLib // instanceof handles nulls
+                && getReaderList().equals(((ReadOnlySmartLib) other).getReaderList()));
     }
 
     /**
@@ -533,14 +947,10 @@ public class SmartLib implements ReadOnlySmartLib {
         }
 
         if (canReaderBorrow(readerName) && !book.isBorrowed()) {
-            reader.getBorrows().put(book, new DateBorrowed(LocalDateTime.now()));
-            Reader editedReader = new Reader(reader.getName(), reader.getPhone(), reader.getEmail(),
-                    reader.getAddress(), reader.getTags(), reader.getBorrows());
-            Book editedBook = new Book(book.getName(), book.getAuthor(), book.getPublisher(),
-                    book.getIsbn(), book.getBarcode(), book.getGenre(),
-                    readerName, new DateBorrowed(LocalDateTime.now()));
-            setReader(reader, editedReader);
-            setBook(book, editedBook);
+            DateBorrowed dateBorrowed = new DateBorrowed(LocalDateTime.now());
+            readers.lendBook(readerName, book, dateBorrowed);
+            books.lendBook(barcode, readerName, dateBorrowed);
+            version++;
             return true;
         }
 
@@ -573,17 +983,75 @@ public class SmartLib implements ReadOnlySmartLib {
             return false;
         }
 
-        reader.getBorrows().remove(book);
-        Reader editedReader = new Reader(reader.getName(), reader.getPhone(), reader.getEmail(),
-                reader.getAddress(), reader.getTags(), reader.getBorrows());
-        Book editedBook = new Book(book.getName(), book.getAuthor(), book.getPublisher(), book.getIsbn(),
-                book.getBarcode(), book.getGenre());
-        setReader(reader, editedReader);
-        setBook(book, editedBook);
+        readers.returnBook(readerName, book);
+        books.returnBook(barcode);
+        version++;
 
         return true;
     }
 
+    /**
+     * Returns true if the book with the given barcode has a record which has not been returned yet.
+     *
+     * @param barcode barcode of the book.
+     * @return true if the book has an open record, and false otherwise.
+     */
+    public boolean hasOpenRecord(Barcode barcode) {
+        requireNonNull(barcode);
+        return records.getOpenRecord(barcode) != null;
+    }
+
+    /**
+     * Lends out the book of each of the given borrow records and adds the records, as a single change.
+     * Each record must name an existing reader and an existing book which is not borrowed, and the readers must be
+     * able to borrow all of the books named.
+     *
+     * @param borrowRecords the borrow records of the books to be lent out.
+     */
+    public void borrowBooks(List<Record> borrowRecords) {
+        requireNonNull(borrowRecords);
+        for (Record record : borrowRecords) {
+            Book book = getBookByBarcode(record.getBookBarcode());
+            assert book != null && !book.isBorrowed();
+            readers.lendBook(record.getReaderName(), book, record.getDateBorrowed());
+            books.lendBook(record.getBookBarcode(), record.getReaderName(), record.getDateBorrowed());
+            records.addRecord(record);
+        }
+        version++;
+    }
+
+    /**
+     * Takes back each of the books with the given barcodes and marks their open records as returned, as a single
+     * change. Each book must exist, be borrowed, and have an open record.
+     * Once every book has been returned, each one whose title is held is lent to the next holder, as by
+     * {@link #lendToNextHolder(Barcode)}.
+     *
+     * @param barcodes barcodes of the books to be returned.
+     * @param dateReturned the date on which the books were returned.
+     * @return the completed records of the books, in the order of {@code barcodes}.
+     */
+    public List<Record> returnBooks(List<Barcode> barcodes, DateReturned dateReturned) {
+        requireAllNonNull(barcodes, dateReturned);
+        List<Record> completedRecords = new ArrayList<>();
+        for (Barcode barcode : barcodes) {
+            Book book = getBookByBarcode(barcode);
+            Record openRecord = records.getOpenRecord(barcode);
+            assert book != null && book.isBorrowed() && openRecord != null;
+            readers.returnBook(book.getBorrowerName(), book);
+            books.returnBook(barcode);
+            Record completedRecord = new Record(openRecord.getBookName(), openRecord.getBookBarcode(),
+                    openRecord.getReaderName(), openRecord.getDateBorrowed(), dateReturned);
+            records.setRecord(openRecord, completedRecord);
+            chargeIfOverdue(completedRecord);
+            completedRecords.add(completedRecord);
+        }
+        for (Barcode barcode : barcodes) {
+            lendToNextHolder(barcode);
+        }
+        version++;
+        return completedRecords;
+    }
+
     /**
      * Mark the particular record returned in code base
      * Set Record to a new Record object with the dateReturned field filled
@@ -592,20 +1060,74 @@ public class SmartLib implements ReadOnlySmartLib {
      */
     public Record markRecordAsReturned(Record record) {
         assert record != null;
-        Record foundRecord = null;
-        for (Record r : this.getRecordList()) {
-            if (r.getBookBarcode().equals(record.getBookBarcode()) && !r.isReturned()) {
-                foundRecord = r;
-                break;
-            }
-        }
+        Record foundRecord = records.getOpenRecord(record.getBookBarcode());
         assert foundRecord != null;
         Record updatedRecord = new Record(foundRecord.getBookName(), foundRecord.getBookBarcode(),
                 foundRecord.getReaderName(), foundRecord.getDateBorrowed(),
                 record.getDateReturned());
         setRecord(foundRecord, updatedRecord);
+        chargeIfOverdue(updatedRecord);
 
         return updatedRecord;
     }
 
+    /**
+     * Charges the reader of a completed record a fine if the book was returned late.
+     * A book is late in the same way as in {@code ReturnCommand}, that is, if it was kept for more than the allowed
+     * number of whole hours.
+     */
+    private void chargeIfOverdue(Record completedRecord) {
+        if (completedRecord.getDateReturned() == null) {
+            return;
+        }
+        int overdueHours = (int) completedRecord.getBorrowDuration().toHours() - HOURS_BORROW_ALLOWED;
+        if (overdueHours <= 0) {
+            return;
+        }
+        long amountInCents = new Cost(overdueHours).getCostInCents();
+        if (amountInCents > 0) {
+            fines.add(FineEntry.charge(completedRecord.getReaderName(), amountInCents,
+                    completedRecord.getDateReturned().toString(), completedRecord.getBookBarcode()));
+            fineList = null;
+            version++;
+        }
+    }
+
+    //// fine-level operations
+
+    /**
+     * Returns the fines owed by the reader named {@code readerName}, less what the reader has paid.
+     *
+     * @param readerName name of the reader.
+     * @return the outstanding balance in cents.
+     */
+    public long getOutstandingFines(Name readerName) {
+        requireNonNull(readerName);
+        return fines.getBalance(readerName);
+    }
+
+    /**
+     * Returns the fines charged to and payments made by the reader named {@code readerName}, oldest first.
+     *
+     * @param readerName name of the reader.
+     * @return an unmodifiable list of the reader's fines and payments.
+     */
+    public List<FineEntry> getFineEntries(Name readerName) {
+        requireNonNull(readerName);
+        return fines.getEntries(readerName);
+    }
+
+    /**
+     * Records a payment towards a reader's fines.
+     *
+     * @param payment the payment, which must not exceed the reader's outstanding fines.
+     */
+    public void addFinePayment(FineEntry payment) {
+        requireNonNull(payment);
+        assert payment.isPayment() && -payment.getAmountInCents() <= fines.getBalance(payment.getReaderName());
+        fines.add(payment);
+        fineList = null;
+        version++;
+    }
+
 }
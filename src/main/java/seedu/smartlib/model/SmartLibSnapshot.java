@@ -0,0 +1,148 @@
+package seedu.smartlib.model;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.smartlib.commons.util.PersistentVector;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
+import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.record.Record;
+
+/**
+ * An immutable view of the data held by a {@code SmartLib} at one point in time.
+ * The snapshot shares structure with the SmartLib it was taken from, so taking one costs constant time, and later
+ * changes to that SmartLib are not visible through it.
+ */
+class SmartLibSnapshot implements ReadOnlySmartLib {
+
+    private final long version;
+    private final ObservableList<Book> books;
+    private final ObservableList<Reader> readers;
+    private final ObservableList<Record> records;
+    private final List<Hold> holds;
+    private final List<FineEntry> fines;
+
+    /**
+     * Creates a SmartLibSnapshot of the given contents.
+     *
+     * @param version version of the SmartLib when the snapshot was taken.
+     * @param books books held at that time.
+     * @param readers readers held at that time.
+     * @param records records held at that time.
+     * @param holds holds placed at that time, in a list which is never modified.
+     * @param fines fines and payments made by that time, in a list which is never modified.
+     */
+    SmartLibSnapshot(long version, PersistentVector<Book> books, PersistentVector<Reader> readers,
+                     PersistentVector<Record> records, List<Hold> holds, List<FineEntry> fines) {
+        requireAllNonNull(books, readers, records, holds, fines);
+        this.version = version;
+        this.books = FXCollections.unmodifiableObservableList(FXCollections.observableList(books.asList()));
+        this.readers = FXCollections.unmodifiableObservableList(FXCollections.observableList(readers.asList()));
+        this.records = FXCollections.unmodifiableObservableList(FXCollections.observableList(records.asList()));
+        this.holds = holds;
+        this.fines = fines;
+    }
+
+    /**
+     * Returns the version of the SmartLib when this snapshot was taken.
+     *
+     * @return the version of the SmartLib when this snapshot was taken.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the list of books in this snapshot.
+     *
+     * @return the list of books in this snapshot.
+     */
+    @Override
+    public ObservableList<Book> getBookList() {
+        return books;
+    }
+
+    /**
+     * Returns the list of readers in this snapshot.
+     *
+     * @return the list of readers in this snapshot.
+     */
+    @Override
+    public ObservableList<Reader> getReaderList() {
+        return readers;
+    }
+
+    /**
+     * Returns the list of records in this snapshot.
+     *
+     * @return the list of records in this snapshot.
+     */
+    @Override
+    public ObservableList<Record> getRecordList() {
+        return records;
+    }
+
+    /**
+     * Returns the holds in this snapshot.
+     *
+     * @return the holds in this snapshot.
+     */
+    @Override
+    public List<Hold> getHoldList() {
+        return holds;
+    }
+
+    /**
+     * Returns the fines and payments in this snapshot.
+     *
+     * @return the fines and payments in this snapshot.
+     */
+    @Override
+    public List<FineEntry> getFineList() {
+        return fines;
+    }
+
+    /**
+     * Checks if this snapshot is equal to another ReadOnlySmartLib, in the same way as {@link SmartLib#equals(Object)}.
+     *
+     * @param other the other ReadOnlySmartLib to be compared.
+     * @return true if this snapshot is equal to the other ReadOnlySmartLib, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReadOnlySmartLib // instanceof handles nulls
+                && readers.equals(((ReadOnlySmartLib) other).getReaderList()));
+    }
+
+    /**
+     * Generates a hashcode for this snapshot, in the same way as {@link SmartLib#hashCode()}.
+     *
+     * @return the hashcode for this snapshot.
+     */
+    @Override
+    public int hashCode() {
+        ArrayList<Integer> listOfHashCodes = new ArrayList<>();
+        listOfHashCodes.add(books.hashCode());
+        listOfHashCodes.add(readers.hashCode());
+        listOfHashCodes.add(records.hashCode());
+        return listOfHashCodes.hashCode();
+    }
+
+    /**
+     * Returns the current size of this snapshot in String format.
+     *
+     * @return the current size of this snapshot in String format.
+     */
+    @Override
+    public String toString() {
+        return readers.size() + " readers" + "\n" + records.size() + " records";
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.smartlib.model.book;
+
+/**
+ * Represents how many copies of a title SmartLib holds, and how many of them are not on loan.
+ * Guarantees: immutable; the number of available copies is between 0 and the number of copies.
+ */
+public class Availability {
+
+    public static final Availability NONE = new Availability(0, 0);
+
+    private final int availableCopies;
+    private final int totalCopies;
+
+    /**
+     * Constructs an {@code Availability}.
+     *
+     * @param availableCopies number of copies which are not on loan.
+     * @param totalCopies number of copies held.
+     */
+    public Availability(int availableCopies, int totalCopies) {
+        assert 0 <= availableCopies && availableCopies <= totalCopies;
+        this.availableCopies = availableCopies;
+        this.totalCopies = totalCopies;
+    }
+
+    /**
+     * Returns the number of copies which are not on loan.
+     *
+     * @return the number of copies which are not on loan.
+     */
+    public int getAvailableCopies() {
+        return availableCopies;
+    }
+
+    /**
+     * Returns the number of copies held.
+     *
+     * @return the number of copies held.
+     */
+    public int getTotalCopies() {
+        return totalCopies;
+    }
+
+    /**
+     * Returns true if at least one copy is not on loan.
+     *
+     * @return true if at least one copy is not on loan, and false otherwise.
+     */
+    public boolean hasAvailableCopy() {
+        return availableCopies > 0;
+    }
+
+    /**
+     * Returns this Availability in String format.
+     *
+     * @return this Availability in String format.
+     */
+    @Override
+    public String toString() {
+        return availableCopies + " of " + totalCopies + " copies available";
+    }
+
+    /**
+     * Checks if this Availability is equal to another Availability.
+     *
+     * @param other the other Availability to be compared.
+     * @return true if this Availability is equal to the other Availability, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Availability // instanceof handles nulls
+                && availableCopies == ((Availability) other).availableCopies
+                && totalCopies == ((Availability) other).totalCopies); // state check
+    }
+
+    /**
+     * Generates a hashcode for this Availability.
+     *
+     * @return the hashcode for this Availability.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * availableCopies + totalCopies;
+    }
+
+}
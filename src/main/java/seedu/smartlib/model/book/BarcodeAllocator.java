@@ -0,0 +1,128 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.smartlib.commons.util.SparseBitSet;
+
+/**
+ * Hands out barcodes which are not used by any book.
+ * The barcodes in use are tracked in a sparse bitmap over the range from {@link Barcode#MIN_VALUE} to
+ * {@link Barcode#MAX_VALUE}, so checking whether a barcode is free takes constant time, however large the catalogue.
+ * Barcodes are still picked at random, and since the range is far larger than any catalogue, a pick is almost always
+ * free, which makes handing out a barcode take constant expected time.
+ *
+ * The owner of the allocator must report every barcode which comes into or goes out of use.
+ */
+public class BarcodeAllocator {
+
+    private static final int RANGE = Barcode.MAX_VALUE - Barcode.MIN_VALUE + 1;
+
+    private final SparseBitSet used = new SparseBitSet();
+    private final Random random;
+
+    /**
+     * Creates a BarcodeAllocator with no barcodes in use.
+     */
+    public BarcodeAllocator() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a BarcodeAllocator with no barcodes in use, which picks barcodes with {@code random}.
+     *
+     * @param random the source of the barcodes picked.
+     */
+    BarcodeAllocator(Random random) {
+        requireNonNull(random);
+        this.random = random;
+    }
+
+    /**
+     * Records that {@code barcode} is used by a book. The temporary barcode is ignored.
+     *
+     * @param barcode the barcode.
+     */
+    public void markUsed(Barcode barcode) {
+        requireNonNull(barcode);
+        if (barcode.getValue() != Barcode.TEMP_BARCODE_VALUE) {
+            used.set(offsetOf(barcode));
+        }
+    }
+
+    /**
+     * Records that {@code barcode} is no longer used by any book. The temporary barcode is ignored.
+     *
+     * @param barcode the barcode.
+     */
+    public void markUnused(Barcode barcode) {
+        requireNonNull(barcode);
+        if (barcode.getValue() != Barcode.TEMP_BARCODE_VALUE) {
+            used.clear(offsetOf(barcode));
+        }
+    }
+
+    /**
+     * Records that no barcode is used.
+     */
+    public void clear() {
+        used.clear();
+    }
+
+    /**
+     * Returns true if {@code barcode} is used by a book.
+     *
+     * @param barcode the barcode.
+     * @return true if {@code barcode} is used by a book, and false otherwise.
+     */
+    public boolean isUsed(Barcode barcode) {
+        requireNonNull(barcode);
+        return barcode.getValue() != Barcode.TEMP_BARCODE_VALUE && used.get(offsetOf(barcode));
+    }
+
+    /**
+     * Returns a barcode which is not used by any book.
+     * The barcode is not marked as used until a book with it is reported.
+     *
+     * @return the unused barcode.
+     */
+    public Barcode allocate() {
+        return allocateBlock(1).get(0);
+    }
+
+    /**
+     * Returns {@code count} consecutive barcodes, none of which is used by any book.
+     * Keeping the barcodes of a bulk import together also keeps them within a few blocks of the bitmap.
+     * The barcodes are not marked as used until books with them are reported.
+     *
+     * @param count the number of barcodes needed, which must not be negative.
+     * @return the unused barcodes, in increasing order.
+     */
+    public List<Barcode> allocateBlock(int count) {
+        checkArgument(count >= 0 && count <= RANGE - used.size(), "Cannot allocate " + count + " barcodes.");
+        List<Barcode> barcodes = new ArrayList<>(count);
+        if (count == 0) {
+            return barcodes;
+        }
+        int start;
+        do {
+            start = random.nextInt(RANGE - count + 1);
+        } while (!used.isClear(start, start + count));
+        for (int i = 0; i < count; i++) {
+            barcodes.add(new Barcode(Barcode.MIN_VALUE + start + i));
+        }
+        return barcodes;
+    }
+
+    /**
+     * Returns the position of {@code barcode} in the bitmap.
+     */
+    private static int offsetOf(Barcode barcode) {
+        return barcode.getValue() - Barcode.MIN_VALUE;
+    }
+
+}
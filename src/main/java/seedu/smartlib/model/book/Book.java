@@ -6,6 +6,7 @@ import static seedu.smartlib.model.SmartLib.HOURS_BORROW_ALLOWED;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.model.record.DateBorrowed;
@@ -30,6 +31,9 @@ public class Book {
     private final Barcode barcode;
     private final DateBorrowed dateBorrowed;
 
+    // lower-case words of the searchable fields, computed on first use
+    private BookWords words;
+
     /**
      * Constructor for the Book class.
      * Every field must be present and not null.
@@ -150,6 +154,15 @@ public class Book {
         return barcode;
     }
 
+    /**
+     * Gets the integer value of the book's barcode, which is used as the key of the book in loan indexes.
+     *
+     * @return id of the book.
+     */
+    public int getId() {
+        return barcode.getValue();
+    }
+
     /**
      * Returns the borrow date of the book.
      *
@@ -159,6 +172,53 @@ public class Book {
         return dateBorrowed;
     }
 
+    /**
+     * Returns a copy of this book which is borrowed by {@code borrowerName}.
+     *
+     * @param borrowerName name of the reader who borrowed the book.
+     * @param dateBorrowed the date on which the book was borrowed.
+     * @return a copy of this book which is borrowed by {@code borrowerName}.
+     */
+    public Book withLoan(Name borrowerName, DateBorrowed dateBorrowed) {
+        requireAllNonNull(borrowerName, dateBorrowed);
+        Book copy = new Book(name, author, publisher, isbn, barcode, genre, borrowerName, dateBorrowed);
+        copy.words = words;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this book which is not borrowed by any reader.
+     *
+     * @return a copy of this book which is not borrowed by any reader.
+     */
+    public Book withoutLoan() {
+        Book copy = new Book(name, author, publisher, isbn, barcode, genre);
+        copy.words = words;
+        return copy;
+    }
+
+    /**
+     * Returns the distinct words of the book's title, author, publisher, genre and ISBN, in lower case.
+     * The words are computed once and then kept, so that keyword searches only need to look each keyword up.
+     *
+     * @return an unmodifiable set of the lower-case words of the book's searchable fields.
+     */
+    public Set<String> getSearchWords() {
+        return getWords().getAll();
+    }
+
+    /**
+     * Returns the lower-case words of each of the book's searchable fields, computing them on first use.
+     *
+     * @return the words of the book's searchable fields.
+     */
+    BookWords getWords() {
+        if (words == null) {
+            words = new BookWords(this);
+        }
+        return words;
+    }
+
     /**
      * Returns true if both books have the same name and barcode.
      * This defines a weaker notion of equality between two books.
@@ -225,7 +285,7 @@ public class Book {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, author, publisher, isbn);
+        return Objects.hash(name, author, publisher, isbn, barcode);
     }
 
     /**
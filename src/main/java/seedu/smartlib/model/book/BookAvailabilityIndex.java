@@ -0,0 +1,91 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * Counts the copies of each title, and keeps the barcodes of the copies which are not on loan in a free list.
+ * The owner must report every book which is added to or removed from its list, and a change to a book, such as a
+ * loan or a return, as the removal of the old book followed by the addition of the new one. Every operation then
+ * takes constant time, however many copies a title has.
+ */
+class BookAvailabilityIndex {
+
+    private final Map<Name, Copies> titles = new HashMap<>();
+
+    /**
+     * Counts {@code book} as a copy of its title, which is available unless it is on loan.
+     *
+     * @param book the book added.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        Copies copies = titles.computeIfAbsent(book.getName(), unused -> new Copies());
+        copies.total++;
+        if (!book.isBorrowed()) {
+            copies.available.add(book.getBarcode());
+        }
+    }
+
+    /**
+     * Stops counting {@code book} as a copy of its title.
+     *
+     * @param book the book removed, which must have been added.
+     */
+    void remove(Book book) {
+        requireNonNull(book);
+        Copies copies = titles.get(book.getName());
+        assert copies != null;
+        copies.total--;
+        copies.available.remove(book.getBarcode());
+        if (copies.total == 0) {
+            titles.remove(book.getName());
+        }
+    }
+
+    /**
+     * Forgets every book.
+     */
+    void clear() {
+        titles.clear();
+    }
+
+    /**
+     * Returns the number of copies of the title {@code name}, and how many of them are available.
+     *
+     * @param name the title.
+     * @return the availability of the title.
+     */
+    Availability getAvailability(Name name) {
+        requireNonNull(name);
+        Copies copies = titles.get(name);
+        return copies == null ? Availability.NONE : new Availability(copies.available.size(), copies.total);
+    }
+
+    /**
+     * Returns the barcode of the copy of the title {@code name} which has been available the longest.
+     *
+     * @param name the title.
+     * @return the barcode of an available copy, or null if no copy is available.
+     */
+    Barcode getFirstAvailableBarcode(Name name) {
+        requireNonNull(name);
+        Copies copies = titles.get(name);
+        return copies == null || copies.available.isEmpty() ? null : copies.available.iterator().next();
+    }
+
+    /**
+     * The copies of one title.
+     */
+    private static class Copies {
+        private int total;
+        // in the order in which the copies became available
+        private final LinkedHashSet<Barcode> available = new LinkedHashSet<>();
+    }
+
+}
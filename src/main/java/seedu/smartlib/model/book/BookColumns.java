@@ -0,0 +1,369 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.model.SmartLib.HOURS_BORROW_ALLOWED;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A column-oriented (struct-of-arrays) mirror of the books held in a {@code UniqueBookList}.
+ * Row i of every column describes the book at position i of the list. Titles, authors, publishers, genres and
+ * ISBNs are dictionary-encoded, so that catalogue scans compare ints in primitive arrays instead of walking one
+ * {@code Book} object graph per copy.
+ *
+ * The low-cardinality attributes, genre and loan state, are also held as bitmaps over rows: one for each genre and
+ * one for the borrowed books. Filters on them are then answered by combining whole words of bits rather than by
+ * testing each row.
+ */
+class BookColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long SECONDS_PER_HOUR = 3600L;
+
+    private final Dictionary titles = new Dictionary();
+    private final Dictionary authors = new Dictionary();
+    private final Dictionary publishers = new Dictionary();
+    private final Dictionary genres = new Dictionary();
+    private final Dictionary isbns = new Dictionary();
+
+    private int size;
+    private int[] titleIds = new int[INITIAL_CAPACITY];
+    private int[] authorIds = new int[INITIAL_CAPACITY];
+    private int[] publisherIds = new int[INITIAL_CAPACITY];
+    private int[] genreIds = new int[INITIAL_CAPACITY];
+    private int[] isbnIds = new int[INITIAL_CAPACITY];
+    // epoch second (taken as UTC) at which the book was borrowed, only meaningful for borrowed rows
+    private long[] borrowedAt = new long[INITIAL_CAPACITY];
+    private final BitSet borrowed = new BitSet();
+    // rows holding each genre, indexed by genre id
+    private final List<BitSet> genreRows = new ArrayList<>();
+    // lower-case words of each genre, indexed by genre id
+    private final List<List<String>> genreWords = new ArrayList<>();
+
+    /**
+     * Returns the number of rows in this table.
+     *
+     * @return the number of rows in this table.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends a row describing {@code book}.
+     *
+     * @param book the book to be appended.
+     */
+    void add(Book book) {
+        requireNonNull(book);
+        ensureCapacity(size + 1);
+        write(size, book);
+        size++;
+    }
+
+    /**
+     * Overwrites row {@code row} with the details of {@code book}.
+     *
+     * @param row the row to be overwritten.
+     * @param book the new book.
+     */
+    void set(int row, Book book) {
+        requireNonNull(book);
+        checkRow(row);
+        genreRows.get(genreIds[row]).clear(row);
+        write(row, book);
+    }
+
+    /**
+     * Updates only the loan columns of row {@code row}, leaving the catalogue columns untouched.
+     *
+     * @param row the row to be updated.
+     * @param book the book at {@code row}, whose loan state has changed.
+     */
+    void setLoan(int row, Book book) {
+        requireNonNull(book);
+        checkRow(row);
+        writeLoan(row, book);
+    }
+
+    /**
+     * Removes row {@code row}, shifting all subsequent rows up by one.
+     *
+     * @param row the row to be removed.
+     */
+    void remove(int row) {
+        checkRow(row);
+        int moved = size - row - 1;
+        System.arraycopy(titleIds, row + 1, titleIds, row, moved);
+        System.arraycopy(authorIds, row + 1, authorIds, row, moved);
+        System.arraycopy(publisherIds, row + 1, publisherIds, row, moved);
+        System.arraycopy(genreIds, row + 1, genreIds, row, moved);
+        System.arraycopy(isbnIds, row + 1, isbnIds, row, moved);
+        System.arraycopy(borrowedAt, row + 1, borrowedAt, row, moved);
+
+        removeBit(borrowed, row);
+        for (BitSet rows : genreRows) {
+            removeBit(rows, row);
+        }
+        size--;
+    }
+
+    /**
+     * Replaces all rows with rows describing {@code books}, in order.
+     *
+     * @param books the new books.
+     */
+    void setAll(List<Book> books) {
+        requireNonNull(books);
+        size = 0;
+        borrowed.clear();
+        genreRows.clear();
+        genreWords.clear();
+        titles.clear();
+        authors.clear();
+        publishers.clear();
+        genres.clear();
+        isbns.clear();
+        ensureCapacity(books.size());
+        for (Book book : books) {
+            write(size, book);
+            size++;
+        }
+    }
+
+    /**
+     * Returns the number of borrowed books.
+     *
+     * @return the number of borrowed books.
+     */
+    int countBorrowed() {
+        return borrowed.get(0, size).cardinality();
+    }
+
+    /**
+     * Returns true if the book at {@code row} is borrowed.
+     *
+     * @param row the row to be checked.
+     * @return true if the book at {@code row} is borrowed, and false otherwise.
+     */
+    boolean isBorrowed(int row) {
+        checkRow(row);
+        return borrowed.get(row);
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books which are borrowed, or of all books which are not.
+     *
+     * @param isBorrowed whether the borrowed or the available books are to be marked.
+     * @return a new bitmap marking the rows of all books in the given loan state.
+     */
+    BitSet loanBitmap(boolean isBorrowed) {
+        BitSet rows = borrowed.get(0, size);
+        if (!isBorrowed) {
+            rows.flip(0, size);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books with a genre accepted by {@code genreMatcher}.
+     * The matcher is evaluated once per distinct genre, and the bitmaps of the accepted genres are combined.
+     *
+     * @param genreMatcher a test on the lower-case words of a genre.
+     * @return a new bitmap marking the rows of all books with an accepted genre.
+     */
+    BitSet genreBitmap(Predicate<List<String>> genreMatcher) {
+        requireNonNull(genreMatcher);
+        BitSet rows = new BitSet(size);
+        for (int id = 0; id < genreWords.size(); id++) {
+            if (genreMatcher.test(genreWords.get(id))) {
+                rows.or(genreRows.get(id));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books which have been borrowed for longer than allowed as of {@code now}.
+     *
+     * @param now the current time.
+     * @return a new bitmap marking the rows of all overdue books.
+     */
+    BitSet overdueBitmap(LocalDateTime now) {
+        BitSet rows = new BitSet(size);
+        for (int row : overdueRows(now)) {
+            rows.set(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows of all books with the given title, in order.
+     *
+     * @param title the title to be searched for.
+     * @return the rows of all books with the given title.
+     */
+    List<Integer> rowsWithTitle(String title) {
+        return rowsWithId(titleIds, titles.lookup(title));
+    }
+
+    /**
+     * Returns the rows of all books with the given ISBN, in order.
+     *
+     * @param isbn the ISBN to be searched for.
+     * @return the rows of all books with the given ISBN.
+     */
+    List<Integer> rowsWithIsbn(String isbn) {
+        return rowsWithId(isbnIds, isbns.lookup(isbn));
+    }
+
+    /**
+     * Returns the rows of all books which have been borrowed for longer than allowed as of {@code now}, in order.
+     *
+     * @param now the current time.
+     * @return the rows of all overdue books.
+     */
+    List<Integer> overdueRows(LocalDateTime now) {
+        requireNonNull(now);
+        long nowSeconds = toEpochSecond(now);
+        List<Integer> rows = new ArrayList<>();
+        for (int row = borrowed.nextSetBit(0); row >= 0 && row < size; row = borrowed.nextSetBit(row + 1)) {
+            if ((nowSeconds - borrowedAt[row]) / SECONDS_PER_HOUR > HOURS_BORROW_ALLOWED) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns all rows of {@code column} holding {@code id}, in order.
+     */
+    private List<Integer> rowsWithId(int[] column, int id) {
+        List<Integer> rows = new ArrayList<>();
+        if (id < 0) {
+            return rows;
+        }
+        for (int row = 0; row < size; row++) {
+            if (column[row] == id) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Writes the details of {@code book} into row {@code row} of every column.
+     */
+    private void write(int row, Book book) {
+        titleIds[row] = titles.encode(book.getName().toString());
+        authorIds[row] = authors.encode(book.getAuthor().toString());
+        publisherIds[row] = publishers.encode(book.getPublisher().toString());
+        genreIds[row] = genres.encode(book.getGenre().toString());
+        while (genreRows.size() <= genreIds[row]) {
+            genreRows.add(new BitSet());
+            genreWords.add(book.getWords().getGenre());
+        }
+        genreRows.get(genreIds[row]).set(row);
+        isbnIds[row] = isbns.encode(book.getIsbn().toString());
+        writeLoan(row, book);
+    }
+
+    /**
+     * Writes the loan state of {@code book} into row {@code row}.
+     */
+    private void writeLoan(int row, Book book) {
+        if (book.isBorrowed() && book.getDateBorrowed() != null) {
+            borrowed.set(row);
+            borrowedAt[row] = toEpochSecond(book.getDateBorrowed().getDateTime());
+        } else {
+            borrowed.clear(row);
+            borrowedAt[row] = 0L;
+        }
+    }
+
+    /**
+     * Grows every column so that it can hold at least {@code capacity} rows.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= titleIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, titleIds.length * 2);
+        titleIds = Arrays.copyOf(titleIds, newCapacity);
+        authorIds = Arrays.copyOf(authorIds, newCapacity);
+        publisherIds = Arrays.copyOf(publisherIds, newCapacity);
+        genreIds = Arrays.copyOf(genreIds, newCapacity);
+        isbnIds = Arrays.copyOf(isbnIds, newCapacity);
+        borrowedAt = Arrays.copyOf(borrowedAt, newCapacity);
+    }
+
+    /**
+     * Removes bit {@code row} from {@code bits}, shifting all subsequent bits of the table down by one.
+     */
+    private void removeBit(BitSet bits, int row) {
+        BitSet tail = bits.get(row + 1, size);
+        bits.clear(row, size);
+        for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+            bits.set(row + i);
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for size " + size);
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Maps each distinct String value of a column to a dense int id.
+     * Ids are never reused, so a row's id stays valid even after other rows holding the same value are removed.
+     */
+    private static class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * Returns the id of {@code value}, assigning a new id if the value has not been seen before.
+         */
+        int encode(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        /**
+         * Returns the id of {@code value}, or -1 if the value has never been encoded.
+         */
+        int lookup(String value) {
+            Integer id = ids.get(value);
+            return id == null ? -1 : id;
+        }
+
+        /**
+         * Forgets all values and ids.
+         */
+        void clear() {
+            ids.clear();
+            values.clear();
+        }
+
+    }
+
+}
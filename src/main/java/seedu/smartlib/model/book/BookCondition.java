@@ -0,0 +1,486 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.StringUtil;
+
+/**
+ * A single condition of a {@link BookQuery}.
+ * Besides testing a book, a condition can estimate how many books an index of {@link UniqueBookList} would offer as
+ * candidates for it, and list those candidates, so that a query can be answered from the index of its most
+ * selective condition. The candidates of a condition always include every book satisfying it.
+ * Conditions on low-cardinality attributes, such as genre and loan state, can instead give the exact set of matching
+ * rows as a bitmap, so that several of them are combined by bitwise operations without testing any book.
+ */
+abstract class BookCondition {
+
+    /**
+     * Tests if {@code book} satisfies this condition.
+     *
+     * @param book the book to be tested.
+     * @return true if the book satisfies this condition, and false otherwise.
+     */
+    abstract boolean test(Book book);
+
+    /**
+     * Returns the number of candidates {@link #candidateRows(UniqueBookList)} would return for {@code books}.
+     *
+     * @param books the books to be searched.
+     * @return the number of candidate rows.
+     */
+    abstract int estimate(UniqueBookList books);
+
+    /**
+     * Returns the rows of {@code books} which may satisfy this condition, in ascending order.
+     *
+     * @param books the books to be searched.
+     * @return the candidate rows.
+     */
+    abstract List<Integer> candidateRows(UniqueBookList books);
+
+    /**
+     * Returns a bitmap of exactly the rows of {@code books} which satisfy this condition, or null if this condition
+     * is not answered by a bitmap index.
+     *
+     * @param books the books to be searched.
+     * @return a new bitmap of the matching rows, or null.
+     */
+    BitSet matchingRows(UniqueBookList books) {
+        return null;
+    }
+
+    /**
+     * Returns an equivalent condition in canonical form, so that conditions which match the same books for the same
+     * reason compare equal regardless of, for example, the case and order of their words.
+     *
+     * @return the condition in canonical form.
+     */
+    BookCondition normalise() {
+        return this;
+    }
+
+    /**
+     * Returns true if whether a book satisfies this condition may change over time even though the book does not.
+     *
+     * @return true if this condition depends on the current time, and false otherwise.
+     */
+    boolean dependsOnTime() {
+        return false;
+    }
+
+    /**
+     * Returns the distinct normalised forms of {@code words}, in sorted order.
+     *
+     * @param words the words.
+     * @return the normalised words.
+     */
+    private static List<String> normaliseWords(List<String> words) {
+        TreeSet<String> normalised = new TreeSet<>();
+        for (String word : words) {
+            normalised.add(BookTokenIndex.normalise(word));
+        }
+        return new ArrayList<>(normalised);
+    }
+
+    /**
+     * Matches books with a title, author, publisher, genre or ISBN containing any of the given words.
+     * Candidates are taken from the word index.
+     */
+    static class AnyWord extends BookCondition {
+
+        private final List<String> keywords;
+        // the keywords in the form held by Book#getSearchWords()
+        private final List<String> searchKeywords;
+
+        AnyWord(List<String> keywords) {
+            requireNonNull(keywords);
+            this.keywords = new ArrayList<>(keywords);
+            this.searchKeywords = StringUtil.keywordsIgnoreCase(keywords);
+        }
+
+        List<String> getKeywords() {
+            return keywords;
+        }
+
+        @Override
+        boolean test(Book book) {
+            Set<String> tokens = BookTokenIndex.tokensOf(book);
+            for (String keyword : searchKeywords) {
+                if (tokens.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            int estimate = 0;
+            for (String keyword : keywords) {
+                estimate += books.countWithWord(keyword);
+            }
+            return estimate;
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithAnyWord(keywords);
+        }
+
+        @Override
+        BookCondition normalise() {
+            return new AnyWord(normaliseWords(keywords));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof AnyWord // instanceof handles nulls
+                    && keywords.equals(((AnyWord) other).keywords)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return keywords.hashCode();
+        }
+
+    }
+
+    /**
+     * Matches books with a given field containing all of the given words.
+     * Candidates are the books containing the rarest of the words, according to the word index.
+     */
+    static class FieldWords extends BookCondition {
+
+        private final String fieldName;
+        private final Function<BookWords, List<String>> field;
+        private final List<String> words;
+        // the words in the form held by BookWords
+        private final List<String> searchWords;
+
+        FieldWords(String fieldName, Function<BookWords, List<String>> field, List<String> words) {
+            requireAllNonNull(fieldName, field, words);
+            this.fieldName = fieldName;
+            this.field = field;
+            this.words = new ArrayList<>(words);
+            this.searchWords = StringUtil.keywordsIgnoreCase(words);
+        }
+
+        List<String> getWords() {
+            return words;
+        }
+
+        @Override
+        boolean test(Book book) {
+            return matchesWords(field.apply(book.getWords()));
+        }
+
+        /**
+         * Returns true if {@code valueWords}, the lower-case words of a field, include all of the words of this
+         * condition.
+         */
+        boolean matchesWords(List<String> valueWords) {
+            for (String word : searchWords) {
+                if (!valueWords.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            String rarest = rarestWord(books);
+            return rarest == null ? books.size() : books.countWithWord(rarest);
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            String rarest = rarestWord(books);
+            return rarest == null ? books.allRows() : books.rowsWithAnyWord(List.of(rarest));
+        }
+
+        @Override
+        BookCondition normalise() {
+            return new FieldWords(fieldName, field, normaliseWords(words));
+        }
+
+        private String rarestWord(UniqueBookList books) {
+            String rarest = null;
+            for (String word : words) {
+                if (rarest == null || books.countWithWord(word) < books.countWithWord(rarest)) {
+                    rarest = word;
+                }
+            }
+            return rarest;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FieldWords // instanceof handles nulls
+                    && fieldName.equals(((FieldWords) other).fieldName)
+                    && words.equals(((FieldWords) other).words)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fieldName, words);
+        }
+
+    }
+
+    /**
+     * Matches books with a genre containing all of the given words. The matching rows are found in the genre bitmaps.
+     */
+    static class GenreWords extends FieldWords {
+
+        GenreWords(List<String> words) {
+            super("genre", BookWords::getGenre, words);
+        }
+
+        @Override
+        BitSet matchingRows(UniqueBookList books) {
+            return books.genreBitmap(this::matchesWords);
+        }
+
+        @Override
+        BookCondition normalise() {
+            return new GenreWords(normaliseWords(getWords()));
+        }
+
+    }
+
+    /**
+     * Matches books with the given barcode. Candidates are found in the barcode index.
+     */
+    static class HasBarcode extends BookCondition {
+
+        private final Barcode barcode;
+
+        HasBarcode(Barcode barcode) {
+            requireNonNull(barcode);
+            this.barcode = barcode;
+        }
+
+        @Override
+        boolean test(Book book) {
+            return book.getBarcode().equals(barcode);
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            // barcodes identify a single copy
+            return 1;
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithBarcode(barcode);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof HasBarcode // instanceof handles nulls
+                    && barcode.equals(((HasBarcode) other).barcode)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return barcode.hashCode();
+        }
+
+    }
+
+    /**
+     * Matches books which are, or are not, borrowed. Candidates are found in the loan bitmap.
+     */
+    static class IsBorrowed extends BookCondition {
+
+        private final boolean isBorrowed;
+
+        IsBorrowed(boolean isBorrowed) {
+            this.isBorrowed = isBorrowed;
+        }
+
+        @Override
+        boolean test(Book book) {
+            return book.isBorrowed() == isBorrowed;
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            return isBorrowed ? books.countBorrowed() : books.size() - books.countBorrowed();
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithLoanState(isBorrowed);
+        }
+
+        @Override
+        BitSet matchingRows(UniqueBookList books) {
+            return books.loanBitmap(isBorrowed);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IsBorrowed // instanceof handles nulls
+                    && isBorrowed == ((IsBorrowed) other).isBorrowed); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Boolean.hashCode(isBorrowed);
+        }
+
+    }
+
+    /**
+     * Matches books which are overdue at the time the condition is evaluated. The matching rows are found from the
+     * loan bitmap and the borrowing times of the borrowed books.
+     */
+    static class IsOverdue extends BookCondition {
+
+        @Override
+        boolean test(Book book) {
+            return book.isOverdue();
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            return books.countBorrowed();
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithLoanState(true);
+        }
+
+        @Override
+        BitSet matchingRows(UniqueBookList books) {
+            return books.overdueBitmap(LocalDateTime.now());
+        }
+
+        @Override
+        boolean dependsOnTime() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || other instanceof IsOverdue; // instanceof handles nulls
+        }
+
+        @Override
+        public int hashCode() {
+            return IsOverdue.class.hashCode();
+        }
+
+    }
+
+    /**
+     * Matches books borrowed by the given reader. Candidates are the borrowed books.
+     */
+    static class BorrowedBy extends BookCondition {
+
+        private final Name readerName;
+
+        BorrowedBy(Name readerName) {
+            requireNonNull(readerName);
+            this.readerName = readerName;
+        }
+
+        @Override
+        boolean test(Book book) {
+            return readerName.equals(book.getBorrowerName());
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            return books.countBorrowed();
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithLoanState(true);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof BorrowedBy // instanceof handles nulls
+                    && readerName.equals(((BorrowedBy) other).readerName)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return readerName.hashCode();
+        }
+
+    }
+
+    /**
+     * Matches books borrowed on or after one date and on or before another, either of which may be left open.
+     * Candidates are the borrowed books.
+     */
+    static class BorrowedBetween extends BookCondition {
+
+        private final LocalDate from;
+        private final LocalDate to;
+
+        BorrowedBetween(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        boolean test(Book book) {
+            if (!book.isBorrowed() || book.getDateBorrowed() == null) {
+                return false;
+            }
+            LocalDate dateBorrowed = book.getDateBorrowed().getDateTime().toLocalDate();
+            return (from == null || !dateBorrowed.isBefore(from)) && (to == null || !dateBorrowed.isAfter(to));
+        }
+
+        @Override
+        int estimate(UniqueBookList books) {
+            return books.countBorrowed();
+        }
+
+        @Override
+        List<Integer> candidateRows(UniqueBookList books) {
+            return books.rowsWithLoanState(true);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof BorrowedBetween // instanceof handles nulls
+                    && Objects.equals(from, ((BorrowedBetween) other).from)
+                    && Objects.equals(to, ((BorrowedBetween) other).to)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to);
+        }
+
+    }
+
+}
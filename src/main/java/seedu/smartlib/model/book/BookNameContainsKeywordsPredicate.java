@@ -1,7 +1,8 @@
 package seedu.smartlib.model.book;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.smartlib.commons.util.StringUtil;
@@ -12,6 +13,8 @@ import seedu.smartlib.commons.util.StringUtil;
 public class BookNameContainsKeywordsPredicate implements Predicate<Book> {
 
     private final List<String> keywords;
+    // the keywords in the form held by Book#getSearchWords()
+    private final List<String> searchKeywords;
 
     /**
      * Creates a BookNameContainsKeywordPredicate.
@@ -20,6 +23,7 @@ public class BookNameContainsKeywordsPredicate implements Predicate<Book> {
      */
     public BookNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.keywordsIgnoreCase(keywords);
     }
 
     /**
@@ -30,15 +34,22 @@ public class BookNameContainsKeywordsPredicate implements Predicate<Book> {
      */
     @Override
     public boolean test(Book book) {
-        ArrayList<String> bookInfo = new ArrayList<>();
-        bookInfo.add(book.getName().toString());
-        bookInfo.add(book.getAuthor().toString());
-        bookInfo.add(book.getGenre().toString());
-        bookInfo.add(book.getPublisher().toString());
-        bookInfo.add(book.getIsbn().toString());
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsAnyIgnoreCase(
-                        bookInfo, keyword));
+        Set<String> searchWords = book.getSearchWords();
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            if (searchWords.contains(searchKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return an unmodifiable view of the keywords searched for.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     /**
@@ -0,0 +1,234 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * Tests that a {@code Book} satisfies every condition of a query, such as containing any of some keywords, having
+ * some words in its author's name, or having been borrowed within some dates.
+ * Queries are immutable, and are built up by adding one condition at a time to the empty query, which matches every
+ * book. {@link UniqueBookList#findBooks(BookQuery)} answers a query from the index of its most selective condition.
+ */
+public class BookQuery implements Predicate<Book> {
+
+    private static final BookQuery EMPTY = new BookQuery(List.of());
+
+    private final List<BookCondition> conditions;
+
+    private BookQuery(List<BookCondition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * Returns the query which matches every book.
+     *
+     * @return the empty query.
+     */
+    public static BookQuery all() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book's title, author, publisher, genre or ISBN to contain
+     * any of the given keywords.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public BookQuery withAnyWord(List<String> keywords) {
+        return with(new BookCondition.AnyWord(keywords));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book's author to contain all of the given words.
+     *
+     * @param words the words.
+     * @return the new query.
+     */
+    public BookQuery withAuthor(List<String> words) {
+        return with(new BookCondition.FieldWords("author", BookWords::getAuthor, words));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book's publisher to contain all of the given words.
+     *
+     * @param words the words.
+     * @return the new query.
+     */
+    public BookQuery withPublisher(List<String> words) {
+        return with(new BookCondition.FieldWords("publisher", BookWords::getPublisher, words));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book's genre to contain all of the given words.
+     *
+     * @param words the words.
+     * @return the new query.
+     */
+    public BookQuery withGenre(List<String> words) {
+        return with(new BookCondition.GenreWords(words));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to have the given ISBN.
+     *
+     * @param isbn the ISBN.
+     * @return the new query.
+     */
+    public BookQuery withIsbn(Isbn isbn) {
+        requireNonNull(isbn);
+        return with(new BookCondition.FieldWords("isbn", BookWords::getIsbn, List.of(isbn.toString())));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to have the given barcode.
+     *
+     * @param barcode the barcode.
+     * @return the new query.
+     */
+    public BookQuery withBarcode(Barcode barcode) {
+        return with(new BookCondition.HasBarcode(barcode));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to be borrowed by the given reader.
+     *
+     * @param readerName name of the reader.
+     * @return the new query.
+     */
+    public BookQuery withBorrower(Name readerName) {
+        return with(new BookCondition.BorrowedBy(readerName));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to be borrowed, or to be available.
+     *
+     * @param isBorrowed true if the book must be borrowed, and false if it must be available.
+     * @return the new query.
+     */
+    public BookQuery withBorrowed(boolean isBorrowed) {
+        return with(new BookCondition.IsBorrowed(isBorrowed));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to be overdue.
+     *
+     * @return the new query.
+     */
+    public BookQuery withOverdue() {
+        return with(new BookCondition.IsOverdue());
+    }
+
+    /**
+     * Returns a copy of this query which also requires a book to have been borrowed on or after {@code from} and on
+     * or before {@code to}. Either date may be null, in which case that end of the range is left open.
+     *
+     * @param from the earliest date of borrowing, or null.
+     * @param to the latest date of borrowing, or null.
+     * @return the new query.
+     */
+    public BookQuery withBorrowedBetween(LocalDate from, LocalDate to) {
+        return with(new BookCondition.BorrowedBetween(from, to));
+    }
+
+    /**
+     * Returns the keywords of every condition added through {@link #withAnyWord(List)}, in order.
+     *
+     * @return the keywords of the query.
+     */
+    public List<String> getKeywords() {
+        List<String> keywords = new ArrayList<>();
+        for (BookCondition condition : conditions) {
+            if (condition instanceof BookCondition.AnyWord) {
+                keywords.addAll(((BookCondition.AnyWord) condition).getKeywords());
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * Returns an equivalent query in canonical form, which ignores the case, order and repetition of the words in
+     * each condition. Equivalent queries written differently then compare equal.
+     *
+     * @return the query in canonical form.
+     */
+    public BookQuery normalise() {
+        List<BookCondition> normalised = new ArrayList<>();
+        for (BookCondition condition : conditions) {
+            normalised.add(condition.normalise());
+        }
+        return new BookQuery(Collections.unmodifiableList(normalised));
+    }
+
+    /**
+     * Returns true if the books satisfying this query may change over time even though the books do not, as for
+     * overdue books.
+     *
+     * @return true if this query depends on the current time, and false otherwise.
+     */
+    public boolean dependsOnTime() {
+        return conditions.stream().anyMatch(BookCondition::dependsOnTime);
+    }
+
+    /**
+     * Returns the conditions of this query, in the order they were added.
+     *
+     * @return the conditions of this query.
+     */
+    List<BookCondition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Tests if a book satisfies every condition of this query.
+     *
+     * @param book the book to be tested.
+     * @return true if the book satisfies every condition, and false otherwise.
+     */
+    @Override
+    public boolean test(Book book) {
+        for (BookCondition condition : conditions) {
+            if (!condition.test(book)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if this BookQuery is equal to another BookQuery.
+     *
+     * @param other the other BookQuery to be compared.
+     * @return true if this BookQuery is equal to the other BookQuery, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BookQuery // instanceof handles nulls
+                && conditions.equals(((BookQuery) other).conditions)); // state check
+    }
+
+    /**
+     * Generates a hashcode for this BookQuery.
+     *
+     * @return the hashcode for this BookQuery.
+     */
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    private BookQuery with(BookCondition condition) {
+        List<BookCondition> newConditions = new ArrayList<>(conditions);
+        newConditions.add(condition);
+        return new BookQuery(Collections.unmodifiableList(newConditions));
+    }
+
+}
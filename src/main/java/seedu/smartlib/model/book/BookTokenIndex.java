@@ -0,0 +1,145 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words in a book's title, author, publisher, genre and ISBN to the books containing them.
+ * Words are matched case-insensitively, in the same way as {@code StringUtil#containsWordIgnoreCase}.
+ * Books are referred to by an identity key rather than by the {@code Book} object itself, so that changes which keep
+ * a book's identity and searchable fields, such as lending it out, do not require the index to be updated.
+ *
+ * @param <K> the type of identity key of a book.
+ */
+class BookTokenIndex<K> {
+
+    // relative importance of a keyword occurring in each field, used to rank matches
+    static final int TITLE_WEIGHT = 5;
+    static final int AUTHOR_WEIGHT = 3;
+    static final int ISBN_WEIGHT = 3;
+    static final int GENRE_WEIGHT = 2;
+    static final int PUBLISHER_WEIGHT = 1;
+
+    private final Map<String, Set<K>> postings = new HashMap<>();
+
+    /**
+     * Returns the distinct words in the searchable fields of {@code book}, in lower case.
+     *
+     * @param book the book.
+     * @return the distinct words in the searchable fields of {@code book}.
+     */
+    static Set<String> tokensOf(Book book) {
+        return book.getSearchWords();
+    }
+
+    /**
+     * Returns the relevance of {@code book} to {@code words}: the number of times each of the words occurs in each
+     * searchable field, weighted by the importance of that field. A book which contains none of the words scores 0.
+     *
+     * @param book the book.
+     * @param words the normalised words searched for.
+     * @return the relevance score of {@code book}.
+     */
+    static int score(Book book, Set<String> words) {
+        requireNonNull(words);
+        BookWords fields = book.getWords();
+        return TITLE_WEIGHT * countOccurrences(words, fields.getTitle())
+                + AUTHOR_WEIGHT * countOccurrences(words, fields.getAuthor())
+                + ISBN_WEIGHT * countOccurrences(words, fields.getIsbn())
+                + GENRE_WEIGHT * countOccurrences(words, fields.getGenre())
+                + PUBLISHER_WEIGHT * countOccurrences(words, fields.getPublisher());
+    }
+
+    /**
+     * Returns {@code word} in the normalised form used as a key of the index.
+     *
+     * @param word the word.
+     * @return {@code word} in lower case.
+     */
+    static String normalise(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the words of {@code book} to the index, under {@code key}.
+     *
+     * @param key identity key of the book.
+     * @param book the book.
+     */
+    void add(K key, Book book) {
+        requireNonNull(key);
+        for (String token : tokensOf(book)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes the words of {@code book} from the index.
+     *
+     * @param key identity key of the book.
+     * @param book the book.
+     */
+    void remove(K key, Book book) {
+        requireNonNull(key);
+        for (String token : tokensOf(book)) {
+            Set<K> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every book from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the keys of the books which contain the given word.
+     *
+     * @param word the word to be searched for.
+     * @return the keys of the books which contain the word, which must not be modified.
+     */
+    Set<K> find(String word) {
+        Set<K> posting = postings.get(normalise(word));
+        return posting == null ? Set.of() : posting;
+    }
+
+    /**
+     * Returns the keys of the books which contain any of the given words.
+     *
+     * @param words the words to be searched for.
+     * @return the keys of the books which contain any of the words.
+     */
+    Set<K> findAny(Collection<String> words) {
+        requireNonNull(words);
+        Set<K> union = new HashSet<>();
+        for (String word : words) {
+            union.addAll(find(word));
+        }
+        return union;
+    }
+
+    private static int countOccurrences(Set<String> words, List<String> fieldWords) {
+        int count = 0;
+        for (String word : fieldWords) {
+            if (words.contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.smartlib.model.book;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.smartlib.commons.util.StringUtil;
+
+/**
+ * The lower-case words of each searchable field of a {@code Book}.
+ * They are computed once per book, so that searching and ranking books only compares words.
+ */
+class BookWords {
+
+    private final List<String> title;
+    private final List<String> author;
+    private final List<String> publisher;
+    private final List<String> genre;
+    private final List<String> isbn;
+    // distinct words of all of the fields above
+    private final Set<String> all;
+
+    /**
+     * Splits the searchable fields of {@code book} into words.
+     *
+     * @param book the book.
+     */
+    BookWords(Book book) {
+        requireNonNull(book);
+        this.title = StringUtil.wordListIgnoreCase(book.getName().toString());
+        this.author = StringUtil.wordListIgnoreCase(book.getAuthor().toString());
+        this.publisher = StringUtil.wordListIgnoreCase(book.getPublisher().toString());
+        this.genre = StringUtil.wordListIgnoreCase(book.getGenre().toString());
+        this.isbn = StringUtil.wordListIgnoreCase(book.getIsbn().toString());
+        Set<String> allWords = new HashSet<>(title);
+        allWords.addAll(author);
+        allWords.addAll(publisher);
+        allWords.addAll(genre);
+        allWords.addAll(isbn);
+        this.all = Set.copyOf(allWords);
+    }
+
+    /**
+     * Returns the words of the book's title, in order.
+     *
+     * @return the lower-case words of the title.
+     */
+    List<String> getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the words of the book's author, in order.
+     *
+     * @return the lower-case words of the author.
+     */
+    List<String> getAuthor() {
+        return author;
+    }
+
+    /**
+     * Returns the words of the book's publisher, in order.
+     *
+     * @return the lower-case words of the publisher.
+     */
+    List<String> getPublisher() {
+        return publisher;
+    }
+
+    /**
+     * Returns the words of the book's genre, in order.
+     *
+     * @return the lower-case words of the genre.
+     */
+    List<String> getGenre() {
+        return genre;
+    }
+
+    /**
+     * Returns the words of the book's ISBN, in order.
+     *
+     * @return the lower-case words of the ISBN.
+     */
+    List<String> getIsbn() {
+        return isbn;
+    }
+
+    /**
+     * Returns the distinct words of all of the book's searchable fields.
+     *
+     * @return an unmodifiable set of the lower-case words of the searchable fields.
+     */
+    Set<String> getAll() {
+        return all;
+    }
+
+}
@@ -3,13 +3,31 @@ package seedu.smartlib.model.book;
 import static java.util.Objects.requireNonNull;
 import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.PersistentVector;
+import seedu.smartlib.commons.util.PositionIndex;
+import seedu.smartlib.commons.util.PrefixTrie;
 import seedu.smartlib.model.book.exceptions.BookNotFoundException;
 import seedu.smartlib.model.book.exceptions.DuplicateBookException;
+import seedu.smartlib.model.record.DateBorrowed;
 
 /**
  * A list of books that enforces uniqueness between its elements and does not allow nulls.
@@ -27,6 +45,24 @@ public class UniqueBookList implements Iterable<Book> {
     private final ObservableList<Book> internalList = FXCollections.observableArrayList();
     private final ObservableList<Book> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the books, row for row, in primitive columns with genre and loan bitmaps, which scans and queries run over
+    private final BookColumns columns = new BookColumns();
+    // position of each book, by its name and barcode, so that updates and removals do not scan the list
+    private final PositionIndex<List<Object>, Book> positions =
+            new PositionIndex<>(internalList, UniqueBookList::identityOf);
+    // words of each book, for keyword searches
+    private final BookTokenIndex<List<Object>> tokens = new BookTokenIndex<>();
+    // titles and barcodes, for completing partially typed ones
+    private final PrefixTrie titles = new PrefixTrie();
+    private final PrefixTrie barcodes = new PrefixTrie();
+    // barcodes in use, from which barcodes for new books are handed out
+    private final BarcodeAllocator barcodeAllocator = new BarcodeAllocator();
+    // titles of the books with each barcode, which together with the barcode locate the books in positions
+    private final Map<Barcode, List<Name>> titlesByBarcode = new HashMap<>();
+    // copies of each title, and how many of them are available
+    private final BookAvailabilityIndex availability = new BookAvailabilityIndex();
+    // the same books as internalList, kept in a structure which can be snapshotted in constant time
+    private PersistentVector<Book> contents = PersistentVector.empty();
 
     /**
      * Returns true if the list contains an equivalent book as the given argument.
@@ -36,7 +72,7 @@ public class UniqueBookList implements Iterable<Book> {
      */
     public boolean contains(Book toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameBook);
+        return positions.containsKey(identityOf(toCheck));
     }
 
     /**
@@ -51,6 +87,37 @@ public class UniqueBookList implements Iterable<Book> {
             throw new DuplicateBookException();
         }
         internalList.add(toAdd);
+        columns.add(toAdd);
+        positions.added(toAdd);
+        tokens.add(identityOf(toAdd), toAdd);
+        addToTries(toAdd);
+        indexBarcode(toAdd);
+        availability.add(toAdd);
+        contents = contents.append(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as a single change to the list.
+     * None of the books may already exist in the list, or be equivalent to another of the books.
+     *
+     * @param toAdd the books to be added.
+     */
+    public void addBooks(List<Book> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!booksAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateBookException();
+        }
+        int firstRow = internalList.size();
+        internalList.addAll(toAdd);
+        positions.addedFrom(firstRow);
+        for (Book book : toAdd) {
+            columns.add(book);
+            tokens.add(identityOf(book), book);
+            addToTries(book);
+            indexBarcode(book);
+            availability.add(book);
+            contents = contents.append(book);
+        }
     }
 
     /**
@@ -61,9 +128,15 @@ public class UniqueBookList implements Iterable<Book> {
      */
     public void remove(Book toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new BookNotFoundException();
-        }
+        int index = indexOf(toRemove);
+        Book removed = internalList.remove(index);
+        columns.remove(index);
+        positions.removed(index, removed);
+        tokens.remove(identityOf(removed), removed);
+        removeFromTries(removed);
+        unindexBarcode(removed);
+        availability.remove(removed);
+        contents = contents.remove(index);
     }
 
     /**
@@ -74,6 +147,8 @@ public class UniqueBookList implements Iterable<Book> {
     public void setBooks(UniqueBookList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
+        contents = replacement.contents;
     }
 
     /**
@@ -89,6 +164,8 @@ public class UniqueBookList implements Iterable<Book> {
         }
 
         internalList.setAll(books);
+        reindex();
+        contents = PersistentVector.of(internalList);
     }
 
     /**
@@ -100,6 +177,16 @@ public class UniqueBookList implements Iterable<Book> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the books currently in the list, in order.
+     * The snapshot shares structure with the list, so taking one costs constant time.
+     *
+     * @return an immutable snapshot of the books in the list.
+     */
+    public PersistentVector<Book> snapshot() {
+        return contents;
+    }
+
     /**
      * Returns an iterator for the unique book list.
      *
@@ -140,16 +227,106 @@ public class UniqueBookList implements Iterable<Book> {
      * @return true if {@code books} contains only unique books, and false otherwise.
      */
     private boolean booksAreUnique(List<Book> books) {
-        for (int i = 0; i < books.size() - 1; i++) {
-            for (int j = i + 1; j < books.size(); j++) {
-                if (books.get(i).isSameBook(books.get(j))) {
-                    return false;
-                }
+        Set<List<Object>> identities = new HashSet<>();
+        for (Book book : books) {
+            if (!identities.add(identityOf(book))) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Adds the title and barcode of {@code book} to the prefix trees.
+     *
+     * @param book the book.
+     */
+    private void addToTries(Book book) {
+        titles.add(book.getName().toString());
+        barcodes.add(book.getBarcode().toString());
+    }
+
+    /**
+     * Removes the title and barcode of {@code book} from the prefix trees.
+     *
+     * @param book the book.
+     */
+    private void removeFromTries(Book book) {
+        titles.remove(book.getName().toString());
+        barcodes.remove(book.getBarcode().toString());
+    }
+
+    /**
+     * Records that {@code book} has its barcode, and marks the barcode as used.
+     *
+     * @param book a book which was added to the list.
+     */
+    private void indexBarcode(Book book) {
+        titlesByBarcode.computeIfAbsent(book.getBarcode(), unused -> new ArrayList<>(1)).add(book.getName());
+        barcodeAllocator.markUsed(book.getBarcode());
+    }
+
+    /**
+     * Records that {@code book} no longer has its barcode, and marks the barcode as unused unless another book in the
+     * list still has it.
+     *
+     * @param book a book which was removed or replaced.
+     */
+    private void unindexBarcode(Book book) {
+        List<Name> names = titlesByBarcode.get(book.getBarcode());
+        names.remove(book.getName());
+        if (names.isEmpty()) {
+            titlesByBarcode.remove(book.getBarcode());
+            barcodeAllocator.markUnused(book.getBarcode());
+        }
+    }
+
+    /**
+     * Rebuilds the columnar mirror, position index and word index from the current contents of the list.
+     */
+    private void reindex() {
+        columns.setAll(internalList);
+        positions.reset();
+        tokens.clear();
+        titles.clear();
+        barcodes.clear();
+        barcodeAllocator.clear();
+        titlesByBarcode.clear();
+        availability.clear();
+        for (Book book : internalList) {
+            tokens.add(identityOf(book), book);
+            addToTries(book);
+            indexBarcode(book);
+            availability.add(book);
+        }
+    }
+
+    /**
+     * Returns the position of the book equal to {@code target}.
+     *
+     * @param target the book to be searched for.
+     * @return the position of the book.
+     * @throws BookNotFoundException if there is no such book.
+     */
+    private int indexOf(Book target) {
+        // only the book with the same identity as target can be equal to it
+        int index = positions.indexOfKeyOf(target);
+        if (index == -1 || !internalList.get(index).equals(target)) {
+            throw new BookNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the fields which identify a book, as defined by {@link Book#isSameBook(Book)}.
+     *
+     * @param book the book.
+     * @return the name and barcode of the book.
+     */
+    private static List<Object> identityOf(Book book) {
+        return Arrays.asList(book.getName(), book.getBarcode());
+    }
+
     /**
      * Updates a book in the book list with a new book.
      *
@@ -159,16 +336,529 @@ public class UniqueBookList implements Iterable<Book> {
     public void setBook(Book target, Book editedBook) {
         requireAllNonNull(target, editedBook);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new BookNotFoundException();
-        }
+        int index = indexOf(target);
 
         if (!target.isSameBook(editedBook) && contains(editedBook)) {
             throw new DuplicateBookException();
         }
 
-        internalList.set(index, editedBook);
+        Book replaced = internalList.set(index, editedBook);
+        columns.set(index, editedBook);
+        positions.replaced(index, replaced, editedBook);
+        tokens.remove(identityOf(replaced), replaced);
+        tokens.add(identityOf(editedBook), editedBook);
+        removeFromTries(replaced);
+        addToTries(editedBook);
+        unindexBarcode(replaced);
+        indexBarcode(editedBook);
+        availability.remove(replaced);
+        availability.add(editedBook);
+        contents = contents.set(index, editedBook);
+    }
+
+    /**
+     * Marks the first book with the given barcode as borrowed by {@code borrowerName}.
+     * The book is located through the barcode index and replaced in place, without the equality scans of
+     * {@link #setBook(Book, Book)}, as a loan never changes the identity of a book.
+     *
+     * @param barcode barcode of the book, which must exist in the list.
+     * @param borrowerName name of the reader who borrowed the book.
+     * @param dateBorrowed the date on which the book was borrowed.
+     * @return the updated book.
+     */
+    public Book lendBook(Barcode barcode, Name borrowerName, DateBorrowed dateBorrowed) {
+        requireAllNonNull(barcode, borrowerName, dateBorrowed);
+        int row = rowOf(barcode);
+        return replaceLoan(row, internalList.get(row).withLoan(borrowerName, dateBorrowed));
+    }
+
+    /**
+     * Marks the first book with the given barcode as not borrowed.
+     *
+     * @param barcode barcode of the book, which must exist in the list.
+     * @return the updated book.
+     */
+    public Book returnBook(Barcode barcode) {
+        requireNonNull(barcode);
+        int row = rowOf(barcode);
+        return replaceLoan(row, internalList.get(row).withoutLoan());
+    }
+
+    /**
+     * Returns the number of copies of the title {@code bookName} in the list, and how many of them are not on loan.
+     *
+     * @param bookName the title.
+     * @return the availability of the title.
+     */
+    public Availability getAvailability(Name bookName) {
+        return availability.getAvailability(bookName);
+    }
+
+    /**
+     * Returns the barcode of a copy of the title {@code bookName} which is not on loan, namely the copy which has
+     * been available the longest.
+     *
+     * @param bookName the title.
+     * @return the barcode of an available copy, or null if every copy is on loan or there is no such title.
+     */
+    public Barcode getFirstAvailableBarcode(Name bookName) {
+        return availability.getFirstAvailableBarcode(bookName);
+    }
+
+    /**
+     * Returns {@code count} consecutive barcodes which are not used by any book in the list.
+     *
+     * @param count the number of barcodes needed.
+     * @return the unused barcodes, in increasing order.
+     */
+    public List<Barcode> allocateBarcodes(int count) {
+        return barcodeAllocator.allocateBlock(count);
+    }
+
+    /**
+     * Returns the first book with the given barcode.
+     *
+     * @param barcode barcode of the book.
+     * @return the first book with the given barcode, or null if there is no such book.
+     */
+    public Book getBookByBarcode(Barcode barcode) {
+        requireNonNull(barcode);
+        List<Integer> rows = rowsWithBarcode(barcode);
+        return rows.isEmpty() ? null : internalList.get(rows.get(0));
+    }
+
+    /**
+     * Returns true if any book with the given barcode is borrowed.
+     *
+     * @param barcode barcode of the book.
+     * @return true if any book with the given barcode is borrowed, and false otherwise.
+     */
+    public boolean isBorrowed(Barcode barcode) {
+        requireNonNull(barcode);
+        return rowsWithBarcode(barcode).stream().anyMatch(columns::isBorrowed);
+    }
+
+    /**
+     * Returns all books with the given name, in list order.
+     *
+     * @param bookName name of the book.
+     * @return all books with the given name, or an empty list if there is no such book.
+     */
+    public ArrayList<Book> getBooksByName(Name bookName) {
+        requireNonNull(bookName);
+        return materialize(columns.rowsWithTitle(bookName.toString()));
+    }
+
+    /**
+     * Returns all books with the given ISBN, in list order.
+     *
+     * @param isbn ISBN of the book.
+     * @return all books with the given ISBN, or an empty list if there is no such book.
+     */
+    public ArrayList<Book> getBooksByIsbn(Isbn isbn) {
+        requireNonNull(isbn);
+        return materialize(columns.rowsWithIsbn(isbn.toString()));
+    }
+
+    /**
+     * Returns all books which have been borrowed for longer than allowed as of {@code now}, in list order.
+     *
+     * @param now the current time.
+     * @return all overdue books.
+     */
+    public ArrayList<Book> getOverdueBooks(LocalDateTime now) {
+        requireNonNull(now);
+        return materialize(columns.overdueRows(now));
+    }
+
+    /**
+     * Returns all books with a title, author, publisher, genre or ISBN containing any of the given words
+     * (case-insensitive), in list order.
+     * The books are found through the inverted word index, so the cost depends on the number of matches rather
+     * than on the size of the catalogue.
+     *
+     * @param keywords the words to be searched for.
+     * @return all books containing any of the words.
+     */
+    public ArrayList<Book> findBooksWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return materialize(rowsWithAnyWord(keywords));
+    }
+
+    /**
+     * Returns all books satisfying {@code query}, in list order.
+     * The conditions answered by bitmaps, such as genre and loan state, are combined by bitwise AND. Each of the
+     * other conditions is asked how many candidates its index would offer, and only the fewest candidates found
+     * either way are tested, against the conditions not already answered by the bitmaps. A query without conditions
+     * returns every book.
+     *
+     * @param query the query.
+     * @return all books satisfying the query.
+     */
+    public ArrayList<Book> findBooks(BookQuery query) {
+        requireNonNull(query);
+        QueryPlan plan = plan(query);
+        ArrayList<Book> result = new ArrayList<>();
+        for (int row : plan.rows) {
+            Book book = internalList.get(row);
+            if (plan.accepts(book)) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns at most {@code limit} books containing any of the given words, from the most to the least relevant.
+     * Relevance is the number of occurrences of the words in each field, weighted so that, for example, a match in
+     * the title counts for more than one in the genre. Books of equal relevance are kept in list order.
+     * Only the matches found through the inverted word index are scored, and only the best {@code limit} of them
+     * are held at any time.
+     *
+     * @param keywords the words to be searched for.
+     * @param limit the maximum number of books to be returned, which must be positive.
+     * @return the most relevant books containing any of the words.
+     */
+    public ArrayList<Book> findTopBooks(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return findTopBooks(BookQuery.all().withAnyWord(new ArrayList<>(keywords)), limit);
+    }
+
+    /**
+     * Returns at most {@code limit} books satisfying {@code query}, from the most to the least relevant to the
+     * keywords of the query, as in {@link #findTopBooks(Collection, int)}.
+     * Only the books satisfying the whole query are scored, so a narrow condition such as a genre also makes the
+     * ranking cheaper.
+     *
+     * @param query the query.
+     * @param limit the maximum number of books to be returned, which must be positive.
+     * @return the most relevant books satisfying the query.
+     */
+    public ArrayList<Book> findTopBooks(BookQuery query, int limit) {
+        requireNonNull(query);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        Set<String> words = new HashSet<>();
+        for (String keyword : query.getKeywords()) {
+            words.add(BookTokenIndex.normalise(keyword));
+        }
+
+        // the least relevant of the books kept so far is at the head, ready to be evicted
+        PriorityQueue<ScoredRow> best = new PriorityQueue<>(Comparator.reverseOrder());
+        QueryPlan plan = plan(query);
+        for (int row : plan.rows) {
+            Book book = internalList.get(row);
+            if (!plan.accepts(book)) {
+                continue;
+            }
+            ScoredRow candidate = new ScoredRow(row, BookTokenIndex.score(book, words));
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (candidate.compareTo(best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        Book[] ranked = new Book[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = internalList.get(best.poll().row);
+        }
+        return new ArrayList<>(Arrays.asList(ranked));
+    }
+
+    /**
+     * Returns up to {@code limit} distinct book titles starting with {@code prefix} (case-insensitive), in
+     * alphabetical order. This may be called from any thread.
+     *
+     * @param prefix the start of a title.
+     * @param limit the maximum number of titles to be returned.
+     * @return the matching titles.
+     */
+    public List<String> suggestTitles(String prefix, int limit) {
+        return titles.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct barcodes starting with {@code prefix}, in ascending order of their
+     * digits. This may be called from any thread.
+     *
+     * @param prefix the start of a barcode.
+     * @param limit the maximum number of barcodes to be returned.
+     * @return the matching barcodes.
+     */
+    public List<String> suggestBarcodes(String prefix, int limit) {
+        return barcodes.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the number of books in the list.
+     *
+     * @return the number of books in the list.
+     */
+    int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the rows of all books, in order.
+     *
+     * @return the rows of all books.
+     */
+    List<Integer> allRows() {
+        List<Integer> rows = new ArrayList<>(internalList.size());
+        for (int row = 0; row < internalList.size(); row++) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number of books containing the given word in their title, author, publisher, genre or ISBN.
+     *
+     * @param word the word.
+     * @return the number of books containing the word.
+     */
+    int countWithWord(String word) {
+        return tokens.find(word).size();
+    }
+
+    /**
+     * Returns the rows of all books containing any of the given words, in order.
+     *
+     * @param words the words.
+     * @return the rows of all books containing any of the words.
+     */
+    List<Integer> rowsWithAnyWord(Collection<String> words) {
+        Set<List<Object>> matches = tokens.findAny(words);
+        int[] rows = new int[matches.size()];
+        int i = 0;
+        for (List<Object> identity : matches) {
+            rows[i++] = positions.indexOf(identity);
+        }
+        Arrays.sort(rows);
+        List<Integer> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(row);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rows of all books with the given barcode, in order.
+     * The rows are looked up in the position index, so the cost depends on the number of books with the barcode,
+     * which is almost always at most one, rather than on the size of the list.
+     *
+     * @param barcode the barcode.
+     * @return the rows of all books with the barcode.
+     */
+    List<Integer> rowsWithBarcode(Barcode barcode) {
+        List<Name> names = titlesByBarcode.getOrDefault(barcode, List.of());
+        List<Integer> rows = new ArrayList<>(names.size());
+        for (Name name : names) {
+            rows.add(positions.indexOf(Arrays.asList(name, barcode)));
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    /**
+     * Returns the number of borrowed books.
+     *
+     * @return the number of borrowed books.
+     */
+    int countBorrowed() {
+        return columns.countBorrowed();
+    }
+
+    /**
+     * Returns the rows of all books which are borrowed, or of all books which are not, in order.
+     *
+     * @param isBorrowed whether the rows of borrowed or of available books are to be returned.
+     * @return the rows of all books in the given loan state.
+     */
+    List<Integer> rowsWithLoanState(boolean isBorrowed) {
+        return rowsOf(columns.loanBitmap(isBorrowed));
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books which are borrowed, or of all books which are not.
+     *
+     * @param isBorrowed whether the borrowed or the available books are to be marked.
+     * @return a new bitmap of the rows of all books in the given loan state.
+     */
+    BitSet loanBitmap(boolean isBorrowed) {
+        return columns.loanBitmap(isBorrowed);
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books with a genre accepted by {@code genreMatcher}.
+     *
+     * @param genreMatcher a test on the lower-case words of a genre.
+     * @return a new bitmap of the rows of all books with an accepted genre.
+     */
+    BitSet genreBitmap(Predicate<List<String>> genreMatcher) {
+        return columns.genreBitmap(genreMatcher);
+    }
+
+    /**
+     * Returns a bitmap of the rows of all books which are overdue as of {@code now}.
+     *
+     * @param now the current time.
+     * @return a new bitmap of the rows of all overdue books.
+     */
+    BitSet overdueBitmap(LocalDateTime now) {
+        return columns.overdueBitmap(now);
+    }
+
+    /**
+     * Plans how {@code query} is to be answered.
+     * The bitmaps of the conditions which have one are intersected. Of the remaining conditions, the one whose index
+     * offers the fewest candidates is chosen, and its candidates are used instead of the intersected bitmap if they
+     * are fewer, after being narrowed down by the bitmap.
+     *
+     * @param query the query.
+     * @return the candidate rows and the conditions they must still be tested against.
+     */
+    private QueryPlan plan(BookQuery query) {
+        BitSet matches = null;
+        List<BookCondition> residual = new ArrayList<>();
+        for (BookCondition condition : query.getConditions()) {
+            BitSet rows = condition.matchingRows(this);
+            if (rows == null) {
+                residual.add(condition);
+            } else if (matches == null) {
+                matches = rows;
+            } else {
+                matches.and(rows);
+            }
+        }
+
+        BookCondition mostSelective = null;
+        int fewestCandidates = matches == null ? Integer.MAX_VALUE : matches.cardinality();
+        for (BookCondition condition : residual) {
+            int estimate = condition.estimate(this);
+            if (estimate < fewestCandidates) {
+                mostSelective = condition;
+                fewestCandidates = estimate;
+            }
+        }
+
+        if (mostSelective == null) {
+            return new QueryPlan(matches == null ? allRows() : rowsOf(matches), residual);
+        }
+        List<Integer> rows = mostSelective.candidateRows(this);
+        if (matches != null) {
+            BitSet bitmap = matches;
+            rows.removeIf(row -> !bitmap.get(row));
+        }
+        return new QueryPlan(rows, residual);
+    }
+
+    /**
+     * Returns the rows marked in {@code bitmap}, in order.
+     *
+     * @param bitmap the bitmap.
+     * @return the marked rows.
+     */
+    private static List<Integer> rowsOf(BitSet bitmap) {
+        List<Integer> rows = new ArrayList<>(bitmap.cardinality());
+        for (int row = bitmap.nextSetBit(0); row >= 0; row = bitmap.nextSetBit(row + 1)) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the row of the first book with the given barcode.
+     *
+     * @param barcode barcode of the book.
+     * @return the row of the book.
+     * @throws BookNotFoundException if there is no such book.
+     */
+    private int rowOf(Barcode barcode) {
+        List<Integer> rows = rowsWithBarcode(barcode);
+        if (rows.isEmpty()) {
+            throw new BookNotFoundException();
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * Replaces the book at {@code row} with a copy that differs only in its loan state.
+     *
+     * @param row row of the book.
+     * @param editedBook the copy.
+     * @return the copy.
+     */
+    private Book replaceLoan(int row, Book editedBook) {
+        Book replaced = internalList.set(row, editedBook);
+        columns.setLoan(row, editedBook);
+        availability.remove(replaced);
+        availability.add(editedBook);
+        contents = contents.set(row, editedBook);
+        return editedBook;
+    }
+
+    /**
+     * Returns the books at the given rows, in order.
+     *
+     * @param rows rows of the books.
+     * @return the books at the given rows.
+     */
+    private ArrayList<Book> materialize(List<Integer> rows) {
+        ArrayList<Book> result = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            result.add(internalList.get(row));
+        }
+        return result;
+    }
+
+    /**
+     * The candidate rows for a query, together with the conditions which they have not yet been checked against.
+     */
+    private static class QueryPlan {
+
+        private final List<Integer> rows;
+        private final List<BookCondition> residual;
+
+        QueryPlan(List<Integer> rows, List<BookCondition> residual) {
+            this.rows = rows;
+            this.residual = residual;
+        }
+
+        boolean accepts(Book book) {
+            for (BookCondition condition : residual) {
+                if (!condition.test(book)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * The row of a matching book together with its relevance score.
+     * Rows are ordered from the most to the least relevant, and then by position in the list.
+     */
+    private static class ScoredRow implements Comparable<ScoredRow> {
+
+        private final int row;
+        private final int score;
+
+        ScoredRow(int row, int score) {
+            this.row = row;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(ScoredRow other) {
+            int byScore = Integer.compare(other.score, score);
+            return byScore != 0 ? byScore : Integer.compare(row, other.row);
+        }
+
     }
 
 }
@@ -0,0 +1,164 @@
+package seedu.smartlib.model.fine;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Barcode;
+
+/**
+ * Represents an entry in a reader's account of fines: either a fine charged for returning a book late, or a payment.
+ * Amounts are held in cents, so that balances add up exactly.
+ * Guarantees: immutable; the reader name and date are present and not null; the amount is not zero.
+ */
+public class FineEntry {
+
+    private final Name readerName;
+    private final long amountInCents;
+    private final String date;
+    // null for payments
+    private final Barcode barcode;
+
+    /**
+     * Creates a FineEntry.
+     *
+     * @param readerName name of the reader whose account the entry belongs to.
+     * @param amountInCents the amount charged if positive, or paid if negative.
+     * @param date the date and time of the entry, in ISO-8601 format.
+     * @param barcode barcode of the book returned late, or null for a payment.
+     */
+    public FineEntry(Name readerName, long amountInCents, String date, Barcode barcode) {
+        requireAllNonNull(readerName, date);
+        assert amountInCents != 0 : "A fine entry must change the balance.";
+        this.readerName = readerName;
+        this.amountInCents = amountInCents;
+        this.date = date;
+        this.barcode = barcode;
+    }
+
+    /**
+     * Creates a fine charged for returning a book late.
+     *
+     * @param readerName name of the reader who returned the book.
+     * @param amountInCents the fine, which must be positive.
+     * @param date the date and time the book was returned, in ISO-8601 format.
+     * @param barcode barcode of the book.
+     * @return the fine charged.
+     */
+    public static FineEntry charge(Name readerName, long amountInCents, String date, Barcode barcode) {
+        assert amountInCents > 0 && barcode != null;
+        return new FineEntry(readerName, amountInCents, date, barcode);
+    }
+
+    /**
+     * Creates a payment towards a reader's fines.
+     *
+     * @param readerName name of the reader who paid.
+     * @param amountInCents the amount paid, which must be positive.
+     * @param date the date and time of the payment, in ISO-8601 format.
+     * @return the payment.
+     */
+    public static FineEntry payment(Name readerName, long amountInCents, String date) {
+        assert amountInCents > 0;
+        return new FineEntry(readerName, -amountInCents, date, null);
+    }
+
+    /**
+     * Returns the name of the reader whose account the entry belongs to.
+     *
+     * @return the name of the reader.
+     */
+    public Name getReaderName() {
+        return readerName;
+    }
+
+    /**
+     * Returns the amount by which the entry changes the reader's balance, in cents.
+     *
+     * @return the amount charged if positive, or paid if negative.
+     */
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
+    /**
+     * Returns the date and time of the entry.
+     *
+     * @return the date and time of the entry, in ISO-8601 format.
+     */
+    public String getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the barcode of the book returned late.
+     *
+     * @return the barcode of the book, or null if the entry is a payment.
+     */
+    public Barcode getBarcode() {
+        return barcode;
+    }
+
+    /**
+     * Returns true if the entry is a payment.
+     *
+     * @return true if the entry is a payment, and false if it is a fine.
+     */
+    public boolean isPayment() {
+        return amountInCents < 0;
+    }
+
+    /**
+     * Returns a copy of the entry which belongs to the reader named {@code newName}.
+     *
+     * @param newName the new name of the reader.
+     * @return a copy of the entry for the renamed reader.
+     */
+    public FineEntry withReaderName(Name newName) {
+        return new FineEntry(newName, amountInCents, date, barcode);
+    }
+
+    /**
+     * Checks if this FineEntry is equal to another FineEntry.
+     *
+     * @param other the other FineEntry to be compared.
+     * @return true if this FineEntry is equal to the other FineEntry, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof FineEntry)) { // instanceof handles nulls
+            return false;
+        }
+        FineEntry otherEntry = (FineEntry) other;
+        return readerName.equals(otherEntry.readerName) // state check
+                && amountInCents == otherEntry.amountInCents
+                && date.equals(otherEntry.date)
+                && Objects.equals(barcode, otherEntry.barcode);
+    }
+
+    /**
+     * Generates a hashcode for this FineEntry.
+     *
+     * @return the hashcode for this FineEntry.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(readerName, amountInCents, date, barcode);
+    }
+
+    /**
+     * Returns this FineEntry in String format.
+     *
+     * @return this FineEntry in String format.
+     */
+    @Override
+    public String toString() {
+        return "Reader: " + readerName + "; Amount: " + amountInCents + " cents; Date: " + date
+                + (barcode == null ? "" : "; Barcode: " + barcode);
+    }
+
+}
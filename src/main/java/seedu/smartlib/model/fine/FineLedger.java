@@ -0,0 +1,117 @@
+package seedu.smartlib.model.fine;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * The fines charged to and paid by each reader, kept as a list of entries per reader together with a running
+ * balance, so that a reader's outstanding fines can be read in constant time.
+ */
+public class FineLedger {
+
+    private final Map<Name, List<FineEntry>> entries = new LinkedHashMap<>();
+    private final Map<Name, Long> balances = new HashMap<>();
+
+    /**
+     * Appends {@code entry} to its reader's account and updates the reader's balance.
+     *
+     * @param entry the entry to be appended.
+     */
+    public void add(FineEntry entry) {
+        requireNonNull(entry);
+        entries.computeIfAbsent(entry.getReaderName(), unused -> new ArrayList<>()).add(entry);
+        balances.merge(entry.getReaderName(), entry.getAmountInCents(), Long::sum);
+    }
+
+    /**
+     * Returns the fines owed by the reader named {@code readerName}, less what the reader has paid.
+     *
+     * @param readerName name of the reader.
+     * @return the outstanding balance in cents, which is 0 for a reader with no entries.
+     */
+    public long getBalance(Name readerName) {
+        requireNonNull(readerName);
+        return balances.getOrDefault(readerName, 0L);
+    }
+
+    /**
+     * Returns the entries of the reader named {@code readerName}, oldest first.
+     *
+     * @param readerName name of the reader.
+     * @return an unmodifiable view of the reader's entries.
+     */
+    public List<FineEntry> getEntries(Name readerName) {
+        requireNonNull(readerName);
+        return Collections.unmodifiableList(entries.getOrDefault(readerName, List.of()));
+    }
+
+    /**
+     * Removes the account of the reader named {@code readerName}.
+     *
+     * @param readerName name of the reader.
+     */
+    public void removeReader(Name readerName) {
+        requireNonNull(readerName);
+        entries.remove(readerName);
+        balances.remove(readerName);
+    }
+
+    /**
+     * Moves the account of the reader named {@code oldName} to {@code newName}.
+     *
+     * @param oldName former name of the reader.
+     * @param newName new name of the reader.
+     */
+    public void renameReader(Name oldName, Name newName) {
+        requireAllNonNull(oldName, newName);
+        if (oldName.equals(newName) || !entries.containsKey(oldName)) {
+            return;
+        }
+        List<FineEntry> renamed = new ArrayList<>();
+        for (FineEntry entry : entries.remove(oldName)) {
+            renamed.add(entry.withReaderName(newName));
+        }
+        entries.put(newName, renamed);
+        balances.put(newName, balances.remove(oldName));
+    }
+
+    /**
+     * Replaces every entry with {@code replacement}, in the order given.
+     *
+     * @param replacement the new entries.
+     */
+    public void setEntries(List<FineEntry> replacement) {
+        requireNonNull(replacement);
+        clear();
+        replacement.forEach(this::add);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        entries.clear();
+        balances.clear();
+    }
+
+    /**
+     * Returns every entry, grouped by reader and oldest first within each reader.
+     *
+     * @return a new list of every entry.
+     */
+    public List<FineEntry> asList() {
+        List<FineEntry> list = new ArrayList<>();
+        entries.values().forEach(list::addAll);
+        return list;
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.smartlib.model.hold;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Isbn;
+
+/**
+ * Represents a reader's reservation of a title, which is lent to the reader when a copy of it is returned.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class Hold {
+
+    private final Name readerName;
+    private final Isbn isbn;
+
+    /**
+     * Creates a Hold.
+     *
+     * @param readerName name of the reader who placed the hold.
+     * @param isbn ISBN of the title reserved.
+     */
+    public Hold(Name readerName, Isbn isbn) {
+        requireAllNonNull(readerName, isbn);
+        this.readerName = readerName;
+        this.isbn = isbn;
+    }
+
+    /**
+     * Returns the name of the reader who placed the hold.
+     *
+     * @return the name of the reader who placed the hold.
+     */
+    public Name getReaderName() {
+        return readerName;
+    }
+
+    /**
+     * Returns the ISBN of the title reserved.
+     *
+     * @return the ISBN of the title reserved.
+     */
+    public Isbn getIsbn() {
+        return isbn;
+    }
+
+    /**
+     * Checks if this Hold is equal to another Hold.
+     *
+     * @param other the other Hold to be compared.
+     * @return true if this Hold is equal to the other Hold, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Hold // instanceof handles nulls
+                && readerName.equals(((Hold) other).readerName)
+                && isbn.equals(((Hold) other).isbn)); // state check
+    }
+
+    /**
+     * Generates a hashcode for this Hold.
+     *
+     * @return the hashcode for this Hold.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(readerName, isbn);
+    }
+
+    /**
+     * Returns this Hold in String format.
+     *
+     * @return this Hold in String format.
+     */
+    @Override
+    public String toString() {
+        return "Reader: " + readerName + "; ISBN: " + isbn;
+    }
+
+}
@@ -0,0 +1,201 @@
+package seedu.smartlib.model.hold;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.exceptions.DuplicateHoldException;
+import seedu.smartlib.model.hold.exceptions.HoldNotFoundException;
+
+/**
+ * The holds placed on titles, kept as a first-come, first-served queue of readers for each ISBN.
+ * A reader may hold a title at most once.
+ *
+ * Finding the next reader for a returned copy takes constant time when the reader at the front of the queue can
+ * take it, and checking whether a hold exists takes constant time.
+ */
+public class HoldQueues {
+
+    private final Map<Isbn, ArrayDeque<Name>> queues = new LinkedHashMap<>();
+    private final Set<Hold> holds = new HashSet<>();
+
+    /**
+     * Returns true if {@code hold} has been placed.
+     *
+     * @param hold the hold to be checked.
+     * @return true if {@code hold} has been placed, and false otherwise.
+     */
+    public boolean contains(Hold hold) {
+        requireNonNull(hold);
+        return holds.contains(hold);
+    }
+
+    /**
+     * Adds {@code hold} to the back of the queue of its ISBN.
+     *
+     * @param hold the hold to be added, which must not already have been placed.
+     * @throws DuplicateHoldException if the hold has already been placed.
+     */
+    public void add(Hold hold) {
+        requireNonNull(hold);
+        if (!holds.add(hold)) {
+            throw new DuplicateHoldException();
+        }
+        queues.computeIfAbsent(hold.getIsbn(), unused -> new ArrayDeque<>()).addLast(hold.getReaderName());
+    }
+
+    /**
+     * Removes {@code hold} from the queue of its ISBN. The readers behind it move up one place.
+     *
+     * @param hold the hold to be removed, which must have been placed.
+     * @throws HoldNotFoundException if the hold has not been placed.
+     */
+    public void remove(Hold hold) {
+        requireNonNull(hold);
+        if (!holds.remove(hold)) {
+            throw new HoldNotFoundException();
+        }
+        ArrayDeque<Name> queue = queues.get(hold.getIsbn());
+        queue.remove(hold.getReaderName());
+        if (queue.isEmpty()) {
+            queues.remove(hold.getIsbn());
+        }
+    }
+
+    /**
+     * Removes and returns the first hold on {@code isbn} whose reader satisfies {@code canReceive}.
+     * Readers ahead of it who do not satisfy {@code canReceive} keep their place in the queue.
+     *
+     * @param isbn the ISBN of the title.
+     * @param canReceive the test of whether a reader can be given a copy now.
+     * @return the hold removed, or null if no reader holding the title satisfies {@code canReceive}.
+     */
+    public Hold pollFirst(Isbn isbn, Predicate<Name> canReceive) {
+        requireAllNonNull(isbn, canReceive);
+        ArrayDeque<Name> queue = queues.get(isbn);
+        if (queue == null) {
+            return null;
+        }
+        Iterator<Name> readerNames = queue.iterator();
+        while (readerNames.hasNext()) {
+            Name readerName = readerNames.next();
+            if (canReceive.test(readerName)) {
+                readerNames.remove();
+                if (queue.isEmpty()) {
+                    queues.remove(isbn);
+                }
+                Hold hold = new Hold(readerName, isbn);
+                holds.remove(hold);
+                return hold;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes every hold placed by the reader named {@code readerName}.
+     *
+     * @param readerName name of the reader.
+     */
+    public void removeReader(Name readerName) {
+        requireNonNull(readerName);
+        Iterator<ArrayDeque<Name>> queueIterator = queues.values().iterator();
+        while (queueIterator.hasNext()) {
+            ArrayDeque<Name> queue = queueIterator.next();
+            if (queue.removeIf(readerName::equals) && queue.isEmpty()) {
+                queueIterator.remove();
+            }
+        }
+        holds.removeIf(hold -> hold.getReaderName().equals(readerName));
+    }
+
+    /**
+     * Moves every hold placed by the reader named {@code oldName} to {@code newName}, keeping its place in the queue.
+     *
+     * @param oldName former name of the reader.
+     * @param newName new name of the reader.
+     */
+    public void renameReader(Name oldName, Name newName) {
+        requireAllNonNull(oldName, newName);
+        if (oldName.equals(newName)) {
+            return;
+        }
+        for (Map.Entry<Isbn, ArrayDeque<Name>> entry : queues.entrySet()) {
+            if (!entry.getValue().contains(oldName)) {
+                continue;
+            }
+            ArrayDeque<Name> renamed = new ArrayDeque<>();
+            for (Name readerName : entry.getValue()) {
+                renamed.addLast(readerName.equals(oldName) ? newName : readerName);
+            }
+            entry.setValue(renamed);
+            holds.remove(new Hold(oldName, entry.getKey()));
+            holds.add(new Hold(newName, entry.getKey()));
+        }
+    }
+
+    /**
+     * Removes every hold on {@code isbn}.
+     *
+     * @param isbn the ISBN of the title.
+     */
+    public void removeIsbn(Isbn isbn) {
+        requireNonNull(isbn);
+        ArrayDeque<Name> queue = queues.remove(isbn);
+        if (queue != null) {
+            for (Name readerName : queue) {
+                holds.remove(new Hold(readerName, isbn));
+            }
+        }
+    }
+
+    /**
+     * Replaces every hold with {@code replacement}, queued in the order given.
+     *
+     * @param replacement the new holds, which must not contain duplicates.
+     * @throws DuplicateHoldException if {@code replacement} contains duplicate holds.
+     */
+    public void setHolds(List<Hold> replacement) {
+        requireNonNull(replacement);
+        if (new HashSet<>(replacement).size() != replacement.size()) {
+            throw new DuplicateHoldException();
+        }
+        clear();
+        replacement.forEach(this::add);
+    }
+
+    /**
+     * Removes every hold.
+     */
+    public void clear() {
+        queues.clear();
+        holds.clear();
+    }
+
+    /**
+     * Returns every hold, grouped by ISBN and in queue order within each ISBN.
+     *
+     * @return a new list of every hold.
+     */
+    public List<Hold> asList() {
+        List<Hold> list = new ArrayList<>(holds.size());
+        for (Map.Entry<Isbn, ArrayDeque<Name>> entry : queues.entrySet()) {
+            for (Name readerName : entry.getValue()) {
+                list.add(new Hold(readerName, entry.getKey()));
+            }
+        }
+        return list;
+    }
+
+}
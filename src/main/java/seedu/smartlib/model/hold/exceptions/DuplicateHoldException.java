@@ -0,0 +1,18 @@
+package seedu.smartlib.model.hold.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate Holds (Holds are considered duplicates if they have the same
+ * reader name and ISBN).
+ */
+public class DuplicateHoldException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A constructor for the DuplicateHoldException.
+     */
+    public DuplicateHoldException() {
+        super("Operation would result in duplicate holds");
+    }
+
+}
@@ -0,0 +1,10 @@
+package seedu.smartlib.model.hold.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified hold.
+ */
+public class HoldNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+}
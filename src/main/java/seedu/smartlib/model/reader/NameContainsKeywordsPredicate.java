@@ -1,6 +1,8 @@
 package seedu.smartlib.model.reader;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.smartlib.commons.util.StringUtil;
@@ -11,6 +13,8 @@ import seedu.smartlib.commons.util.StringUtil;
 public class NameContainsKeywordsPredicate implements Predicate<Reader> {
 
     private final List<String> keywords;
+    // the keywords in the form held by Reader#getNameWords()
+    private final List<String> searchKeywords;
 
     /**
      * Creates a NameContainsKeywordPredicate.
@@ -19,6 +23,16 @@ public class NameContainsKeywordsPredicate implements Predicate<Reader> {
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.keywordsIgnoreCase(keywords);
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return an unmodifiable view of the keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     /**
@@ -29,14 +43,13 @@ public class NameContainsKeywordsPredicate implements Predicate<Reader> {
      */
     @Override
     public boolean test(Reader reader) {
-        return keywords
-                .stream()
-                .anyMatch(keyword -> {
-                    if (!keyword.equals("")) {
-                        return StringUtil.containsWordIgnoreCase(reader.getName().toString(), keyword);
-                    }
-                    return false;
-                });
+        Set<String> nameWords = reader.getNameWords();
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            if (nameWords.contains(searchKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
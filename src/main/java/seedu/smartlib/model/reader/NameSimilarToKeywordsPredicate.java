@@ -0,0 +1,83 @@
+package seedu.smartlib.model.reader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.smartlib.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Reader}'s {@code Name} contains a word which is close to any of the keywords given, allowing
+ * for a small number of typing mistakes. Matching is case insensitive.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Reader> {
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a NameSimilarToKeywordsPredicate.
+     *
+     * @param keywords list of keywords
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return an unmodifiable view of the keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    /**
+     * Tests if the reader's name contains a word within the tolerated edit distance of any of the keywords.
+     *
+     * @param reader the reader to be tested.
+     * @return true if the reader's name is similar to any of the keywords, and false otherwise.
+     */
+    @Override
+    public boolean test(Reader reader) {
+        String[] words = reader.getName().toString().split("\\s+");
+        return keywords
+                .stream()
+                .filter(keyword -> !keyword.isEmpty())
+                .map(ReaderNameIndex::normalise)
+                .anyMatch(keyword -> {
+                    for (String word : words) {
+                        int distance = StringUtil.editDistance(ReaderNameIndex.normalise(word), keyword);
+                        if (distance <= ReaderNameIndex.maxDistanceFor(keyword)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+    }
+
+    /**
+     * Checks if this NameSimilarToKeywordsPredicate is equal to another NameSimilarToKeywordsPredicate.
+     *
+     * @param other the other NameSimilarToKeywordsPredicate to be compared.
+     * @return true if this NameSimilarToKeywordsPredicate is equal to the other NameSimilarToKeywordsPredicate,
+     *         and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+
+    /**
+     * Generates a hashcode for this NameSimilarToKeywordsPredicate.
+     *
+     * @return the hashcode for this NameSimilarToKeywordsPredicate.
+     */
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
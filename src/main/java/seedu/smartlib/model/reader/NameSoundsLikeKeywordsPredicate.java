@@ -0,0 +1,73 @@
+package seedu.smartlib.model.reader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Reader}'s {@code Name} contains a word which sounds like any of the keywords given, as judged
+ * by their Soundex codes.
+ */
+public class NameSoundsLikeKeywordsPredicate implements Predicate<Reader> {
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a NameSoundsLikeKeywordsPredicate.
+     *
+     * @param keywords list of keywords
+     */
+    public NameSoundsLikeKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return an unmodifiable view of the keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    /**
+     * Tests if the reader's name contains a word which sounds like any of the keywords.
+     *
+     * @param reader the reader to be tested.
+     * @return true if the reader's name sounds like any of the keywords, and false otherwise.
+     */
+    @Override
+    public boolean test(Reader reader) {
+        Set<String> nameCodes = ReaderSoundexIndex.codesOf(reader.getName().toString());
+        return keywords
+                .stream()
+                .flatMap(keyword -> ReaderSoundexIndex.codesOf(keyword).stream())
+                .anyMatch(nameCodes::contains);
+    }
+
+    /**
+     * Checks if this NameSoundsLikeKeywordsPredicate is equal to another NameSoundsLikeKeywordsPredicate.
+     *
+     * @param other the other NameSoundsLikeKeywordsPredicate to be compared.
+     * @return true if this NameSoundsLikeKeywordsPredicate is equal to the other NameSoundsLikeKeywordsPredicate,
+     *         and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSoundsLikeKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSoundsLikeKeywordsPredicate) other).keywords)); // state check
+    }
+
+    /**
+     * Generates a hashcode for this NameSoundsLikeKeywordsPredicate.
+     *
+     * @return the hashcode for this NameSoundsLikeKeywordsPredicate.
+     */
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.StringUtil;
 import seedu.smartlib.model.book.Book;
 import seedu.smartlib.model.record.DateBorrowed;
 import seedu.smartlib.model.tag.Tag;
@@ -29,8 +30,12 @@ public class Reader {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Map<Book, DateBorrowed> borrows = new HashMap<>();
+    private final Set<Tag> tags;
+    private final Map<Book, DateBorrowed> borrows;
+
+    // lower-case words of the name and of the tags, computed on first use
+    private Set<String> nameWords;
+    private Set<String> tagWords;
 
     /**
      * Constructor for the Reader class.
@@ -50,17 +55,87 @@ public class Reader {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.borrows.putAll(borrows);
+        this.tags = new HashSet<>(tags);
+        this.borrows = new HashMap<>(borrows);
+    }
+
+    /**
+     * Constructor for a copy of {@code source} with a different set of borrowed books.
+     * The copy shares its tags with {@code source}, which is safe as neither reader ever modifies them.
+     *
+     * @param source the reader to be copied.
+     * @param borrows books borrowed by the copy, which must not be modified after this call.
+     */
+    private Reader(Reader source, Map<Book, DateBorrowed> borrows) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.tags = source.tags;
+        this.borrows = borrows;
+        this.nameWords = source.nameWords;
+        this.tagWords = source.tagWords;
+    }
+
+    /**
+     * Returns a copy of this reader which has also borrowed {@code book}.
+     *
+     * @param book the book borrowed.
+     * @param dateBorrowed the date on which the book was borrowed.
+     * @return a copy of this reader which has also borrowed {@code book}.
+     */
+    public Reader withBorrow(Book book, DateBorrowed dateBorrowed) {
+        requireAllNonNull(book, dateBorrowed);
+        Map<Book, DateBorrowed> newBorrows = new HashMap<>(borrows);
+        newBorrows.put(book, dateBorrowed);
+        return new Reader(this, newBorrows);
+    }
+
+    /**
+     * Returns a copy of this reader which no longer borrows {@code book}.
+     *
+     * @param book the book returned.
+     * @return a copy of this reader which no longer borrows {@code book}.
+     */
+    public Reader withoutBorrow(Book book) {
+        requireAllNonNull(book);
+        Map<Book, DateBorrowed> newBorrows = new HashMap<>(borrows);
+        newBorrows.remove(book);
+        return new Reader(this, newBorrows);
     }
 
     /**
-     * Retrieves the list of books borrowed by the reader.
+     * Retrieves an unmodifiable view of the books borrowed by the reader.
      *
-     * @return the list of books borrowed by the reader.
+     * @return the books borrowed by the reader, together with the dates they were borrowed.
      */
     public Map<Book, DateBorrowed> getBorrows() {
-        return borrows;
+        return Collections.unmodifiableMap(borrows);
+    }
+
+    /**
+     * Returns the distinct words of the reader's name, in lower case.
+     * The words are computed once and then kept, so that name searches only need to look each keyword up.
+     *
+     * @return an unmodifiable set of the lower-case words of the reader's name.
+     */
+    public Set<String> getNameWords() {
+        if (nameWords == null) {
+            nameWords = StringUtil.wordsIgnoreCase(name.toString());
+        }
+        return nameWords;
+    }
+
+    /**
+     * Returns the distinct words of the reader's tags, in lower case.
+     *
+     * @return an unmodifiable set of the lower-case words of the reader's tags.
+     */
+    public Set<String> getTagWords() {
+        if (tagWords == null) {
+            tagWords = StringUtil.wordsIgnoreCase(tags.stream().map(Tag::getTagName).toArray(String[]::new));
+        }
+        return tagWords;
     }
 
     /**
@@ -0,0 +1,333 @@
+package seedu.smartlib.model.reader;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.StringUtil;
+
+/**
+ * A single condition of a {@link ReaderQuery}.
+ * Besides testing a reader, a condition can estimate how many readers an index of {@link UniqueReaderList} would
+ * offer as candidates for it, and list those candidates, so that a query can be answered from the index of its most
+ * selective condition. The candidates of a condition always include every reader satisfying it.
+ */
+abstract class ReaderCondition {
+
+    /**
+     * Tests if {@code reader} satisfies this condition.
+     *
+     * @param reader the reader to be tested.
+     * @return true if the reader satisfies this condition, and false otherwise.
+     */
+    abstract boolean test(Reader reader);
+
+    /**
+     * Returns the number of candidates {@link #candidateNames(UniqueReaderList)} would return for {@code readers}, or
+     * at least an upper bound of it.
+     *
+     * @param readers the readers to be searched.
+     * @return the number of candidates.
+     */
+    abstract int estimate(UniqueReaderList readers);
+
+    /**
+     * Returns the names of the readers in {@code readers} which may satisfy this condition.
+     *
+     * @param readers the readers to be searched.
+     * @return the names of the candidates.
+     */
+    abstract Set<Name> candidateNames(UniqueReaderList readers);
+
+    /**
+     * Matches readers with a name containing any of the given words. Candidates are taken from the name index.
+     */
+    static class NameWords extends ReaderCondition {
+
+        private final NameContainsKeywordsPredicate predicate;
+
+        NameWords(List<String> keywords) {
+            requireNonNull(keywords);
+            this.predicate = new NameContainsKeywordsPredicate(new ArrayList<>(keywords));
+        }
+
+        @Override
+        boolean test(Reader reader) {
+            return predicate.test(reader);
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.countWithNameWords(predicate.getKeywords());
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.namesWithAnyNameWord(predicate.getKeywords());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof NameWords // instanceof handles nulls
+                    && predicate.equals(((NameWords) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getKeywords().hashCode();
+        }
+
+    }
+
+    /**
+     * Matches readers with a tag containing any of the given words. Candidates are taken from the tag index.
+     */
+    static class TagWords extends ReaderCondition {
+
+        private final TagContainsKeywordsPredicate predicate;
+
+        TagWords(List<String> keywords) {
+            requireNonNull(keywords);
+            this.predicate = new TagContainsKeywordsPredicate(new ArrayList<>(keywords));
+        }
+
+        @Override
+        boolean test(Reader reader) {
+            return predicate.test(reader);
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.countWithTagWords(predicate.getKeywords());
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.namesWithAnyTagWord(predicate.getKeywords());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof TagWords // instanceof handles nulls
+                    && predicate.equals(((TagWords) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getKeywords().hashCode();
+        }
+
+    }
+
+    /**
+     * Matches readers with a name containing a word close to any of the given words, allowing for typing mistakes.
+     * Candidates are found in the BK-tree of the name index.
+     */
+    static class SimilarName extends ReaderCondition {
+
+        private final NameSimilarToKeywordsPredicate predicate;
+
+        SimilarName(List<String> keywords) {
+            requireNonNull(keywords);
+            this.predicate = new NameSimilarToKeywordsPredicate(new ArrayList<>(keywords));
+        }
+
+        List<String> getKeywords() {
+            return predicate.getKeywords();
+        }
+
+        @Override
+        boolean test(Reader reader) {
+            return predicate.test(reader);
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return candidateNames(readers).size();
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.namesWithSimilarName(predicate.getKeywords()).keySet();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SimilarName // instanceof handles nulls
+                    && predicate.equals(((SimilarName) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getKeywords().hashCode();
+        }
+
+    }
+
+    /**
+     * Matches readers with a name containing a word which sounds like any of the given words. Candidates are taken
+     * from the phonetic index.
+     */
+    static class SoundAlikeName extends ReaderCondition {
+
+        private final NameSoundsLikeKeywordsPredicate predicate;
+
+        SoundAlikeName(List<String> keywords) {
+            requireNonNull(keywords);
+            this.predicate = new NameSoundsLikeKeywordsPredicate(new ArrayList<>(keywords));
+        }
+
+        @Override
+        boolean test(Reader reader) {
+            return predicate.test(reader);
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.countWithSoundAlikeWords(predicate.getKeywords());
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.namesWithSoundAlikeName(predicate.getKeywords());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SoundAlikeName // instanceof handles nulls
+                    && predicate.equals(((SoundAlikeName) other).predicate)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getKeywords().hashCode();
+        }
+
+    }
+
+    /**
+     * Matches readers with a given field containing all of the given words, ignoring case.
+     * No index covers these fields, so every reader is a candidate.
+     */
+    static class FieldWords extends ReaderCondition {
+
+        private final String fieldName;
+        private final Function<Reader, Object> field;
+        private final List<String> words;
+
+        FieldWords(String fieldName, Function<Reader, Object> field, List<String> words) {
+            requireAllNonNull(fieldName, field, words);
+            this.fieldName = fieldName;
+            this.field = field;
+            this.words = StringUtil.keywordsIgnoreCase(words);
+        }
+
+        @Override
+        boolean test(Reader reader) {
+            Set<String> valueWords = StringUtil.wordsIgnoreCase(field.apply(reader).toString());
+            return valueWords.containsAll(words);
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.size();
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.allNames();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof FieldWords // instanceof handles nulls
+                    && fieldName.equals(((FieldWords) other).fieldName)
+                    && words.equals(((FieldWords) other).words)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fieldName, words);
+        }
+
+    }
+
+    /**
+     * Matches readers who are borrowing at least one book. Candidates are the borrowers in the loan index.
+     */
+    static class IsBorrowing extends ReaderCondition {
+
+        @Override
+        boolean test(Reader reader) {
+            return reader.hasBorrowedBooks();
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.countLoans();
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.borrowerNames();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || other instanceof IsBorrowing; // instanceof handles nulls
+        }
+
+        @Override
+        public int hashCode() {
+            return IsBorrowing.class.hashCode();
+        }
+
+    }
+
+    /**
+     * Matches readers with at least one overdue book at the time the condition is evaluated. Candidates are the
+     * borrowers in the loan index.
+     */
+    static class HasOverdueBooks extends ReaderCondition {
+
+        @Override
+        boolean test(Reader reader) {
+            return reader.hasOverdueBooks();
+        }
+
+        @Override
+        int estimate(UniqueReaderList readers) {
+            return readers.countLoans();
+        }
+
+        @Override
+        Set<Name> candidateNames(UniqueReaderList readers) {
+            return readers.borrowerNames();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || other instanceof HasOverdueBooks; // instanceof handles nulls
+        }
+
+        @Override
+        public int hashCode() {
+            return HasOverdueBooks.class.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+package seedu.smartlib.model.reader;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.BkTree;
+
+/**
+ * An index of the words in readers' names which supports typo-tolerant lookups.
+ * The distinct words, in lower case, are held in a {@link BkTree}, and each word maps to the names containing it.
+ * Words which no longer belong to any name stay in the tree until it is rebuilt, and are skipped by lookups; the
+ * tree is rebuilt once such words outnumber the live ones.
+ */
+class ReaderNameIndex {
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+    private final BkTree words = new BkTree();
+
+    /**
+     * Returns the largest edit distance tolerated for {@code keyword}, which grows with its length so that short
+     * keywords do not match almost every name.
+     *
+     * @param keyword the keyword.
+     * @return 0 for keywords of up to 2 characters, 1 for up to 5 characters, and 2 for longer keywords.
+     */
+    static int maxDistanceFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns {@code word} in the normalised form used as a key of the index.
+     *
+     * @param word the word.
+     * @return {@code word} in lower case.
+     */
+    static String normalise(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds the words of {@code name} to the index.
+     *
+     * @param name the name of a reader.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String word : wordsOf(name)) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+            words.add(word);
+        }
+    }
+
+    /**
+     * Removes the words of {@code name} from the index.
+     *
+     * @param name the name of a reader.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String word : wordsOf(name)) {
+            Set<Name> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(name);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+        if (words.size() > 2 * postings.size()) {
+            words.clear();
+            postings.keySet().forEach(words::add);
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    void clear() {
+        postings.clear();
+        words.clear();
+    }
+
+    /**
+     * Returns the number of names containing {@code word}, ignoring case.
+     *
+     * @param word the word.
+     * @return the number of names containing the word.
+     */
+    int count(String word) {
+        requireNonNull(word);
+        return postings.getOrDefault(normalise(word), Set.of()).size();
+    }
+
+    /**
+     * Returns the names containing any of {@code keywords}, ignoring case.
+     *
+     * @param keywords the keywords to be searched for.
+     * @return the matching names.
+     */
+    Set<Name> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> union = new HashSet<>();
+        for (String keyword : keywords) {
+            union.addAll(postings.getOrDefault(normalise(keyword), Set.of()));
+        }
+        return union;
+    }
+
+    /**
+     * Returns the names with a word within the tolerated edit distance of any of {@code keywords}.
+     *
+     * @param keywords the keywords to be searched for.
+     * @return the matching names, each mapped to the smallest edit distance between one of its words and a keyword.
+     */
+    Map<Name, Integer> findSimilar(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Name, Integer> distances = new HashMap<>();
+        for (String keyword : keywords) {
+            String query = normalise(keyword);
+            for (Map.Entry<String, Integer> match : words.search(query, maxDistanceFor(query)).entrySet()) {
+                for (Name name : postings.getOrDefault(match.getKey(), Set.of())) {
+                    distances.merge(name, match.getValue(), Math::min);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static Set<String> wordsOf(Name name) {
+        Set<String> result = new HashSet<>();
+        for (String word : name.toString().split("\\s+")) {
+            if (!word.isEmpty()) {
+                result.add(normalise(word));
+            }
+        }
+        return result;
+    }
+
+}
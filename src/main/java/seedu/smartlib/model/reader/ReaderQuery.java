@@ -0,0 +1,198 @@
+package seedu.smartlib.model.reader;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Reader} satisfies every condition of a query, such as having a name containing any of some
+ * keywords, having some tags, or having overdue books.
+ * Queries are immutable, and are built up by adding one condition at a time to the empty query, which matches every
+ * reader. {@link UniqueReaderList#findReaders(ReaderQuery)} answers a query from the index of its most selective
+ * condition.
+ */
+public class ReaderQuery implements Predicate<Reader> {
+
+    private static final ReaderQuery EMPTY = new ReaderQuery(List.of());
+
+    private final List<ReaderCondition> conditions;
+
+    private ReaderQuery(List<ReaderCondition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * Returns the query which matches every reader.
+     *
+     * @return the empty query.
+     */
+    public static ReaderQuery all() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader's name to contain any of the given keywords.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public ReaderQuery withAnyWord(List<String> keywords) {
+        return with(new ReaderCondition.NameWords(keywords));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader to have a tag containing any of the given keywords.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public ReaderQuery withAnyTag(List<String> keywords) {
+        return with(new ReaderCondition.TagWords(keywords));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader's name to contain a word close to any of the given
+     * keywords, allowing for typing mistakes. The readers found are ranked from the most to the least similar.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public ReaderQuery withSimilarName(List<String> keywords) {
+        return with(new ReaderCondition.SimilarName(keywords));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader's name to contain a word which sounds like any of
+     * the given keywords.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public ReaderQuery withSoundAlikeName(List<String> keywords) {
+        return with(new ReaderCondition.SoundAlikeName(keywords));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader to have the given phone number.
+     *
+     * @param phone the phone number.
+     * @return the new query.
+     */
+    public ReaderQuery withPhone(Phone phone) {
+        requireNonNull(phone);
+        return with(new ReaderCondition.FieldWords("phone", Reader::getPhone, List.of(phone.toString())));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader to have the given email, ignoring case.
+     *
+     * @param email the email.
+     * @return the new query.
+     */
+    public ReaderQuery withEmail(Email email) {
+        requireNonNull(email);
+        return with(new ReaderCondition.FieldWords("email", Reader::getEmail, List.of(email.toString())));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader's address to contain all of the given words.
+     *
+     * @param words the words.
+     * @return the new query.
+     */
+    public ReaderQuery withAddress(List<String> words) {
+        return with(new ReaderCondition.FieldWords("address", Reader::getAddress, words));
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader to be borrowing at least one book.
+     *
+     * @return the new query.
+     */
+    public ReaderQuery withBorrowing() {
+        return with(new ReaderCondition.IsBorrowing());
+    }
+
+    /**
+     * Returns a copy of this query which also requires a reader to have at least one overdue book.
+     *
+     * @return the new query.
+     */
+    public ReaderQuery withOverdue() {
+        return with(new ReaderCondition.HasOverdueBooks());
+    }
+
+    /**
+     * Returns the keywords of every condition added through {@link #withSimilarName(List)}, in order.
+     * The readers found by the query are ranked by their similarity to these keywords.
+     *
+     * @return the keywords of the typo-tolerant conditions of the query.
+     */
+    List<String> getSimilarNameKeywords() {
+        List<String> keywords = new ArrayList<>();
+        for (ReaderCondition condition : conditions) {
+            if (condition instanceof ReaderCondition.SimilarName) {
+                keywords.addAll(((ReaderCondition.SimilarName) condition).getKeywords());
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * Returns the conditions of this query, in the order they were added.
+     *
+     * @return the conditions of this query.
+     */
+    List<ReaderCondition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Tests if a reader satisfies every condition of this query.
+     *
+     * @param reader the reader to be tested.
+     * @return true if the reader satisfies every condition, and false otherwise.
+     */
+    @Override
+    public boolean test(Reader reader) {
+        for (ReaderCondition condition : conditions) {
+            if (!condition.test(reader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if this ReaderQuery is equal to another ReaderQuery.
+     *
+     * @param other the other ReaderQuery to be compared.
+     * @return true if this ReaderQuery is equal to the other ReaderQuery, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReaderQuery // instanceof handles nulls
+                && conditions.equals(((ReaderQuery) other).conditions)); // state check
+    }
+
+    /**
+     * Generates a hashcode for this ReaderQuery.
+     *
+     * @return the hashcode for this ReaderQuery.
+     */
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    private ReaderQuery with(ReaderCondition condition) {
+        List<ReaderCondition> newConditions = new ArrayList<>(conditions);
+        newConditions.add(condition);
+        return new ReaderQuery(Collections.unmodifiableList(newConditions));
+    }
+
+}
@@ -0,0 +1,110 @@
+package seedu.smartlib.model.reader;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.StringUtil;
+
+/**
+ * An index from the Soundex code of each word in readers' names to the names containing a word with that code,
+ * so that names which sound alike can be found with one hash lookup per keyword.
+ *
+ * @see StringUtil#soundex(String)
+ */
+class ReaderSoundexIndex {
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+
+    /**
+     * Returns the distinct Soundex codes of the words in {@code text}, skipping words without letters.
+     *
+     * @param text the text.
+     * @return the Soundex codes of the words in {@code text}.
+     */
+    static Set<String> codesOf(String text) {
+        Set<String> codes = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            String code = StringUtil.soundex(word);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Adds the words of {@code name} to the index.
+     *
+     * @param name the name of a reader.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String code : codesOf(name.toString())) {
+            postings.computeIfAbsent(code, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes the words of {@code name} from the index.
+     *
+     * @param name the name of a reader.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String code : codesOf(name.toString())) {
+            Set<Name> posting = postings.get(code);
+            if (posting != null) {
+                posting.remove(name);
+                if (posting.isEmpty()) {
+                    postings.remove(code);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the number of names with a word which sounds like {@code word}.
+     *
+     * @param word the word.
+     * @return the number of names with a word which sounds like the word.
+     */
+    int count(String word) {
+        requireNonNull(word);
+        int count = 0;
+        for (String code : codesOf(word)) {
+            count += postings.getOrDefault(code, Set.of()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names with a word which sounds like any of {@code keywords}.
+     *
+     * @param keywords the words to be searched for.
+     * @return the matching names.
+     */
+    Set<Name> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> union = new HashSet<>();
+        for (String keyword : keywords) {
+            for (String code : codesOf(keyword)) {
+                union.addAll(postings.getOrDefault(code, Set.of()));
+            }
+        }
+        return union;
+    }
+
+}
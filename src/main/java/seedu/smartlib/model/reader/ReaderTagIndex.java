@@ -0,0 +1,102 @@
+package seedu.smartlib.model.reader;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.tag.Tag;
+
+/**
+ * An inverted index from the words in readers' tags to the names of the readers carrying them.
+ * Words are matched case-insensitively, in the same way as {@link TagContainsKeywordsPredicate}.
+ */
+class ReaderTagIndex {
+
+    private final Map<String, Set<Name>> postings = new HashMap<>();
+
+    /**
+     * Adds the tags of {@code reader} to the index.
+     *
+     * @param reader the reader.
+     */
+    void add(Reader reader) {
+        requireNonNull(reader);
+        for (String word : wordsOf(reader)) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(reader.getName());
+        }
+    }
+
+    /**
+     * Removes the tags of {@code reader} from the index.
+     *
+     * @param reader the reader.
+     */
+    void remove(Reader reader) {
+        requireNonNull(reader);
+        for (String word : wordsOf(reader)) {
+            Set<Name> posting = postings.get(word);
+            if (posting != null) {
+                posting.remove(reader.getName());
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every reader from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the number of readers with a tag containing {@code word}.
+     *
+     * @param word the word.
+     * @return the number of readers with a tag containing the word.
+     */
+    int count(String word) {
+        requireNonNull(word);
+        return postings.getOrDefault(normalise(word), Set.of()).size();
+    }
+
+    /**
+     * Returns the names of the readers with a tag containing any of {@code keywords}.
+     *
+     * @param keywords the words to be searched for.
+     * @return the names of the matching readers.
+     */
+    Set<Name> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> union = new HashSet<>();
+        for (String keyword : keywords) {
+            union.addAll(postings.getOrDefault(normalise(keyword), Set.of()));
+        }
+        return union;
+    }
+
+    private static Set<String> wordsOf(Reader reader) {
+        Set<String> words = new HashSet<>();
+        for (Tag tag : reader.getTags()) {
+            for (String word : tag.getTagName().split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(normalise(word));
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String normalise(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,10 +1,11 @@
 package seedu.smartlib.model.reader;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.smartlib.commons.util.StringUtil;
-import seedu.smartlib.model.tag.Tag;
 
 /**
  * Tests that a {@code Reader}'s {@code Tags} matches any of the keywords given.
@@ -12,6 +13,8 @@ import seedu.smartlib.model.tag.Tag;
 public class TagContainsKeywordsPredicate implements Predicate<Reader> {
 
     private final List<String> keywords;
+    // the keywords in the form held by Reader#getTagWords()
+    private final List<String> searchKeywords;
 
     /**
      * Creates a TagContainsKeywordsPredicate.
@@ -20,6 +23,16 @@ public class TagContainsKeywordsPredicate implements Predicate<Reader> {
      */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.keywordsIgnoreCase(keywords);
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return an unmodifiable view of the keywords.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     /**
@@ -30,18 +43,13 @@ public class TagContainsKeywordsPredicate implements Predicate<Reader> {
      */
     @Override
     public boolean test(Reader reader) {
-        return keywords
-                .stream()
-                .anyMatch(keyword -> {
-                    if (!keyword.equals("")) {
-                        for (Tag tag : reader.getTags()) {
-                            if (StringUtil.containsWordIgnoreCase(tag.getTagName(), keyword)) {
-                                return true;
-                            }
-                        }
-                    }
-                    return false;
-                });
+        Set<String> tagWords = reader.getTagWords();
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            if (tagWords.contains(searchKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -3,13 +3,29 @@ package seedu.smartlib.model.reader;
 import static java.util.Objects.requireNonNull;
 import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.PersistentVector;
+import seedu.smartlib.commons.util.PositionIndex;
+import seedu.smartlib.commons.util.PrefixTrie;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
 import seedu.smartlib.model.reader.exceptions.DuplicateReaderException;
 import seedu.smartlib.model.reader.exceptions.ReaderNotFoundException;
+import seedu.smartlib.model.record.DateBorrowed;
 
 /**
  * A list of readers that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +34,12 @@ import seedu.smartlib.model.reader.exceptions.ReaderNotFoundException;
  * unique in terms of identity in the UniqueReaderList. However, the removal of a reader uses Reader#equals(Object) so
  * as to ensure that the reader with exactly the same fields will be removed.
  *
+ * Each reader in the list is numbered, and the list maps the barcode of each borrowed book to the number of its
+ * borrower. These numbers are internal to the list: records and loans elsewhere identify readers by name.
+ * The words of every name are also indexed for exact, typo-tolerant and sound-alike searches, and the words of every
+ * tag for tag searches. A {@link ReaderQuery} is answered from whichever of these indexes is most selective.
+ * Names are also held in a prefix tree, which completes partially typed names.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Reader#isSameReader(Reader)
@@ -28,6 +50,19 @@ public class UniqueReaderList implements Iterable<Reader> {
     private final ObservableList<Reader> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Name, Integer> idsByName = new HashMap<>();
+    private final Map<Integer, Reader> readersById = new HashMap<>();
+    private final PositionIndex<Name, Reader> positions = new PositionIndex<>(internalList, Reader::getName);
+    // the same readers as internalList, kept in a structure which can be snapshotted in constant time
+    private PersistentVector<Reader> contents = PersistentVector.empty();
+    // barcode value of each borrowed book -> number of the reader who borrowed it
+    private final Map<Integer, Integer> borrowerIds = new HashMap<>();
+    private final ReaderNameIndex nameIndex = new ReaderNameIndex();
+    private final ReaderTagIndex tagIndex = new ReaderTagIndex();
+    private final ReaderSoundexIndex soundexIndex = new ReaderSoundexIndex();
+    private final PrefixTrie names = new PrefixTrie();
+    private int nextId = 0;
+
     /**
      * Returns true if the list contains an equivalent reader as the given argument.
      *
@@ -36,7 +71,7 @@ public class UniqueReaderList implements Iterable<Reader> {
      */
     public boolean contains(Reader toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameReader);
+        return idsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -51,6 +86,9 @@ public class UniqueReaderList implements Iterable<Reader> {
             throw new DuplicateReaderException();
         }
         internalList.add(toAdd);
+        index(nextId++, toAdd);
+        positions.added(toAdd);
+        contents = contents.append(toAdd);
     }
 
     /**
@@ -64,16 +102,16 @@ public class UniqueReaderList implements Iterable<Reader> {
     public void setReader(Reader target, Reader editedReader) {
         requireAllNonNull(target, editedReader);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ReaderNotFoundException();
-        }
+        int index = indexOf(target);
 
         if (!target.isSameReader(editedReader) && contains(editedReader)) {
             throw new DuplicateReaderException();
         }
 
-        internalList.set(index, editedReader);
+        Reader replaced = internalList.set(index, editedReader);
+        index(unindex(replaced), editedReader);
+        positions.replaced(index, replaced, editedReader);
+        contents = contents.set(index, editedReader);
     }
 
     /**
@@ -84,9 +122,11 @@ public class UniqueReaderList implements Iterable<Reader> {
      */
     public void remove(Reader toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ReaderNotFoundException();
-        }
+        int index = indexOf(toRemove);
+        Reader removed = internalList.remove(index);
+        unindex(removed);
+        positions.removed(index, removed);
+        contents = contents.remove(index);
     }
 
     /**
@@ -97,6 +137,7 @@ public class UniqueReaderList implements Iterable<Reader> {
     public void setReaders(UniqueReaderList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -112,6 +153,285 @@ public class UniqueReaderList implements Iterable<Reader> {
         }
 
         internalList.setAll(readers);
+        reindex();
+    }
+
+    /**
+     * Records that the reader with the given name has borrowed {@code book}.
+     * The reader is located through its id and replaced in place, without the equality scans of
+     * {@link #setReader(Reader, Reader)}, as a loan never changes the identity of a reader.
+     *
+     * @param readerName name of the reader, who must exist in the list.
+     * @param book the book borrowed.
+     * @param dateBorrowed the date on which the book was borrowed.
+     * @return the updated reader.
+     */
+    public Reader lendBook(Name readerName, Book book, DateBorrowed dateBorrowed) {
+        requireAllNonNull(readerName, book, dateBorrowed);
+        int id = idOf(readerName);
+        borrowerIds.put(book.getId(), id);
+        return replaceBorrows(id, readersById.get(id).withBorrow(book, dateBorrowed));
+    }
+
+    /**
+     * Records that the reader with the given name has returned {@code book}.
+     *
+     * @param readerName name of the reader, who must exist in the list.
+     * @param book the book returned.
+     * @return the updated reader.
+     */
+    public Reader returnBook(Name readerName, Book book) {
+        requireAllNonNull(readerName, book);
+        int id = idOf(readerName);
+        borrowerIds.remove(book.getId(), id);
+        return replaceBorrows(id, readersById.get(id).withoutBorrow(book));
+    }
+
+    /**
+     * Returns the number this list has given to the reader with the given name.
+     * The number stays the same while the reader is edited, and is never given to another reader.
+     *
+     * @param readerName name of the reader.
+     * @return the number of the reader, or -1 if there is no such reader.
+     */
+    public int getReaderId(Name readerName) {
+        requireNonNull(readerName);
+        Integer id = idsByName.get(readerName);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the reader which this list has given the number {@code readerId}.
+     *
+     * @param readerId number of the reader.
+     * @return the reader with the given number, or null if there is no such reader.
+     */
+    public Reader getReaderById(int readerId) {
+        return readersById.get(readerId);
+    }
+
+    /**
+     * Returns the reader with the given name.
+     *
+     * @param readerName name of the reader.
+     * @return the reader with the given name, or null if there is no such reader.
+     */
+    public Reader getReaderByName(Name readerName) {
+        requireNonNull(readerName);
+        Integer id = idsByName.get(readerName);
+        return id == null ? null : readersById.get(id);
+    }
+
+    /**
+     * Returns the reader who is currently borrowing the book with the given barcode.
+     *
+     * @param barcode barcode of the borrowed book.
+     * @return the borrower of the book, or null if the book is not borrowed by any reader in the list.
+     */
+    public Reader getBorrower(Barcode barcode) {
+        requireNonNull(barcode);
+        Integer id = borrowerIds.get(barcode.getValue());
+        return id == null ? null : readersById.get(id);
+    }
+
+    /**
+     * Returns the readers satisfying {@code query}.
+     * The query is planned by taking the candidates of its most selective condition from that condition's index, and
+     * testing only those readers against the whole query. If the query has a typo-tolerant name condition, the
+     * readers are ranked from the most to the least similar, and readers who are equally similar are kept in list
+     * order. Otherwise, the readers are in list order.
+     *
+     * @param query the query.
+     * @return the matching readers.
+     */
+    public List<Reader> findReaders(ReaderQuery query) {
+        requireNonNull(query);
+        ReaderCondition mostSelective = null;
+        int fewestCandidates = Integer.MAX_VALUE;
+        for (ReaderCondition condition : query.getConditions()) {
+            int estimate = condition.estimate(this);
+            if (estimate < fewestCandidates) {
+                mostSelective = condition;
+                fewestCandidates = estimate;
+            }
+        }
+
+        Set<Name> candidates = mostSelective == null ? allNames() : mostSelective.candidateNames(this);
+        Set<Name> matches = new HashSet<>();
+        for (Name name : candidates) {
+            if (query.test(getReaderByName(name))) {
+                matches.add(name);
+            }
+        }
+
+        List<String> similarNameKeywords = query.getSimilarNameKeywords();
+        if (similarNameKeywords.isEmpty()) {
+            return inListOrder(matches);
+        }
+        Map<Name, Integer> distances = nameIndex.findSimilar(similarNameKeywords);
+        List<Name> names = new ArrayList<>(matches);
+        names.sort(Comparator.<Name>comparingInt(distances::get).thenComparingInt(positions::indexOf));
+        List<Reader> result = new ArrayList<>(names.size());
+        for (Name name : names) {
+            result.add(getReaderByName(name));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of readers in the list.
+     *
+     * @return the number of readers in the list.
+     */
+    int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the names of all readers in the list.
+     *
+     * @return an unmodifiable view of the names of all readers.
+     */
+    Set<Name> allNames() {
+        return Collections.unmodifiableSet(idsByName.keySet());
+    }
+
+    /**
+     * Returns the total number of readers with a name containing each of {@code words}, which is at least the
+     * number of readers with a name containing any of them.
+     *
+     * @param words the words.
+     * @return the number of readers found through the name index.
+     */
+    int countWithNameWords(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            count += nameIndex.count(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names of the readers with a name containing any of {@code keywords}, ignoring case.
+     *
+     * @param keywords the words to be searched for.
+     * @return the matching names.
+     */
+    Set<Name> namesWithAnyNameWord(Collection<String> keywords) {
+        return nameIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the total number of readers with a tag containing each of {@code words}.
+     *
+     * @param words the words.
+     * @return the number of readers found through the tag index.
+     */
+    int countWithTagWords(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            count += tagIndex.count(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names of the readers with a tag containing any of {@code keywords}, ignoring case.
+     *
+     * @param keywords the words to be searched for.
+     * @return the matching names.
+     */
+    Set<Name> namesWithAnyTagWord(Collection<String> keywords) {
+        return tagIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the names of the readers with a name containing a word close to any of {@code keywords}, allowing for
+     * a small number of typing mistakes.
+     *
+     * @param keywords the words to be searched for.
+     * @return the matching names, each mapped to its smallest edit distance from a keyword.
+     */
+    Map<Name, Integer> namesWithSimilarName(Collection<String> keywords) {
+        return nameIndex.findSimilar(keywords);
+    }
+
+    /**
+     * Returns the total number of readers with a name containing a word which sounds like each of {@code words}.
+     *
+     * @param words the words.
+     * @return the number of readers found through the phonetic index.
+     */
+    int countWithSoundAlikeWords(Collection<String> words) {
+        int count = 0;
+        for (String word : words) {
+            count += soundexIndex.count(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the names of the readers with a name containing a word which sounds like any of {@code keywords}.
+     *
+     * @param keywords the words to be searched for.
+     * @return the matching names.
+     */
+    Set<Name> namesWithSoundAlikeName(Collection<String> keywords) {
+        return soundexIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the number of books on loan to readers in the list, which is at least the number of borrowers.
+     *
+     * @return the number of loans.
+     */
+    int countLoans() {
+        return borrowerIds.size();
+    }
+
+    /**
+     * Returns the names of the readers who are borrowing at least one book.
+     *
+     * @return the names of the borrowers.
+     */
+    Set<Name> borrowerNames() {
+        Set<Name> names = new HashSet<>();
+        for (int id : borrowerIds.values()) {
+            names.add(readersById.get(id).getName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the readers with the given names, in list order.
+     *
+     * @param names names of readers in the list.
+     * @return the readers with the given names.
+     */
+    private List<Reader> inListOrder(Set<Name> names) {
+        int[] rows = new int[names.size()];
+        int i = 0;
+        for (Name name : names) {
+            rows[i++] = positions.indexOf(name);
+        }
+        Arrays.sort(rows);
+        List<Reader> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(internalList.get(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} reader names starting with {@code prefix} (case-insensitive), in alphabetical
+     * order. This may be called from any thread.
+     *
+     * @param prefix the start of a name.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names.
+     */
+    public List<String> suggestNames(String prefix, int limit) {
+        return names.complete(prefix, limit);
     }
 
     /**
@@ -123,6 +443,16 @@ public class UniqueReaderList implements Iterable<Reader> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the readers currently in the list, in order.
+     * The snapshot shares structure with the list, so taking one costs constant time.
+     *
+     * @return an immutable snapshot of the readers in the list.
+     */
+    public PersistentVector<Reader> snapshot() {
+        return contents;
+    }
+
     /**
      * Returns an iterator for the unique reader list.
      *
@@ -163,14 +493,115 @@ public class UniqueReaderList implements Iterable<Reader> {
      * @return true if {@code readers} contains only unique readers, and false otherwise.
      */
     private boolean readersAreUnique(List<Reader> readers) {
-        for (int i = 0; i < readers.size() - 1; i++) {
-            for (int j = i + 1; j < readers.size(); j++) {
-                if (readers.get(i).isSameReader(readers.get(j))) {
-                    return false;
-                }
+        // readers are the same reader exactly when their names are equal
+        Set<Name> names = new HashSet<>();
+        for (Reader reader : readers) {
+            if (!names.add(reader.getName())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Records {@code reader} and its loans under the given id.
+     *
+     * @param id id of the reader.
+     * @param reader the reader.
+     */
+    private void index(int id, Reader reader) {
+        idsByName.put(reader.getName(), id);
+        readersById.put(id, reader);
+        nameIndex.add(reader.getName());
+        tagIndex.add(reader);
+        soundexIndex.add(reader.getName());
+        names.add(reader.getName().toString());
+        for (Book book : reader.getBorrows().keySet()) {
+            borrowerIds.put(book.getId(), id);
+        }
+    }
+
+    /**
+     * Forgets {@code reader} and its loans.
+     *
+     * @param reader the reader.
+     * @return the id the reader was recorded under.
+     */
+    private int unindex(Reader reader) {
+        int id = idsByName.remove(reader.getName());
+        readersById.remove(id);
+        nameIndex.remove(reader.getName());
+        tagIndex.remove(reader);
+        soundexIndex.remove(reader.getName());
+        names.remove(reader.getName().toString());
+        for (Book book : reader.getBorrows().keySet()) {
+            borrowerIds.remove(book.getId(), id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the position of the reader equal to {@code target}.
+     *
+     * @param target the reader to be searched for.
+     * @return the position of the reader.
+     * @throws ReaderNotFoundException if there is no such reader.
+     */
+    private int indexOf(Reader target) {
+        // only the reader with the same name as target can be equal to it
+        int index = positions.indexOf(target.getName());
+        if (index == -1 || !internalList.get(index).equals(target)) {
+            throw new ReaderNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the id of the reader with the given name.
+     *
+     * @param readerName name of the reader.
+     * @return the id of the reader.
+     * @throws ReaderNotFoundException if there is no such reader.
+     */
+    private int idOf(Name readerName) {
+        Integer id = idsByName.get(readerName);
+        if (id == null) {
+            throw new ReaderNotFoundException();
+        }
+        return id;
+    }
+
+    /**
+     * Replaces the reader with the given id with a copy that differs only in its borrowed books.
+     *
+     * @param id id of the reader.
+     * @param editedReader the copy.
+     * @return the copy.
+     */
+    private Reader replaceBorrows(int id, Reader editedReader) {
+        readersById.put(id, editedReader);
+        int index = positions.indexOf(editedReader.getName());
+        internalList.set(index, editedReader);
+        contents = contents.set(index, editedReader);
+        return editedReader;
+    }
+
+    /**
+     * Rebuilds all ids and loan indexes from the current contents of the list.
+     */
+    private void reindex() {
+        idsByName.clear();
+        readersById.clear();
+        borrowerIds.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        soundexIndex.clear();
+        names.clear();
+        for (Reader reader : internalList) {
+            index(nextId++, reader);
+        }
+        positions.reset();
+        contents = PersistentVector.of(internalList);
+    }
+
 }
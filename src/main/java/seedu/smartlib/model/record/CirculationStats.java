@@ -0,0 +1,245 @@
+package seedu.smartlib.model.record;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.smartlib.commons.util.AppUtil.checkArgument;
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.smartlib.model.SmartLib.HOURS_BORROW_ALLOWED;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * Running totals of the loans in a list of records, kept up to date as records are added, replaced and removed, so
+ * that circulation statistics can be read without going through every record.
+ * The dates of a record are parsed once, when it is counted, rather than on every query.
+ */
+public class CirculationStats {
+
+    // buckets of the histogram of loan durations, for loans which have been returned
+    public static final int RETURNED_SAME_DAY = 0;
+    public static final int RETURNED_WITHIN_A_WEEK = 1;
+    public static final int RETURNED_ON_TIME = 2;
+    public static final int RETURNED_OVERDUE = 3;
+    public static final int BUCKET_COUNT = 4;
+
+    private static final long HOURS_PER_DAY = 24;
+    private static final long HOURS_PER_WEEK = 7 * HOURS_PER_DAY;
+
+    private int totalLoans;
+    private int openLoans;
+    private final NavigableMap<LocalDate, Integer> loansByDay = new TreeMap<>();
+    private final Map<YearMonth, Map<Name, Integer>> loansByTitleByMonth = new HashMap<>();
+    private final Map<YearMonth, Map<Name, Integer>> loansByReaderByMonth = new HashMap<>();
+    private final int[] durationHistogram = new int[BUCKET_COUNT];
+    private long totalReturnedSeconds;
+    private int returnedLoans;
+
+    /**
+     * Counts {@code record} in the totals.
+     *
+     * @param record the record added to the list.
+     */
+    void add(Record record) {
+        update(record, 1);
+    }
+
+    /**
+     * Removes {@code record} from the totals.
+     *
+     * @param record the record removed from the list, which must have been counted.
+     */
+    void remove(Record record) {
+        update(record, -1);
+    }
+
+    /**
+     * Resets every total to zero.
+     */
+    void clear() {
+        totalLoans = 0;
+        openLoans = 0;
+        loansByDay.clear();
+        loansByTitleByMonth.clear();
+        loansByReaderByMonth.clear();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            durationHistogram[i] = 0;
+        }
+        totalReturnedSeconds = 0;
+        returnedLoans = 0;
+    }
+
+    /**
+     * Returns the number of loans recorded.
+     *
+     * @return the number of loans recorded.
+     */
+    public int getTotalLoans() {
+        return totalLoans;
+    }
+
+    /**
+     * Returns the number of loans whose book has not been returned yet.
+     *
+     * @return the number of open loans.
+     */
+    public int getOpenLoans() {
+        return openLoans;
+    }
+
+    /**
+     * Returns the number of loans which started between {@code from} and {@code to}, both inclusive.
+     *
+     * @param from the first day counted.
+     * @param to the last day counted.
+     * @return the number of loans started in the period.
+     */
+    public int getLoansBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return loansByDay.subMap(from, true, to, true).values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the number of distinct readers who borrowed at least one book in {@code month}.
+     *
+     * @param month the month.
+     * @return the number of active readers in the month.
+     */
+    public int getActiveReaders(YearMonth month) {
+        requireNonNull(month);
+        return loansByReaderByMonth.getOrDefault(month, Map.of()).size();
+    }
+
+    /**
+     * Returns the titles borrowed most often in {@code month}, with the number of times each was borrowed, from the
+     * most to the least borrowed. Titles borrowed equally often are listed in alphabetical order.
+     *
+     * @param month the month.
+     * @param limit the maximum number of titles to be returned, which must be positive.
+     * @return the most borrowed titles of the month, with their loan counts.
+     */
+    public List<Map.Entry<Name, Integer>> getMostBorrowedTitles(YearMonth month, int limit) {
+        requireNonNull(month);
+        checkArgument(limit > 0, "Limit must be positive: " + limit);
+        List<Map.Entry<Name, Integer>> titles = new ArrayList<>(loansByTitleByMonth.getOrDefault(month, Map.of())
+                .entrySet());
+        titles.sort(Comparator.<Map.Entry<Name, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(entry -> entry.getKey().toString()));
+        List<Map.Entry<Name, Integer>> mostBorrowed = new ArrayList<>();
+        for (Map.Entry<Name, Integer> title : titles.subList(0, Math.min(limit, titles.size()))) {
+            mostBorrowed.add(Map.entry(title.getKey(), title.getValue()));
+        }
+        return mostBorrowed;
+    }
+
+    /**
+     * Returns the number of returned loans whose duration falls in {@code bucket}.
+     *
+     * @param bucket one of the duration buckets, from {@code RETURNED_SAME_DAY} to {@code RETURNED_OVERDUE}.
+     * @return the number of returned loans in the bucket.
+     */
+    public int getReturnedLoans(int bucket) {
+        checkArgument(bucket >= 0 && bucket < BUCKET_COUNT, "Invalid bucket: " + bucket);
+        return durationHistogram[bucket];
+    }
+
+    /**
+     * Returns the number of loans whose book has been returned.
+     *
+     * @return the number of returned loans.
+     */
+    public int getReturnedLoans() {
+        return returnedLoans;
+    }
+
+    /**
+     * Returns the average duration of the loans whose book has been returned.
+     *
+     * @return the average loan duration, or null if no book has been returned.
+     */
+    public Duration getAverageLoanDuration() {
+        if (returnedLoans == 0) {
+            return null;
+        }
+        return Duration.ofSeconds(totalReturnedSeconds / returnedLoans);
+    }
+
+    /**
+     * Adds {@code delta} times the contribution of {@code record} to every total.
+     */
+    private void update(Record record, int delta) {
+        requireNonNull(record);
+        if (record.getDateBorrowed() == null) {
+            return;
+        }
+        LocalDateTime borrowed = LocalDateTime.parse(record.getDateBorrowed().toString());
+        LocalDate day = borrowed.toLocalDate();
+        YearMonth month = YearMonth.from(borrowed);
+
+        totalLoans += delta;
+        addCount(loansByDay, day, delta);
+        addMonthlyCount(loansByTitleByMonth, month, record.getBookName(), delta);
+        addMonthlyCount(loansByReaderByMonth, month, record.getReaderName(), delta);
+
+        if (record.getDateReturned() == null) {
+            openLoans += delta;
+            return;
+        }
+        LocalDateTime returned = LocalDateTime.parse(record.getDateReturned().toString());
+        Duration duration = Duration.between(borrowed, returned);
+        durationHistogram[bucketOf(duration)] += delta;
+        totalReturnedSeconds += delta * duration.getSeconds();
+        returnedLoans += delta;
+    }
+
+    /**
+     * Returns the bucket of the histogram counting loans of the given duration.
+     * A loan is overdue in the same way as in {@code ReturnCommand}, that is, if it lasted more than the allowed
+     * number of whole hours.
+     */
+    private static int bucketOf(Duration duration) {
+        long hours = duration.toHours();
+        if (hours < HOURS_PER_DAY) {
+            return RETURNED_SAME_DAY;
+        } else if (hours <= HOURS_PER_WEEK) {
+            return RETURNED_WITHIN_A_WEEK;
+        } else if (hours <= HOURS_BORROW_ALLOWED) {
+            return RETURNED_ON_TIME;
+        } else {
+            return RETURNED_OVERDUE;
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key} in {@code month}, dropping the month once it has no counts left.
+     */
+    private static void addMonthlyCount(Map<YearMonth, Map<Name, Integer>> countsByMonth, YearMonth month, Name key,
+            int delta) {
+        Map<Name, Integer> counts = countsByMonth.computeIfAbsent(month, unused -> new HashMap<>());
+        addCount(counts, key, delta);
+        if (counts.isEmpty()) {
+            countsByMonth.remove(month);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}, dropping the key once its count reaches zero.
+     */
+    private static <K> void addCount(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+}
@@ -27,6 +27,15 @@ public class Cost {
         return RATES_PER_HOUR * overdueHour;
     }
 
+    /**
+     * Calculate the total cost given the overdue hours, in cents.
+     *
+     * @return The total cost of the overdue book, in cents.
+     */
+    public long getCostInCents() {
+        return Math.round(getCost() * 100);
+    }
+
     /**
      * Returns this Cost in String format.
      *
@@ -16,6 +16,7 @@ public class DateBorrowed {
     public static final String MESSAGE_CONSTRAINTS = "Date should be of the format yyyy-mm-dd ";
 
     private final String value;
+    private final LocalDateTime dateTime;
 
     /**
      * Constructs an {@code DateBorrowed}.
@@ -26,6 +27,7 @@ public class DateBorrowed {
         requireNonNull(date);
         checkArgument(isValidDate(date.toString()), MESSAGE_CONSTRAINTS);
         value = date.toString();
+        dateTime = date;
     }
 
     /**
@@ -37,6 +39,7 @@ public class DateBorrowed {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        dateTime = LocalDateTime.parse(date);
     }
 
     /**
@@ -45,7 +48,16 @@ public class DateBorrowed {
      * @return true if the book is overdue, and false otherwise.
      */
     public boolean isOverdue() {
-        return DAYS.between(LocalDateTime.parse(this.value), LocalDateTime.now()) > DAYS_BORROW_ALLOWED;
+        return DAYS.between(dateTime, LocalDateTime.now()) > DAYS_BORROW_ALLOWED;
+    }
+
+    /**
+     * Returns the date and time at which the book was borrowed.
+     *
+     * @return the date and time at which the book was borrowed.
+     */
+    public LocalDateTime getDateTime() {
+        return dateTime;
     }
 
     /**
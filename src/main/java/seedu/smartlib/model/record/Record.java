@@ -2,8 +2,11 @@ package seedu.smartlib.model.record;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
 
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.StringUtil;
 import seedu.smartlib.model.book.Barcode;
 
 /**
@@ -19,6 +22,9 @@ public class Record {
     // null when creating an borrowing record, is a returned record when dateReturned non-null
     protected final DateReturned dateReturned;
 
+    // lower-case words of the book name, computed on first use
+    private Set<String> bookNameWords;
+
     /**
      * Creates a borrowing record.
      *
@@ -86,6 +92,19 @@ public class Record {
         return bookName;
     }
 
+    /**
+     * Returns the distinct words of the name of the book associated with this record, in lower case.
+     * The words are computed once and then kept, so that record searches only need to look each keyword up.
+     *
+     * @return an unmodifiable set of the lower-case words of the book name.
+     */
+    public Set<String> getBookNameWords() {
+        if (bookNameWords == null) {
+            bookNameWords = bookName == null ? Set.of() : StringUtil.wordsIgnoreCase(bookName.toString());
+        }
+        return bookNameWords;
+    }
+
     /**
      * Retrieves the barcode of the book associated with this record.
      *
@@ -104,6 +123,16 @@ public class Record {
         return readerName;
     }
 
+    /**
+     * Retrieves the integer value of the barcode of the book in this record, which is used as the key of the record
+     * in the index of open records.
+     *
+     * @return id of the book in this record.
+     */
+    public int getBookId() {
+        return barcode.getValue();
+    }
+
     /**
      * Retrieves the borrow date noted in this record.
      *
@@ -139,11 +168,12 @@ public class Record {
             return false;
         }
 
-        if (!otherRecord.getReaderName().equals(this.getReaderName())) {
+        // compare the integer book ids first, as they differ far more often than reader names
+        if (otherRecord.getBookId() != this.getBookId()) {
             return false;
         }
 
-        if (!otherRecord.getBookBarcode().equals(this.getBookBarcode())) {
+        if (!otherRecord.getReaderName().equals(this.getReaderName())) {
             return false;
         }
 
@@ -193,6 +223,17 @@ public class Record {
         return isSameRecord(otherRecord);
     }
 
+    /**
+     * Generates a hashcode for this Record.
+     * Only the book id and reader name are hashed, as records which are the same record may differ in their dates.
+     *
+     * @return the hashcode for this Record.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getBookId(), readerName);
+    }
+
     /**
      * Returns this Record in String format.
      *
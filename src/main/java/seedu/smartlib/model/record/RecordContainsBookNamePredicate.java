@@ -1,7 +1,7 @@
 package seedu.smartlib.model.record;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.smartlib.commons.util.StringUtil;
@@ -12,6 +12,8 @@ import seedu.smartlib.commons.util.StringUtil;
 public class RecordContainsBookNamePredicate implements Predicate<Record> {
 
     private final List<String> keywords;
+    // the keywords in the form held by Record#getBookNameWords()
+    private final List<String> searchKeywords;
 
     /**
      * Creates a RecordContainsBookNamePredicate.
@@ -20,6 +22,16 @@ public class RecordContainsBookNamePredicate implements Predicate<Record> {
      */
     public RecordContainsBookNamePredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.keywordsIgnoreCase(keywords);
+    }
+
+    /**
+     * Returns the keywords searched for.
+     *
+     * @return the keywords searched for.
+     */
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     /**
@@ -30,12 +42,13 @@ public class RecordContainsBookNamePredicate implements Predicate<Record> {
      */
     @Override
     public boolean test(Record record) {
-        record.getBookName();
-        ArrayList<String> bookInfo = new ArrayList<>();
-        bookInfo.add(record.getBookName().toString());
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsAnyIgnoreCase(
-                        bookInfo, keyword));
+        Set<String> bookNameWords = record.getBookNameWords();
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            if (bookNameWords.contains(searchKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
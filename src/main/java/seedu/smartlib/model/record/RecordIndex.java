@@ -0,0 +1,155 @@
+package seedu.smartlib.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * Indexes of a list of records by the time they were borrowed, the time they were returned, and their reader, kept
+ * up to date as records are added, replaced and removed.
+ * The records borrowed or returned within a range of dates are found in O(log n + k) time for k records, and the
+ * records of a reader in time proportional to their number, without going through every record.
+ */
+class RecordIndex {
+
+    private final NavigableMap<LocalDateTime, List<Record>> byDateBorrowed = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, List<Record>> byDateReturned = new TreeMap<>();
+    private final Map<Name, List<Record>> byReader = new HashMap<>();
+
+    /**
+     * Adds {@code record} to every index.
+     *
+     * @param record the record added to the list.
+     */
+    void add(Record record) {
+        requireNonNull(record);
+        if (record.getDateBorrowed() != null) {
+            LocalDateTime dateBorrowed = LocalDateTime.parse(record.getDateBorrowed().toString());
+            byDateBorrowed.computeIfAbsent(dateBorrowed, unused -> new ArrayList<>()).add(record);
+        }
+        if (record.getDateReturned() != null) {
+            LocalDateTime dateReturned = LocalDateTime.parse(record.getDateReturned().toString());
+            byDateReturned.computeIfAbsent(dateReturned, unused -> new ArrayList<>()).add(record);
+        }
+        byReader.computeIfAbsent(record.getReaderName(), unused -> new ArrayList<>()).add(record);
+    }
+
+    /**
+     * Removes {@code record} from every index.
+     *
+     * @param record the record removed from the list, which must have been added.
+     */
+    void remove(Record record) {
+        requireNonNull(record);
+        if (record.getDateBorrowed() != null) {
+            removeFrom(byDateBorrowed, LocalDateTime.parse(record.getDateBorrowed().toString()), record);
+        }
+        if (record.getDateReturned() != null) {
+            removeFrom(byDateReturned, LocalDateTime.parse(record.getDateReturned().toString()), record);
+        }
+        removeFrom(byReader, record.getReaderName(), record);
+    }
+
+    /**
+     * Removes every record from the indexes.
+     */
+    void clear() {
+        byDateBorrowed.clear();
+        byDateReturned.clear();
+        byReader.clear();
+    }
+
+    /**
+     * Returns the records borrowed from {@code from} to {@code to}, both inclusive, oldest first.
+     *
+     * @param from the first day, or null if the range has no start.
+     * @param to the last day, or null if the range has no end.
+     * @return a new list of the records borrowed within the range.
+     */
+    List<Record> getBorrowedBetween(LocalDate from, LocalDate to) {
+        return flatten(between(byDateBorrowed, from, to));
+    }
+
+    /**
+     * Returns the records returned from {@code from} to {@code to}, both inclusive, oldest first.
+     *
+     * @param from the first day, or null if the range has no start.
+     * @param to the last day, or null if the range has no end.
+     * @return a new list of the records returned within the range.
+     */
+    List<Record> getReturnedBetween(LocalDate from, LocalDate to) {
+        return flatten(between(byDateReturned, from, to));
+    }
+
+    /**
+     * Returns the records of the reader named {@code readerName}.
+     *
+     * @param readerName name of the reader.
+     * @return a new list of the reader's records.
+     */
+    List<Record> getRecordsOf(Name readerName) {
+        requireNonNull(readerName);
+        return new ArrayList<>(byReader.getOrDefault(readerName, List.of()));
+    }
+
+    /**
+     * Returns the part of {@code index} from the start of {@code from} to the end of {@code to}.
+     * A missing bound leaves that end of the range open.
+     */
+    private static NavigableMap<LocalDateTime, List<Record>> between(NavigableMap<LocalDateTime, List<Record>> index,
+            LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            return new TreeMap<>();
+        }
+        NavigableMap<LocalDateTime, List<Record>> range = index;
+        if (from != null) {
+            range = range.tailMap(from.atStartOfDay(), true);
+        }
+        if (to != null) {
+            range = range.headMap(to.plusDays(1).atStartOfDay(), false);
+        }
+        return range;
+    }
+
+    /**
+     * Returns the records of every entry of {@code range}, in order.
+     */
+    private static List<Record> flatten(NavigableMap<LocalDateTime, List<Record>> range) {
+        List<Record> records = new ArrayList<>();
+        for (Collection<Record> sameTime : range.values()) {
+            records.addAll(sameTime);
+        }
+        return records;
+    }
+
+    /**
+     * Removes {@code record} itself from the records kept under {@code key}, dropping the key once it has none left.
+     * Records are compared by reference, as records which are equal may still be different entries of the list.
+     */
+    private static <K> void removeFrom(Map<K, List<Record>> index, K key, Record record) {
+        List<Record> records = index.get(key);
+        if (records == null) {
+            return;
+        }
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i) == record) {
+                records.remove(i);
+                break;
+            }
+        }
+        if (records.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+}
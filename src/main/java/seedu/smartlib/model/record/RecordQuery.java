@@ -0,0 +1,241 @@
+package seedu.smartlib.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.smartlib.commons.core.name.Name;
+
+/**
+ * Tests that a {@code Record} satisfies every condition of a query: having a book name containing any of some
+ * keywords, belonging to a reader, or having been borrowed or returned within some dates.
+ * Queries are immutable, and are built up by adding one condition at a time to the empty query, which matches every
+ * record. {@link UniqueRecordList#findRecords(RecordQuery)} answers a query from the index of one of its conditions.
+ */
+public class RecordQuery implements Predicate<Record> {
+
+    private static final RecordQuery EMPTY = new RecordQuery(null, null, null, null, null, null);
+
+    // null where the query has no such condition, and for a missing bound of a date range
+    private final RecordContainsBookNamePredicate bookNamePredicate;
+    private final Name readerName;
+    private final LocalDate borrowedFrom;
+    private final LocalDate borrowedTo;
+    private final LocalDate returnedFrom;
+    private final LocalDate returnedTo;
+
+    private RecordQuery(RecordContainsBookNamePredicate bookNamePredicate, Name readerName, LocalDate borrowedFrom,
+            LocalDate borrowedTo, LocalDate returnedFrom, LocalDate returnedTo) {
+        this.bookNamePredicate = bookNamePredicate;
+        this.readerName = readerName;
+        this.borrowedFrom = borrowedFrom;
+        this.borrowedTo = borrowedTo;
+        this.returnedFrom = returnedFrom;
+        this.returnedTo = returnedTo;
+    }
+
+    /**
+     * Returns the query which matches every record.
+     *
+     * @return the empty query.
+     */
+    public static RecordQuery all() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a copy of this query which requires a record's book name to contain any of the given keywords instead.
+     *
+     * @param keywords the keywords.
+     * @return the new query.
+     */
+    public RecordQuery withAnyWord(List<String> keywords) {
+        requireNonNull(keywords);
+        return new RecordQuery(new RecordContainsBookNamePredicate(keywords), readerName, borrowedFrom, borrowedTo,
+                returnedFrom, returnedTo);
+    }
+
+    /**
+     * Returns a copy of this query which requires a record to belong to the given reader instead.
+     *
+     * @param readerName name of the reader.
+     * @return the new query.
+     */
+    public RecordQuery withReader(Name readerName) {
+        requireNonNull(readerName);
+        return new RecordQuery(bookNamePredicate, readerName, borrowedFrom, borrowedTo, returnedFrom, returnedTo);
+    }
+
+    /**
+     * Returns a copy of this query which requires a record's book to have been borrowed within the given dates
+     * instead. Both bounds are inclusive, and a missing bound leaves that end of the range open.
+     *
+     * @param from the first day, or null if the range has no start.
+     * @param to the last day, or null if the range has no end.
+     * @return the new query.
+     */
+    public RecordQuery withBorrowedBetween(LocalDate from, LocalDate to) {
+        return new RecordQuery(bookNamePredicate, readerName, from, to, returnedFrom, returnedTo);
+    }
+
+    /**
+     * Returns a copy of this query which requires a record's book to have been returned within the given dates
+     * instead. Both bounds are inclusive, and a missing bound leaves that end of the range open.
+     *
+     * @param from the first day, or null if the range has no start.
+     * @param to the last day, or null if the range has no end.
+     * @return the new query.
+     */
+    public RecordQuery withReturnedBetween(LocalDate from, LocalDate to) {
+        return new RecordQuery(bookNamePredicate, readerName, borrowedFrom, borrowedTo, from, to);
+    }
+
+    /**
+     * Returns the keywords which a record's book name must contain one of.
+     *
+     * @return the keywords, or an empty list if the query has no such condition.
+     */
+    public List<String> getKeywords() {
+        return bookNamePredicate == null ? List.of() : bookNamePredicate.getKeywords();
+    }
+
+    /**
+     * Returns the name of the reader whose records are matched.
+     *
+     * @return the name of the reader, or null if the query has no such condition.
+     */
+    public Name getReaderName() {
+        return readerName;
+    }
+
+    /**
+     * Returns the first day of the range of borrowing dates, or null if the range has no start.
+     *
+     * @return the first day of the range of borrowing dates.
+     */
+    public LocalDate getBorrowedFrom() {
+        return borrowedFrom;
+    }
+
+    /**
+     * Returns the last day of the range of borrowing dates, or null if the range has no end.
+     *
+     * @return the last day of the range of borrowing dates.
+     */
+    public LocalDate getBorrowedTo() {
+        return borrowedTo;
+    }
+
+    /**
+     * Returns the first day of the range of return dates, or null if the range has no start.
+     *
+     * @return the first day of the range of return dates.
+     */
+    public LocalDate getReturnedFrom() {
+        return returnedFrom;
+    }
+
+    /**
+     * Returns the last day of the range of return dates, or null if the range has no end.
+     *
+     * @return the last day of the range of return dates.
+     */
+    public LocalDate getReturnedTo() {
+        return returnedTo;
+    }
+
+    /**
+     * Returns true if the query limits the dates on which records were borrowed.
+     *
+     * @return true if the query has a range of borrowing dates, and false otherwise.
+     */
+    public boolean hasBorrowedRange() {
+        return borrowedFrom != null || borrowedTo != null;
+    }
+
+    /**
+     * Returns true if the query limits the dates on which records were returned.
+     *
+     * @return true if the query has a range of return dates, and false otherwise.
+     */
+    public boolean hasReturnedRange() {
+        return returnedFrom != null || returnedTo != null;
+    }
+
+    /**
+     * Returns true if the only condition of the query is on the book name.
+     *
+     * @return true if the query only has keywords, and false otherwise.
+     */
+    public boolean hasKeywordsOnly() {
+        return bookNamePredicate != null && readerName == null && !hasBorrowedRange() && !hasReturnedRange();
+    }
+
+    /**
+     * Tests if the record satisfies every condition of the query.
+     *
+     * @param record the record to be tested.
+     * @return true if the record satisfies every condition, and false otherwise.
+     */
+    @Override
+    public boolean test(Record record) {
+        if (bookNamePredicate != null && !bookNamePredicate.test(record)) {
+            return false;
+        }
+        if (readerName != null && !readerName.equals(record.getReaderName())) {
+            return false;
+        }
+        if (hasBorrowedRange() && (record.getDateBorrowed() == null
+                || !isWithin(record.getDateBorrowed().toString(), borrowedFrom, borrowedTo))) {
+            return false;
+        }
+        return !hasReturnedRange() || (record.getDateReturned() != null
+                && isWithin(record.getDateReturned().toString(), returnedFrom, returnedTo));
+    }
+
+    /**
+     * Returns true if the day of {@code dateTime} is from {@code from} to {@code to}, where missing bounds are open.
+     */
+    private static boolean isWithin(String dateTime, LocalDate from, LocalDate to) {
+        LocalDate day = LocalDateTime.parse(dateTime).toLocalDate();
+        return (from == null || !day.isBefore(from)) && (to == null || !day.isAfter(to));
+    }
+
+    /**
+     * Checks if this RecordQuery is equal to another RecordQuery.
+     *
+     * @param other the other RecordQuery to be compared.
+     * @return true if this RecordQuery is equal to the other RecordQuery, and false otherwise.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof RecordQuery)) { // instanceof handles nulls
+            return false;
+        }
+        RecordQuery otherQuery = (RecordQuery) other;
+        return Objects.equals(bookNamePredicate, otherQuery.bookNamePredicate) // state check
+                && Objects.equals(readerName, otherQuery.readerName)
+                && Objects.equals(borrowedFrom, otherQuery.borrowedFrom)
+                && Objects.equals(borrowedTo, otherQuery.borrowedTo)
+                && Objects.equals(returnedFrom, otherQuery.returnedFrom)
+                && Objects.equals(returnedTo, otherQuery.returnedTo);
+    }
+
+    /**
+     * Generates a hashcode for this RecordQuery.
+     *
+     * @return the hashcode for this RecordQuery.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(getKeywords(), readerName, borrowedFrom, borrowedTo, returnedFrom, returnedTo);
+    }
+
+}
@@ -3,11 +3,18 @@ package seedu.smartlib.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.smartlib.commons.util.PersistentVector;
+import seedu.smartlib.commons.util.PositionIndex;
+import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.record.exceptions.DuplicateRecordException;
 import seedu.smartlib.model.record.exceptions.RecordNotFoundException;
 
@@ -18,6 +25,10 @@ import seedu.smartlib.model.record.exceptions.RecordNotFoundException;
  * unique in terms of identity in the UniqueRecordList. However, the removal of a records uses Record#equals(Object) so
  * as to ensure that the record with exactly the same fields will be removed.
  *
+ * Records which have not been returned yet are indexed by the id of their book, so that the open record of a loan
+ * can be found without scanning the whole history. Running circulation statistics, and indexes of the records by
+ * borrowing date, return date and reader, are kept for the same reason.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Record#isSameRecord(Record)
@@ -28,6 +39,17 @@ public class UniqueRecordList implements Iterable<Record> {
     private final ObservableList<Record> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // records have no field-based key that agrees with isSameRecord, so positions are indexed by reference
+    private final PositionIndex<Record, Record> positions =
+            new PositionIndex<>(internalList, record -> record, new IdentityHashMap<>());
+    // the same records as internalList, kept in a structure which can be snapshotted in constant time
+    private PersistentVector<Record> contents = PersistentVector.empty();
+    // book id -> first open record of that book, and the number of open records of that book
+    private final Map<Integer, Record> openRecords = new HashMap<>();
+    private final Map<Integer, Integer> openRecordCounts = new HashMap<>();
+    private final CirculationStats stats = new CirculationStats();
+    private final RecordIndex recordIndex = new RecordIndex();
+
     /**
      * Returns true if the list contains an equivalent record as the given argument.
      *
@@ -51,6 +73,11 @@ public class UniqueRecordList implements Iterable<Record> {
             throw new DuplicateRecordException();
         }
         internalList.add(toAdd);
+        positions.added(toAdd);
+        contents = contents.append(toAdd);
+        indexOpenRecord(toAdd);
+        stats.add(toAdd);
+        recordIndex.add(toAdd);
     }
 
     /**
@@ -64,16 +91,21 @@ public class UniqueRecordList implements Iterable<Record> {
     public void setRecord(Record target, Record editedRecord) {
         requireAllNonNull(target, editedRecord);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new RecordNotFoundException();
-        }
+        int index = indexOf(target);
 
         if (!target.isSameRecord(editedRecord) && contains(editedRecord)) {
             throw new DuplicateRecordException();
         }
 
-        internalList.set(index, editedRecord);
+        Record replaced = internalList.set(index, editedRecord);
+        positions.replaced(index, replaced, editedRecord);
+        contents = contents.set(index, editedRecord);
+        unindexOpenRecord(replaced);
+        indexOpenRecord(editedRecord);
+        stats.remove(replaced);
+        stats.add(editedRecord);
+        recordIndex.remove(replaced);
+        recordIndex.add(editedRecord);
     }
 
     /**
@@ -84,9 +116,13 @@ public class UniqueRecordList implements Iterable<Record> {
      */
     public void remove(Record toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new RecordNotFoundException();
-        }
+        int index = indexOf(toRemove);
+        Record removed = internalList.remove(index);
+        positions.removed(index, removed);
+        contents = contents.remove(index);
+        unindexOpenRecord(removed);
+        stats.remove(removed);
+        recordIndex.remove(removed);
     }
 
     /**
@@ -97,6 +133,7 @@ public class UniqueRecordList implements Iterable<Record> {
     public void setRecords(UniqueRecordList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -112,6 +149,57 @@ public class UniqueRecordList implements Iterable<Record> {
         }
 
         internalList.setAll(records);
+        reindex();
+    }
+
+    /**
+     * Returns the record of the book with the given barcode which has not been returned yet.
+     *
+     * @param barcode barcode of the book.
+     * @return the open record of the book, or null if there is no such record.
+     */
+    public Record getOpenRecord(Barcode barcode) {
+        requireNonNull(barcode);
+        return openRecords.get(barcode.getValue());
+    }
+
+    /**
+     * Returns the records satisfying {@code query}.
+     * Candidates are taken from the index of the reader, the range of borrowing dates or the range of return dates,
+     * whichever the query has first, so a query with a date range costs O(log n + k) for k records in the range.
+     * Only a query with none of these conditions goes through every record.
+     *
+     * @param query the query to be answered.
+     * @return a new list of the records satisfying {@code query}.
+     */
+    public List<Record> findRecords(RecordQuery query) {
+        requireNonNull(query);
+        List<Record> candidates;
+        if (query.getReaderName() != null) {
+            candidates = recordIndex.getRecordsOf(query.getReaderName());
+        } else if (query.hasBorrowedRange()) {
+            candidates = recordIndex.getBorrowedBetween(query.getBorrowedFrom(), query.getBorrowedTo());
+        } else if (query.hasReturnedRange()) {
+            candidates = recordIndex.getReturnedBetween(query.getReturnedFrom(), query.getReturnedTo());
+        } else {
+            candidates = internalList;
+        }
+        List<Record> result = new ArrayList<>();
+        for (Record record : candidates) {
+            if (query.test(record)) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the circulation statistics of the records in the list, which are kept up to date as the list changes.
+     *
+     * @return the circulation statistics of the records in the list.
+     */
+    public CirculationStats getStats() {
+        return stats;
     }
 
     /**
@@ -123,6 +211,16 @@ public class UniqueRecordList implements Iterable<Record> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable snapshot of the records currently in the list, in order.
+     * The snapshot shares structure with the list, so taking one costs constant time.
+     *
+     * @return an immutable snapshot of the records in the list.
+     */
+    public PersistentVector<Record> snapshot() {
+        return contents;
+    }
+
     /**
      * Returns an iterator for the unique record list.
      *
@@ -173,4 +271,79 @@ public class UniqueRecordList implements Iterable<Record> {
         return true;
     }
 
+    /**
+     * Returns the position of the record equal to {@code target}.
+     * Records held by the list are found through the position index, and any other record through a scan.
+     *
+     * @param target the record to be searched for.
+     * @return the position of the record.
+     * @throws RecordNotFoundException if there is no such record.
+     */
+    private int indexOf(Record target) {
+        int index = positions.indexOf(target);
+        if (index == -1) {
+            index = internalList.indexOf(target);
+        }
+        if (index == -1) {
+            throw new RecordNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code record} to the open record index if it has not been returned.
+     *
+     * @param record the record to be indexed.
+     */
+    private void indexOpenRecord(Record record) {
+        if (record.isReturned()) {
+            return;
+        }
+        openRecordCounts.merge(record.getBookId(), 1, Integer::sum);
+        openRecords.putIfAbsent(record.getBookId(), record);
+    }
+
+    /**
+     * Removes {@code record} from the open record index if it has not been returned.
+     * The list is only rescanned in the unusual case where another open record of the same book remains.
+     *
+     * @param record the record which was removed from the list.
+     */
+    private void unindexOpenRecord(Record record) {
+        if (record.isReturned()) {
+            return;
+        }
+        int bookId = record.getBookId();
+        int remaining = openRecordCounts.merge(bookId, -1, Integer::sum);
+        if (remaining <= 0) {
+            openRecordCounts.remove(bookId);
+            openRecords.remove(bookId);
+        } else if (openRecords.get(bookId) == record) {
+            for (Record r : internalList) {
+                if (r.getBookId() == bookId && !r.isReturned()) {
+                    openRecords.put(bookId, r);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the position, open record, date and reader indexes, and the circulation statistics, from the current
+     * contents of the list.
+     */
+    private void reindex() {
+        positions.reset();
+        contents = PersistentVector.of(internalList);
+        openRecords.clear();
+        openRecordCounts.clear();
+        stats.clear();
+        recordIndex.clear();
+        for (Record record : internalList) {
+            indexOpenRecord(record);
+            stats.add(record);
+            recordIndex.add(record);
+        }
+    }
+
 }
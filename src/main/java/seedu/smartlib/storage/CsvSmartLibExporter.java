@@ -0,0 +1,163 @@
+package seedu.smartlib.storage;
+
+import static seedu.smartlib.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.smartlib.commons.util.CsvUtil;
+import seedu.smartlib.model.ReadOnlySmartLib;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.tag.Tag;
+
+/**
+ * Writes the books, readers and records of SmartLib to CSV files, for use by other systems.
+ * Each item is written straight to a buffered file as it is visited, so no copy of the data is built in memory.
+ * A file is first written under a temporary name and then moved into place, so that other systems reading the
+ * directory never see a half-written file.
+ */
+public class CsvSmartLibExporter {
+
+    public static final String BOOKS_FILE_NAME = "books.csv";
+    public static final String READERS_FILE_NAME = "readers.csv";
+    public static final String RECORDS_FILE_NAME = "records.csv";
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    public static final String[] BOOKS_HEADER = {"title", "author", "publisher", "isbn", "genre", "barcode",
+        "borrower", "date_borrowed"};
+    public static final String[] READERS_HEADER = {"name", "phone", "email", "address", "tags"};
+    public static final String[] RECORDS_HEADER = {"title", "barcode", "reader", "date_borrowed", "date_returned"};
+
+    /**
+     * Writes the books, readers and records of {@code smartLib} to CSV files in {@code directory}, replacing any
+     * files of the same names. The directory is created if it is missing.
+     * If a file cannot be written, the file of the same name which was already in the directory is left unchanged.
+     *
+     * @param smartLib the data to be exported, which must not change while it is being written.
+     * @param directory the directory to write the files to.
+     * @throws IOException if any of the files cannot be written.
+     */
+    public static void export(ReadOnlySmartLib smartLib, Path directory) throws IOException {
+        requireAllNonNull(smartLib, directory);
+        Files.createDirectories(directory);
+        writeFile(directory.resolve(BOOKS_FILE_NAME), writer -> writeBooks(smartLib.getBookList(), writer));
+        writeFile(directory.resolve(READERS_FILE_NAME), writer -> writeReaders(smartLib.getReaderList(), writer));
+        writeFile(directory.resolve(RECORDS_FILE_NAME), writer -> writeRecords(smartLib.getRecordList(), writer));
+    }
+
+    /**
+     * Writes {@code file} under a temporary name in the same directory, then moves it into place.
+     * The temporary file is deleted if it cannot be written or moved.
+     *
+     * @param file the file to be written.
+     * @param contents writes the contents of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void writeFile(Path file, CsvContents contents) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile)) {
+                contents.writeTo(writer);
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Writes a header line, followed by one line for each book.
+     *
+     * @param books the books to be written.
+     * @param writer the writer to write to, which is not closed.
+     * @throws IOException if the books cannot be written.
+     */
+    public static void writeBooks(List<Book> books, Writer writer) throws IOException {
+        requireAllNonNull(books, writer);
+        CsvUtil.writeLine(writer, BOOKS_HEADER);
+        for (Book book : books) {
+            CsvUtil.writeLine(writer, book.getName().toString(), book.getAuthor().toString(),
+                    book.getPublisher().toString(), book.getIsbn().toString(), book.getGenre().toString(),
+                    book.getBarcode().toString(), toStringOrNull(book.getBorrowerName()),
+                    toStringOrNull(book.getDateBorrowed()));
+        }
+    }
+
+    /**
+     * Writes a header line, followed by one line for each reader.
+     * The tags of a reader are written in a single field, separated by spaces.
+     *
+     * @param readers the readers to be written.
+     * @param writer the writer to write to, which is not closed.
+     * @throws IOException if the readers cannot be written.
+     */
+    public static void writeReaders(List<Reader> readers, Writer writer) throws IOException {
+        requireAllNonNull(readers, writer);
+        CsvUtil.writeLine(writer, READERS_HEADER);
+        for (Reader reader : readers) {
+            CsvUtil.writeLine(writer, reader.getName().toString(), reader.getPhone().toString(),
+                    reader.getEmail().toString(), reader.getAddress().toString(), joinTags(reader));
+        }
+    }
+
+    /**
+     * Writes a header line, followed by one line for each record.
+     *
+     * @param records the records to be written.
+     * @param writer the writer to write to, which is not closed.
+     * @throws IOException if the records cannot be written.
+     */
+    public static void writeRecords(List<Record> records, Writer writer) throws IOException {
+        requireAllNonNull(records, writer);
+        CsvUtil.writeLine(writer, RECORDS_HEADER);
+        for (Record record : records) {
+            CsvUtil.writeLine(writer, record.getBookName().toString(), record.getBookBarcode().toString(),
+                    record.getReaderName().toString(), record.getDateBorrowed().toString(),
+                    toStringOrNull(record.getDateReturned()));
+        }
+    }
+
+    /**
+     * Returns the names of the tags of {@code reader}, separated by spaces.
+     */
+    private static String joinTags(Reader reader) {
+        Iterator<Tag> tags = reader.getTags().iterator();
+        if (!tags.hasNext()) {
+            return "";
+        }
+        StringBuilder joined = new StringBuilder(tags.next().getTagName());
+        while (tags.hasNext()) {
+            joined.append(' ').append(tags.next().getTagName());
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Returns the string form of {@code value}, or null if there is no value.
+     */
+    private static String toStringOrNull(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Writes the contents of a CSV file.
+     */
+    @FunctionalInterface
+    private interface CsvContents {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+}
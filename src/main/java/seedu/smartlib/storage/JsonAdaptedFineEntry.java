@@ -0,0 +1,102 @@
+package seedu.smartlib.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.exceptions.IllegalValueException;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.record.DateReturned;
+
+/**
+ * Jackson-friendly version of {@link FineEntry}.
+ */
+class JsonAdaptedFineEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Fine entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_AMOUNT = "Fine entry's amount should not be zero.";
+    public static final String MESSAGE_MISSING_BARCODE = "Fine entry for an overdue book should have a barcode.";
+
+    private final String readerName;
+    private final Long amountInCents;
+    private final String date;
+    private final String barcode;
+
+    /**
+     * Constructs a {@code JsonAdaptedFineEntry} with the given entry details.
+     *
+     * @param readerName name of the reader whose account the entry belongs to.
+     * @param amountInCents the amount charged if positive, or paid if negative.
+     * @param date the date and time of the entry.
+     * @param barcode barcode of the book returned late, which is missing for payments.
+     */
+    @JsonCreator
+    public JsonAdaptedFineEntry(@JsonProperty("readerName") String readerName,
+                                @JsonProperty("amountInCents") Long amountInCents,
+                                @JsonProperty("date") String date,
+                                @JsonProperty("barcode") String barcode) {
+        this.readerName = readerName;
+        this.amountInCents = amountInCents;
+        this.date = date;
+        this.barcode = barcode;
+    }
+
+    /**
+     * Converts a given {@code FineEntry} into this class for Jackson use.
+     *
+     * @param source fine entry to be converted.
+     */
+    public JsonAdaptedFineEntry(FineEntry source) {
+        readerName = source.getReaderName().toString();
+        amountInCents = source.getAmountInCents();
+        date = source.getDate();
+        barcode = source.getBarcode() == null ? null : source.getBarcode().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted fine entry object into the model's {@code FineEntry} object.
+     *
+     * @return FineEntry object converted from the storage file.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted fine entry.
+     */
+    public FineEntry toModelType() throws IllegalValueException {
+        if (readerName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(readerName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Name modelReaderName = new Name(readerName);
+
+        if (amountInCents == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "amountInCents"));
+        }
+        if (amountInCents == 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_AMOUNT);
+        }
+
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        if (!DateReturned.isValidDate(date)) {
+            throw new IllegalValueException(DateReturned.MESSAGE_CONSTRAINTS);
+        }
+
+        final Barcode modelBarcode;
+        if (barcode == null) {
+            if (amountInCents > 0) {
+                throw new IllegalValueException(MESSAGE_MISSING_BARCODE);
+            }
+            modelBarcode = null;
+        } else {
+            if (!Barcode.isValidBarcode(Integer.parseInt(barcode))) {
+                throw new IllegalValueException(Barcode.MESSAGE_CONSTRAINTS);
+            }
+            modelBarcode = new Barcode(Integer.parseInt(barcode));
+        }
+
+        return new FineEntry(modelReaderName, amountInCents, date, modelBarcode);
+    }
+
+}
@@ -0,0 +1,69 @@
+package seedu.smartlib.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.exceptions.IllegalValueException;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.Hold;
+
+/**
+ * Jackson-friendly version of {@link Hold}.
+ */
+class JsonAdaptedHold {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Hold's %s field is missing!";
+
+    private final String readerName;
+    private final String isbn;
+
+    /**
+     * Constructs a {@code JsonAdaptedHold} with the given hold details.
+     *
+     * @param readerName name of the reader who placed the hold.
+     * @param isbn ISBN of the title reserved.
+     */
+    @JsonCreator
+    public JsonAdaptedHold(@JsonProperty("readerName") String readerName, @JsonProperty("isbn") String isbn) {
+        this.readerName = readerName;
+        this.isbn = isbn;
+    }
+
+    /**
+     * Converts a given {@code Hold} into this class for Jackson use.
+     *
+     * @param source hold to be converted.
+     */
+    public JsonAdaptedHold(Hold source) {
+        readerName = source.getReaderName().toString();
+        isbn = source.getIsbn().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted hold object into the model's {@code Hold} object.
+     *
+     * @return Hold object converted from the storage file.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted hold.
+     */
+    public Hold toModelType() throws IllegalValueException {
+        if (readerName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(readerName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Name modelReaderName = new Name(readerName);
+
+        if (isbn == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Isbn.class.getSimpleName()));
+        }
+        if (!Isbn.isValidIsbn(isbn)) {
+            throw new IllegalValueException(Isbn.MESSAGE_CONSTRAINTS);
+        }
+        final Isbn modelIsbn = new Isbn(isbn);
+
+        return new Hold(modelReaderName, modelIsbn);
+    }
+
+}
@@ -14,6 +14,8 @@ import seedu.smartlib.commons.exceptions.IllegalValueException;
 import seedu.smartlib.model.ReadOnlySmartLib;
 import seedu.smartlib.model.SmartLib;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.record.Record;
 
@@ -25,25 +27,39 @@ class JsonSerializableSmartLib {
 
     public static final String MESSAGE_DUPLICATE_BOOK = "Books list contains duplicate book(s).";
     public static final String MESSAGE_DUPLICATE_READER = "Readers list contains duplicate reader(s).";
+    public static final String MESSAGE_DUPLICATE_HOLD = "Holds list contains duplicate hold(s).";
 
     private final List<JsonAdaptedBook> books = new ArrayList<>();
     private final List<JsonAdaptedReader> readers = new ArrayList<>();
     private final List<JsonAdaptedRecord> records = new ArrayList<>();
+    private final List<JsonAdaptedHold> holds = new ArrayList<>();
+    private final List<JsonAdaptedFineEntry> fines = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableSmartLib} with the given books, readers and records.
+     * Constructs a {@code JsonSerializableSmartLib} with the given books, readers, records, holds and fines.
      *
      * @param books list of books in the SmartLib.
      * @param readers list of readers in the SmartLib.
      * @param records list of records in the SmartLib.
+     * @param holds list of holds in the SmartLib, which is missing from files saved before holds existed.
+     * @param fines list of fines and payments in the SmartLib, which is missing from files saved before fines were
+     *              kept.
      */
     @JsonCreator
     public JsonSerializableSmartLib(@JsonProperty("books") List<JsonAdaptedBook> books,
                                     @JsonProperty("readers") List<JsonAdaptedReader> readers,
-                                    @JsonProperty("records") List<JsonAdaptedRecord> records) {
+                                    @JsonProperty("records") List<JsonAdaptedRecord> records,
+                                    @JsonProperty("holds") List<JsonAdaptedHold> holds,
+                                    @JsonProperty("fines") List<JsonAdaptedFineEntry> fines) {
         this.books.addAll(books);
         this.readers.addAll(readers);
         this.records.addAll(records);
+        if (holds != null) {
+            this.holds.addAll(holds);
+        }
+        if (fines != null) {
+            this.fines.addAll(fines);
+        }
     }
 
     /**
@@ -55,6 +71,8 @@ class JsonSerializableSmartLib {
         books.addAll(source.getBookList().stream().map(JsonAdaptedBook::new).collect(Collectors.toList()));
         readers.addAll(source.getReaderList().stream().map(JsonAdaptedReader::new).collect(Collectors.toList()));
         records.addAll(source.getRecordList().stream().map(JsonAdaptedRecord::new).collect(Collectors.toList()));
+        holds.addAll(source.getHoldList().stream().map(JsonAdaptedHold::new).collect(Collectors.toList()));
+        fines.addAll(source.getFineList().stream().map(JsonAdaptedFineEntry::new).collect(Collectors.toList()));
     }
 
     /**
@@ -88,6 +106,20 @@ class JsonSerializableSmartLib {
             smartLib.addRecord(record);
         }
 
+        for (JsonAdaptedHold jsonAdaptedHold : holds) {
+            Hold hold = jsonAdaptedHold.toModelType();
+            if (smartLib.hasHold(hold)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_HOLD);
+            }
+            smartLib.addHold(hold);
+        }
+
+        List<FineEntry> fineEntries = new ArrayList<>();
+        for (JsonAdaptedFineEntry jsonAdaptedFineEntry : fines) {
+            fineEntries.add(jsonAdaptedFineEntry.toModelType());
+        }
+        smartLib.setFines(fineEntries);
+
         return smartLib;
     }
 
@@ -8,6 +8,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Book;
 
 
@@ -50,14 +51,17 @@ public class BookCard extends UiPart<Region> {
     private FlowPane tags;
     @FXML
     private Label borrowerName;
+    @FXML
+    private Label availability;
 
     /**
-     * Creates a {@code BookCard} with the given {@code Book} and index to display.
+     * Creates a {@code BookCard} with the given {@code Book}, index and availability of its title to display.
      *
      * @param book book to be displayed.
      * @param displayedIndex index which the book is displayed at.
+     * @param titleAvailability number of copies of the book, and how many of them are not on loan.
      */
-    public BookCard(Book book, int displayedIndex) {
+    public BookCard(Book book, int displayedIndex, Availability titleAvailability) {
         super(FXML);
         this.book = book;
         id.setText(displayedIndex + ". ");
@@ -73,6 +77,7 @@ public class BookCard extends UiPart<Region> {
                     .format(DateTimeFormatter.ofPattern("d MMM yyyy"))
                 : "Available"
         );
+        availability.setText(titleAvailability.toString());
     }
 
     /**
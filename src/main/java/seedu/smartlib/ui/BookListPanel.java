@@ -8,6 +8,8 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.smartlib.commons.core.LogsCenter;
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Book;
 
 /**
@@ -18,6 +20,8 @@ public class BookListPanel extends UiPart<Region> {
     private static final String FXML = "BookListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(BookListPanel.class);
 
+    private final AvailabilityCounter availabilityCounter;
+
     @FXML
     private ListView<Book> bookListView;
 
@@ -25,9 +29,11 @@ public class BookListPanel extends UiPart<Region> {
      * Creates a {@code BookListPanel} with the given {@code ObservableList}.
      *
      * @param bookList the given book list.
+     * @param availabilityCounter source of the number of available copies of each book.
      */
-    public BookListPanel(ObservableList<Book> bookList) {
+    public BookListPanel(ObservableList<Book> bookList, AvailabilityCounter availabilityCounter) {
         super(FXML);
+        this.availabilityCounter = availabilityCounter;
         bookListView.setItems(bookList);
         bookListView.setCellFactory(listView -> new BookListViewCell());
     }
@@ -45,10 +51,23 @@ public class BookListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new BookCard(book, getIndex() + 1).getRoot());
+                setGraphic(new BookCard(book, getIndex() + 1, availabilityCounter.count(book.getName())).getRoot());
             }
         }
 
     }
 
+    /**
+     * Represents a function that counts the available copies of a book.
+     */
+    @FunctionalInterface
+    public interface AvailabilityCounter {
+        /**
+         * Returns the number of copies of the book, and how many of them are not on loan.
+         *
+         * @see seedu.smartlib.logic.Logic#getAvailability(Name)
+         */
+        Availability count(Name bookName);
+    }
+
 }
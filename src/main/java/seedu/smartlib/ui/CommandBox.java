@@ -1,36 +1,65 @@
 package seedu.smartlib.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import seedu.smartlib.commons.core.LogsCenter;
 import seedu.smartlib.logic.commands.CommandResult;
 import seedu.smartlib.logic.commands.exceptions.CommandException;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While the user types, completions of the command are computed on a background thread and shown below the box.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    private static final Logger logger = LogsCenter.getLogger(CommandBox.class);
+
     private final CommandExecutor commandExecutor;
+    private final CommandSuggester commandSuggester;
+    private final ContextMenu suggestionMenu = new ContextMenu();
+    private final ExecutorService suggestionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-suggestions");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // identifies the latest request for suggestions, so that results for outdated text are discarded
+    private final AtomicLong latestRequest = new AtomicLong();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandSuggester}.
      *
      * @param commandExecutor executor of the given command.
+     * @param commandSuggester source of completions of the command being typed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandSuggester commandSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandSuggester = commandSuggester;
+        // calls #setStyleToDefault() and #requestSuggestions(String) whenever there is a change to the text of
+        // the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestSuggestions(newText);
+        });
     }
 
     /**
@@ -51,6 +80,62 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Starts computing completions of {@code commandText} on the background thread.
+     * The completions are shown when they are ready, unless the text has changed again in the meantime.
+     *
+     * @param commandText the text typed so far.
+     */
+    private void requestSuggestions(String commandText) {
+        long request = latestRequest.incrementAndGet();
+        if (commandText.isBlank()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        suggestionExecutor.execute(() -> {
+            if (request != latestRequest.get()) {
+                return; // the text has changed again before this request was started
+            }
+            try {
+                List<String> suggestions = commandSuggester.suggest(commandText);
+                Platform.runLater(() -> showSuggestions(request, suggestions));
+            } catch (RuntimeException e) {
+                logger.warning("Could not compute suggestions for: " + commandText + " " + e);
+            }
+        });
+    }
+
+    /**
+     * Shows {@code suggestions} below the command box, if they are for the latest text.
+     *
+     * @param request the request the suggestions were computed for.
+     * @param suggestions the suggested command texts.
+     */
+    private void showSuggestions(long request, List<String> suggestions) {
+        if (request != latestRequest.get()) {
+            return;
+        }
+        if (suggestions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        suggestionMenu.getItems().clear();
+        for (String suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> {
+                commandTextField.setText(suggestion);
+                commandTextField.positionCaret(suggestion.length());
+            });
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -84,4 +169,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of a partially typed command.
+     * It is called on a background thread.
+     */
+    @FunctionalInterface
+    public interface CommandSuggester {
+        /**
+         * Returns completions of the command being typed.
+         *
+         * @see seedu.smartlib.logic.Logic#getSuggestions(String)
+         */
+        List<String> suggest(String commandText);
+    }
+
 }
@@ -130,7 +130,7 @@ public class MainWindow extends UiPart<Stage> {
         readerListPanel = new ReaderListPanel(logic.getFilteredReaderList());
         readerListPanelPlaceholder.getChildren().add(readerListPanel.getRoot());
 
-        bookListPanel = new BookListPanel(logic.getFilteredBookList());
+        bookListPanel = new BookListPanel(logic.getFilteredBookList(), logic::getAvailability);
         bookListPanelPlaceholder.getChildren().add(bookListPanel.getRoot());
 
         recordListPanel = new RecordListPanel(logic.getFilteredRecordList());
@@ -142,7 +142,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getSmartLibFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getSuggestions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
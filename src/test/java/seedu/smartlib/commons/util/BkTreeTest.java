@@ -0,0 +1,72 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void add_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void add_duplicateWord_keptOnce() {
+        tree.add("meier");
+        tree.add("meier");
+        tree.add("meyer");
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertEquals(Map.of(), tree.search("alice", 2));
+    }
+
+    @Test
+    public void search_returnsWordsWithinDistance() {
+        for (String word : new String[] {"alice", "benson", "meier", "meyer", "mueller", "kurz", "kunz", "best"}) {
+            tree.add(word);
+        }
+
+        assertEquals(Map.of("meier", 0, "meyer", 1), tree.search("meier", 1));
+        assertEquals(Map.of("kurz", 1, "kunz", 2), tree.search("kurtz", 2));
+        assertEquals(Map.of(), tree.search("zzz", 1));
+    }
+
+    @Test
+    public void search_matchesBruteForce() {
+        String[] words = {"book", "books", "cake", "boo", "boon", "cook", "cape", "cart", "bake", "brook"};
+        for (String word : words) {
+            tree.add(word);
+        }
+        for (String query : new String[] {"bok", "cak", "brooks", "x"}) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> expected = new HashMap<>();
+                for (String word : words) {
+                    int distance = StringUtil.editDistance(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, tree.search(query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        tree.add("alice");
+        tree.clear();
+        assertEquals(0, tree.size());
+        assertEquals(Map.of(), tree.search("alice", 0));
+    }
+
+}
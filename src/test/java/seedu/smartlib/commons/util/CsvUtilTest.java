@@ -0,0 +1,54 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_plainFields() {
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", " b", "c"), CsvUtil.parseLine("a, b,c"));
+        assertEquals(List.of("a", "", ""), CsvUtil.parseLine("a,,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields() {
+        assertEquals(List.of("Hello, World", "say \"hi\""), CsvUtil.parseLine("\"Hello, World\",\"say \"\"hi\"\"\""));
+        assertEquals(List.of("", "x"), CsvUtil.parseLine("\"\",x"));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, ()
+            -> CsvUtil.parseLine("\"Hello, World"));
+    }
+
+    @Test
+    public void writeLine_fieldsNeedingQuotes_quoted() throws Exception {
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeLine(writer, "a", null, "Hello, World", "say \"hi\"");
+        CsvUtil.writeLine(writer);
+        assertEquals("a,,\"Hello, World\",\"say \"\"hi\"\"\"\n\n", writer.toString());
+    }
+
+    @Test
+    public void writeLine_parseLine_roundTrip() throws Exception {
+        List<String> fields = List.of("", " spaced ", "\"", ",", "a\"b,c");
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeLine(writer, fields.toArray(new String[0]));
+        String line = writer.toString();
+        assertEquals(fields, CsvUtil.parseLine(line.substring(0, line.length() - 1)));
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, Integer> cache = new LruCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+    }
+
+    @Test
+    public void put_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // reading "a" makes "b" the least recently used
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+
+        // replacing a value does not evict anything
+        cache.put("c", 4);
+        assertEquals(2, cache.size());
+        assertEquals(4, cache.get("c"));
+    }
+
+    @Test
+    public void clear_removesEveryEntry() {
+        cache.put("a", 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+}
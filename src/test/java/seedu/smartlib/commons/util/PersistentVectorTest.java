@@ -0,0 +1,122 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // large enough to need three levels of the tree
+    private static final int LARGE_SIZE = 40000;
+
+    @Test
+    public void empty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertEquals(0, vector.size());
+        assertEquals(Collections.emptyList(), vector.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(0));
+    }
+
+    @Test
+    public void append_manyElements_allRetrievable() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(LARGE_SIZE, vector.size());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i, vector.get(i));
+        }
+    }
+
+    @Test
+    public void set_manyElements_oldVersionUnchanged() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected.add(i);
+        }
+        PersistentVector<Integer> original = PersistentVector.of(expected);
+        PersistentVector<Integer> updated = original;
+        for (int i = 0; i < LARGE_SIZE; i += 7) {
+            updated = updated.set(i, -i);
+        }
+
+        assertEquals(expected, original.asList());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            assertEquals(i % 7 == 0 ? -i : i, updated.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> original.set(LARGE_SIZE, 0));
+    }
+
+    @Test
+    public void append_afterSnapshot_snapshotUnchanged() {
+        PersistentVector<String> snapshot = PersistentVector.of(Arrays.asList("a", "b"));
+        PersistentVector<String> appended = snapshot.append("c");
+        assertEquals(Arrays.asList("a", "b"), snapshot.asList());
+        assertEquals(Arrays.asList("a", "b", "c"), appended.asList());
+    }
+
+    @Test
+    public void remove_eachPosition_oldVersionUnchanged() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected.add(i);
+        }
+        PersistentVector<Integer> original = PersistentVector.of(expected);
+
+        // positions at the start, around leaf and level boundaries, and in the tail
+        for (int index : new int[] {0, 31, 32, 1023, 1024, 1055, 32767, 32768, LARGE_SIZE - 33, LARGE_SIZE - 1}) {
+            List<Integer> removed = new ArrayList<>(expected);
+            removed.remove(index);
+            assertEquals(removed, original.remove(index).asList());
+        }
+        assertEquals(expected, original.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> original.remove(LARGE_SIZE));
+    }
+
+    @Test
+    public void remove_untilEmpty_appendStillWorks() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.append(i);
+        }
+        while (vector.size() > 0) {
+            vector = vector.remove(vector.size() - 1);
+        }
+        assertEquals(Collections.emptyList(), vector.asList());
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(1099, vector.get(1099));
+    }
+
+    @Test
+    public void truncate_levelBoundary_appendStillWorks() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            expected.add(i);
+        }
+        PersistentVector<Integer> truncated = PersistentVector.of(expected).truncate(1056);
+        assertEquals(expected.subList(0, 1056), truncated.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> truncated.truncate(-1));
+
+        PersistentVector<Integer> appended = truncated;
+        for (int i = 1056; i < LARGE_SIZE; i++) {
+            appended = appended.append(i);
+        }
+        assertEquals(expected, appended.asList());
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        PersistentVector<String> vector = PersistentVector.of(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.asList().add("c"));
+    }
+
+}
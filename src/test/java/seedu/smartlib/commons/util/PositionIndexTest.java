@@ -0,0 +1,92 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private PositionIndex<String, String> index;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        index = new PositionIndex<>(list, Function.identity());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PositionIndex<String, String>(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> new PositionIndex<String, String>(list, null));
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(4, index.indexOf("e"));
+        assertEquals(-1, index.indexOf("z"));
+        assertTrue(index.containsKey("c"));
+        assertFalse(index.containsKey("z"));
+    }
+
+    @Test
+    public void added_appendedElement_found() {
+        list.add("f");
+        index.added("f");
+        assertEquals(5, index.indexOf("f"));
+    }
+
+    @Test
+    public void addedFrom_appendedElements_found() {
+        list.addAll(Arrays.asList("f", "g"));
+        index.addedFrom(5);
+        assertEquals(5, index.indexOf("f"));
+        assertEquals(6, index.indexOf("g"));
+        assertEquals(4, index.indexOf("e"));
+    }
+
+    @Test
+    public void replaced_newKey_found() {
+        list.set(2, "x");
+        index.replaced(2, "c", "x");
+        assertEquals(2, index.indexOf("x"));
+        assertEquals(-1, index.indexOf("c"));
+    }
+
+    @Test
+    public void removed_laterPositionsShifted() {
+        list.remove(1);
+        index.removed(1, "b");
+        list.remove(2);
+        index.removed(2, "d");
+        list.add("f");
+        index.added("f");
+
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(-1, index.indexOf("b"));
+        assertEquals(1, index.indexOf("c"));
+        assertEquals(-1, index.indexOf("d"));
+        assertEquals(2, index.indexOf("e"));
+        assertEquals(3, index.indexOf("f"));
+    }
+
+    @Test
+    public void reset_rebuildsFromList() {
+        list.clear();
+        list.add("z");
+        index.reset();
+        assertEquals(0, index.indexOf("z"));
+        assertEquals(-1, index.indexOf("a"));
+    }
+
+}
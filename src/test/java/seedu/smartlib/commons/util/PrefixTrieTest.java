@@ -0,0 +1,68 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_emptyTrie_noCompletions() {
+        assertEquals(Collections.emptyList(), trie.complete("a", 5));
+    }
+
+    @Test
+    public void complete_caseInsensitiveInAlphabeticalOrder() {
+        trie.add("Harry Potter");
+        trie.add("Harry Potter");
+        trie.add("harbour");
+        trie.add("Legacy");
+        trie.add("Hamlet");
+
+        assertEquals(Arrays.asList("harbour", "Harry Potter"), trie.complete("HAR", 5));
+        assertEquals(Arrays.asList("Hamlet", "harbour", "Harry Potter"), trie.complete("h", 5));
+        assertEquals(Arrays.asList("Hamlet", "harbour"), trie.complete("h", 2));
+        assertEquals(Arrays.asList("Hamlet", "harbour", "Harry Potter", "Legacy"), trie.complete("", 5));
+        assertEquals(Collections.emptyList(), trie.complete("Harry Potter and", 5));
+    }
+
+    @Test
+    public void remove_keptUntilEveryOccurrenceRemoved() {
+        trie.add("Harry Potter");
+        trie.add("Harry Potter");
+        trie.add("Harry");
+
+        trie.remove("Harry Potter");
+        assertEquals(Arrays.asList("Harry", "Harry Potter"), trie.complete("harry", 5));
+
+        trie.remove("Harry Potter");
+        assertEquals(Arrays.asList("Harry"), trie.complete("harry", 5));
+
+        // removing a value which is not present does nothing
+        trie.remove("Harry Potter");
+        trie.remove("Hermione");
+        assertEquals(Arrays.asList("Harry"), trie.complete("h", 5));
+
+        trie.remove("Harry");
+        assertEquals(Collections.emptyList(), trie.complete("", 5));
+    }
+
+    @Test
+    public void clear_removesAllValues() {
+        trie.add("Harry");
+        trie.clear();
+        assertEquals(Collections.emptyList(), trie.complete("", 5));
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.smartlib.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SparseBitSetTest {
+
+    private final SparseBitSet set = new SparseBitSet();
+
+    @Test
+    public void get_emptySet_returnsFalse() {
+        assertFalse(set.get(0));
+        assertFalse(set.get(Integer.MAX_VALUE));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    public void setAndClear_farApartMembers_tracked() {
+        set.set(3);
+        set.set(1_000_000_000);
+        set.set(1_000_000_000);
+
+        assertTrue(set.get(3));
+        assertTrue(set.get(1_000_000_000));
+        assertFalse(set.get(4));
+        assertFalse(set.get(999_999_999));
+        assertEquals(2, set.size());
+
+        set.clear(3);
+        set.clear(5);
+        assertFalse(set.get(3));
+        assertEquals(1, set.size());
+
+        set.clear();
+        assertFalse(set.get(1_000_000_000));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    public void isClear() {
+        set.set(2000);
+
+        assertTrue(set.isClear(0, 2000));
+        assertTrue(set.isClear(2001, Integer.MAX_VALUE));
+        assertTrue(set.isClear(2000, 2000));
+        assertFalse(set.isClear(1999, 2001));
+        assertFalse(set.isClear(0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void invalidArguments_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> set.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> set.set(-1));
+        assertThrows(IllegalArgumentException.class, () -> set.isClear(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> set.isClear(-1, 4));
+    }
+
+}
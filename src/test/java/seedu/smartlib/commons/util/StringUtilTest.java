@@ -1,10 +1,13 @@
 package seedu.smartlib.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.smartlib.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,89 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for wordsIgnoreCase --------------------------------------
+
+    @Test
+    public void wordsIgnoreCase_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.wordsIgnoreCase("abc", null));
+    }
+
+    @Test
+    public void wordsIgnoreCase() {
+        assertEquals(Set.of(), StringUtil.wordsIgnoreCase());
+        assertEquals(Set.of(), StringUtil.wordsIgnoreCase("  ", ""));
+        assertEquals(Set.of("aaa", "bbb", "ccc"), StringUtil.wordsIgnoreCase("  AAA bBb ", "ccc\tbbb"));
+    }
+
+    @Test
+    public void wordListIgnoreCase() {
+        assertThrows(NullPointerException.class, () -> StringUtil.wordListIgnoreCase(null));
+        assertEquals(List.of(), StringUtil.wordListIgnoreCase("  "));
+        assertEquals(List.of("aaa", "bbb", "ccc", "bbb"), StringUtil.wordListIgnoreCase("  AAA bBb ccc\tbbb"));
+    }
+
+    @Test
+    public void keywordsIgnoreCase() {
+        assertEquals(List.of(), StringUtil.keywordsIgnoreCase(List.of()));
+        assertEquals(List.of("abc", "def"), StringUtil.keywordsIgnoreCase(List.of(" ABc ", "", "  ", "dEF")));
+
+        // a keyword is found in a sentence exactly when containsWordIgnoreCase finds it
+        Set<String> words = StringUtil.wordsIgnoreCase("AAA bBb ccc  bbb");
+        assertTrue(words.contains(StringUtil.keywordsIgnoreCase(List.of("bbB")).get(0)));
+        assertFalse(words.contains(StringUtil.keywordsIgnoreCase(List.of("bb")).get(0)));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc")); // insertions only
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alic")); // deletion
+        assertEquals(1, StringUtil.editDistance("alice", "alica")); // substitution
+        assertEquals(2, StringUtil.editDistance("alice", "alcie")); // transposition counts as two edits
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for soundex --------------------------------------
+
+    @Test
+    public void soundex_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.soundex(null));
+    }
+
+    @Test
+    public void soundex() {
+        // no letters
+        assertEquals("", StringUtil.soundex(""));
+        assertEquals("", StringUtil.soundex("123-"));
+
+        // padded with zeroes, case-insensitive
+        assertEquals("L000", StringUtil.soundex("Lee"));
+        assertEquals("R163", StringUtil.soundex("ROBERT"));
+        assertEquals("R163", StringUtil.soundex("rupert"));
+
+        // adjacent letters with the same digit, including the first letter, are coded once
+        assertEquals("P236", StringUtil.soundex("Pfister"));
+        assertEquals("J250", StringUtil.soundex("Jackson"));
+
+        // H and W do not separate letters with the same digit, but vowels do
+        assertEquals("A261", StringUtil.soundex("Ashcraft"));
+        assertEquals("T522", StringUtil.soundex("Tymczak"));
+
+        // transliterations
+        assertEquals(StringUtil.soundex("Mohammed"), StringUtil.soundex("Muhamad"));
+        assertEquals(StringUtil.soundex("Meyer"), StringUtil.soundex("Maier"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,66 @@
+package seedu.smartlib.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.book.Barcode;
+
+public class AutocompleterTest {
+
+    private final Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+    private final Autocompleter autocompleter = new Autocompleter(model);
+
+    @Test
+    public void constructor_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Autocompleter(null));
+    }
+
+    @Test
+    public void suggest_readerPrefix_completesReaderName() {
+        assertEquals(Collections.singletonList("borrow bc/1500000000 r/Alice Pauline"),
+                autocompleter.suggest("borrow bc/1500000000 r/ali"));
+        assertEquals(Arrays.asList("borrow r/ Daniel Meier"), autocompleter.suggest("borrow r/ DANI"));
+    }
+
+    @Test
+    public void suggest_barcodePrefix_completesBarcode() {
+        // the typical books have consecutive barcodes, starting from this one
+        String barcode = (Barcode.MAX_VALUE / 2) + "";
+        assertEquals("return bc/" + barcode, autocompleter.suggest("return bc/" + barcode.substring(0, 9)).get(0));
+    }
+
+    @Test
+    public void suggest_bookPrefix_completesTitle() {
+        assertEquals(Collections.singletonList("addbook b/Harry Potter and the Sorcerers Stone"),
+                autocompleter.suggest("addbook b/harry p"));
+    }
+
+    @Test
+    public void suggest_findKeywords_completesNames() {
+        assertEquals(Collections.singletonList("findreader Carl Kurz"), autocompleter.suggest("findreader car"));
+        assertEquals(Collections.singletonList("findbook The Secret"), autocompleter.suggest("findbook the s"));
+    }
+
+    @Test
+    public void suggest_nothingToComplete_noSuggestions() {
+        // value already typed in full
+        assertEquals(Collections.emptyList(), autocompleter.suggest("borrow r/Alice Pauline"));
+
+        // no matching value
+        assertEquals(Collections.emptyList(), autocompleter.suggest("borrow r/Zed"));
+
+        // command without completable values
+        assertEquals(Collections.emptyList(), autocompleter.suggest("listbook"));
+        assertEquals(Collections.emptyList(), autocompleter.suggest("deletereader 1"));
+    }
+
+}
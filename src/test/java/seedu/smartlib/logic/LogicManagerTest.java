@@ -1,6 +1,7 @@
 package seedu.smartlib.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.smartlib.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.smartlib.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.smartlib.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -13,6 +14,7 @@ import static seedu.smartlib.testutil.TypicalModels.RECORD_A;
 import static seedu.smartlib.testutil.TypicalModels.SECRET;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -25,6 +27,7 @@ import seedu.smartlib.commons.core.GuiSettings;
 import seedu.smartlib.logic.commands.AddReaderCommand;
 import seedu.smartlib.logic.commands.CommandResult;
 import seedu.smartlib.logic.commands.DeleteReaderCommand;
+import seedu.smartlib.logic.commands.ExportCommand;
 import seedu.smartlib.logic.commands.ListReaderCommand;
 import seedu.smartlib.logic.commands.exceptions.CommandException;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
@@ -36,6 +39,7 @@ import seedu.smartlib.model.UserPrefs;
 import seedu.smartlib.model.book.Book;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.storage.CsvSmartLibExporter;
 import seedu.smartlib.storage.JsonSmartLibStorage;
 import seedu.smartlib.storage.JsonUserPrefsStorage;
 import seedu.smartlib.storage.StorageManager;
@@ -99,6 +103,24 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_exportFailed_failureReportedWithNextCommand() throws Exception {
+        // a non-empty directory cannot be replaced by the exported books
+        Path exportFolder = temporaryFolder.resolve("export");
+        Path books = Files.createDirectories(exportFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME));
+        Files.createFile(books.resolve("inside"));
+        logic.execute(ExportCommand.COMMAND_WORD + " " + exportFolder);
+
+        // waits for the export to finish
+        logic.shutdown();
+
+        CommandResult result = logic.execute(ListReaderCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().startsWith(ListReaderCommand.MESSAGE_SUCCESS + "\n"
+                + String.format(ExportCommand.MESSAGE_EXPORT_FAILED, exportFolder, "")));
+        assertEquals(ListReaderCommand.MESSAGE_SUCCESS, logic.execute(ListReaderCommand.COMMAND_WORD)
+                .getFeedbackToUser());
+    }
+
     @Test
     public void getSmartLib() {
         // EP: empty SmartLib
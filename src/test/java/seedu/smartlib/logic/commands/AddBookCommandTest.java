@@ -8,12 +8,14 @@ import static seedu.smartlib.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.smartlib.logic.commands.exceptions.CommandException;
 import seedu.smartlib.model.ReadOnlySmartLib;
 import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
 import seedu.smartlib.testutil.BookBuilder;
 
@@ -33,6 +35,25 @@ public class AddBookCommandTest {
         assertEquals(Arrays.asList(validBook), modelStub.booksAdded);
     }
 
+    @Test
+    public void execute_severalCopies_addedInOneChange() throws Exception {
+        ModelStubAcceptingBookAdded modelStub = new ModelStubAcceptingBookAdded();
+        Book validBook = new BookBuilder().build();
+
+        CommandResult commandResult = new AddBookCommand(validBook, 3).execute(modelStub);
+
+        assertEquals(String.format(AddBookCommand.MESSAGE_SUCCESS_COPIES, 3, validBook.getName(),
+                new Barcode(Barcode.MIN_VALUE), new Barcode(Barcode.MIN_VALUE + 2)),
+                commandResult.getFeedbackToUser());
+        assertEquals(1, modelStub.changes);
+        assertEquals(3, modelStub.booksAdded.size());
+        for (int i = 0; i < 3; i++) {
+            Book copy = modelStub.booksAdded.get(i);
+            assertEquals(new Barcode(Barcode.MIN_VALUE + i), copy.getBarcode());
+            assertEquals(validBook.getIsbn(), copy.getIsbn());
+        }
+    }
+
     @Test
     public void execute_duplicateBook_throwsCommandException() {
         Book validBook = new BookBuilder().build();
@@ -65,6 +86,9 @@ public class AddBookCommandTest {
 
         // different reader -> returns false
         assertFalse(addHarryCommand.equals(addLandCommand));
+
+        // different number of copies -> returns false
+        assertFalse(addHarryCommand.equals(new AddBookCommand(harry, 2)));
     }
 
     /**
@@ -90,6 +114,7 @@ public class AddBookCommandTest {
      */
     private class ModelStubAcceptingBookAdded extends ModelStub {
         final ArrayList<Book> booksAdded = new ArrayList<>();
+        private int changes;
 
         @Override
         public boolean hasBook(Book book) {
@@ -103,6 +128,22 @@ public class AddBookCommandTest {
             booksAdded.add(book);
         }
 
+        @Override
+        public void addBooks(List<Book> books) {
+            requireNonNull(books);
+            changes++;
+            booksAdded.addAll(books);
+        }
+
+        @Override
+        public List<Barcode> allocateBarcodes(int count) {
+            List<Barcode> barcodes = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                barcodes.add(new Barcode(Barcode.MIN_VALUE + booksAdded.size() + i));
+            }
+            return barcodes;
+        }
+
         @Override
         public ReadOnlySmartLib getSmartLib() {
             return new SmartLib();
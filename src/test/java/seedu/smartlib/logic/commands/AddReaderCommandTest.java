@@ -9,6 +9,7 @@ import static seedu.smartlib.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,11 +22,19 @@ import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ReadOnlySmartLib;
 import seedu.smartlib.model.ReadOnlyUserPrefs;
 import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
+import seedu.smartlib.model.record.CirculationStats;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.record.RecordQuery;
 import seedu.smartlib.testutil.ReaderBuilder;
 
 public class AddReaderCommandTest {
@@ -154,6 +163,11 @@ public class AddReaderCommandTest {
             return null;
         }
 
+        @Override
+        public Availability getAvailability(Name bookName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Name getBookNameForReturn(Barcode barcode) {
             return null;
@@ -219,11 +233,21 @@ public class AddReaderCommandTest {
             return false;
         }
 
+        @Override
+        public boolean canReaderBorrow(Name readerName, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecord(Record record) {
             return false;
         }
 
+        @Override
+        public boolean hasOpenRecord(Barcode barcode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean borrowBook(Name readerName, Barcode barcode) {
             return false;
@@ -234,6 +258,56 @@ public class AddReaderCommandTest {
             return false;
         }
 
+        @Override
+        public void borrowBooks(List<Record> borrowRecords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Record> returnBooks(List<Barcode> barcodes, DateReturned dateReturned) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasHold(Hold hold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addHold(Hold hold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeHold(Hold hold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Record lendToNextHolder(Barcode barcode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CirculationStats getCirculationStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getOutstandingFines(Name readerName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FineEntry> getFineEntries(Name readerName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addFinePayment(FineEntry payment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteBook(Book target) {
 
@@ -249,6 +323,16 @@ public class AddReaderCommandTest {
 
         }
 
+        @Override
+        public void addBooks(List<Book> books) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Barcode> allocateBarcodes(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ArrayList<Book> getBooksByName(Name bookName) {
             return null;
@@ -279,6 +363,41 @@ public class AddReaderCommandTest {
 
         }
 
+        @Override
+        public void findBooks(BookQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findTopBooks(BookQuery query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void findReaders(ReaderQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> suggestReaderNames(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> suggestBookNames(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> suggestBarcodes(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showOverdueBooks() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredReaderList(Predicate<Reader> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -288,6 +407,11 @@ public class AddReaderCommandTest {
         public void updateFilteredRecordList(Predicate<Record> predicate) {
 
         }
+
+        @Override
+        public void findRecords(RecordQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
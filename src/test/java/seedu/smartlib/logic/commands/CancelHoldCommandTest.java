@@ -0,0 +1,74 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.CARL;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.hold.Hold;
+
+public class CancelHoldCommandTest {
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+
+    @Test
+    public void constructor_nullHold_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CancelHoldCommand(null));
+    }
+
+    @Test
+    public void execute_placedHold_holdCancelled() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        Hold hold = new Hold(CARL.getName(), HARRY_PORTER.getIsbn());
+        new HoldCommand(hold).execute(model);
+
+        CommandResult result = new CancelHoldCommand(hold).execute(model);
+
+        assertEquals(String.format(CancelHoldCommand.MESSAGE_SUCCESS, CARL.getName(), HARRY_PORTER.getIsbn()),
+                result.getFeedbackToUser());
+        assertFalse(model.hasHold(hold));
+    }
+
+    @Test
+    public void execute_holdNotPlaced_throwsCommandException() {
+        Hold hold = new Hold(CARL.getName(), HARRY_PORTER.getIsbn());
+        assertCommandFailure(new CancelHoldCommand(hold), model, CancelHoldCommand.MESSAGE_NO_SUCH_HOLD);
+    }
+
+    @Test
+    public void equals() {
+        CancelHoldCommand command = new CancelHoldCommand(new Hold(CARL.getName(), LEGACY.getIsbn()));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CancelHoldCommand(new Hold(CARL.getName(), LEGACY.getIsbn()))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different type -> returns false
+        assertFalse(command.equals(new HoldCommand(new Hold(CARL.getName(), LEGACY.getIsbn()))));
+
+        // different reader -> returns false
+        assertFalse(command.equals(new CancelHoldCommand(new Hold(ALICE.getName(), LEGACY.getIsbn()))));
+
+        // different ISBN -> returns false
+        assertFalse(command.equals(new CancelHoldCommand(new Hold(CARL.getName(), HARRY_PORTER.getIsbn()))));
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.BENSON;
+import static seedu.smartlib.testutil.TypicalModels.CARL;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
+import static seedu.smartlib.testutil.TypicalModels.RECORD_C;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.hold.Hold;
+
+public class CheckinCommandTest {
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+
+    @Test
+    public void constructor_nullBarcodes_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CheckinCommand(null));
+    }
+
+    @Test
+    public void execute_borrowedBooks_allReturned() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        new CheckoutCommand(CARL.getName(), List.of(PROMISE_LAND.getBarcode())).execute(model);
+
+        CommandResult result = new CheckinCommand(List.of(HARRY_PORTER.getBarcode(), PROMISE_LAND.getBarcode()))
+                .execute(model);
+
+        assertEquals(String.format(CheckinCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertFalse(model.getBookByBarcode(HARRY_PORTER.getBarcode()).isBorrowed());
+        assertFalse(model.getBookByBarcode(PROMISE_LAND.getBarcode()).isBorrowed());
+        assertFalse(model.hasOpenRecord(HARRY_PORTER.getBarcode()));
+        assertTrue(model.canReaderBorrow(ALICE.getName(), 4));
+    }
+
+    @Test
+    public void execute_overdueBook_readerFined() throws Exception {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.addRecord(RECORD_C);
+        model = new ModelManager(smartLib, new UserPrefs());
+
+        CommandResult result = new CheckinCommand(List.of(SECRET.getBarcode())).execute(model);
+
+        long fineInCents = model.getOutstandingFines(BENSON.getName());
+        assertTrue(fineInCents > 0);
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(CheckinCommand.MESSAGE_OUTSTANDING_FINES, BENSON.getName(), fineInCents / 100.0)));
+        assertEquals(SECRET.getBarcode(), model.getFineEntries(BENSON.getName()).get(0).getBarcode());
+    }
+
+    @Test
+    public void execute_titleOnHold_lentToHolder() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        new HoldCommand(new Hold(CARL.getName(), HARRY_PORTER.getIsbn())).execute(model);
+
+        CommandResult result = new CheckinCommand(List.of(HARRY_PORTER.getBarcode())).execute(model);
+
+        assertEquals(String.format(CheckinCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(CheckinCommand.MESSAGE_LENT_TO_HOLDER, HARRY_PORTER.getBarcode(), CARL.getName()),
+                result.getFeedbackToUser());
+        assertEquals(CARL.getName(), model.getBookByBarcode(HARRY_PORTER.getBarcode()).getBorrowerName());
+        assertTrue(model.hasOpenRecord(HARRY_PORTER.getBarcode()));
+        assertFalse(model.hasHold(new Hold(CARL.getName(), HARRY_PORTER.getIsbn())));
+    }
+
+    @Test
+    public void execute_booksNotOnLoan_noneReturned() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        CheckinCommand command = new CheckinCommand(List.of(HARRY_PORTER.getBarcode(), LEGACY.getBarcode(),
+                SECRET.getBarcode()));
+        String expectedMessage = CheckinCommand.MESSAGE_NOTHING_RETURNED + "\n"
+                + String.format(CheckinCommand.MESSAGE_BOOK_NOT_BORROWED, LEGACY.getBarcode()) + "\n"
+                + String.format(CheckinCommand.MESSAGE_NO_SUCH_RECORD, SECRET.getBarcode());
+
+        assertCommandFailure(command, model, expectedMessage);
+        assertTrue(model.getBookByBarcode(HARRY_PORTER.getBarcode()).isBorrowed());
+    }
+
+    @Test
+    public void equals() {
+        CheckinCommand command = new CheckinCommand(List.of(HARRY_PORTER.getBarcode()));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CheckinCommand(List.of(HARRY_PORTER.getBarcode()))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different barcodes -> returns false
+        assertFalse(command.equals(new CheckinCommand(List.of(LEGACY.getBarcode()))));
+    }
+
+}
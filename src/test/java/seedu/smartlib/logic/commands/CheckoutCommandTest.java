@@ -0,0 +1,100 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.BOB;
+import static seedu.smartlib.testutil.TypicalModels.HABIT;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.POWER;
+import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.book.Barcode;
+
+public class CheckoutCommandTest {
+
+    private static final Barcode UNKNOWN_BARCODE = new Barcode(Barcode.MAX_VALUE - 1);
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CheckoutCommand(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new CheckoutCommand(ALICE.getName(), null));
+    }
+
+    @Test
+    public void execute_availableBooks_allBorrowed() throws Exception {
+        int recordCount = model.getSmartLib().getRecordList().size();
+        CheckoutCommand command = new CheckoutCommand(ALICE.getName(),
+                List.of(HARRY_PORTER.getBarcode(), PROMISE_LAND.getBarcode()));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(CheckoutCommand.MESSAGE_SUCCESS, 2, ALICE.getName()), result.getFeedbackToUser());
+        assertTrue(model.getBookByBarcode(HARRY_PORTER.getBarcode()).isBorrowed());
+        assertTrue(model.getBookByBarcode(PROMISE_LAND.getBarcode()).isBorrowed());
+        assertEquals(recordCount + 2, model.getSmartLib().getRecordList().size());
+        assertTrue(model.hasOpenRecord(HARRY_PORTER.getBarcode()));
+    }
+
+    @Test
+    public void execute_unavailableBooks_noneBorrowed() {
+        CheckoutCommand command = new CheckoutCommand(ALICE.getName(),
+                List.of(HARRY_PORTER.getBarcode(), SECRET.getBarcode(), UNKNOWN_BARCODE));
+        String expectedMessage = CheckoutCommand.MESSAGE_NOTHING_BORROWED + "\n"
+                + String.format(CheckoutCommand.MESSAGE_BOOK_BORROWED, SECRET.getBarcode()) + "\n"
+                + String.format(CheckoutCommand.MESSAGE_NO_SUCH_BOOK, UNKNOWN_BARCODE);
+
+        assertCommandFailure(command, model, expectedMessage);
+        assertFalse(model.getBookByBarcode(HARRY_PORTER.getBarcode()).isBorrowed());
+    }
+
+    @Test
+    public void execute_overQuota_throwsCommandException() {
+        CheckoutCommand command = new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode(),
+                PROMISE_LAND.getBarcode(), LEGACY.getBarcode(), HABIT.getBarcode(), POWER.getBarcode()));
+        assertCommandFailure(command, model, String.format(CheckoutCommand.MESSAGE_CANNOT_BORROW, 5));
+    }
+
+    @Test
+    public void execute_unknownReader_throwsCommandException() {
+        CheckoutCommand command = new CheckoutCommand(BOB.getName(), List.of(HARRY_PORTER.getBarcode()));
+        assertThrows(CommandException.class, BorrowCommand.NO_READER_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        CheckoutCommand command = new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode()));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode()))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different barcodes -> returns false
+        assertFalse(command.equals(new CheckoutCommand(ALICE.getName(), List.of(LEGACY.getBarcode()))));
+
+        // different reader -> returns false
+        assertFalse(command.equals(new CheckoutCommand(BOB.getName(), List.of(HARRY_PORTER.getBarcode()))));
+    }
+
+}
@@ -0,0 +1,108 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.storage.CsvSmartLibExporter;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+    private List<String> failures = new ArrayList<>();
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Runnable::run, failures::add));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(testFolder, null, failures::add));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(testFolder, Runnable::run, null));
+    }
+
+    @Test
+    public void execute_validDirectory_exportsSnapshot() throws Exception {
+        List<Runnable> pending = new ArrayList<>();
+        ExportCommand command = new ExportCommand(testFolder, pending::add, failures::add);
+        int bookCount = model.getSmartLib().getBookList().size();
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, bookCount,
+                model.getSmartLib().getReaderList().size(), model.getSmartLib().getRecordList().size(), testFolder),
+                result.getFeedbackToUser());
+
+        // changes made after the command was executed are not exported
+        model.deleteBook(HARRY_PORTER);
+        assertEquals(1, pending.size());
+        pending.get(0).run();
+
+        List<String> books = Files.readAllLines(testFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME));
+        assertEquals(bookCount + 1, books.size());
+        assertTrue(Files.exists(testFolder.resolve(CsvSmartLibExporter.READERS_FILE_NAME)));
+        assertTrue(Files.exists(testFolder.resolve(CsvSmartLibExporter.RECORDS_FILE_NAME)));
+    }
+
+    @Test
+    public void execute_exportFails_failurePassedToSink() throws Exception {
+        // a non-empty directory cannot be replaced by the exported books
+        Path books = Files.createDirectory(testFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME));
+        Files.createFile(books.resolve("inside"));
+        List<Runnable> pending = new ArrayList<>();
+        new ExportCommand(testFolder, pending::add, failures::add).execute(model);
+        assertTrue(failures.isEmpty());
+
+        pending.get(0).run();
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).startsWith(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, testFolder, "")));
+    }
+
+    @Test
+    public void execute_fileNotDirectory_throwsCommandException() throws Exception {
+        Path file = Files.createFile(testFolder.resolve("file.csv"));
+        ExportCommand command = new ExportCommand(file, runnable -> {
+            throw new AssertionError("The export should not be started.");
+        }, failures::add);
+
+        assertCommandFailure(command, model, String.format(ExportCommand.MESSAGE_NOT_DIRECTORY, file));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirst = new ExportCommand(Path.of("first"), Runnable::run, failures::add);
+        ExportCommand exportSecond = new ExportCommand(Path.of("second"), Runnable::run, failures::add);
+
+        // same object -> returns true
+        assertTrue(exportFirst.equals(exportFirst));
+
+        // same values -> returns true
+        assertTrue(exportFirst.equals(new ExportCommand(Path.of("first"), Runnable::run, failures::add)));
+
+        // different types -> returns false
+        assertFalse(exportFirst.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirst.equals(null));
+
+        // different directory -> returns false
+        assertFalse(exportFirst.equals(exportSecond));
+    }
+
+}
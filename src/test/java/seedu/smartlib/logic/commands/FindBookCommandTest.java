@@ -19,6 +19,7 @@ import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ModelManager;
 import seedu.smartlib.model.UserPrefs;
 import seedu.smartlib.model.book.BookNameContainsKeywordsPredicate;
+import seedu.smartlib.model.book.BookQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindBookCommand}.
@@ -53,6 +54,9 @@ public class FindBookCommandTest {
 
         // different book -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different limit -> returns false
+        assertFalse(findFirstCommand.equals(new FindBookCommand(firstPredicate, 5)));
     }
 
     @Test
@@ -132,6 +136,32 @@ public class FindBookCommandTest {
 
     }
 
+    @Test
+    public void execute_limit_mostRelevantBooksFirst() {
+        String expectedMessage = String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 2);
+        BookNameContainsKeywordsPredicate predicate = preparePredicate("Novel Legacy");
+        FindBookCommand command = new FindBookCommand(predicate, 2);
+        expectedModel.findTopBooks(BookQuery.all().withAnyWord(predicate.getKeywords()), 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(LEGACY, PROMISE_LAND), model.getFilteredBookList());
+
+        // an unranked search restores list order
+        expectedModel.updateFilteredBookList(predicate);
+        assertCommandSuccess(new FindBookCommand(predicate), model,
+                String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(PROMISE_LAND, LEGACY), model.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_fieldQuery_booksSatisfyingEveryCondition() {
+        BookQuery query = BookQuery.all().withGenre(Collections.singletonList("novel")).withBorrowed(false)
+                .withAuthor(Collections.singletonList("Kerr"));
+        expectedModel.updateFilteredBookList(query);
+        assertCommandSuccess(new FindBookCommand(query, FindBookCommand.NO_LIMIT), model,
+                String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Arrays.asList(LEGACY), model.getFilteredBookList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code BookNameContainsKeywordsPredicate}.
      */
@@ -22,6 +22,9 @@ import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ModelManager;
 import seedu.smartlib.model.UserPrefs;
 import seedu.smartlib.model.reader.NameContainsKeywordsPredicate;
+import seedu.smartlib.model.reader.NameSimilarToKeywordsPredicate;
+import seedu.smartlib.model.reader.NameSoundsLikeKeywordsPredicate;
+import seedu.smartlib.model.reader.ReaderQuery;
 import seedu.smartlib.model.reader.TagContainsKeywordsPredicate;
 
 /**
@@ -34,19 +37,17 @@ public class FindReaderCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
+        ReaderQuery firstQuery = ReaderQuery.all().withAnyWord(Collections.singletonList("first"));
+        ReaderQuery secondQuery = ReaderQuery.all().withAnyWord(Collections.singletonList("second"));
 
-        FindReaderCommand findFirstCommand = new FindReaderCommand(firstPredicate);
-        FindReaderCommand findSecondCommand = new FindReaderCommand(secondPredicate);
+        FindReaderCommand findFirstCommand = new FindReaderCommand(firstQuery);
+        FindReaderCommand findSecondCommand = new FindReaderCommand(secondQuery);
 
         // EP: same object
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // EP: same values
-        FindReaderCommand findFirstCommandCopy = new FindReaderCommand(firstPredicate);
+        FindReaderCommand findFirstCommandCopy = new FindReaderCommand(firstQuery);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // EP: not a string
@@ -66,7 +67,7 @@ public class FindReaderCommandTest {
         // EP: empty strings
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate = preparePredicate("");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -74,7 +75,7 @@ public class FindReaderCommandTest {
         // EP: multiple spaces
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate2 = preparePredicate("           ");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -85,7 +86,7 @@ public class FindReaderCommandTest {
         // EP: single invalid keyword, alphabetical
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate = preparePredicate("Hello");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -93,7 +94,7 @@ public class FindReaderCommandTest {
         // EP: single invalid keyword, numerical
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate2 = preparePredicate("123");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -101,7 +102,7 @@ public class FindReaderCommandTest {
         // EP: single invalid keyword, special characters
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate3 = preparePredicate("+-*/");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -112,7 +113,7 @@ public class FindReaderCommandTest {
         // EP: multiple invalid keywords
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate = preparePredicate("Hello 123 +-*/");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -123,7 +124,7 @@ public class FindReaderCommandTest {
         // EP: part of a valid keyword
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         NameContainsKeywordsPredicate predicate = preparePredicate("Kur");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -134,21 +135,21 @@ public class FindReaderCommandTest {
         // EP: single valid keyword
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate = preparePredicate("Kurz");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.singletonList(CARL), model.getFilteredReaderList());
 
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate2 = preparePredicate("Elle");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(ELLE), model.getFilteredReaderList());
 
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate3 = preparePredicate("Kunz");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(FIONA), model.getFilteredReaderList());
@@ -159,7 +160,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, all lower case
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate = preparePredicate("kunz");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.singletonList(FIONA), model.getFilteredReaderList());
@@ -167,7 +168,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, all upper case
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate2 = preparePredicate("KUNZ");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(FIONA), model.getFilteredReaderList());
@@ -175,7 +176,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, mix of upper and lower case
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate3 = preparePredicate("kUnZ");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(FIONA), model.getFilteredReaderList());
@@ -186,7 +187,7 @@ public class FindReaderCommandTest {
         // EP: multiple valid keywords
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 3);
         NameContainsKeywordsPredicate predicate = preparePredicate("KuRz ElLe KUnz");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredReaderList());
@@ -197,7 +198,7 @@ public class FindReaderCommandTest {
         // EP: one valid keyword and one invalid alphabetical keyword
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate = preparePredicate("KuRz Hello");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.singletonList(CARL), model.getFilteredReaderList());
@@ -205,7 +206,7 @@ public class FindReaderCommandTest {
         // EP: one valid keyword and one invalid numerical keyword
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate2 = preparePredicate("123 ELLe");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(ELLE), model.getFilteredReaderList());
@@ -213,7 +214,7 @@ public class FindReaderCommandTest {
         // EP: one valid keyword and one invalid keyword made up of special characters
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         NameContainsKeywordsPredicate predicate3 = preparePredicate("+-*/ KuNz");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyWord(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(FIONA), model.getFilteredReaderList());
@@ -226,7 +227,7 @@ public class FindReaderCommandTest {
         // EP: empty strings
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -234,7 +235,7 @@ public class FindReaderCommandTest {
         // EP: multiple spaces
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate2 = prepareTagPredicate("t/           ");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -245,7 +246,7 @@ public class FindReaderCommandTest {
         // EP: single invalid tag, alphabetical
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/Hello");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -253,7 +254,7 @@ public class FindReaderCommandTest {
         // EP: single invalid tag, numerical
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate2 = prepareTagPredicate("t/123");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -261,7 +262,7 @@ public class FindReaderCommandTest {
         // EP: single invalid tag, special characters
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate3 = prepareTagPredicate("t/+-*/");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -272,7 +273,7 @@ public class FindReaderCommandTest {
         // EP: multiple invalid tags
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/Hello 123 +-*/");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -283,7 +284,7 @@ public class FindReaderCommandTest {
         // EP: part of a valid tag
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 0);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/VI");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredReaderList());
@@ -294,21 +295,21 @@ public class FindReaderCommandTest {
         // EP: single valid tag
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 2);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/VIP");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredReaderList());
 
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate2 = prepareTagPredicate("t/TopBorrower");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(BENSON), model.getFilteredReaderList());
 
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate3 = prepareTagPredicate("t/VVIP");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(DANIEL), model.getFilteredReaderList());
@@ -319,7 +320,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, all lower case
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/topborrower");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.singletonList(BENSON), model.getFilteredReaderList());
@@ -327,7 +328,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, all upper case
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate2 = prepareTagPredicate("t/TOPBORROWER");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(BENSON), model.getFilteredReaderList());
@@ -335,7 +336,7 @@ public class FindReaderCommandTest {
         // EP: single valid keyword, mix of upper and lower case
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate3 = prepareTagPredicate("t/tOPborRoWeR");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(BENSON), model.getFilteredReaderList());
@@ -345,7 +346,7 @@ public class FindReaderCommandTest {
     public void execute_multipleValidTags_multipleReadersFound() {
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 3);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/VIP VVIP");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredReaderList());
@@ -356,7 +357,7 @@ public class FindReaderCommandTest {
         // EP: one valid tag and one invalid alphabetical tag
         String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 2);
         TagContainsKeywordsPredicate predicate = prepareTagPredicate("t/vip Hello");
-        FindReaderCommand command = new FindReaderCommand(predicate);
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredReaderList());
@@ -364,7 +365,7 @@ public class FindReaderCommandTest {
         // EP: one valid tag and one invalid numerical tag
         String expectedMessage2 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate2 = prepareTagPredicate("t/123 topBoRROWER");
-        FindReaderCommand command2 = new FindReaderCommand(predicate2);
+        FindReaderCommand command2 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate2.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate2);
         assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
         assertEquals(Collections.singletonList(BENSON), model.getFilteredReaderList());
@@ -372,12 +373,47 @@ public class FindReaderCommandTest {
         // EP: one valid tag and one invalid tag made up of special characters
         String expectedMessage3 = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
         TagContainsKeywordsPredicate predicate3 = prepareTagPredicate("t/+-*/ VVIP");
-        FindReaderCommand command3 = new FindReaderCommand(predicate3);
+        FindReaderCommand command3 = new FindReaderCommand(ReaderQuery.all().withAnyTag(predicate3.getKeywords()));
         expectedModel.updateFilteredReaderList(predicate3);
         assertCommandSuccess(command3, model, expectedMessage3, expectedModel);
         assertEquals(Collections.singletonList(DANIEL), model.getFilteredReaderList());
     }
 
+    @Test
+    public void execute_similarKeywords_readersRankedBySimilarity() {
+        // EP: keywords with typos
+        String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 3);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Meyer"));
+        FindReaderCommand command = new FindReaderCommand(ReaderQuery.all().withSimilarName(predicate.getKeywords()));
+        expectedModel.findReaders(ReaderQuery.all().withSimilarName(predicate.getKeywords()));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredReaderList());
+    }
+
+    @Test
+    public void execute_soundAlikeKeyword_readersInListOrder() {
+        // EP: keyword spelt differently from the names
+        String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 3);
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Mayer"));
+        FindReaderCommand command =
+                new FindReaderCommand(ReaderQuery.all().withSoundAlikeName(predicate.getKeywords()));
+        expectedModel.updateFilteredReaderList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredReaderList());
+    }
+
+    @Test
+    public void execute_keywordsAndTag_readersSatisfyingBoth() {
+        // EP: keywords and a tag, both of which must hold
+        String expectedMessage = String.format(MESSAGE_READERS_LISTED_OVERVIEW, 1);
+        ReaderQuery query = ReaderQuery.all().withAnyWord(Arrays.asList("Alice", "Carl"))
+                .withAnyTag(Arrays.asList("VIP"));
+        FindReaderCommand command = new FindReaderCommand(query);
+        expectedModel.updateFilteredReaderList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredReaderList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
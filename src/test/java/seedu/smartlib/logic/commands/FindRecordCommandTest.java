@@ -9,6 +9,7 @@ import static seedu.smartlib.testutil.TypicalModels.RECORD_A;
 import static seedu.smartlib.testutil.TypicalModels.RECORD_B;
 import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -17,7 +18,7 @@ import org.junit.jupiter.api.Test;
 import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ModelManager;
 import seedu.smartlib.model.UserPrefs;
-import seedu.smartlib.model.record.RecordContainsBookNamePredicate;
+import seedu.smartlib.model.record.RecordQuery;
 
 public class FindRecordCommandTest {
 
@@ -26,19 +27,17 @@ public class FindRecordCommandTest {
 
     @Test
     public void equals() {
-        RecordContainsBookNamePredicate firstPredicate =
-                new RecordContainsBookNamePredicate(Collections.singletonList("first"));
-        RecordContainsBookNamePredicate secondPredicate =
-                new RecordContainsBookNamePredicate(Collections.singletonList("second"));
+        RecordQuery firstQuery = prepareQuery("first");
+        RecordQuery secondQuery = prepareQuery("second");
 
-        FindRecordCommand findFirstCommand = new FindRecordCommand(firstPredicate);
-        FindRecordCommand findSecondCommand = new FindRecordCommand(secondPredicate);
+        FindRecordCommand findFirstCommand = new FindRecordCommand(firstQuery);
+        FindRecordCommand findSecondCommand = new FindRecordCommand(secondQuery);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindRecordCommand findFirstCommandCopy = new FindRecordCommand(firstPredicate);
+        FindRecordCommand findFirstCommandCopy = new FindRecordCommand(prepareQuery("first"));
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -50,15 +49,18 @@ public class FindRecordCommandTest {
         // different record -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
 
+        // different date range -> returns false
+        assertFalse(findFirstCommand.equals(new FindRecordCommand(
+                firstQuery.withBorrowedBetween(LocalDate.of(2021, 1, 1), null))));
     }
 
     @Test
     public void execute_zeroKeywords_noRecordFound() {
         // EP: multiple spaces
         String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 0);
-        RecordContainsBookNamePredicate predicate = preparePredicate(" ");
-        FindRecordCommand command = new FindRecordCommand(predicate);
-        expectedModel.updateFilteredRecordList(predicate);
+        RecordQuery query = prepareQuery(" ");
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredRecordList());
     }
@@ -67,9 +69,9 @@ public class FindRecordCommandTest {
     public void execute_partialKeyword_noRecordFound() {
         //EP: incomplete keyword
         String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 0);
-        RecordContainsBookNamePredicate predicate = preparePredicate("Har");
-        FindRecordCommand command = new FindRecordCommand(predicate);
-        expectedModel.updateFilteredRecordList(predicate);
+        RecordQuery query = prepareQuery("Har");
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredRecordList());
     }
@@ -78,9 +80,9 @@ public class FindRecordCommandTest {
     public void execute_multipleKeywords_noRecordFound() {
         //EP: incomplete keywords
         String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 0);
-        RecordContainsBookNamePredicate predicate = preparePredicate("Ma Ru");
-        FindRecordCommand command = new FindRecordCommand(predicate);
-        expectedModel.updateFilteredRecordList(predicate);
+        RecordQuery query = prepareQuery("Ma Ru");
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredRecordList());
     }
@@ -89,19 +91,51 @@ public class FindRecordCommandTest {
     public void execute_multipleKeywords_multipleRecordsFound() {
         //EP: keywords matching multiple book titles
         String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 2);
-        RecordContainsBookNamePredicate predicate = preparePredicate("HARRY MAZE");
-        FindRecordCommand command = new FindRecordCommand(predicate);
-        expectedModel.updateFilteredRecordList(predicate);
+        RecordQuery query = prepareQuery("HARRY MAZE");
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(RECORD_A, RECORD_B), model.getFilteredRecordList());
     }
 
+    @Test
+    public void execute_reader_recordsOfReaderFound() {
+        //EP: reader with one record
+        String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 1);
+        RecordQuery query = RecordQuery.all().withReader(RECORD_A.getReaderName());
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(RECORD_A), model.getFilteredRecordList());
+    }
+
+    @Test
+    public void execute_borrowedBetween_recordsInRangeFound() {
+        //EP: range whose last day is the day of a loan
+        String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 1);
+        RecordQuery query = RecordQuery.all().withBorrowedBetween(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 22));
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(RECORD_B), model.getFilteredRecordList());
+    }
+
+    @Test
+    public void execute_returnedBetween_noRecordFound() {
+        //EP: no record has been returned
+        String expectedMessage = String.format(MESSAGE_RECORD_LISTED_OVERVIEW, 0);
+        RecordQuery query = RecordQuery.all().withReturnedBetween(null, LocalDate.of(2030, 1, 1));
+        FindRecordCommand command = new FindRecordCommand(query);
+        expectedModel.updateFilteredRecordList(query);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredRecordList());
+    }
+
     /**
-     * Parses {@code userInput} into a {@code RecordContainsBookNamePredicate}.
+     * Parses {@code userInput} into a {@code RecordQuery} on book names.
      */
-    private RecordContainsBookNamePredicate preparePredicate(String userInput) {
-        return new RecordContainsBookNamePredicate(Arrays.asList(userInput.split("\\s+")));
+    private RecordQuery prepareQuery(String userInput) {
+        return RecordQuery.all().withAnyWord(Arrays.asList(userInput.split("\\s+")));
     }
 
-
 }
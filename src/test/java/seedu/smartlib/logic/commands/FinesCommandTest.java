@@ -0,0 +1,108 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.BENSON;
+import static seedu.smartlib.testutil.TypicalModels.RECORD_C;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.fine.FineEntry;
+
+public class FinesCommandTest {
+
+    private Model model;
+    private long fineInCents;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.addRecord(RECORD_C);
+        model = new ModelManager(smartLib, new UserPrefs());
+        // Benson returns an overdue book, and is fined for it
+        new CheckinCommand(List.of(SECRET.getBarcode())).execute(model);
+        fineInCents = model.getOutstandingFines(BENSON.getName());
+    }
+
+    @Test
+    public void constructor_nullReaderName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FinesCommand(null));
+    }
+
+    @Test
+    public void execute_readerWithoutFines_zeroBalance() throws Exception {
+        CommandResult result = new FinesCommand(ALICE.getName()).execute(model);
+        assertEquals(String.format(FinesCommand.MESSAGE_BALANCE, ALICE.getName(), 0.0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_readerWithFines_balanceAndEntriesShown() throws Exception {
+        FineEntry fine = model.getFineEntries(BENSON.getName()).get(0);
+
+        CommandResult result = new FinesCommand(BENSON.getName()).execute(model);
+
+        assertTrue(fineInCents > 0);
+        assertEquals(String.format(FinesCommand.MESSAGE_BALANCE, BENSON.getName(), fineInCents / 100.0) + "\n"
+                + String.format(FinesCommand.MESSAGE_FINE_ENTRY, fine.getDate(), fineInCents / 100.0,
+                SECRET.getBarcode()), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_payment_balanceReduced() throws Exception {
+        CommandResult result = new FinesCommand(BENSON.getName(), fineInCents).execute(model);
+
+        assertEquals(0, model.getOutstandingFines(BENSON.getName()));
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(FinesCommand.MESSAGE_PAYMENT_SUCCESS, fineInCents / 100.0)));
+        assertTrue(model.getFineEntries(BENSON.getName()).get(1).isPayment());
+    }
+
+    @Test
+    public void execute_paymentMoreThanOwed_throwsCommandException() {
+        assertCommandFailure(new FinesCommand(BENSON.getName(), fineInCents + 1), model,
+                String.format(FinesCommand.MESSAGE_PAYMENT_TOO_LARGE, fineInCents / 100.0));
+        assertCommandFailure(new FinesCommand(ALICE.getName(), 1), model,
+                String.format(FinesCommand.MESSAGE_PAYMENT_TOO_LARGE, 0.0));
+    }
+
+    @Test
+    public void execute_unknownReader_throwsCommandException() {
+        assertCommandFailure(new FinesCommand(new Name(VALID_NAME_AMY)), model, FinesCommand.MESSAGE_NO_SUCH_READER);
+    }
+
+    @Test
+    public void equals() {
+        FinesCommand command = new FinesCommand(BENSON.getName(), 250);
+
+        // same values -> returns true
+        assertTrue(command.equals(new FinesCommand(BENSON.getName(), 250)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different reader -> returns false
+        assertFalse(command.equals(new FinesCommand(ALICE.getName(), 250)));
+
+        // no payment -> returns false
+        assertFalse(command.equals(new FinesCommand(BENSON.getName())));
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_ISBN_MAZE;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.CARL;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.Hold;
+
+public class HoldCommandTest {
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+
+    @Test
+    public void constructor_nullHold_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HoldCommand(null));
+    }
+
+    @Test
+    public void execute_allCopiesOnLoan_holdPlaced() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        Hold hold = new Hold(CARL.getName(), HARRY_PORTER.getIsbn());
+
+        CommandResult result = new HoldCommand(hold).execute(model);
+
+        assertEquals(String.format(HoldCommand.MESSAGE_SUCCESS, CARL.getName(), HARRY_PORTER.getName()),
+                result.getFeedbackToUser());
+        assertTrue(model.hasHold(hold));
+    }
+
+    @Test
+    public void execute_duplicateHold_throwsCommandException() throws Exception {
+        new CheckoutCommand(ALICE.getName(), List.of(HARRY_PORTER.getBarcode())).execute(model);
+        Hold hold = new Hold(CARL.getName(), HARRY_PORTER.getIsbn());
+        new HoldCommand(hold).execute(model);
+
+        assertCommandFailure(new HoldCommand(hold), model, HoldCommand.MESSAGE_DUPLICATE_HOLD);
+    }
+
+    @Test
+    public void execute_copyAvailable_throwsCommandException() {
+        Hold hold = new Hold(CARL.getName(), LEGACY.getIsbn());
+        assertCommandFailure(new HoldCommand(hold), model, HoldCommand.MESSAGE_COPY_AVAILABLE);
+        assertFalse(model.hasHold(hold));
+    }
+
+    @Test
+    public void execute_unknownReader_throwsCommandException() {
+        Hold hold = new Hold(new Name(VALID_NAME_AMY), LEGACY.getIsbn());
+        assertCommandFailure(new HoldCommand(hold), model, HoldCommand.MESSAGE_NO_SUCH_READER);
+    }
+
+    @Test
+    public void execute_unknownIsbn_throwsCommandException() {
+        Hold hold = new Hold(CARL.getName(), new Isbn(VALID_ISBN_MAZE));
+        assertCommandFailure(new HoldCommand(hold), model, HoldCommand.MESSAGE_NO_SUCH_BOOK);
+    }
+
+    @Test
+    public void equals() {
+        HoldCommand command = new HoldCommand(new Hold(CARL.getName(), LEGACY.getIsbn()));
+
+        // same values -> returns true
+        assertTrue(command.equals(new HoldCommand(new Hold(CARL.getName(), LEGACY.getIsbn()))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different reader -> returns false
+        assertFalse(command.equals(new HoldCommand(new Hold(ALICE.getName(), LEGACY.getIsbn()))));
+
+        // different ISBN -> returns false
+        assertFalse(command.equals(new HoldCommand(new Hold(CARL.getName(), HARRY_PORTER.getIsbn()))));
+    }
+
+}
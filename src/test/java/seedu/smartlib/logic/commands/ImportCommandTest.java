@@ -0,0 +1,138 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.smartlib.logic.commands.exceptions.CommandException;
+import seedu.smartlib.logic.parser.BookCsvParser;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.Isbn;
+
+public class ImportCommandTest {
+
+    private static final String CLOUD_NINE = "Cloud Nine,Alex Yeoh,Penguin,9780141439518,Romance";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalSmartLib(), new UserPrefs());
+
+    private Path writeCatalogue(String... lines) throws Exception {
+        Path file = testFolder.resolve("catalogue.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validCatalogue_allCopiesAdded() throws Exception {
+        int bookCount = model.getSmartLib().getBookList().size();
+        Path file = writeCatalogue(BookCsvParser.HEADER, CLOUD_NINE + ",3", CLOUD_NINE);
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 4, file), result.getFeedbackToUser());
+        assertEquals(bookCount + 4, model.getSmartLib().getBookList().size());
+        List<Book> imported = model.getBooksByIsbn(new Isbn("9780141439518"));
+        assertEquals(4, imported.size());
+        assertEquals(4, imported.stream().map(Book::getBarcode).collect(Collectors.toSet()).size());
+        Barcode tempBarcode = new Barcode(Barcode.TEMP_BARCODE_VALUE);
+        assertTrue(imported.stream().noneMatch(book -> book.getBarcode().equals(tempBarcode)));
+    }
+
+    @Test
+    public void execute_invalidLines_skippedAndReported() throws Exception {
+        int bookCount = model.getSmartLib().getBookList().size();
+        Path file = writeCatalogue(CLOUD_NINE,
+                "Other Title,Alex Yeoh,Penguin," + HARRY_PORTER.getIsbn() + ",Romance",
+                "Cloud Ten,Alex Yeoh,Penguin,9780141439518,Romance",
+                "Cloud Nine,Alex Yeoh");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file) + "\n"
+                + String.format(ImportCommand.MESSAGE_LINES_SKIPPED, 3) + "\n"
+                + String.format(ImportCommand.MESSAGE_LINE_ERROR, 2, AddBookCommand.MESSAGE_DUPLICATE_ISBN) + "\n"
+                + String.format(ImportCommand.MESSAGE_LINE_ERROR, 3, AddBookCommand.MESSAGE_DUPLICATE_ISBN) + "\n"
+                + String.format(ImportCommand.MESSAGE_LINE_ERROR, 4,
+                        String.format(BookCsvParser.MESSAGE_WRONG_FIELD_COUNT, 2));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(bookCount + 1, model.getSmartLib().getBookList().size());
+    }
+
+    @Test
+    public void execute_manyInvalidLines_errorsCapped() throws Exception {
+        String[] lines = new String[ImportCommand.MAX_ERRORS_SHOWN + 5];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "bad line";
+        }
+        Path file = writeCatalogue(lines);
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+        assertEquals(ImportCommand.MAX_ERRORS_SHOWN + 3, feedback.split("\n").length);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand command = new ImportCommand(testFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_importedBooks_haveDistinctBarcodes() throws Exception {
+        HashSet<Barcode> existing = model.getSmartLib().getBookList().stream().map(Book::getBarcode)
+                .collect(Collectors.toCollection(HashSet::new));
+        Path file = writeCatalogue(CLOUD_NINE + ",100");
+
+        new ImportCommand(file).execute(model);
+
+        List<Book> imported = model.getBooksByIsbn(new Isbn("9780141439518"));
+        assertEquals(100, imported.stream().map(Book::getBarcode).collect(Collectors.toSet()).size());
+        assertFalse(imported.stream().anyMatch(book -> existing.contains(book.getBarcode())));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirst = new ImportCommand(Path.of("first.csv"));
+        ImportCommand importSecond = new ImportCommand(Path.of("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirst.equals(importFirst));
+
+        // same values -> returns true
+        assertTrue(importFirst.equals(new ImportCommand(Path.of("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirst.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirst.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirst.equals(importSecond));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.smartlib.logic.commands;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,11 +11,19 @@ import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.model.Model;
 import seedu.smartlib.model.ReadOnlySmartLib;
 import seedu.smartlib.model.ReadOnlyUserPrefs;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
+import seedu.smartlib.model.record.CirculationStats;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
+import seedu.smartlib.model.record.RecordQuery;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -144,6 +153,17 @@ class ModelStub implements Model {
         return null;
     }
 
+    /**
+     * Returns the availability of a book.
+     *
+     * @param bookName name of the book.
+     * @return the availability of the book.
+     */
+    @Override
+    public Availability getAvailability(Name bookName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     /**
      * Returns the book name of the book with the corresponding barcode borrowed by the reader in SmartLib.
      *
@@ -286,6 +306,18 @@ class ModelStub implements Model {
         return false;
     }
 
+    /**
+     * Returns true if a reader with the same name as {@code readerName} may borrow {@code count} more books.
+     *
+     * @param readerName name of the reader to be checked.
+     * @param count the number of books to be borrowed.
+     * @return true if the reader may borrow {@code count} more books, and false otherwise.
+     */
+    @Override
+    public boolean canReaderBorrow(Name readerName, int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     /**
      * Returns true if a record with the same identity as {@code record} exists in the registered record base.
      *
@@ -298,6 +330,17 @@ class ModelStub implements Model {
         return false;
     }
 
+    /**
+     * Returns true if the book with the given barcode has a record which has not been returned yet.
+     *
+     * @param barcode barcode of the book.
+     * @return true if the book has an open record, and false otherwise.
+     */
+    @Override
+    public boolean hasOpenRecord(Barcode barcode) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     /**
      * Updates the reader's and book's statuses after borrowing.
      *
@@ -322,6 +365,112 @@ class ModelStub implements Model {
         return false;
     }
 
+    /**
+     * Lends out the books of all the given borrow records and adds the records, as a single change.
+     *
+     * @param borrowRecords the borrow records of the books to be lent out.
+     */
+    @Override
+    public void borrowBooks(List<Record> borrowRecords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Takes back all the books with the given barcodes and marks their records as returned, as a single change.
+     *
+     * @param barcodes barcodes of the books to be returned.
+     * @param dateReturned the date on which the books were returned.
+     * @return the completed records of the books.
+     */
+    @Override
+    public List<Record> returnBooks(List<Barcode> barcodes, DateReturned dateReturned) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns true if {@code hold} has been placed.
+     *
+     * @param hold hold to be checked.
+     * @return true if {@code hold} has been placed, and false otherwise.
+     */
+    @Override
+    public boolean hasHold(Hold hold) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Places {@code hold} at the back of the queue for its title.
+     *
+     * @param hold hold to be placed.
+     */
+    @Override
+    public void addHold(Hold hold) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Cancels {@code hold}, so that the reader no longer waits for the title.
+     *
+     * @param hold hold to be cancelled.
+     */
+    @Override
+    public void removeHold(Hold hold) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Lends the book with the given barcode to the first reader holding its title who may borrow it now.
+     *
+     * @param barcode barcode of the book.
+     * @return the borrow record of the book, or null if no reader holding its title may borrow it.
+     */
+    @Override
+    public Record lendToNextHolder(Barcode barcode) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the circulation statistics of the records.
+     *
+     * @return the circulation statistics of the records.
+     */
+    @Override
+    public CirculationStats getCirculationStats() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the outstanding fines of a reader.
+     *
+     * @param readerName name of the reader.
+     * @return the outstanding balance in cents.
+     */
+    @Override
+    public long getOutstandingFines(Name readerName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the fines and payments of a reader.
+     *
+     * @param readerName name of the reader.
+     * @return the reader's fines and payments.
+     */
+    @Override
+    public List<FineEntry> getFineEntries(Name readerName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Records a payment towards a reader's fines.
+     *
+     * @param payment the payment.
+     */
+    @Override
+    public void addFinePayment(FineEntry payment) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     /**
      * Deletes the given book.
      * {@code target} must exist in the registered book base.
@@ -355,6 +504,27 @@ class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    /**
+     * Adds all of the given books, as a single change.
+     *
+     * @param books books to be added.
+     */
+    @Override
+    public void addBooks(List<Book> books) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns {@code count} distinct barcodes which are not used by any book.
+     *
+     * @param count the number of barcodes needed.
+     * @return the unused barcodes.
+     */
+    @Override
+    public List<Barcode> allocateBarcodes(int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ArrayList<Book> getBooksByName(Name bookName) {
         return null;
@@ -413,6 +583,81 @@ class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    /**
+     * Updates the filter of the filtered book list to show only the books satisfying {@code query}.
+     *
+     * @param query the query to be answered.
+     */
+    @Override
+    public void findBooks(BookQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Updates the filtered book list to show only the most relevant books.
+     *
+     * @param query the query to be answered.
+     * @param limit the maximum number of books to be shown.
+     */
+    @Override
+    public void findTopBooks(BookQuery query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Updates the filtered reader list to show only the readers satisfying a query.
+     *
+     * @param query the query.
+     */
+    @Override
+    public void findReaders(ReaderQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the reader names starting with the given prefix.
+     *
+     * @param prefix the prefix to be completed.
+     * @param limit the maximum number of suggestions.
+     * @return the matching reader names.
+     */
+    @Override
+    public List<String> suggestReaderNames(String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the book titles starting with the given prefix.
+     *
+     * @param prefix the prefix to be completed.
+     * @param limit the maximum number of suggestions.
+     * @return the matching book titles.
+     */
+    @Override
+    public List<String> suggestBookNames(String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Returns the barcodes starting with the given prefix.
+     *
+     * @param prefix the prefix to be completed.
+     * @param limit the maximum number of suggestions.
+     * @return the matching barcodes.
+     */
+    @Override
+    public List<String> suggestBarcodes(String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    /**
+     * Updates the filter of the filtered book list to show only the overdue books.
+     */
+    @Override
+    public void showOverdueBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     /**
      * Updates the filter of the filtered reader list to filter by the given {@code predicate}.
      *
@@ -433,4 +678,14 @@ class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    /**
+     * Updates the filter of the filtered record list to show only the records satisfying {@code query}.
+     *
+     * @param query the query to be answered.
+     */
+    @Override
+    public void findRecords(RecordQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }
@@ -0,0 +1,81 @@
+package seedu.smartlib.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.Model;
+import seedu.smartlib.model.ModelManager;
+import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.UserPrefs;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.record.DateBorrowed;
+import seedu.smartlib.model.record.DateReturned;
+import seedu.smartlib.model.record.Record;
+
+public class StatsCommandTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 3, 20);
+
+    @Test
+    public void execute_noRecords_showsEmptyStatistics() {
+        Model model = new ModelManager(new SmartLib(), new UserPrefs());
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_HEADER, TODAY),
+                String.format(StatsCommand.MESSAGE_LOANS, 0, 0),
+                String.format(StatsCommand.MESSAGE_RECENT_LOANS, 0, 0),
+                String.format(StatsCommand.MESSAGE_ACTIVE_READERS, 0),
+                String.format(StatsCommand.MESSAGE_TOP_TITLES, StatsCommand.MESSAGE_NO_TITLES),
+                StatsCommand.MESSAGE_NO_RETURNS);
+
+        assertEquals(expectedMessage, new StatsCommand(TODAY).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_withRecords_showsStatistics() {
+        SmartLib smartLib = new SmartLib();
+        LocalDateTime twoDaysAgo = TODAY.minusDays(2).atTime(9, 0);
+        smartLib.addRecord(new Record(new Name("Harry Potter"), new Barcode(1000000000), new Name("Alice Pauline"),
+                new DateBorrowed(twoDaysAgo), new DateReturned(twoDaysAgo.plusHours(36))));
+        smartLib.addRecord(new Record(new Name("Harry Potter"), new Barcode(1000000001), new Name("Carl Kurz"),
+                new DateBorrowed(TODAY.minusDays(10).atTime(9, 0))));
+        smartLib.addRecord(new Record(new Name("Legacy"), new Barcode(1000000002), new Name("Carl Kurz"),
+                new DateBorrowed(TODAY.minusDays(40).atTime(9, 0))));
+        Model model = new ModelManager(smartLib, new UserPrefs());
+        String expectedMessage = String.join("\n",
+                String.format(StatsCommand.MESSAGE_HEADER, TODAY),
+                String.format(StatsCommand.MESSAGE_LOANS, 3, 2),
+                String.format(StatsCommand.MESSAGE_RECENT_LOANS, 1, 2),
+                String.format(StatsCommand.MESSAGE_ACTIVE_READERS, 2),
+                String.format(StatsCommand.MESSAGE_TOP_TITLES, "Harry Potter (2)"),
+                String.format(StatsCommand.MESSAGE_AVERAGE_DURATION, 1.5, 1),
+                String.format(StatsCommand.MESSAGE_HISTOGRAM, 0, 1, 0, 0));
+
+        assertEquals(expectedMessage, new StatsCommand(TODAY).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand command = new StatsCommand();
+
+        // same values -> returns true
+        assertTrue(command.equals(new StatsCommand()));
+        assertTrue(new StatsCommand(TODAY).equals(new StatsCommand(TODAY)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different day -> returns false
+        assertFalse(command.equals(new StatsCommand(TODAY)));
+    }
+
+}
@@ -72,6 +72,26 @@ public class AddBookCommandParserTest {
                 + GENRE_DESC_HARRY + GENRE_DESC_MAZE, new AddBookCommand(expectedBook));
     }
 
+    @Test
+    public void parse_copiesPresent_success() {
+        Book expectedBook = new BookBuilder(MAZE).build();
+        String userInput = NAME_DESC_MAZE + AUTHOR_DESC_MAZE + PUBLISHER_DESC_MAZE + ISBN_DESC_MAZE + GENRE_DESC_MAZE;
+
+        assertParseSuccess(parser, userInput + " c/30", new AddBookCommand(expectedBook, 30));
+
+        // multiple copy counts - last count accepted
+        assertParseSuccess(parser, userInput + " c/2 c/1", new AddBookCommand(expectedBook));
+    }
+
+    @Test
+    public void parse_invalidCopies_failure() {
+        String userInput = NAME_DESC_MAZE + AUTHOR_DESC_MAZE + PUBLISHER_DESC_MAZE + ISBN_DESC_MAZE + GENRE_DESC_MAZE;
+
+        assertParseFailure(parser, userInput + " c/0", ParserUtil.MESSAGE_INVALID_COPIES);
+        assertParseFailure(parser, userInput + " c/" + (ParserUtil.MAX_COPIES + 1), ParserUtil.MESSAGE_INVALID_COPIES);
+        assertParseFailure(parser, userInput + " c/many", ParserUtil.MESSAGE_INVALID_COPIES);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddBookCommand.MESSAGE_USAGE);
@@ -0,0 +1,85 @@
+package seedu.smartlib.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.util.CsvUtil;
+import seedu.smartlib.model.book.Barcode;
+import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.testutil.BookBuilder;
+
+public class BookCsvParserTest {
+
+    private static BookCsvParser.Result parse(String csv) throws Exception {
+        return BookCsvParser.parse(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BookCsvParser.parse(null));
+    }
+
+    @Test
+    public void parse_validLines_returnsRows() throws Exception {
+        BookCsvParser.Result result = parse(BookCsvParser.HEADER + "\n"
+                + "\"Cloud Nine\",Alex Yeoh,Penguin,9780141439518,Romance\n"
+                + "\n"
+                + "Lilac, Bernice Yu , Penguin, 9780141439525, Fantasy, 3\n");
+
+        assertEquals(Map.of(), result.getErrors());
+        List<BookCsvParser.Row> rows = result.getRows();
+        assertEquals(2, rows.size());
+        Book expectedBook = new BookBuilder().withName("Cloud Nine").withAuthor("Alex Yeoh").withPublisher("Penguin")
+                .withIsbn("9780141439518").withGenre("Romance").withBarcode(Barcode.TEMP_BARCODE_VALUE + "").build();
+        assertEquals(expectedBook, rows.get(0).getBook());
+        assertEquals(2, rows.get(0).getLineNumber());
+        assertEquals(1, rows.get(0).getCopies());
+        assertEquals(4, rows.get(1).getLineNumber());
+        assertEquals(3, rows.get(1).getCopies());
+    }
+
+    @Test
+    public void parse_invalidLines_reportsErrorsByLine() throws Exception {
+        BookCsvParser.Result result = parse("Cloud Nine,Alex Yeoh,Penguin,9780141439518\n"
+                + "Cloud Nine,Alex Yeoh,Penguin,123,Romance\n"
+                + "\"Cloud Nine,Alex Yeoh,Penguin,9780141439518,Romance\n"
+                + "Cloud Nine,Alex Yeoh,Penguin,9780141439518,Romance,0\n"
+                + "title,Alex Yeoh,Penguin,9780141439518,Romance\n");
+
+        assertEquals(Map.of(
+                1, String.format(BookCsvParser.MESSAGE_WRONG_FIELD_COUNT, 4),
+                2, Isbn.MESSAGE_CONSTRAINTS,
+                3, CsvUtil.MESSAGE_UNTERMINATED_QUOTE,
+                4, ParserUtil.MESSAGE_INVALID_COPIES), result.getErrors());
+
+        // only the first line may be a header
+        assertEquals(5, result.getRows().get(0).getLineNumber());
+    }
+
+    @Test
+    public void parse_manyChunks_keepsLineOrder() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        int lines = BookCsvParser.CHUNK_SIZE * 2 + 1;
+        for (int i = 1; i <= lines; i++) {
+            csv.append(i % 100 == 0 ? "bad line" : "Book,Author,Publisher,9780141439518,Genre").append("\n");
+        }
+
+        BookCsvParser.Result result = parse(csv.toString());
+
+        assertEquals(lines / 100, result.getErrors().size());
+        assertEquals(lines - lines / 100, result.getRows().size());
+        for (int i = 1; i < result.getRows().size(); i++) {
+            assertEquals(true, result.getRows().get(i - 1).getLineNumber() < result.getRows().get(i).getLineNumber());
+        }
+        assertEquals(lines, result.getRows().get(result.getRows().size() - 1).getLineNumber());
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.commands.CommandTestUtil.INVALID_ISBN_DESC;
+import static seedu.smartlib.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
+import static seedu.smartlib.logic.commands.CommandTestUtil.ISBN_DESC_HARRY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_ISBN_HARRY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.CancelHoldCommand;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.Hold;
+
+public class CancelHoldCommandParserTest {
+
+    private CancelHoldCommandParser parser = new CancelHoldCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        CancelHoldCommand expectedCommand =
+                new CancelHoldCommand(new Hold(new Name(VALID_NAME_AMY), new Isbn(VALID_ISBN_HARRY)));
+        assertParseSuccess(parser, NAME_DESC_AMY + ISBN_DESC_HARRY, expectedCommand);
+        assertParseSuccess(parser, ISBN_DESC_HARRY + NAME_DESC_AMY, expectedCommand);
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CancelHoldCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, NAME_DESC_AMY, expectedMessage);
+        assertParseFailure(parser, ISBN_DESC_HARRY, expectedMessage);
+        assertParseFailure(parser, " books" + NAME_DESC_AMY + ISBN_DESC_HARRY, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_NAME_DESC + ISBN_DESC_HARRY, Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, NAME_DESC_AMY + INVALID_ISBN_DESC, Isbn.MESSAGE_CONSTRAINTS);
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.logic.commands.CheckinCommand;
+import seedu.smartlib.model.book.Barcode;
+
+public class CheckinCommandParserTest {
+
+    private CheckinCommandParser parser = new CheckinCommandParser();
+
+    @Test
+    public void parse_barcodesPresent_success() {
+        assertParseSuccess(parser, " bc/1000000001 bc/1000000000",
+                new CheckinCommand(List.of(new Barcode(1000000001), new Barcode(1000000000))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheckinCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " books bc/1000000000", expectedMessage);
+        assertParseFailure(parser, " bc/1000000000 bc/1000000000", ParserUtil.MESSAGE_DUPLICATE_BARCODE);
+    }
+
+}
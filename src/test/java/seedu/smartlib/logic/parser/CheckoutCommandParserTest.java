@@ -0,0 +1,41 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.CheckoutCommand;
+import seedu.smartlib.model.book.Barcode;
+
+public class CheckoutCommandParserTest {
+
+    private CheckoutCommandParser parser = new CheckoutCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " r/Alice Pauline bc/1000000000 bc/1000000001",
+                new CheckoutCommand(new Name("Alice Pauline"),
+                        List.of(new Barcode(1000000000), new Barcode(1000000001))));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheckoutCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " bc/1000000000", expectedMessage);
+        assertParseFailure(parser, " r/Alice Pauline", expectedMessage);
+        assertParseFailure(parser, " books r/Alice Pauline bc/1000000000", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " r/Alice Pauline bc/100", Barcode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " r/Alice Pauline bc/1000000000 bc/1000000000",
+                ParserUtil.MESSAGE_DUPLICATE_BARCODE);
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final Consumer<String> failureSink = failure -> { };
+    private ExportCommandParser parser = new ExportCommandParser(Runnable::run, failureSink);
+
+    @Test
+    public void parse_validPath_success() {
+        assertParseSuccess(parser, "  data/export ", new ExportCommand(Paths.get("data", "export"), Runnable::run,
+                failureSink));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "data/catalogue\0.csv", ExportCommandParser.MESSAGE_INVALID_PATH);
+    }
+
+}
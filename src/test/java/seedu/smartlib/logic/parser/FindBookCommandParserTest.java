@@ -4,12 +4,15 @@ import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMA
 import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.logic.commands.FindBookCommand;
 import seedu.smartlib.model.book.BookNameContainsKeywordsPredicate;
+import seedu.smartlib.model.book.BookQuery;
 
 public class FindBookCommandParserTest {
 
@@ -32,4 +35,49 @@ public class FindBookCommandParserTest {
         assertParseSuccess(parser, " \n Harry \n \t Potter  \t", expectedFindBookCommand);
     }
 
+    @Test
+    public void parse_validLimit_returnsRankedFindCommand() {
+        FindBookCommand expectedFindBookCommand =
+                new FindBookCommand(new BookNameContainsKeywordsPredicate(Arrays.asList("Harry", "Potter")), 10);
+        assertParseSuccess(parser, " Harry Potter top/10", expectedFindBookCommand);
+        assertParseSuccess(parser, " Harry  Potter   top/ 10 ", expectedFindBookCommand);
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, " Harry top/0", FindBookCommand.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " Harry top/ten", FindBookCommand.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " top/10",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fieldConditions_returnsFindCommand() {
+        BookQuery query = BookQuery.all().withAnyWord(Arrays.asList("Harry")).withAuthor(Arrays.asList("JK", "Rowling"))
+                .withGenre(Arrays.asList("Fantasy")).withBorrower(new Name("Alice Pauline")).withBorrowed(true)
+                .withBorrowedBetween(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 1, 31));
+        assertParseSuccess(parser, " Harry a/JK  Rowling g/Fantasy r/Alice Pauline st/Borrowed "
+                + "from/2021-01-01 to/2021-01-31", new FindBookCommand(query, FindBookCommand.NO_LIMIT));
+
+        // keywords are optional once a condition is given
+        assertParseSuccess(parser, " st/available",
+                new FindBookCommand(BookQuery.all().withBorrowed(false), FindBookCommand.NO_LIMIT));
+        assertParseSuccess(parser, " st/OVERDUE",
+                new FindBookCommand(BookQuery.all().withOverdue(), FindBookCommand.NO_LIMIT));
+        assertParseSuccess(parser, " to/2021-01-31",
+                new FindBookCommand(BookQuery.all().withBorrowedBetween(null, LocalDate.of(2021, 1, 31)),
+                        FindBookCommand.NO_LIMIT));
+    }
+
+    @Test
+    public void parse_invalidFieldConditions_throwsParseException() {
+        assertParseFailure(parser, " st/lost", FindBookCommand.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, " from/2021-02-30", FindBookCommand.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/2021-02-01 to/2021-01-01", FindBookCommand.MESSAGE_INVALID_DATE_RANGE);
+
+        // ranking needs keywords
+        assertParseFailure(parser, " g/Fantasy top/3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindBookCommand.MESSAGE_USAGE));
+    }
+
 }
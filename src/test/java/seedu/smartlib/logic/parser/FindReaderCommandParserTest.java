@@ -9,7 +9,9 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.smartlib.logic.commands.FindReaderCommand;
-import seedu.smartlib.model.reader.NameContainsKeywordsPredicate;
+import seedu.smartlib.model.reader.Email;
+import seedu.smartlib.model.reader.Phone;
+import seedu.smartlib.model.reader.ReaderQuery;
 
 public class FindReaderCommandParserTest {
 
@@ -25,11 +27,53 @@ public class FindReaderCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindReaderCommand expectedFindReaderCommand =
-                new FindReaderCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+                new FindReaderCommand(ReaderQuery.all().withAnyWord(Arrays.asList("Alice", "Bob")));
         assertParseSuccess(parser, "Alice Bob", expectedFindReaderCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindReaderCommand);
     }
 
+    @Test
+    public void parse_tagArgs_returnsFindCommand() {
+        FindReaderCommand expectedFindReaderCommand =
+                new FindReaderCommand(ReaderQuery.all().withAnyTag(Arrays.asList("VIP", "staff")));
+        assertParseSuccess(parser, " t/VIP staff", expectedFindReaderCommand);
+        assertParseSuccess(parser, " \n t/VIP \t staff  ", expectedFindReaderCommand);
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        FindReaderCommand expectedFindReaderCommand =
+                new FindReaderCommand(ReaderQuery.all().withSimilarName(Arrays.asList("Alcie", "Bbo")));
+        assertParseSuccess(parser, " f/Alcie Bbo", expectedFindReaderCommand);
+        assertParseSuccess(parser, " \n f/Alcie \t Bbo  ", expectedFindReaderCommand);
+    }
+
+    @Test
+    public void parse_soundsLikeArgs_returnsFindCommand() {
+        FindReaderCommand expectedFindReaderCommand =
+                new FindReaderCommand(ReaderQuery.all().withSoundAlikeName(Arrays.asList("Muhamad", "Ali")));
+        assertParseSuccess(parser, " s/Muhamad Ali", expectedFindReaderCommand);
+        assertParseSuccess(parser, " \n s/Muhamad \t Ali  ", expectedFindReaderCommand);
+    }
+
+    @Test
+    public void parse_keywordsAndFields_returnsFindCommand() {
+        ReaderQuery query = ReaderQuery.all().withAnyWord(Arrays.asList("Alice"))
+                .withAnyTag(Arrays.asList("VIP")).withPhone(new Phone("94351253"))
+                .withEmail(new Email("alice@example.com")).withAddress(Arrays.asList("Jurong", "West"))
+                .withOverdue();
+        assertParseSuccess(parser, " Alice st/Overdue a/Jurong West e/alice@example.com p/94351253 t/VIP",
+                new FindReaderCommand(query));
+
+        assertParseSuccess(parser, " st/borrowing", new FindReaderCommand(ReaderQuery.all().withBorrowing()));
+    }
+
+    @Test
+    public void parse_invalidFields_throwsParseException() {
+        assertParseFailure(parser, " Alice st/lost", FindReaderCommand.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, " Alice p/abc", Phone.MESSAGE_CONSTRAINTS);
+    }
+
 }
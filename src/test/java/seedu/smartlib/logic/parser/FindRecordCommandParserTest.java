@@ -1,15 +1,24 @@
 package seedu.smartlib.logic.parser;
 
 import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
+import static seedu.smartlib.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_FROM;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_RETURNED_TO;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.logic.commands.FindRecordCommand;
-import seedu.smartlib.model.record.RecordContainsBookNamePredicate;
+import seedu.smartlib.model.record.RecordQuery;
 
 
 public class FindRecordCommandParserTest {
@@ -25,11 +34,35 @@ public class FindRecordCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindRecordCommand expectedFindRecordCommand =
-                new FindRecordCommand(new RecordContainsBookNamePredicate(Arrays.asList("Harry", "Potter")));
+                new FindRecordCommand(RecordQuery.all().withAnyWord(Arrays.asList("Harry", "Potter")));
         assertParseSuccess(parser, "Harry Potter", expectedFindRecordCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Harry \n \t Potter  \t", expectedFindRecordCommand);
     }
 
+    @Test
+    public void parse_readerAndDates_returnsFindCommand() {
+        RecordQuery query = RecordQuery.all().withReader(new Name(VALID_NAME_AMY))
+                .withBorrowedBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 7))
+                .withReturnedBetween(LocalDate.of(2021, 3, 8), null);
+        assertParseSuccess(parser, NAME_DESC_AMY + " " + PREFIX_FROM + "2021-03-01 " + PREFIX_TO + "2021-03-07 "
+                + PREFIX_RETURNED_FROM + "2021-03-08", new FindRecordCommand(query));
+
+        // only the end of a range
+        assertParseSuccess(parser, " " + PREFIX_RETURNED_TO + "2021-03-08",
+                new FindRecordCommand(RecordQuery.all().withReturnedBetween(null, LocalDate.of(2021, 3, 8))));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_NAME_DESC, Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_FROM + "2021-13-01", FindRecordCommand.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " " + PREFIX_RETURNED_TO + "yesterday", FindRecordCommand.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " " + PREFIX_FROM + "2021-03-08 " + PREFIX_TO + "2021-03-01",
+                FindRecordCommand.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " " + PREFIX_RETURNED_FROM + "2021-03-08 " + PREFIX_RETURNED_TO + "2021-03-01",
+                FindRecordCommand.MESSAGE_INVALID_DATE_RANGE);
+    }
+
 }
@@ -0,0 +1,51 @@
+package seedu.smartlib.logic.parser;
+
+import static seedu.smartlib.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.smartlib.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
+import static seedu.smartlib.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.smartlib.logic.parser.CliSyntax.PREFIX_PAY;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.smartlib.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.logic.commands.FinesCommand;
+
+public class FinesCommandParserTest {
+
+    private FinesCommandParser parser = new FinesCommandParser();
+
+    @Test
+    public void parse_readerOnly_success() {
+        assertParseSuccess(parser, NAME_DESC_AMY, new FinesCommand(new Name(VALID_NAME_AMY)));
+    }
+
+    @Test
+    public void parse_withPayment_success() {
+        FinesCommand expectedCommand = new FinesCommand(new Name(VALID_NAME_AMY), 250);
+        assertParseSuccess(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "2.50", expectedCommand);
+        assertParseSuccess(parser, " " + PREFIX_PAY + "2.5" + NAME_DESC_AMY, expectedCommand);
+        assertParseSuccess(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "3",
+                new FinesCommand(new Name(VALID_NAME_AMY), 300));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FinesCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_PAY + "2.50", expectedMessage);
+        assertParseFailure(parser, " fines" + NAME_DESC_AMY, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, INVALID_NAME_DESC, Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "0", ParserUtil.MESSAGE_INVALID_AMOUNT);
+        assertParseFailure(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "-1", ParserUtil.MESSAGE_INVALID_AMOUNT);
+        assertParseFailure(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "2.505", ParserUtil.MESSAGE_INVALID_AMOUNT);
+        assertParseFailure(parser, NAME_DESC_AMY + " " + PREFIX_PAY + "two", ParserUtil.MESSAGE_INVALID_AMOUNT);
+    }
+
+}
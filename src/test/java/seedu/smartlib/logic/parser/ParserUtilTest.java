@@ -322,5 +322,14 @@ public class ParserUtilTest {
         assertEquals(expectedGenre, ParserUtil.parseGenre(genreWithWhitespace));
     }
 
-}
+    @Test
+    public void parseCopies() throws Exception {
+        assertEquals(3, ParserUtil.parseCopies(WHITESPACE + "3" + WHITESPACE));
+        assertEquals(ParserUtil.MAX_COPIES, ParserUtil.parseCopies(String.valueOf(ParserUtil.MAX_COPIES)));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_COPIES, () -> ParserUtil.parseCopies("0"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_COPIES, () -> ParserUtil.parseCopies("two"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_COPIES, ()
+            -> ParserUtil.parseCopies(String.valueOf(ParserUtil.MAX_COPIES + 1)));
+    }
 
+}
@@ -21,14 +21,14 @@ import seedu.smartlib.logic.commands.FindReaderCommand;
 import seedu.smartlib.logic.commands.HelpCommand;
 import seedu.smartlib.logic.commands.ListReaderCommand;
 import seedu.smartlib.logic.parser.exceptions.ParseException;
-import seedu.smartlib.model.reader.NameContainsKeywordsPredicate;
 import seedu.smartlib.model.reader.Reader;
+import seedu.smartlib.model.reader.ReaderQuery;
 import seedu.smartlib.testutil.ReaderBuilder;
 import seedu.smartlib.testutil.ReaderUtil;
 
 public class SmartLibParserTest {
 
-    private final SmartLibParser parser = new SmartLibParser();
+    private final SmartLibParser parser = new SmartLibParser(Runnable::run, failure -> { });
 
     @Test
     public void parseCommand_add() throws Exception {
@@ -61,7 +61,7 @@ public class SmartLibParserTest {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         FindReaderCommand command = (FindReaderCommand) parser.parseCommand(
                 FindReaderCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindReaderCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindReaderCommand(ReaderQuery.all().withAnyWord(keywords)), command);
     }
 
     @Test
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.smartlib.model.Model.PREDICATE_SHOW_ALL_READERS;
 import static seedu.smartlib.testutil.Assert.assertThrows;
@@ -31,8 +32,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.smartlib.commons.core.GuiSettings;
 import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Availability;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
 import seedu.smartlib.model.book.Isbn;
 import seedu.smartlib.model.book.exceptions.BookNotFoundException;
 import seedu.smartlib.model.book.exceptions.DuplicateBookException;
@@ -713,6 +716,17 @@ public class ModelManagerTest {
         modelManager.deleteBook(habit2);
     }
 
+    @Test
+    public void getAvailability() {
+        ModelManager modelManager = new ModelManager(new SmartLib(smartLib), userPrefs);
+
+        assertThrows(NullPointerException.class, () -> modelManager.getAvailability(null));
+        assertEquals(Availability.NONE, modelManager.getAvailability(HABIT.getName()));
+
+        // SECRET is on loan
+        assertEquals(new Availability(0, 1), modelManager.getAvailability(SECRET.getName()));
+    }
+
     @Test
     public void getFirstAvailableBookBarcode() {
         SmartLib smartLibCopy = new SmartLib(smartLib);
@@ -819,6 +833,18 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredReaderList().remove(0));
     }
 
+    @Test
+    public void findBooks_shownBookReplaced_replacementStillShown() {
+        ModelManager modelManager = new ModelManager(smartLib, userPrefs);
+        modelManager.findBooks(BookQuery.all().withAnyWord(Arrays.asList("Harry")));
+        assertEquals(Arrays.asList(HARRY), modelManager.getFilteredBookList());
+
+        Book replacement = new BookBuilder(HARRY).build();
+        modelManager.setSmartLib(new SmartLibBuilder().withBook(replacement).withBook(SECRET).build());
+        assertEquals(1, modelManager.getFilteredBookList().size());
+        assertSame(replacement, modelManager.getFilteredBookList().get(0));
+    }
+
     @Test
     public void getFilteredBookList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -12,6 +12,8 @@ import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.ALICE;
 import static seedu.smartlib.testutil.TypicalModels.BENSON;
 import static seedu.smartlib.testutil.TypicalModels.BOB;
+import static seedu.smartlib.testutil.TypicalModels.CARL;
+import static seedu.smartlib.testutil.TypicalModels.GEORGE;
 import static seedu.smartlib.testutil.TypicalModels.HABIT;
 import static seedu.smartlib.testutil.TypicalModels.HARRY;
 import static seedu.smartlib.testutil.TypicalModels.LIFE;
@@ -19,9 +21,11 @@ import static seedu.smartlib.testutil.TypicalModels.MAZE;
 import static seedu.smartlib.testutil.TypicalModels.POWER;
 import static seedu.smartlib.testutil.TypicalModels.RECORD_A;
 import static seedu.smartlib.testutil.TypicalModels.RECORD_B;
+import static seedu.smartlib.testutil.TypicalModels.RECORD_C;
 import static seedu.smartlib.testutil.TypicalModels.SECRET;
 import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -35,9 +39,13 @@ import javafx.collections.ObservableList;
 import seedu.smartlib.commons.core.name.Name;
 import seedu.smartlib.model.book.Barcode;
 import seedu.smartlib.model.book.Book;
+import seedu.smartlib.model.book.BookQuery;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 import seedu.smartlib.model.reader.Reader;
 import seedu.smartlib.model.reader.exceptions.DuplicateReaderException;
 import seedu.smartlib.model.record.DateBorrowed;
+import seedu.smartlib.model.record.DateReturned;
 import seedu.smartlib.model.record.Record;
 import seedu.smartlib.testutil.ReaderBuilder;
 
@@ -267,6 +275,150 @@ public class SmartLibTest {
         assertNotEquals(hashcode, smartLibCopy.hashCode());
     }
 
+    @Test
+    public void isBookBorrowed_validLoan_updatesReaderAndBook() {
+        SmartLib smartLib = getTypicalSmartLib();
+        long version = smartLib.getVersion();
+
+        assertTrue(smartLib.isBookBorrowed(ALICE.getName(), POWER.getBarcode()));
+        assertTrue(smartLib.getVersion() > version);
+        assertEquals(ALICE.getName(), smartLib.getBookByBarcode(POWER.getBarcode()).getBorrowerName());
+        assertEquals(ALICE.getName(), smartLib.getReaderByBarcode(POWER.getBarcode()).getName());
+        assertTrue(smartLib.getReaderByName(ALICE.getName()).getBorrows().containsKey(POWER));
+
+        assertTrue(smartLib.isBookReturned(ALICE.getName(), POWER.getBarcode()));
+        assertFalse(smartLib.isBookWithBarcodeBorrowed(POWER.getBarcode()));
+        assertNull(smartLib.getReaderByBarcode(POWER.getBarcode()));
+        assertFalse(smartLib.getReaderByName(ALICE.getName()).hasBorrowedBooks());
+    }
+
+    @Test
+    public void lendToNextHolder_ineligibleHolderAhead_lentToNextEligibleHolder() {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.isBookBorrowed(ALICE.getName(), POWER.getBarcode());
+        smartLib.addHold(new Hold(BENSON.getName(), POWER.getIsbn()));
+        smartLib.addHold(new Hold(CARL.getName(), POWER.getIsbn()));
+        assertNull(smartLib.lendToNextHolder(POWER.getBarcode()));
+
+        smartLib.isBookReturned(ALICE.getName(), POWER.getBarcode());
+        Record borrowRecord = smartLib.lendToNextHolder(POWER.getBarcode());
+
+        // Benson is holding on to an overdue book, so the copy goes to Carl
+        assertEquals(CARL.getName(), borrowRecord.getReaderName());
+        assertEquals(CARL.getName(), smartLib.getBookByBarcode(POWER.getBarcode()).getBorrowerName());
+        assertTrue(smartLib.hasOpenRecord(POWER.getBarcode()));
+        assertEquals(List.of(new Hold(BENSON.getName(), POWER.getIsbn())), smartLib.getHoldList());
+    }
+
+    @Test
+    public void returnBooks_titleOnHold_lentToHolder() {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.addRecord(RECORD_C);
+        smartLib.addHold(new Hold(CARL.getName(), SECRET.getIsbn()));
+
+        List<Record> completedRecords = smartLib.returnBooks(List.of(SECRET.getBarcode()),
+                new DateReturned(LocalDateTime.now()));
+
+        assertEquals(BENSON.getName(), completedRecords.get(0).getReaderName());
+        assertEquals(CARL.getName(), smartLib.getBookByBarcode(SECRET.getBarcode()).getBorrowerName());
+        assertTrue(smartLib.hasOpenRecord(SECRET.getBarcode()));
+        assertEquals(List.of(), smartLib.getHoldList());
+    }
+
+    @Test
+    public void returnBooks_overdueBook_fineChargedAndBorrowingBlockedUntilPaid() {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.addRecord(RECORD_C);
+        DateReturned dateReturned = new DateReturned(LocalDateTime.now());
+
+        smartLib.returnBooks(List.of(SECRET.getBarcode()), dateReturned);
+
+        // Benson no longer holds an overdue book, but owes more than the fine limit
+        long fineInCents = smartLib.getOutstandingFines(BENSON.getName());
+        assertTrue(fineInCents > SmartLib.FINE_LIMIT_IN_CENTS);
+        assertEquals(List.of(FineEntry.charge(BENSON.getName(), fineInCents, dateReturned.toString(),
+                SECRET.getBarcode())), smartLib.getFineList());
+        assertFalse(smartLib.canReaderBorrow(BENSON.getName()));
+        assertFalse(smartLib.canReaderBorrow(BENSON.getName(), 1));
+
+        smartLib.addFinePayment(FineEntry.payment(BENSON.getName(), fineInCents, dateReturned.toString()));
+        assertEquals(0, smartLib.getOutstandingFines(BENSON.getName()));
+        assertTrue(smartLib.canReaderBorrow(BENSON.getName()));
+        assertEquals(smartLib.getFineList(), new SmartLib(smartLib.snapshot()).getFineList());
+    }
+
+    @Test
+    public void removeReaderAndBook_withHolds_holdsRemoved() {
+        SmartLib smartLib = getTypicalSmartLib();
+        smartLib.addHold(new Hold(GEORGE.getName(), POWER.getIsbn()));
+        smartLib.addHold(new Hold(CARL.getName(), POWER.getIsbn()));
+        smartLib.addHold(new Hold(CARL.getName(), HABIT.getIsbn()));
+
+        smartLib.removeReader(GEORGE);
+        assertEquals(List.of(new Hold(CARL.getName(), POWER.getIsbn()), new Hold(CARL.getName(), HABIT.getIsbn())),
+                smartLib.getHoldList());
+
+        smartLib.removeBook(POWER);
+        assertEquals(List.of(new Hold(CARL.getName(), HABIT.getIsbn())), smartLib.getHoldList());
+        assertEquals(smartLib.getHoldList(), new SmartLib(smartLib.snapshot()).getHoldList());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notVisible() {
+        SmartLib smartLib = getTypicalSmartLib();
+        ReadOnlySmartLib snapshot = smartLib.snapshot();
+
+        assertEquals(smartLib, snapshot);
+        assertEquals(snapshot, smartLib);
+        assertEquals(smartLib.hashCode(), snapshot.hashCode());
+
+        smartLib.isBookBorrowed(ALICE.getName(), POWER.getBarcode());
+        smartLib.removeReader(GEORGE);
+        assertFalse(snapshot.getBookList().stream().anyMatch(book -> book.isSameBook(POWER) && book.isBorrowed()));
+        assertTrue(snapshot.getReaderList().contains(GEORGE));
+        assertNotEquals(smartLib, snapshot);
+        assertEquals(smartLib, smartLib.snapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getBookList().remove(0));
+    }
+
+    @Test
+    public void findBooks_repeatedQuery_answeredFromCacheUntilModified() {
+        SmartLib smartLib = getTypicalSmartLib();
+        BookQuery query = BookQuery.all().withAnyWord(Arrays.asList("Secret", "habits"));
+        assertEquals(Arrays.asList(HABIT, SECRET), smartLib.findBooks(query));
+        assertEquals(1, smartLib.getCachedResultCount());
+
+        // equivalent queries share a cached result
+        assertEquals(Arrays.asList(HABIT, SECRET),
+                smartLib.findBooks(BookQuery.all().withAnyWord(Arrays.asList("HABITS", "secret", "Secret"))));
+        assertEquals(1, smartLib.getCachedResultCount());
+
+        // ranked searches are cached separately
+        assertEquals(Arrays.asList(HABIT), smartLib.findTopBooks(query, 1));
+        assertEquals(2, smartLib.getCachedResultCount());
+
+        // time-dependent queries are never cached
+        smartLib.findBooks(BookQuery.all().withOverdue());
+        assertEquals(2, smartLib.getCachedResultCount());
+
+        // any modification invalidates every cached result
+        smartLib.removeBook(HABIT);
+        assertEquals(0, smartLib.getCachedResultCount());
+        assertEquals(Arrays.asList(SECRET), smartLib.findBooks(query));
+    }
+
+    @Test
+    public void findRecords_repeatedQuery_answeredFromCacheUntilModified() {
+        SmartLib smartLib = getTypicalSmartLib();
+        assertEquals(Arrays.asList(RECORD_A), smartLib.findRecords(Arrays.asList("harry")));
+        assertEquals(Arrays.asList(RECORD_A), smartLib.findRecords(Arrays.asList("HARRY")));
+        assertEquals(1, smartLib.getCachedResultCount());
+
+        smartLib.addRecord(RECORD_C);
+        assertEquals(0, smartLib.getCachedResultCount());
+        assertEquals(Arrays.asList(RECORD_C), smartLib.findRecords(Arrays.asList("secret")));
+    }
+
     /**
      * A stub ReadOnlySmartLib whose reader list can violate interface constraints.
      */
@@ -275,6 +427,8 @@ public class SmartLibTest {
         private final ObservableList<Book> books = FXCollections.observableArrayList();
         private final ObservableList<Reader> readers = FXCollections.observableArrayList();
         private final ObservableList<Record> records = FXCollections.observableArrayList();
+        private final List<Hold> holds = new ArrayList<>();
+        private final List<FineEntry> fines = new ArrayList<>();
 
         SmartLibStub(Collection<Record> records, Collection<Reader> readers) {
             this.records.setAll(records);
@@ -296,6 +450,16 @@ public class SmartLibTest {
             return records;
         }
 
+        @Override
+        public List<Hold> getHoldList() {
+            return holds;
+        }
+
+        @Override
+        public List<FineEntry> getFineList() {
+            return fines;
+        }
+
     }
 
 }
@@ -0,0 +1,45 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityTest {
+
+    @Test
+    public void hasAvailableCopy() {
+        assertFalse(Availability.NONE.hasAvailableCopy());
+        assertFalse(new Availability(0, 3).hasAvailableCopy());
+        assertTrue(new Availability(1, 3).hasAvailableCopy());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("2 of 3 copies available", new Availability(2, 3).toString());
+    }
+
+    @Test
+    public void equals() {
+        Availability availability = new Availability(1, 2);
+
+        // same object -> returns true
+        assertTrue(availability.equals(availability));
+
+        // same values -> returns true
+        assertTrue(availability.equals(new Availability(1, 2)));
+        assertEquals(availability.hashCode(), new Availability(1, 2).hashCode());
+
+        // different types -> returns false
+        assertFalse(availability.equals(1));
+
+        // null -> returns false
+        assertFalse(availability.equals(null));
+
+        // different counts -> returns false
+        assertFalse(availability.equals(new Availability(2, 2)));
+        assertFalse(availability.equals(new Availability(1, 3)));
+    }
+
+}
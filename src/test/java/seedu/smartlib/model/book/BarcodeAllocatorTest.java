@@ -0,0 +1,87 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BarcodeAllocatorTest {
+
+    /**
+     * A Random which returns the given values in turn.
+     */
+    private static class FixedRandom extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] values;
+        private int next;
+
+        FixedRandom(int... values) {
+            this.values = values;
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return values[next++];
+        }
+    }
+
+    @Test
+    public void markUsed_barcodes_tracked() {
+        BarcodeAllocator allocator = new BarcodeAllocator();
+        Barcode barcode = new Barcode(Barcode.MAX_VALUE);
+
+        allocator.markUsed(barcode);
+        allocator.markUsed(new Barcode(Barcode.TEMP_BARCODE_VALUE));
+        assertTrue(allocator.isUsed(barcode));
+        assertFalse(allocator.isUsed(new Barcode(Barcode.MIN_VALUE)));
+        assertFalse(allocator.isUsed(new Barcode(Barcode.TEMP_BARCODE_VALUE)));
+
+        allocator.markUnused(barcode);
+        assertFalse(allocator.isUsed(barcode));
+    }
+
+    @Test
+    public void allocate_usedBarcodePicked_picksAgain() {
+        BarcodeAllocator allocator = new BarcodeAllocator(new FixedRandom(0, 5));
+        allocator.markUsed(new Barcode(Barcode.MIN_VALUE));
+
+        assertEquals(new Barcode(Barcode.MIN_VALUE + 5), allocator.allocate());
+    }
+
+    @Test
+    public void allocateBlock_overlapsUsedBarcode_picksAgain() {
+        BarcodeAllocator allocator = new BarcodeAllocator(new FixedRandom(8, 20));
+        allocator.markUsed(new Barcode(Barcode.MIN_VALUE + 10));
+
+        assertEquals(List.of(new Barcode(Barcode.MIN_VALUE + 20), new Barcode(Barcode.MIN_VALUE + 21),
+                new Barcode(Barcode.MIN_VALUE + 22)), allocator.allocateBlock(3));
+    }
+
+    @Test
+    public void allocateBlock_randomPicks_unusedAndInRange() {
+        BarcodeAllocator allocator = new BarcodeAllocator();
+
+        List<Barcode> barcodes = allocator.allocateBlock(1000);
+
+        assertEquals(1000, barcodes.size());
+        for (int i = 0; i < barcodes.size(); i++) {
+            assertTrue(Barcode.isValidBarcode(barcodes.get(i).getValue()));
+            assertEquals(barcodes.get(0).getValue() + i, barcodes.get(i).getValue());
+        }
+        assertEquals(List.of(), allocator.allocateBlock(0));
+    }
+
+    @Test
+    public void allocateBlock_invalidCount_throwsIllegalArgumentException() {
+        BarcodeAllocator allocator = new BarcodeAllocator();
+        assertThrows(IllegalArgumentException.class, () -> allocator.allocateBlock(-1));
+        assertThrows(IllegalArgumentException.class, () -> allocator.allocateBlock(Integer.MAX_VALUE));
+    }
+
+}
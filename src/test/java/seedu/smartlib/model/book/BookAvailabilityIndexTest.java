@@ -0,0 +1,78 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.record.DateBorrowed;
+import seedu.smartlib.testutil.BookBuilder;
+
+public class BookAvailabilityIndexTest {
+
+    private final BookAvailabilityIndex index = new BookAvailabilityIndex();
+
+    private final Book firstCopy = new BookBuilder(HARRY_PORTER).withBarcode("1234567890").build();
+    private final Book secondCopy = new BookBuilder(HARRY_PORTER).withBarcode("1234567891").build();
+
+    private static Book lent(Book book) {
+        return book.withLoan(new Name("Alex Yeoh"), new DateBorrowed(LocalDateTime.now()));
+    }
+
+    @Test
+    public void getAvailability_unknownTitle_none() {
+        assertEquals(Availability.NONE, index.getAvailability(HARRY_PORTER.getName()));
+        assertNull(index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+    }
+
+    @Test
+    public void addAndRemove_copiesCounted() {
+        index.add(firstCopy);
+        index.add(secondCopy);
+        index.add(PROMISE_LAND);
+        assertEquals(new Availability(2, 2), index.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(new Availability(1, 1), index.getAvailability(PROMISE_LAND.getName()));
+
+        index.remove(firstCopy);
+        assertEquals(new Availability(1, 1), index.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(secondCopy.getBarcode(), index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        index.remove(secondCopy);
+        assertEquals(Availability.NONE, index.getAvailability(HARRY_PORTER.getName()));
+
+        index.clear();
+        assertEquals(Availability.NONE, index.getAvailability(PROMISE_LAND.getName()));
+    }
+
+    @Test
+    public void loanAndReturn_freeListUpdated() {
+        index.add(firstCopy);
+        index.add(secondCopy);
+        assertEquals(firstCopy.getBarcode(), index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        // lend the first copy
+        index.remove(firstCopy);
+        index.add(lent(firstCopy));
+        assertEquals(new Availability(1, 2), index.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(secondCopy.getBarcode(), index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        // lend the second copy
+        index.remove(secondCopy);
+        index.add(lent(secondCopy));
+        assertEquals(new Availability(0, 2), index.getAvailability(HARRY_PORTER.getName()));
+        assertNull(index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        // the copy returned first is handed out first
+        index.remove(lent(secondCopy));
+        index.add(secondCopy);
+        index.remove(lent(firstCopy));
+        index.add(firstCopy);
+        assertEquals(secondCopy.getBarcode(), index.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+    }
+
+}
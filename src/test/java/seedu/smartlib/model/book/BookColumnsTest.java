@@ -0,0 +1,90 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.POWER;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BookColumnsTest {
+
+    private final BookColumns columns = new BookColumns();
+
+    @BeforeEach
+    public void setUp() {
+        columns.add(HARRY_PORTER);
+        columns.add(SECRET);
+        columns.add(POWER);
+    }
+
+    @Test
+    public void isBorrowed() {
+        assertFalse(columns.isBorrowed(0));
+        assertTrue(columns.isBorrowed(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.isBorrowed(3));
+    }
+
+    @Test
+    public void remove_shiftsRowsUp() {
+        columns.remove(0);
+        assertEquals(2, columns.size());
+        assertTrue(columns.isBorrowed(0));
+        assertFalse(columns.isBorrowed(1));
+        assertEquals(Collections.singletonList(1), columns.rowsWithTitle(POWER.getName().toString()));
+        assertEquals(Collections.singletonList(0), columns.rowsWithTitle(SECRET.getName().toString()));
+    }
+
+    @Test
+    public void set_overwritesRow() {
+        columns.set(1, LEGACY);
+        assertFalse(columns.isBorrowed(1));
+        assertEquals(Collections.emptyList(), columns.rowsWithIsbn(SECRET.getIsbn().toString()));
+        assertEquals(Collections.singletonList(1), columns.rowsWithIsbn(LEGACY.getIsbn().toString()));
+    }
+
+    @Test
+    public void overdueRows() {
+        LocalDateTime borrowed = LocalDateTime.parse(SECRET.getDateBorrowed().toString());
+        assertEquals(Collections.singletonList(1), columns.overdueRows(borrowed.plusDays(15)));
+        assertEquals(Collections.emptyList(), columns.overdueRows(borrowed.plusDays(1)));
+    }
+
+    @Test
+    public void bitmaps_afterUpdates_upToDate() {
+        // rows: HARRY_PORTER (Fantasy), SECRET (Mystery, borrowed), POWER (Education)
+        assertEquals(BitSet.valueOf(new long[] {0b010}), columns.loanBitmap(true));
+        assertEquals(BitSet.valueOf(new long[] {0b101}), columns.loanBitmap(false));
+        assertEquals(BitSet.valueOf(new long[] {0b011}),
+                columns.genreBitmap(genre -> genre.contains("fantasy") || genre.contains("mystery")));
+
+        // rows after the removed one move down
+        columns.remove(0);
+        assertEquals(BitSet.valueOf(new long[] {0b10}), columns.genreBitmap(genre -> genre.contains("education")));
+        assertEquals(new BitSet(), columns.genreBitmap(genre -> genre.contains("fantasy")));
+
+        // an overwritten row leaves its old genre
+        columns.set(1, LEGACY);
+        assertEquals(new BitSet(), columns.genreBitmap(genre -> genre.contains("education")));
+        assertEquals(BitSet.valueOf(new long[] {0b10}), columns.genreBitmap(genre -> genre.contains("novel")));
+        assertEquals(BitSet.valueOf(new long[] {0b01}), columns.overdueBitmap(LocalDateTime.of(2021, 6, 1, 0, 0)));
+    }
+
+    @Test
+    public void setAll_replacesAllRows() {
+        columns.setAll(Collections.singletonList(LEGACY));
+        assertEquals(1, columns.size());
+        assertFalse(columns.isBorrowed(0));
+        assertEquals(Collections.emptyList(), columns.rowsWithTitle(HARRY_PORTER.getName().toString()));
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+
+public class BookQueryTest {
+
+    @Test
+    public void equals() {
+        BookQuery firstQuery = BookQuery.all().withAnyWord(Collections.singletonList("first"));
+        BookQuery secondQuery = BookQuery.all().withAnyWord(Collections.singletonList("first")).withBorrowed(true);
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(BookQuery.all().withAnyWord(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different conditions -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+        assertFalse(BookQuery.all().withAuthor(Arrays.asList("Kerr"))
+                .equals(BookQuery.all().withGenre(Arrays.asList("Kerr"))));
+    }
+
+    @Test
+    public void getKeywords() {
+        BookQuery query = BookQuery.all().withAnyWord(Arrays.asList("Harry", "Potter"))
+                .withAuthor(Arrays.asList("Rowling"));
+        assertEquals(Arrays.asList("Harry", "Potter"), query.getKeywords());
+    }
+
+    @Test
+    public void normalise() {
+        assertEquals(BookQuery.all().withAnyWord(Arrays.asList("harry", "potter")).withGenre(Arrays.asList("fantasy")),
+                BookQuery.all().withAnyWord(Arrays.asList("Potter", "HARRY", "harry"))
+                        .withGenre(Arrays.asList("Fantasy")).normalise());
+        assertFalse(BookQuery.all().withBorrowed(true).dependsOnTime());
+        assertTrue(BookQuery.all().withBorrowed(true).withOverdue().dependsOnTime());
+    }
+
+    @Test
+    public void test_emptyQuery_returnsTrue() {
+        assertTrue(BookQuery.all().test(HARRY_PORTER));
+    }
+
+    @Test
+    public void test_fieldConditions() {
+        // any keyword, ignoring case
+        assertTrue(BookQuery.all().withAnyWord(Arrays.asList("pOTTER", "absent")).test(HARRY_PORTER));
+        assertFalse(BookQuery.all().withAnyWord(Arrays.asList("absent")).test(HARRY_PORTER));
+
+        // every word in the field
+        assertTrue(BookQuery.all().withAuthor(Arrays.asList("jk", "ROWLING")).test(HARRY_PORTER));
+        assertFalse(BookQuery.all().withAuthor(Arrays.asList("JK", "Obama")).test(HARRY_PORTER));
+
+        // words must be in the given field
+        assertFalse(BookQuery.all().withGenre(Arrays.asList("Rowling")).test(HARRY_PORTER));
+        assertTrue(BookQuery.all().withIsbn(HARRY_PORTER.getIsbn()).test(HARRY_PORTER));
+        assertTrue(BookQuery.all().withBarcode(HARRY_PORTER.getBarcode()).test(HARRY_PORTER));
+        assertFalse(BookQuery.all().withBarcode(SECRET.getBarcode()).test(HARRY_PORTER));
+    }
+
+    @Test
+    public void test_loanConditions() {
+        assertTrue(BookQuery.all().withBorrowed(true).test(SECRET));
+        assertTrue(BookQuery.all().withBorrowed(false).test(HARRY_PORTER));
+        assertTrue(BookQuery.all().withBorrower(new Name("Benson Meier")).test(SECRET));
+        assertFalse(BookQuery.all().withBorrower(new Name("Alice Pauline")).test(SECRET));
+
+        // date range is inclusive and either end may be open
+        LocalDate dateBorrowed = LocalDate.of(2021, 1, 1);
+        assertTrue(BookQuery.all().withBorrowedBetween(dateBorrowed, dateBorrowed).test(SECRET));
+        assertTrue(BookQuery.all().withBorrowedBetween(null, dateBorrowed).test(SECRET));
+        assertFalse(BookQuery.all().withBorrowedBetween(dateBorrowed.plusDays(1), null).test(SECRET));
+        assertFalse(BookQuery.all().withBorrowedBetween(null, null).test(HARRY_PORTER));
+
+        // SECRET was borrowed long ago
+        assertTrue(BookQuery.all().withOverdue().test(SECRET));
+        assertFalse(BookQuery.all().withOverdue().test(HARRY_PORTER));
+
+        // every condition must hold
+        assertFalse(BookQuery.all().withBorrowed(true).withGenre(Arrays.asList("Fantasy")).test(SECRET));
+    }
+
+}
@@ -15,6 +15,8 @@ import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
 import static seedu.smartlib.testutil.TypicalModels.SECRET;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -138,4 +140,44 @@ public class BookTest {
         assertNotEquals(book.hashCode(), PROMISE_LAND.hashCode());
     }
 
+    @Test
+    public void hashCode_copiesWithDifferentBarcodes_differ() {
+        Book copy = new BookBuilder(HARRY_PORTER).withBarcode(String.valueOf(Barcode.MAX_VALUE)).build();
+        assertNotEquals(HARRY_PORTER.hashCode(), copy.hashCode());
+        assertEquals(Barcode.MAX_VALUE, copy.getId());
+    }
+
+    @Test
+    public void withLoan() {
+        DateBorrowed dateBorrowed = new DateBorrowed(LocalDateTime.now());
+        Book borrowed = HARRY_PORTER.withLoan(ALICE.getName(), dateBorrowed);
+        assertTrue(borrowed.isBorrowed());
+        assertEquals(dateBorrowed, borrowed.getDateBorrowed());
+        assertEquals(HARRY_PORTER, borrowed);
+        assertFalse(borrowed.withoutLoan().isBorrowed());
+    }
+
+    @Test
+    public void getSearchWords() {
+        assertEquals(Set.of("harry", "potter", "and", "the", "sorcerers", "stone", "jk", "rowling", "scholastic",
+                "fantasy", "9780439708180"), HARRY_PORTER.getSearchWords());
+
+        // copies on loan share the words of the original
+        Book borrowed = HARRY_PORTER.withLoan(ALICE.getName(), new DateBorrowed(LocalDateTime.now()));
+        assertTrue(HARRY_PORTER.getSearchWords() == borrowed.getSearchWords());
+        assertTrue(HARRY_PORTER.getSearchWords() == borrowed.withoutLoan().getSearchWords());
+        assertTrue(HARRY_PORTER.getWords() == borrowed.getWords());
+    }
+
+    @Test
+    public void getWords() {
+        BookWords words = HARRY_PORTER.getWords();
+        assertEquals(List.of("harry", "potter", "and", "the", "sorcerers", "stone"), words.getTitle());
+        assertEquals(List.of("jk", "rowling"), words.getAuthor());
+        assertEquals(List.of("scholastic"), words.getPublisher());
+        assertEquals(List.of("fantasy"), words.getGenre());
+        assertEquals(List.of("9780439708180"), words.getIsbn());
+        assertEquals(HARRY_PORTER.getSearchWords(), words.getAll());
+    }
+
 }
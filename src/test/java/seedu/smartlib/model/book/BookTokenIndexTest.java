@@ -0,0 +1,56 @@
+package seedu.smartlib.model.book;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
+import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class BookTokenIndexTest {
+
+    private final BookTokenIndex<String> index = new BookTokenIndex<>();
+
+    @Test
+    public void tokensOf_allSearchableFields() {
+        Set<String> tokens = BookTokenIndex.tokensOf(HARRY_PORTER);
+        assertTrue(tokens.contains("harry"));
+        assertTrue(tokens.contains("rowling"));
+        assertTrue(tokens.contains("scholastic"));
+        assertTrue(tokens.contains("fantasy"));
+        assertTrue(tokens.contains("9780439708180"));
+    }
+
+    @Test
+    public void find_caseInsensitiveWholeWords() {
+        index.add("harry", HARRY_PORTER);
+        index.add("promise", PROMISE_LAND);
+
+        assertEquals(Set.of("harry"), index.find("POTTER"));
+        assertEquals(Set.of(), index.find("Pot"));
+        assertEquals(Set.of("harry", "promise"), index.findAny(Arrays.asList("potter", "Obama")));
+    }
+
+    @Test
+    public void remove_bookNoLongerFound() {
+        index.add("harry", HARRY_PORTER);
+        index.add("legacy", LEGACY);
+        index.remove("harry", HARRY_PORTER);
+
+        assertEquals(Set.of(), index.find("potter"));
+        assertEquals(Set.of("legacy"), index.findAny(BookTokenIndex.tokensOf(LEGACY)));
+    }
+
+    @Test
+    public void score_weightedByField() {
+        assertEquals(0, BookTokenIndex.score(LEGACY, Set.of("potter")));
+        assertEquals(BookTokenIndex.TITLE_WEIGHT, BookTokenIndex.score(LEGACY, Set.of("legacy")));
+        assertEquals(BookTokenIndex.GENRE_WEIGHT + BookTokenIndex.AUTHOR_WEIGHT,
+                BookTokenIndex.score(PROMISE_LAND, Set.of("novel", "obama")));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.smartlib.model.book;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_AUTHOR_HARRY;
 import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_AUTHOR_MAZE;
@@ -9,16 +10,24 @@ import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_GENRE_HARRY;
 import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_PUBLISHER_HARRY;
 import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.LEGACY;
 import static seedu.smartlib.testutil.TypicalModels.MAZE;
+import static seedu.smartlib.testutil.TypicalModels.PROMISE_LAND;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.commons.util.PersistentVector;
 import seedu.smartlib.model.book.exceptions.BookNotFoundException;
 import seedu.smartlib.model.book.exceptions.DuplicateBookException;
+import seedu.smartlib.model.record.DateBorrowed;
 import seedu.smartlib.testutil.BookBuilder;
 
 
@@ -61,6 +70,65 @@ public class UniqueBookListTest {
         assertThrows(DuplicateBookException.class, () -> uniqueBookList.addBook(HARRY_PORTER));
     }
 
+    @Test
+    public void addBooks_newBooks_indexedLikeAddBook() {
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBooks(Arrays.asList(PROMISE_LAND, LEGACY));
+
+        UniqueBookList expectedUniqueBookList = new UniqueBookList();
+        expectedUniqueBookList.addBook(HARRY_PORTER);
+        expectedUniqueBookList.addBook(PROMISE_LAND);
+        expectedUniqueBookList.addBook(LEGACY);
+        assertEquals(expectedUniqueBookList, uniqueBookList);
+        assertEquals(LEGACY, uniqueBookList.getBookByBarcode(LEGACY.getBarcode()));
+        assertEquals(Arrays.asList(PROMISE_LAND, LEGACY),
+                uniqueBookList.findBooksWithAnyWord(Arrays.asList("Promised", "Kerr")));
+        assertEquals(3, uniqueBookList.snapshot().size());
+    }
+
+    @Test
+    public void addBooks_duplicateBooks_throwsDuplicateBookException() {
+        uniqueBookList.addBook(HARRY_PORTER);
+        assertThrows(DuplicateBookException.class, () -> uniqueBookList.addBooks(Arrays.asList(LEGACY, HARRY_PORTER)));
+        assertThrows(DuplicateBookException.class, () -> uniqueBookList.addBooks(Arrays.asList(LEGACY, LEGACY)));
+        assertEquals(1, uniqueBookList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void allocateBarcodes_booksInList_notAllocated() {
+        uniqueBookList.addBooks(Arrays.asList(HARRY_PORTER, PROMISE_LAND));
+
+        List<Barcode> barcodes = uniqueBookList.allocateBarcodes(50);
+
+        assertEquals(50, barcodes.size());
+        for (Barcode barcode : barcodes) {
+            assertEquals(null, uniqueBookList.getBookByBarcode(barcode));
+        }
+    }
+
+    @Test
+    public void getAvailability_loansAndRemovals_counted() {
+        Book secondCopy = new BookBuilder(HARRY_PORTER).withBarcode("1234567890").build();
+        uniqueBookList.addBooks(Arrays.asList(HARRY_PORTER, secondCopy));
+        assertEquals(new Availability(2, 2), uniqueBookList.getAvailability(HARRY_PORTER.getName()));
+
+        uniqueBookList.lendBook(HARRY_PORTER.getBarcode(), new Name("Alex Yeoh"),
+                new DateBorrowed(LocalDateTime.now()));
+        assertEquals(new Availability(1, 2), uniqueBookList.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(secondCopy.getBarcode(), uniqueBookList.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        uniqueBookList.remove(secondCopy);
+        assertEquals(new Availability(0, 1), uniqueBookList.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(null, uniqueBookList.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        uniqueBookList.returnBook(HARRY_PORTER.getBarcode());
+        assertEquals(HARRY_PORTER.getBarcode(), uniqueBookList.getFirstAvailableBarcode(HARRY_PORTER.getName()));
+
+        uniqueBookList.setBooks(Collections.singletonList(PROMISE_LAND));
+        assertEquals(Availability.NONE, uniqueBookList.getAvailability(HARRY_PORTER.getName()));
+        assertEquals(new Availability(1, 1), uniqueBookList.getAvailability(PROMISE_LAND.getName()));
+    }
+
     @Test
     public void setBook_nullTargetBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBookList.setBook(null, HARRY_PORTER));
@@ -130,6 +198,28 @@ public class UniqueBookListTest {
         assertEquals(expectedUniqueBookList, uniqueBookList);
     }
 
+    @Test
+    public void getBookByBarcode_sharedBarcode_firstBookInListOrder() {
+        Book sameBarcode = new BookBuilder(LEGACY).withBarcode(HARRY_PORTER.getBarcode().toString()).build();
+        uniqueBookList.addBooks(Arrays.asList(sameBarcode, HARRY_PORTER, SECRET));
+        assertEquals(sameBarcode, uniqueBookList.getBookByBarcode(HARRY_PORTER.getBarcode()));
+
+        uniqueBookList.remove(SECRET);
+        uniqueBookList.remove(sameBarcode);
+        assertEquals(HARRY_PORTER, uniqueBookList.getBookByBarcode(HARRY_PORTER.getBarcode()));
+        assertNull(uniqueBookList.getBookByBarcode(SECRET.getBarcode()));
+        assertFalse(uniqueBookList.isBorrowed(HARRY_PORTER.getBarcode()));
+    }
+
+    @Test
+    public void remove_afterSnapshot_snapshotUnchanged() {
+        uniqueBookList.addBooks(Arrays.asList(HARRY_PORTER, LEGACY, SECRET));
+        PersistentVector<Book> snapshot = uniqueBookList.snapshot();
+        uniqueBookList.remove(LEGACY);
+        assertEquals(Arrays.asList(HARRY_PORTER, LEGACY, SECRET), snapshot.asList());
+        assertEquals(Arrays.asList(HARRY_PORTER, SECRET), uniqueBookList.snapshot().asList());
+    }
+
     @Test
     public void setBooks_nullUniqueBookList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueBookList.setBooks((UniqueBookList) null));
@@ -171,4 +261,151 @@ public class UniqueBookListTest {
             -> uniqueBookList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getBookByBarcode() {
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(SECRET);
+        assertEquals(SECRET, uniqueBookList.getBookByBarcode(SECRET.getBarcode()));
+        assertEquals(null, uniqueBookList.getBookByBarcode(MAZE.getBarcode()));
+    }
+
+    @Test
+    public void remove_bookInList_keepsQueriesInSync() {
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(SECRET);
+        uniqueBookList.remove(HARRY_PORTER);
+        assertTrue(uniqueBookList.isBorrowed(SECRET.getBarcode()));
+        assertEquals(Collections.emptyList(), uniqueBookList.getBooksByName(HARRY_PORTER.getName()));
+        assertEquals(Collections.singletonList(SECRET), uniqueBookList.getBooksByIsbn(SECRET.getIsbn()));
+    }
+
+    @Test
+    public void findBooksWithAnyWord_afterUpdates_inListOrder() {
+        uniqueBookList.addBook(SECRET);
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(MAZE);
+        assertEquals(Arrays.asList(SECRET, HARRY_PORTER),
+                uniqueBookList.findBooksWithAnyWord(Arrays.asList("potter", "SECRET")));
+
+        Book editedBook = new BookBuilder(HARRY_PORTER).withGenre("Mystery").build();
+        uniqueBookList.setBook(HARRY_PORTER, editedBook);
+        assertEquals(Arrays.asList(SECRET, editedBook),
+                uniqueBookList.findBooksWithAnyWord(Collections.singletonList("mystery")));
+
+        uniqueBookList.remove(SECRET);
+        assertEquals(Collections.emptyList(), uniqueBookList.findBooksWithAnyWord(Arrays.asList("secret")));
+        assertEquals(Collections.singletonList(editedBook),
+                uniqueBookList.findBooksWithAnyWord(Arrays.asList("potter")));
+    }
+
+    @Test
+    public void findTopBooks_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniqueBookList.findTopBooks(Arrays.asList("novel"), 0));
+    }
+
+    @Test
+    public void findTopBooks_rankedByWeightedRelevance() {
+        Book novelInTitle = new BookBuilder(HARRY_PORTER).withName("The Novel").withGenre("Fiction").build();
+        uniqueBookList.addBook(LEGACY);
+        uniqueBookList.addBook(PROMISE_LAND);
+        uniqueBookList.addBook(novelInTitle);
+        uniqueBookList.addBook(HARRY_PORTER);
+
+        // title match first, then genre matches in list order
+        assertEquals(Arrays.asList(novelInTitle, LEGACY, PROMISE_LAND),
+                uniqueBookList.findTopBooks(Arrays.asList("NOVEL"), 5));
+
+        // only the best k are kept
+        assertEquals(Arrays.asList(novelInTitle, LEGACY), uniqueBookList.findTopBooks(Arrays.asList("novel"), 2));
+
+        // more occurrences of the keywords score higher
+        assertEquals(Arrays.asList(PROMISE_LAND, novelInTitle),
+                uniqueBookList.findTopBooks(Arrays.asList("novel", "barack", "obama"), 2));
+    }
+
+    @Test
+    public void findBooks_query_allConditionsInListOrder() {
+        uniqueBookList.addBook(SECRET);
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(LEGACY);
+        uniqueBookList.addBook(PROMISE_LAND);
+
+        // the empty query matches every book
+        assertEquals(Arrays.asList(SECRET, HARRY_PORTER, LEGACY, PROMISE_LAND),
+                uniqueBookList.findBooks(BookQuery.all()));
+
+        // field conditions narrow keyword matches
+        assertEquals(Collections.singletonList(LEGACY), uniqueBookList.findBooks(BookQuery.all()
+                .withAnyWord(Arrays.asList("novel", "secret")).withAuthor(Arrays.asList("kerr"))));
+
+        // loan conditions are answered from the loan state
+        assertEquals(Arrays.asList(HARRY_PORTER, LEGACY, PROMISE_LAND),
+                uniqueBookList.findBooks(BookQuery.all().withBorrowed(false)));
+        assertEquals(Collections.singletonList(SECRET),
+                uniqueBookList.findBooks(BookQuery.all().withBorrowedBetween(LocalDate.of(2021, 1, 1), null)));
+        assertEquals(Collections.emptyList(),
+                uniqueBookList.findBooks(BookQuery.all().withBorrowedBetween(null, LocalDate.of(2020, 12, 31))));
+        assertEquals(Collections.emptyList(),
+                uniqueBookList.findBooks(BookQuery.all().withGenre(Arrays.asList("mystery")).withBorrowed(false)));
+
+        // returned books are no longer found as borrowed
+        uniqueBookList.returnBook(SECRET.getBarcode());
+        assertEquals(Collections.emptyList(), uniqueBookList.findBooks(BookQuery.all().withBorrowed(true)));
+        assertEquals(Collections.singletonList(LEGACY),
+                uniqueBookList.findBooks(BookQuery.all().withBarcode(LEGACY.getBarcode())));
+    }
+
+    @Test
+    public void findBooks_bitmapConditions_combined() {
+        Book borrowedFantasy = new BookBuilder(LEGACY).withGenre("Fantasy").withBorrowerName("Benson Meier")
+                .withDateBorrowed("2021-01-02T10:00:00").build();
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(SECRET);
+        uniqueBookList.addBook(borrowedFantasy);
+        uniqueBookList.addBook(PROMISE_LAND);
+
+        // available Fantasy books
+        assertEquals(Collections.singletonList(HARRY_PORTER), uniqueBookList.findBooks(
+                BookQuery.all().withGenre(Arrays.asList("fantasy")).withBorrowed(false)));
+
+        // overdue Fantasy books
+        assertEquals(Collections.singletonList(borrowedFantasy), uniqueBookList.findBooks(
+                BookQuery.all().withOverdue().withGenre(Arrays.asList("Fantasy"))));
+
+        // bitmaps narrow down the candidates of other conditions
+        assertEquals(Collections.singletonList(borrowedFantasy), uniqueBookList.findBooks(
+                BookQuery.all().withAnyWord(Arrays.asList("legacy", "potter")).withBorrowed(true)));
+
+        uniqueBookList.remove(HARRY_PORTER);
+        assertEquals(Collections.emptyList(), uniqueBookList.findBooks(
+                BookQuery.all().withGenre(Arrays.asList("fantasy")).withBorrowed(false)));
+    }
+
+    @Test
+    public void findTopBooks_query_ranksOnlyMatchingBooks() {
+        uniqueBookList.addBook(LEGACY);
+        uniqueBookList.addBook(PROMISE_LAND);
+        uniqueBookList.addBook(HARRY_PORTER);
+        assertEquals(Collections.singletonList(PROMISE_LAND), uniqueBookList.findTopBooks(BookQuery.all()
+                .withAnyWord(Arrays.asList("novel", "legacy")).withAuthor(Arrays.asList("Obama")), 5));
+    }
+
+    @Test
+    public void suggestTitles_afterUpdates_upToDate() {
+        uniqueBookList.addBook(HARRY_PORTER);
+        uniqueBookList.addBook(LEGACY);
+        assertEquals(Collections.singletonList(HARRY_PORTER.getName().toString()),
+                uniqueBookList.suggestTitles("harry", 5));
+        assertEquals(Collections.singletonList(LEGACY.getBarcode().toString()),
+                uniqueBookList.suggestBarcodes(LEGACY.getBarcode().toString(), 5));
+
+        Book editedBook = new BookBuilder(HARRY_PORTER).withName("Harriet the Spy").build();
+        uniqueBookList.setBook(HARRY_PORTER, editedBook);
+        assertEquals(Collections.singletonList("Harriet the Spy"), uniqueBookList.suggestTitles("har", 5));
+
+        uniqueBookList.remove(LEGACY);
+        assertEquals(Collections.emptyList(), uniqueBookList.suggestTitles("leg", 5));
+        assertEquals(Collections.emptyList(), uniqueBookList.suggestBarcodes(LEGACY.getBarcode().toString(), 5));
+    }
+
 }
@@ -0,0 +1,76 @@
+package seedu.smartlib.model.fine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Barcode;
+
+public class FineLedgerTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BENSON = new Name("Benson Meier");
+    private static final Name CARL = new Name("Carl Kurz");
+    private static final Barcode BARCODE = new Barcode(Barcode.MAX_VALUE);
+    private static final FineEntry ALICE_FINE = FineEntry.charge(ALICE, 240, "2021-03-01T10:00:00", BARCODE);
+    private static final FineEntry ALICE_PAYMENT = FineEntry.payment(ALICE, 100, "2021-03-02T10:00:00");
+    private static final FineEntry BENSON_FINE = FineEntry.charge(BENSON, 50, "2021-03-03T10:00:00", BARCODE);
+
+    private final FineLedger fineLedger = new FineLedger();
+
+    @Test
+    public void getBalance_noEntries_zero() {
+        assertEquals(0, fineLedger.getBalance(ALICE));
+        assertTrue(fineLedger.getEntries(ALICE).isEmpty());
+    }
+
+    @Test
+    public void add_finesAndPayments_runningBalance() {
+        fineLedger.add(ALICE_FINE);
+        fineLedger.add(BENSON_FINE);
+        assertEquals(240, fineLedger.getBalance(ALICE));
+
+        fineLedger.add(ALICE_PAYMENT);
+        assertEquals(140, fineLedger.getBalance(ALICE));
+        assertEquals(50, fineLedger.getBalance(BENSON));
+        assertEquals(List.of(ALICE_FINE, ALICE_PAYMENT), fineLedger.getEntries(ALICE));
+        assertEquals(List.of(ALICE_FINE, ALICE_PAYMENT, BENSON_FINE), fineLedger.asList());
+    }
+
+    @Test
+    public void removeReader_existingReader_accountRemoved() {
+        fineLedger.add(ALICE_FINE);
+        fineLedger.add(BENSON_FINE);
+
+        fineLedger.removeReader(ALICE);
+        assertEquals(0, fineLedger.getBalance(ALICE));
+        assertEquals(List.of(BENSON_FINE), fineLedger.asList());
+    }
+
+    @Test
+    public void renameReader_existingReader_accountMoved() {
+        fineLedger.add(ALICE_FINE);
+        fineLedger.add(ALICE_PAYMENT);
+
+        fineLedger.renameReader(ALICE, CARL);
+        assertEquals(0, fineLedger.getBalance(ALICE));
+        assertEquals(140, fineLedger.getBalance(CARL));
+        assertEquals(List.of(ALICE_FINE.withReaderName(CARL), ALICE_PAYMENT.withReaderName(CARL)),
+                fineLedger.getEntries(CARL));
+    }
+
+    @Test
+    public void setEntries_replacement_balancesRecomputed() {
+        fineLedger.add(BENSON_FINE);
+
+        fineLedger.setEntries(List.of(ALICE_FINE, ALICE_PAYMENT));
+        assertEquals(140, fineLedger.getBalance(ALICE));
+        assertEquals(0, fineLedger.getBalance(BENSON));
+        assertEquals(List.of(ALICE_FINE, ALICE_PAYMENT), fineLedger.asList());
+    }
+
+}
@@ -0,0 +1,143 @@
+package seedu.smartlib.model.hold;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Isbn;
+import seedu.smartlib.model.hold.exceptions.DuplicateHoldException;
+import seedu.smartlib.model.hold.exceptions.HoldNotFoundException;
+
+public class HoldQueuesTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BENSON = new Name("Benson Meier");
+    private static final Name CARL = new Name("Carl Kurz");
+    private static final Isbn HARRY = new Isbn("9780439708180");
+    private static final Isbn MAZE = new Isbn("9780307582881");
+
+    private final HoldQueues holdQueues = new HoldQueues();
+
+    @Test
+    public void add_newHold_containsHold() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        assertTrue(holdQueues.contains(new Hold(ALICE, HARRY)));
+        assertFalse(holdQueues.contains(new Hold(ALICE, MAZE)));
+        assertFalse(holdQueues.contains(new Hold(BENSON, HARRY)));
+    }
+
+    @Test
+    public void add_duplicateHold_throwsDuplicateHoldException() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        assertThrows(DuplicateHoldException.class, () -> holdQueues.add(new Hold(ALICE, HARRY)));
+    }
+
+    @Test
+    public void remove_placedHold_readersBehindMoveUp() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, HARRY));
+        holdQueues.add(new Hold(CARL, MAZE));
+
+        holdQueues.remove(new Hold(ALICE, HARRY));
+        assertFalse(holdQueues.contains(new Hold(ALICE, HARRY)));
+        assertEquals(new Hold(BENSON, HARRY), holdQueues.pollFirst(HARRY, name -> true));
+
+        holdQueues.remove(new Hold(CARL, MAZE));
+        assertEquals(List.of(), holdQueues.asList());
+    }
+
+    @Test
+    public void remove_holdNotPlaced_throwsHoldNotFoundException() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        assertThrows(HoldNotFoundException.class, () -> holdQueues.remove(new Hold(ALICE, MAZE)));
+        assertThrows(HoldNotFoundException.class, () -> holdQueues.remove(new Hold(BENSON, HARRY)));
+    }
+
+    @Test
+    public void pollFirst_everyoneEligible_firstComeFirstServed() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, HARRY));
+        holdQueues.add(new Hold(CARL, MAZE));
+
+        assertEquals(new Hold(ALICE, HARRY), holdQueues.pollFirst(HARRY, name -> true));
+        assertEquals(new Hold(BENSON, HARRY), holdQueues.pollFirst(HARRY, name -> true));
+        assertNull(holdQueues.pollFirst(HARRY, name -> true));
+        assertFalse(holdQueues.contains(new Hold(ALICE, HARRY)));
+        assertEquals(List.of(new Hold(CARL, MAZE)), holdQueues.asList());
+    }
+
+    @Test
+    public void pollFirst_ineligibleReaderAhead_keepsPlace() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, HARRY));
+        holdQueues.add(new Hold(CARL, HARRY));
+
+        assertEquals(new Hold(BENSON, HARRY), holdQueues.pollFirst(HARRY, name -> !name.equals(ALICE)));
+        assertEquals(List.of(new Hold(ALICE, HARRY), new Hold(CARL, HARRY)), holdQueues.asList());
+        assertNull(holdQueues.pollFirst(HARRY, name -> false));
+    }
+
+    @Test
+    public void pollFirst_noHolds_returnsNull() {
+        assertNull(holdQueues.pollFirst(HARRY, name -> true));
+    }
+
+    @Test
+    public void removeReader_readerWithHolds_allHoldsRemoved() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, HARRY));
+        holdQueues.add(new Hold(ALICE, MAZE));
+
+        holdQueues.removeReader(ALICE);
+
+        assertEquals(List.of(new Hold(BENSON, HARRY)), holdQueues.asList());
+        assertFalse(holdQueues.contains(new Hold(ALICE, MAZE)));
+    }
+
+    @Test
+    public void renameReader_readerWithHolds_keepsPlace() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, HARRY));
+
+        holdQueues.renameReader(ALICE, CARL);
+
+        assertEquals(List.of(new Hold(CARL, HARRY), new Hold(BENSON, HARRY)), holdQueues.asList());
+        assertTrue(holdQueues.contains(new Hold(CARL, HARRY)));
+        assertFalse(holdQueues.contains(new Hold(ALICE, HARRY)));
+    }
+
+    @Test
+    public void removeIsbn_isbnWithHolds_allHoldsRemoved() {
+        holdQueues.add(new Hold(ALICE, HARRY));
+        holdQueues.add(new Hold(BENSON, MAZE));
+
+        holdQueues.removeIsbn(HARRY);
+
+        assertEquals(List.of(new Hold(BENSON, MAZE)), holdQueues.asList());
+        assertFalse(holdQueues.contains(new Hold(ALICE, HARRY)));
+    }
+
+    @Test
+    public void setHolds_duplicateHolds_throwsDuplicateHoldException() {
+        holdQueues.add(new Hold(CARL, MAZE));
+        List<Hold> holds = List.of(new Hold(ALICE, HARRY), new Hold(ALICE, HARRY));
+        assertThrows(DuplicateHoldException.class, () -> holdQueues.setHolds(holds));
+        assertEquals(List.of(new Hold(CARL, MAZE)), holdQueues.asList());
+    }
+
+    @Test
+    public void setHolds_validHolds_replacesHolds() {
+        holdQueues.add(new Hold(CARL, MAZE));
+        holdQueues.setHolds(List.of(new Hold(BENSON, HARRY), new Hold(ALICE, HARRY)));
+        assertEquals(List.of(new Hold(BENSON, HARRY), new Hold(ALICE, HARRY)), holdQueues.asList());
+        assertFalse(holdQueues.contains(new Hold(CARL, MAZE)));
+    }
+
+}
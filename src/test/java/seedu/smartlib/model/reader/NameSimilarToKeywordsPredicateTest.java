@@ -0,0 +1,78 @@
+package seedu.smartlib.model.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.testutil.ReaderBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(firstPredicateKeywordList)));
+        assertEquals(firstPredicate.hashCode(),
+                new NameSimilarToKeywordsPredicate(firstPredicateKeywordList).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // exact-match predicate with the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different reader -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSimilarToKeywords_returnsTrue() {
+        // Exact keyword
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("Alice"));
+        assertTrue(predicate.test(new ReaderBuilder().withName("Alice Bob").build()));
+
+        // One typo, mixed case
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("aLIca"));
+        assertTrue(predicate.test(new ReaderBuilder().withName("Alice Bob").build()));
+
+        // Two typos in a long keyword
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Carol", "Jonathon"));
+        assertTrue(predicate.test(new ReaderBuilder().withName("Jonathan Tan").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToKeywords_returnsFalse() {
+        // Zero keywords
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new ReaderBuilder().withName("Alice").build()));
+
+        // Two typos in a short keyword
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Alcie"));
+        assertFalse(predicate.test(new ReaderBuilder().withName("Alice Bob").build()));
+
+        // Short keywords must match exactly
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Al"));
+        assertFalse(predicate.test(new ReaderBuilder().withName("Ali Bob").build()));
+    }
+
+}
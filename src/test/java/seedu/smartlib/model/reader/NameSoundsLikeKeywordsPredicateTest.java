@@ -0,0 +1,72 @@
+package seedu.smartlib.model.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.testutil.ReaderBuilder;
+
+public class NameSoundsLikeKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSoundsLikeKeywordsPredicate firstPredicate =
+                new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList);
+        NameSoundsLikeKeywordsPredicate secondPredicate =
+                new NameSoundsLikeKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList)));
+        assertEquals(firstPredicate.hashCode(),
+                new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different reader -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeywords_returnsTrue() {
+        // Same spelling
+        NameSoundsLikeKeywordsPredicate predicate =
+                new NameSoundsLikeKeywordsPredicate(Collections.singletonList("Alice"));
+        assertTrue(predicate.test(new ReaderBuilder().withName("Alice Bob").build()));
+
+        // Different transliteration
+        predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Carol", "Muhamad"));
+        assertTrue(predicate.test(new ReaderBuilder().withName("Mohammed Ali").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeywords_returnsFalse() {
+        // Zero keywords
+        NameSoundsLikeKeywordsPredicate predicate = new NameSoundsLikeKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new ReaderBuilder().withName("Alice").build()));
+
+        // Keywords without letters
+        predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("", "123"));
+        assertFalse(predicate.test(new ReaderBuilder().withName("Alice").build()));
+
+        // Different sound
+        predicate = new NameSoundsLikeKeywordsPredicate(Collections.singletonList("Carol"));
+        assertFalse(predicate.test(new ReaderBuilder().withName("Alice Bob").build()));
+    }
+
+}
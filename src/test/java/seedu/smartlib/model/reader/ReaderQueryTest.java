@@ -0,0 +1,80 @@
+package seedu.smartlib.model.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class ReaderQueryTest {
+
+    @Test
+    public void equals() {
+        ReaderQuery firstQuery = ReaderQuery.all().withAnyWord(Collections.singletonList("first"));
+        ReaderQuery secondQuery = ReaderQuery.all().withAnyWord(Collections.singletonList("first")).withBorrowing();
+
+        // same object -> returns true
+        assertTrue(firstQuery.equals(firstQuery));
+
+        // same values -> returns true
+        assertTrue(firstQuery.equals(ReaderQuery.all().withAnyWord(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstQuery.equals(1));
+
+        // null -> returns false
+        assertFalse(firstQuery.equals(null));
+
+        // different conditions -> returns false
+        assertFalse(firstQuery.equals(secondQuery));
+        assertFalse(ReaderQuery.all().withAnyWord(Arrays.asList("VIP"))
+                .equals(ReaderQuery.all().withAnyTag(Arrays.asList("VIP"))));
+    }
+
+    @Test
+    public void getSimilarNameKeywords() {
+        ReaderQuery query = ReaderQuery.all().withAnyWord(Arrays.asList("Alice"))
+                .withSimilarName(Arrays.asList("Alcie", "Pualine"));
+        assertEquals(Arrays.asList("Alcie", "Pualine"), query.getSimilarNameKeywords());
+    }
+
+    @Test
+    public void test_emptyQuery_returnsTrue() {
+        assertTrue(ReaderQuery.all().test(ALICE));
+    }
+
+    @Test
+    public void test_fieldConditions() {
+        // any keyword, ignoring case
+        assertTrue(ReaderQuery.all().withAnyWord(Arrays.asList("pAULINE", "absent")).test(ALICE));
+        assertFalse(ReaderQuery.all().withAnyWord(Arrays.asList("absent")).test(ALICE));
+        assertTrue(ReaderQuery.all().withAnyTag(Arrays.asList("vip")).test(ALICE));
+        assertTrue(ReaderQuery.all().withSimilarName(Arrays.asList("Alise")).test(ALICE));
+        assertTrue(ReaderQuery.all().withSoundAlikeName(Arrays.asList("Alyse")).test(ALICE));
+
+        // every word of the address, ignoring case
+        assertTrue(ReaderQuery.all().withAddress(Arrays.asList("jurong", "WEST")).test(ALICE));
+        assertFalse(ReaderQuery.all().withAddress(Arrays.asList("Jurong", "East")).test(ALICE));
+        assertTrue(ReaderQuery.all().withPhone(ALICE.getPhone()).test(ALICE));
+        assertFalse(ReaderQuery.all().withPhone(BENSON.getPhone()).test(ALICE));
+        assertTrue(ReaderQuery.all().withEmail(new Email("ALICE@example.com")).test(ALICE));
+
+        // every condition must hold
+        assertFalse(ReaderQuery.all().withAnyWord(Arrays.asList("Alice")).withAnyTag(Arrays.asList("staff"))
+                .test(ALICE));
+    }
+
+    @Test
+    public void test_loanConditions() {
+        assertTrue(ReaderQuery.all().withBorrowing().test(BENSON));
+        assertFalse(ReaderQuery.all().withBorrowing().test(ALICE));
+        assertTrue(ReaderQuery.all().withOverdue().test(BENSON));
+        assertFalse(ReaderQuery.all().withOverdue().test(ALICE));
+    }
+
+}
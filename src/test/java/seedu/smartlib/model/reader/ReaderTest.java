@@ -1,5 +1,6 @@
 package seedu.smartlib.model.reader;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,9 +12,14 @@ import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_TAG_VIP;
 import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.ALICE;
 import static seedu.smartlib.testutil.TypicalModels.BOB;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+
+import java.time.LocalDateTime;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.smartlib.model.record.DateBorrowed;
 import seedu.smartlib.testutil.ReaderBuilder;
 
 public class ReaderTest {
@@ -90,4 +96,26 @@ public class ReaderTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void withBorrow() {
+        DateBorrowed dateBorrowed = new DateBorrowed(LocalDateTime.now());
+        Reader borrower = ALICE.withBorrow(HARRY_PORTER, dateBorrowed);
+        assertTrue(borrower.getBorrows().containsKey(HARRY_PORTER));
+        assertFalse(ALICE.getBorrows().containsKey(HARRY_PORTER));
+        assertTrue(borrower.equals(ALICE));
+        assertFalse(borrower.withoutBorrow(HARRY_PORTER).hasBorrowedBooks());
+    }
+
+    @Test
+    public void getNameWordsAndTagWords() {
+        assertEquals(Set.of("alice", "pauline"), ALICE.getNameWords());
+        assertEquals(Set.of("vip"), ALICE.getTagWords());
+        assertEquals(Set.of(), new ReaderBuilder().withTags().build().getTagWords());
+
+        // copies with a different borrow share the words of the original
+        Reader borrower = ALICE.withBorrow(HARRY_PORTER, new DateBorrowed(LocalDateTime.now()));
+        assertTrue(ALICE.getNameWords() == borrower.getNameWords());
+        assertTrue(ALICE.getTagWords() == borrower.getTagWords());
+    }
+
 }
@@ -7,7 +7,10 @@ import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.smartlib.logic.commands.CommandTestUtil.VALID_TAG_VIP;
 import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.BENSON;
 import static seedu.smartlib.testutil.TypicalModels.BOB;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.SECRET;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -168,4 +171,151 @@ public class UniqueReaderListTest {
             -> uniqueReaderList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getReaderId_editedReader_keepsId() {
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(BENSON);
+        int id = uniqueReaderList.getReaderId(BENSON.getName());
+        Reader editedBenson = new ReaderBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueReaderList.setReader(BENSON, editedBenson);
+        assertEquals(id, uniqueReaderList.getReaderId(BENSON.getName()));
+        assertEquals(editedBenson, uniqueReaderList.getReaderById(id));
+        assertEquals(-1, uniqueReaderList.getReaderId(BOB.getName()));
+    }
+
+    @Test
+    public void getBorrower() {
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(BENSON);
+        assertEquals(BENSON, uniqueReaderList.getBorrower(SECRET.getBarcode()));
+        assertEquals(null, uniqueReaderList.getBorrower(HARRY_PORTER.getBarcode()));
+
+        uniqueReaderList.remove(BENSON);
+        assertEquals(null, uniqueReaderList.getBorrower(SECRET.getBarcode()));
+        assertEquals(null, uniqueReaderList.getReaderByName(BENSON.getName()));
+    }
+
+    @Test
+    public void findReaders_similarName_rankedBySimilarity() {
+        Reader carl = new ReaderBuilder().withName("Carl Kurz").build();
+        Reader daniel = new ReaderBuilder().withName("Daniel Meier").build();
+        Reader elle = new ReaderBuilder().withName("Elle Meyer").build();
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(carl);
+        uniqueReaderList.addReader(daniel);
+        uniqueReaderList.addReader(elle);
+
+        // closest match first, equally close matches in list order
+        assertEquals(Arrays.asList(elle, carl, daniel),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("MEYER", "kurtz"))));
+        assertEquals(Collections.emptyList(),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("Zed"))));
+    }
+
+    @Test
+    public void findReaders_similarNameAfterEditsAndRemovals_upToDate() {
+        Reader daniel = new ReaderBuilder().withName("Daniel Meier").build();
+        Reader renamed = new ReaderBuilder().withName("Daniel Muller").build();
+        uniqueReaderList.addReader(daniel);
+        uniqueReaderList.addReader(ALICE);
+
+        uniqueReaderList.setReader(daniel, renamed);
+        assertEquals(Collections.emptyList(),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("meir"))));
+        assertEquals(Collections.singletonList(renamed),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("mueller"))));
+
+        uniqueReaderList.remove(renamed);
+        assertEquals(Collections.emptyList(),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("daniel"))));
+        assertEquals(Collections.singletonList(ALICE),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSimilarName(Arrays.asList("alise"))));
+    }
+
+    @Test
+    public void findReaders_tagAfterEditsAndRemovals_inListOrder() {
+        // ALICE is tagged VIP, BENSON is tagged VIP and TopBorrower
+        uniqueReaderList.addReader(BENSON);
+        uniqueReaderList.addReader(ALICE);
+        assertEquals(Arrays.asList(BENSON, ALICE),
+                uniqueReaderList.findReaders(ReaderQuery.all().withAnyTag(Arrays.asList("vip"))));
+        assertEquals(Arrays.asList(BENSON),
+                uniqueReaderList.findReaders(ReaderQuery.all().withAnyTag(Arrays.asList("TOPBORROWER", "staff"))));
+
+        Reader editedAlice = new ReaderBuilder(ALICE).withTags("Staff").build();
+        uniqueReaderList.setReader(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON),
+                uniqueReaderList.findReaders(ReaderQuery.all().withAnyTag(Arrays.asList("VIP"))));
+        assertEquals(Arrays.asList(BENSON, editedAlice),
+                uniqueReaderList.findReaders(ReaderQuery.all().withAnyTag(Arrays.asList("VIP", "staff"))));
+
+        uniqueReaderList.remove(BENSON);
+        assertEquals(Collections.emptyList(),
+                uniqueReaderList.findReaders(ReaderQuery.all().withAnyTag(Arrays.asList("VIP"))));
+    }
+
+    @Test
+    public void suggestNames_afterUpdates_upToDate() {
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(BENSON);
+        assertEquals(Collections.singletonList("Alice Pauline"), uniqueReaderList.suggestNames("al", 5));
+
+        uniqueReaderList.setReaders(Collections.singletonList(BENSON));
+        assertEquals(Collections.emptyList(), uniqueReaderList.suggestNames("al", 5));
+
+        uniqueReaderList.remove(BENSON);
+        assertEquals(Collections.emptyList(), uniqueReaderList.suggestNames("", 5));
+    }
+
+    @Test
+    public void findReaders_soundAlikeNameAfterEditsAndRemovals_inListOrder() {
+        Reader meier = new ReaderBuilder().withName("Daniel Meier").build();
+        Reader meyer = new ReaderBuilder().withName("Elle Meyer").build();
+        uniqueReaderList.addReader(meyer);
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(meier);
+        assertEquals(Arrays.asList(meyer, meier),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSoundAlikeName(Arrays.asList("Maier"))));
+
+        Reader renamed = new ReaderBuilder().withName("Elle Smith").build();
+        uniqueReaderList.setReader(meyer, renamed);
+        assertEquals(Arrays.asList(renamed, meier),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSoundAlikeName(Arrays.asList("smyth", "mayer"))));
+
+        uniqueReaderList.remove(meier);
+        assertEquals(Collections.emptyList(),
+                uniqueReaderList.findReaders(ReaderQuery.all().withSoundAlikeName(Arrays.asList("Maier"))));
+    }
+
+    @Test
+    public void findReaders_severalConditions_everyConditionHolds() {
+        // BENSON and ALICE are both tagged VIP, and only BENSON is borrowing a book
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(BENSON);
+        Reader carl = new ReaderBuilder().withName("Carl Kurz").withTags("VIP").build();
+        uniqueReaderList.addReader(carl);
+
+        assertEquals(Arrays.asList(ALICE, carl), uniqueReaderList.findReaders(ReaderQuery.all()
+                .withAnyWord(Arrays.asList("alice", "carl", "absent")).withAnyTag(Arrays.asList("vip"))));
+        assertEquals(Arrays.asList(BENSON), uniqueReaderList.findReaders(ReaderQuery.all()
+                .withAnyTag(Arrays.asList("vip")).withBorrowing()));
+        assertEquals(Arrays.asList(ALICE), uniqueReaderList.findReaders(ReaderQuery.all()
+                .withAnyTag(Arrays.asList("vip")).withPhone(ALICE.getPhone())));
+        assertEquals(Collections.emptyList(), uniqueReaderList.findReaders(ReaderQuery.all()
+                .withAnyWord(Arrays.asList("alice")).withBorrowing()));
+        assertEquals(Arrays.asList(ALICE, BENSON, carl), uniqueReaderList.findReaders(ReaderQuery.all()));
+    }
+
+    @Test
+    public void findReaders_similarNameAndTag_rankedBySimilarity() {
+        Reader daniel = new ReaderBuilder().withName("Daniel Meier").withTags("VIP").build();
+        Reader elle = new ReaderBuilder().withName("Elle Meyer").withTags("VIP").build();
+        uniqueReaderList.addReader(daniel);
+        uniqueReaderList.addReader(ALICE);
+        uniqueReaderList.addReader(elle);
+
+        assertEquals(Arrays.asList(elle, daniel), uniqueReaderList.findReaders(ReaderQuery.all()
+                .withSimilarName(Arrays.asList("meyer")).withAnyTag(Arrays.asList("VIP"))));
+    }
+
 }
@@ -0,0 +1,118 @@
+package seedu.smartlib.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Barcode;
+
+public class CirculationStatsTest {
+
+    private static final Name HARRY = new Name("Harry Potter");
+    private static final Name LEGACY = new Name("Legacy");
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name CARL = new Name("Carl Kurz");
+    private static final LocalDateTime MARCH_FIRST = LocalDateTime.of(2021, 3, 1, 10, 0);
+    private static final YearMonth MARCH = YearMonth.of(2021, 3);
+
+    private final UniqueRecordList records = new UniqueRecordList();
+    private final CirculationStats stats = records.getStats();
+
+    private static Record openRecord(Name bookName, int barcode, Name readerName, LocalDateTime borrowed) {
+        return new Record(bookName, new Barcode(barcode), readerName, new DateBorrowed(borrowed), null);
+    }
+
+    private static Record returnedRecord(Record openRecord, Duration duration) {
+        LocalDateTime borrowed = LocalDateTime.parse(openRecord.getDateBorrowed().toString());
+        return new Record(openRecord.getBookName(), openRecord.getBookBarcode(), openRecord.getReaderName(),
+                openRecord.getDateBorrowed(), new DateReturned(borrowed.plus(duration)));
+    }
+
+    @Test
+    public void emptyList_noLoans() {
+        assertEquals(0, stats.getTotalLoans());
+        assertEquals(0, stats.getOpenLoans());
+        assertEquals(0, stats.getActiveReaders(MARCH));
+        assertEquals(List.of(), stats.getMostBorrowedTitles(MARCH, 5));
+        assertNull(stats.getAverageLoanDuration());
+    }
+
+    @Test
+    public void addRecord_openLoans_counted() {
+        records.addRecord(openRecord(HARRY, 1000000000, ALICE, MARCH_FIRST));
+        records.addRecord(openRecord(HARRY, 1000000001, CARL, MARCH_FIRST.plusDays(3)));
+        records.addRecord(openRecord(LEGACY, 1000000002, ALICE, MARCH_FIRST.plusDays(40)));
+
+        assertEquals(3, stats.getTotalLoans());
+        assertEquals(3, stats.getOpenLoans());
+        assertEquals(2, stats.getLoansBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31)));
+        assertEquals(1, stats.getLoansBetween(LocalDate.of(2021, 3, 2), LocalDate.of(2021, 3, 4)));
+        assertEquals(0, stats.getLoansBetween(LocalDate.of(2021, 3, 4), LocalDate.of(2021, 3, 2)));
+        assertEquals(2, stats.getActiveReaders(MARCH));
+        assertEquals(1, stats.getActiveReaders(MARCH.plusMonths(1)));
+        assertEquals(List.of(Map.entry(HARRY, 2)), stats.getMostBorrowedTitles(MARCH, 5));
+    }
+
+    @Test
+    public void getMostBorrowedTitles_ties_alphabeticalAndLimited() {
+        records.addRecord(openRecord(LEGACY, 1000000000, ALICE, MARCH_FIRST));
+        records.addRecord(openRecord(HARRY, 1000000001, ALICE, MARCH_FIRST));
+        records.addRecord(openRecord(new Name("Zoo"), 1000000002, CARL, MARCH_FIRST));
+        records.addRecord(openRecord(new Name("Zoo"), 1000000003, ALICE, MARCH_FIRST));
+
+        assertEquals(List.of(Map.entry(new Name("Zoo"), 2), Map.entry(HARRY, 1)),
+                stats.getMostBorrowedTitles(MARCH, 2));
+        assertThrows(IllegalArgumentException.class, () -> stats.getMostBorrowedTitles(MARCH, 0));
+    }
+
+    @Test
+    public void setRecord_markedAsReturned_durationCounted() {
+        Record first = openRecord(HARRY, 1000000000, ALICE, MARCH_FIRST);
+        Record second = openRecord(LEGACY, 1000000001, CARL, MARCH_FIRST);
+        records.addRecord(first);
+        records.addRecord(second);
+
+        records.setRecord(first, returnedRecord(first, Duration.ofHours(2)));
+        records.setRecord(second, returnedRecord(second, Duration.ofDays(20)));
+
+        assertEquals(2, stats.getTotalLoans());
+        assertEquals(0, stats.getOpenLoans());
+        assertEquals(2, stats.getReturnedLoans());
+        assertEquals(1, stats.getReturnedLoans(CirculationStats.RETURNED_SAME_DAY));
+        assertEquals(0, stats.getReturnedLoans(CirculationStats.RETURNED_WITHIN_A_WEEK));
+        assertEquals(0, stats.getReturnedLoans(CirculationStats.RETURNED_ON_TIME));
+        assertEquals(1, stats.getReturnedLoans(CirculationStats.RETURNED_OVERDUE));
+        assertEquals(Duration.ofDays(10).plusHours(1), stats.getAverageLoanDuration());
+    }
+
+    @Test
+    public void removeAndSetRecords_totalsFollowList() {
+        Record first = openRecord(HARRY, 1000000000, ALICE, MARCH_FIRST);
+        Record second = returnedRecord(openRecord(LEGACY, 1000000001, CARL, MARCH_FIRST), Duration.ofDays(3));
+        records.addRecord(first);
+        records.addRecord(second);
+
+        records.remove(first);
+        assertEquals(1, stats.getTotalLoans());
+        assertEquals(0, stats.getOpenLoans());
+        assertEquals(List.of(Map.entry(LEGACY, 1)), stats.getMostBorrowedTitles(MARCH, 5));
+        assertEquals(1, stats.getReturnedLoans(CirculationStats.RETURNED_WITHIN_A_WEEK));
+
+        records.setRecords(List.of(first));
+        assertEquals(1, stats.getTotalLoans());
+        assertEquals(1, stats.getOpenLoans());
+        assertEquals(1, stats.getActiveReaders(MARCH));
+        assertNull(stats.getAverageLoanDuration());
+    }
+
+}
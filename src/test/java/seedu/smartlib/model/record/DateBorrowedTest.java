@@ -36,6 +36,13 @@ public class DateBorrowedTest {
         assertTrue(new DateBorrowed("2020-02-29T20:00:00").isOverdue());
     }
 
+    @Test
+    public void getDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2021, 1, 31, 20, 0);
+        assertEquals(dateTime, new DateBorrowed("2021-01-31T20:00:00").getDateTime());
+        assertEquals(dateTime, new DateBorrowed(dateTime).getDateTime());
+    }
+
     @Test
     public void isValidDate() {
         // EP: null date
@@ -0,0 +1,104 @@
+package seedu.smartlib.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Barcode;
+
+public class RecordIndexTest {
+
+    private static final Name HARRY = new Name("Harry Potter");
+    private static final Name LEGACY = new Name("Legacy");
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name CARL = new Name("Carl Kurz");
+    private static final LocalDate MARCH_FIRST = LocalDate.of(2021, 3, 1);
+    private static final LocalDate MARCH_SEVENTH = LocalDate.of(2021, 3, 7);
+
+    private static final Record ALICE_FEBRUARY = openRecord(HARRY, Barcode.MIN_VALUE, ALICE,
+            LocalDateTime.of(2021, 2, 28, 23, 59));
+    private static final Record CARL_MARCH_FIRST = openRecord(LEGACY, Barcode.MIN_VALUE + 1, CARL,
+            LocalDateTime.of(2021, 3, 1, 0, 0));
+    private static final Record ALICE_MARCH_SEVENTH = openRecord(LEGACY, Barcode.MIN_VALUE + 2, ALICE,
+            LocalDateTime.of(2021, 3, 7, 23, 59));
+    private static final Record CARL_MARCH_EIGHTH = openRecord(HARRY, Barcode.MIN_VALUE + 3, CARL,
+            LocalDateTime.of(2021, 3, 8, 0, 0));
+
+    private final UniqueRecordList records = new UniqueRecordList();
+
+    private static Record openRecord(Name bookName, int barcode, Name readerName, LocalDateTime borrowed) {
+        return new Record(bookName, new Barcode(barcode), readerName, new DateBorrowed(borrowed), null);
+    }
+
+    private static Record returnedRecord(Record openRecord, Duration duration) {
+        LocalDateTime borrowed = LocalDateTime.parse(openRecord.getDateBorrowed().toString());
+        return new Record(openRecord.getBookName(), openRecord.getBookBarcode(), openRecord.getReaderName(),
+                openRecord.getDateBorrowed(), new DateReturned(borrowed.plus(duration)));
+    }
+
+    private void addAll() {
+        // added out of order, to check that ranges come back sorted by borrowing time
+        records.addRecord(CARL_MARCH_EIGHTH);
+        records.addRecord(ALICE_MARCH_SEVENTH);
+        records.addRecord(ALICE_FEBRUARY);
+        records.addRecord(CARL_MARCH_FIRST);
+    }
+
+    @Test
+    public void findRecords_borrowedBetween_wholeDaysInclusive() {
+        addAll();
+        assertEquals(List.of(CARL_MARCH_FIRST, ALICE_MARCH_SEVENTH),
+                records.findRecords(RecordQuery.all().withBorrowedBetween(MARCH_FIRST, MARCH_SEVENTH)));
+        assertEquals(List.of(ALICE_FEBRUARY, CARL_MARCH_FIRST, ALICE_MARCH_SEVENTH),
+                records.findRecords(RecordQuery.all().withBorrowedBetween(null, MARCH_SEVENTH)));
+        assertEquals(List.of(CARL_MARCH_EIGHTH),
+                records.findRecords(RecordQuery.all().withBorrowedBetween(MARCH_SEVENTH.plusDays(1), null)));
+        assertTrue(records.findRecords(RecordQuery.all().withBorrowedBetween(MARCH_SEVENTH, MARCH_FIRST)).isEmpty());
+    }
+
+    @Test
+    public void findRecords_reader_onlyRecordsOfReader() {
+        addAll();
+        assertEquals(List.of(ALICE_MARCH_SEVENTH, ALICE_FEBRUARY), records.findRecords(RecordQuery.all()
+                .withReader(ALICE)));
+        assertEquals(List.of(ALICE_MARCH_SEVENTH), records.findRecords(RecordQuery.all().withReader(ALICE)
+                .withBorrowedBetween(MARCH_FIRST, null)));
+        assertTrue(records.findRecords(RecordQuery.all().withReader(new Name("Benson Meier"))).isEmpty());
+    }
+
+    @Test
+    public void findRecords_recordReturned_indexedByReturnDate() {
+        addAll();
+        Record returned = returnedRecord(ALICE_FEBRUARY, Duration.ofDays(10));
+        records.setRecord(ALICE_FEBRUARY, returned);
+
+        assertEquals(List.of(returned), records.findRecords(RecordQuery.all()
+                .withReturnedBetween(MARCH_FIRST, MARCH_SEVENTH.plusDays(7))));
+        assertEquals(List.of(ALICE_MARCH_SEVENTH, returned), records.findRecords(RecordQuery.all()
+                .withReader(ALICE).withBorrowedBetween(null, MARCH_SEVENTH)));
+        assertEquals(List.of(returned), records.findRecords(RecordQuery.all()
+                .withBorrowedBetween(null, MARCH_SEVENTH).withReturnedBetween(MARCH_FIRST, null)));
+    }
+
+    @Test
+    public void findRecords_afterRemoveAndReset_indexesUpdated() {
+        addAll();
+        records.remove(CARL_MARCH_FIRST);
+        assertEquals(List.of(ALICE_MARCH_SEVENTH),
+                records.findRecords(RecordQuery.all().withBorrowedBetween(MARCH_FIRST, MARCH_SEVENTH)));
+        assertEquals(List.of(CARL_MARCH_EIGHTH), records.findRecords(RecordQuery.all().withReader(CARL)));
+
+        records.setRecords(List.of(CARL_MARCH_FIRST));
+        assertEquals(List.of(CARL_MARCH_FIRST),
+                records.findRecords(RecordQuery.all().withBorrowedBetween(MARCH_FIRST, MARCH_SEVENTH)));
+        assertTrue(records.findRecords(RecordQuery.all().withReader(ALICE)).isEmpty());
+    }
+
+}
@@ -0,0 +1,81 @@
+package seedu.smartlib.model.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.smartlib.commons.core.name.Name;
+import seedu.smartlib.model.book.Barcode;
+
+public class RecordQueryTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final LocalDate MARCH_FIRST = LocalDate.of(2021, 3, 1);
+    private static final LocalDate MARCH_SEVENTH = LocalDate.of(2021, 3, 7);
+
+    private static final Record OPEN_RECORD = new Record(new Name("Harry Potter"), new Barcode(Barcode.MIN_VALUE),
+            ALICE, new DateBorrowed(LocalDateTime.of(2021, 3, 7, 23, 59)), null);
+    private static final Record RETURNED_RECORD = new Record(new Name("Legacy"), new Barcode(Barcode.MIN_VALUE + 1),
+            ALICE, new DateBorrowed(LocalDateTime.of(2021, 2, 1, 9, 0)),
+            new DateReturned(LocalDateTime.of(2021, 3, 1, 0, 0)));
+
+    @Test
+    public void test_emptyQuery_matchesEveryRecord() {
+        assertTrue(RecordQuery.all().test(OPEN_RECORD));
+        assertTrue(RecordQuery.all().test(RETURNED_RECORD));
+    }
+
+    @Test
+    public void test_conditions_allMustHold() {
+        RecordQuery query = RecordQuery.all().withAnyWord(List.of("harry")).withReader(ALICE)
+                .withBorrowedBetween(MARCH_FIRST, MARCH_SEVENTH);
+        assertTrue(query.test(OPEN_RECORD));
+        assertFalse(query.test(RETURNED_RECORD));
+        assertFalse(query.withReader(new Name("Carl Kurz")).test(OPEN_RECORD));
+        assertFalse(query.withBorrowedBetween(null, MARCH_SEVENTH.minusDays(1)).test(OPEN_RECORD));
+    }
+
+    @Test
+    public void test_returnedBetween_openRecordsNeverMatch() {
+        RecordQuery query = RecordQuery.all().withReturnedBetween(null, MARCH_FIRST);
+        assertTrue(query.test(RETURNED_RECORD));
+        assertFalse(query.test(OPEN_RECORD));
+        assertFalse(RecordQuery.all().withReturnedBetween(MARCH_FIRST.plusDays(1), null).test(RETURNED_RECORD));
+    }
+
+    @Test
+    public void hasKeywordsOnly() {
+        assertFalse(RecordQuery.all().hasKeywordsOnly());
+        assertTrue(RecordQuery.all().withAnyWord(List.of("harry")).hasKeywordsOnly());
+        assertFalse(RecordQuery.all().withAnyWord(List.of("harry")).withReader(ALICE).hasKeywordsOnly());
+    }
+
+    @Test
+    public void equals() {
+        RecordQuery query = RecordQuery.all().withReader(ALICE).withBorrowedBetween(MARCH_FIRST, null);
+
+        // same values -> returns true
+        assertEquals(query, RecordQuery.all().withBorrowedBetween(MARCH_FIRST, null).withReader(ALICE));
+        assertEquals(query.hashCode(),
+                RecordQuery.all().withBorrowedBetween(MARCH_FIRST, null).withReader(ALICE).hashCode());
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different range -> returns false
+        assertFalse(query.equals(query.withBorrowedBetween(MARCH_FIRST, MARCH_SEVENTH)));
+
+        // return dates instead of borrowing dates -> returns false
+        assertFalse(query.equals(RecordQuery.all().withReader(ALICE).withReturnedBetween(MARCH_FIRST, null)));
+    }
+
+}
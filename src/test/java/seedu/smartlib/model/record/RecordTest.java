@@ -14,6 +14,7 @@ import static seedu.smartlib.testutil.TypicalModels.RECORD_C;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -147,6 +148,11 @@ public class RecordTest {
         assertEquals(new Name(VALID_NAME_HARRY), RECORD_A.getBookName());
     }
 
+    @Test
+    public void getBookNameWords() {
+        assertEquals(Set.of("harry", "potter"), RECORD_A.getBookNameWords());
+    }
+
     @Test
     public void getBookBarcode() {
         assertEquals(new Barcode(Barcode.MAX_VALUE), RECORD_A.getBookBarcode());
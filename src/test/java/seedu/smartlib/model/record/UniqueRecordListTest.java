@@ -8,6 +8,7 @@ import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.RECORD_A;
 import static seedu.smartlib.testutil.TypicalModels.RECORD_B;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -253,4 +254,16 @@ public class UniqueRecordListTest {
         assertNotEquals(uniqueRecordList.hashCode(), uniqueRecordList2.hashCode());
     }
 
+    @Test
+    public void getOpenRecord() {
+        UniqueRecordList uniqueRecordList = new UniqueRecordList();
+        uniqueRecordList.addRecord(RECORD_A);
+        assertEquals(RECORD_A, uniqueRecordList.getOpenRecord(RECORD_A.getBookBarcode()));
+
+        Record returnedRecord = new Record(RECORD_A.getBookName(), RECORD_A.getBookBarcode(),
+                RECORD_A.getReaderName(), RECORD_A.getDateBorrowed(), new DateReturned(LocalDateTime.now()));
+        uniqueRecordList.setRecord(RECORD_A, returnedRecord);
+        assertEquals(null, uniqueRecordList.getOpenRecord(RECORD_A.getBookBarcode()));
+    }
+
 }
@@ -0,0 +1,120 @@
+package seedu.smartlib.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.smartlib.testutil.Assert.assertThrows;
+import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
+import static seedu.smartlib.testutil.TypicalModels.RECORD_A;
+import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.smartlib.commons.util.CsvUtil;
+import seedu.smartlib.model.SmartLib;
+
+public class CsvSmartLibExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvSmartLibExporter.export(null, testFolder));
+        assertThrows(NullPointerException.class, () -> CsvSmartLibExporter.export(new SmartLib(), null));
+    }
+
+    @Test
+    public void export_typicalSmartLib_oneLinePerItem() throws Exception {
+        SmartLib smartLib = getTypicalSmartLib();
+        Path directory = testFolder.resolve("export");
+
+        CsvSmartLibExporter.export(smartLib, directory);
+
+        List<String> books = Files.readAllLines(directory.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME));
+        List<String> readers = Files.readAllLines(directory.resolve(CsvSmartLibExporter.READERS_FILE_NAME));
+        List<String> records = Files.readAllLines(directory.resolve(CsvSmartLibExporter.RECORDS_FILE_NAME));
+        assertEquals(smartLib.getBookList().size() + 1, books.size());
+        assertEquals(smartLib.getReaderList().size() + 1, readers.size());
+        assertEquals(smartLib.getRecordList().size() + 1, records.size());
+        assertEquals(List.of(CsvSmartLibExporter.BOOKS_HEADER), CsvUtil.parseLine(books.get(0)));
+    }
+
+    @Test
+    public void export_existingFiles_replacedWithoutTemporaryFilesLeft() throws Exception {
+        SmartLib smartLib = getTypicalSmartLib();
+        Path books = testFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME);
+        Files.writeString(books, "old export");
+
+        CsvSmartLibExporter.export(smartLib, testFolder);
+
+        assertEquals(smartLib.getBookList().size() + 1, Files.readAllLines(books).size());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(CsvSmartLibExporter.BOOKS_FILE_NAME, CsvSmartLibExporter.READERS_FILE_NAME,
+                    CsvSmartLibExporter.RECORDS_FILE_NAME), files.map(file -> file.getFileName().toString())
+                    .sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void export_fileCannotBeReplaced_temporaryFileDeleted() throws Exception {
+        // a non-empty directory cannot be replaced by the written file
+        Path books = Files.createDirectory(testFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME));
+        Files.createFile(books.resolve("inside"));
+
+        assertThrows(IOException.class, () -> CsvSmartLibExporter.export(getTypicalSmartLib(), testFolder));
+
+        assertTrue(Files.exists(books.resolve("inside")));
+        assertFalse(Files.exists(testFolder.resolve(CsvSmartLibExporter.BOOKS_FILE_NAME
+                + CsvSmartLibExporter.TEMPORARY_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeBooks_availableBook_emptyBorrowerFields() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        CsvSmartLibExporter.writeBooks(List.of(HARRY_PORTER), writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(List.of(HARRY_PORTER.getName().toString(), HARRY_PORTER.getAuthor().toString(),
+                HARRY_PORTER.getPublisher().toString(), HARRY_PORTER.getIsbn().toString(),
+                HARRY_PORTER.getGenre().toString(), HARRY_PORTER.getBarcode().toString(), "", ""),
+                CsvUtil.parseLine(lines[1]));
+    }
+
+    @Test
+    public void writeReaders_readerWithCommaInAddress_addressQuoted() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        CsvSmartLibExporter.writeReaders(List.of(ALICE), writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(List.of(CsvSmartLibExporter.READERS_HEADER), CsvUtil.parseLine(lines[0]));
+        assertTrue(lines[1].contains("\"" + ALICE.getAddress() + "\""));
+        assertEquals(List.of(ALICE.getName().toString(), ALICE.getPhone().toString(), ALICE.getEmail().toString(),
+                ALICE.getAddress().toString(), "VIP"), CsvUtil.parseLine(lines[1]));
+    }
+
+    @Test
+    public void writeRecords_openRecord_emptyDateReturned() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        CsvSmartLibExporter.writeRecords(List.of(RECORD_A), writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(List.of(RECORD_A.getBookName().toString(), RECORD_A.getBookBarcode().toString(),
+                RECORD_A.getReaderName().toString(), RECORD_A.getDateBorrowed().toString(), ""),
+                CsvUtil.parseLine(lines[1]));
+    }
+
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.smartlib.testutil.Assert.assertThrows;
 import static seedu.smartlib.testutil.TypicalModels.ALICE;
+import static seedu.smartlib.testutil.TypicalModels.CARL;
+import static seedu.smartlib.testutil.TypicalModels.HARRY_PORTER;
 import static seedu.smartlib.testutil.TypicalModels.HOON;
 import static seedu.smartlib.testutil.TypicalModels.IDA;
 import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
@@ -11,6 +13,7 @@ import static seedu.smartlib.testutil.TypicalModels.getTypicalSmartLib;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.smartlib.commons.exceptions.DataConversionException;
 import seedu.smartlib.model.ReadOnlySmartLib;
 import seedu.smartlib.model.SmartLib;
+import seedu.smartlib.model.fine.FineEntry;
+import seedu.smartlib.model.hold.Hold;
 
 public class JsonSmartLibStorageTest {
 
@@ -87,6 +92,34 @@ public class JsonSmartLibStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveSmartLib_withHolds_holdsKeptInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempSmartLib.json");
+        SmartLib original = getTypicalSmartLib();
+        original.addHold(new Hold(CARL.getName(), HARRY_PORTER.getIsbn()));
+        original.addHold(new Hold(ALICE.getName(), HARRY_PORTER.getIsbn()));
+        JsonSmartLibStorage jsonSmartLibStorage = new JsonSmartLibStorage(filePath);
+
+        jsonSmartLibStorage.saveSmartLib(original, filePath);
+        ReadOnlySmartLib readBack = jsonSmartLibStorage.readSmartLib(filePath).get();
+        assertEquals(original.getHoldList(), readBack.getHoldList());
+    }
+
+    @Test
+    public void readAndSaveSmartLib_withFines_finesKept() throws Exception {
+        Path filePath = testFolder.resolve("TempSmartLib.json");
+        SmartLib original = getTypicalSmartLib();
+        original.setFines(List.of(
+                FineEntry.charge(CARL.getName(), 240, "2021-03-01T10:00:00", HARRY_PORTER.getBarcode()),
+                FineEntry.payment(CARL.getName(), 100, "2021-03-02T10:00:00")));
+        JsonSmartLibStorage jsonSmartLibStorage = new JsonSmartLibStorage(filePath);
+
+        jsonSmartLibStorage.saveSmartLib(original, filePath);
+        SmartLib readBack = new SmartLib(jsonSmartLibStorage.readSmartLib(filePath).get());
+        assertEquals(original.getFineList(), readBack.getFineList());
+        assertEquals(140, readBack.getOutstandingFines(CARL.getName()));
+    }
+
     @Test
     public void saveSmartLib_nullSmartLib_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSmartLib(null, "SomeFile.json"));